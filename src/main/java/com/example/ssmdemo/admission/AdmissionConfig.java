@@ -0,0 +1,49 @@
+package com.example.ssmdemo.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 주문 API 유입 제어 설정 (opt-in)
+ *
+ * ssm-demo.admission.enabled=true 일 때 /api/orders/** 앞에서 고객별 속도 제한과
+ * 전역 적응형 동시성 제한을 적용한다. 클러스터 라우팅보다 먼저 실행된다.
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.admission.enabled", havingValue = "true")
+public class AdmissionConfig {
+
+    @Bean
+    public OrderAdmissionInterceptor orderAdmissionInterceptor(AdmissionProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        return new OrderAdmissionInterceptor(properties, meterRegistry);
+    }
+
+    /**
+     * 주문 API에 유입 제어 인터셉터 등록
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "ssm-demo.admission.enabled", havingValue = "true")
+    static class AdmissionWebConfig implements WebMvcConfigurer {
+
+        private final OrderAdmissionInterceptor orderAdmissionInterceptor;
+
+        AdmissionWebConfig(OrderAdmissionInterceptor orderAdmissionInterceptor) {
+            this.orderAdmissionInterceptor = orderAdmissionInterceptor;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(orderAdmissionInterceptor)
+                .addPathPatterns("/api/orders/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.ssmdemo.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 주문 API 유입 제어 설정
+ *
+ * @param enabled             유입 제어 사용 여부
+ * @param apiKeyHeader        고객 식별 헤더 (없으면 customerEmailHeader, 그것도 없으면 클라이언트 IP)
+ * @param customerEmailHeader 고객 이메일 헤더
+ * @param rateLimit           고객 × 엔드포인트 단위 토큰 버킷
+ * @param endpoints           엔드포인트별 토큰 버킷 재정의 (키: OrderController 메서드명, 예: pay)
+ * @param concurrency         전역 적응형 동시성 제한
+ * @param maxTaggedKeys       거절 메트릭의 (사유, 엔드포인트, 고객 키) 태그 조합 최대 수 (초과분은 key="other")
+ */
+@ConfigurationProperties(prefix = "ssm-demo.admission")
+public record AdmissionProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("X-Api-Key") String apiKeyHeader,
+    @DefaultValue("X-Customer-Email") String customerEmailHeader,
+    @DefaultValue RateLimit rateLimit,
+    Map<String, RateLimit> endpoints,
+    @DefaultValue Concurrency concurrency,
+    @DefaultValue("100") int maxTaggedKeys
+) {
+
+    public RateLimit rateLimitFor(String endpoint) {
+        return endpoints != null ? endpoints.getOrDefault(endpoint, rateLimit) : rateLimit;
+    }
+
+    /**
+     * @param rate  초당 허용 요청 수
+     * @param burst 순간적으로 허용하는 최대 요청 수
+     */
+    public record RateLimit(
+        @DefaultValue("20") double rate,
+        @DefaultValue("40") int burst
+    ) {}
+
+    /**
+     * AIMD 동시성 제한
+     *
+     * @param initialLimit     시작 동시 처리 한도
+     * @param minLimit         최소 한도
+     * @param maxLimit         최대 한도
+     * @param latencyThreshold 이 지연을 넘거나 5xx가 나면 한도를 backoffRatio 배로 줄인다
+     * @param backoffRatio     감소 비율
+     */
+    public record Concurrency(
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("200ms") Duration latencyThreshold,
+        @DefaultValue("0.9") double backoffRatio
+    ) {}
+}
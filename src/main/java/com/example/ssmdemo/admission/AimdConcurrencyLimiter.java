@@ -0,0 +1,73 @@
+package com.example.ssmdemo.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AIMD 적응형 동시성 제한
+ *
+ * 처리 중 요청 수가 한도 미만일 때만 CAS로 진입을 허용한다.
+ * 완료된 요청의 지연이 임계값 이하이면 한도를 1/limit 만큼(한 한도 주기에 +1) 늘리고,
+ * 임계값을 넘거나 실패하면 backoffRatio 배로 줄인다.
+ */
+public final class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** double 한도를 비트로 저장 */
+    private final AtomicLong limitBits;
+
+    public AimdConcurrencyLimiter(AdmissionProperties.Concurrency properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+        this.backoffRatio = properties.backoffRatio();
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(properties.initialLimit()));
+    }
+
+    public boolean tryAcquire() {
+        int limit = limit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청 완료
+     *
+     * @param latencyNanos 처리 시간
+     * @param succeeded    5xx/예외 없이 끝났는지
+     */
+    public void release(long latencyNanos, boolean succeeded) {
+        inFlight.decrementAndGet();
+        boolean overloaded = !succeeded || latencyNanos > latencyThresholdNanos;
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next = overloaded
+                ? Math.max(minLimit, limit * backoffRatio)
+                : Math.min(maxLimit, limit + 1.0 / limit);
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
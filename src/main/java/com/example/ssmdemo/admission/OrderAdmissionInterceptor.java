@@ -0,0 +1,186 @@
+package com.example.ssmdemo.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 API 유입 제어
+ *
+ * 1. 고객 × 엔드포인트 토큰 버킷을 넘으면 429 + Retry-After
+ * 2. 전역 AIMD 동시성 한도를 넘으면 503 + Retry-After
+ * SSE/Long-Poll/내보내기처럼 오래 유지되는 요청은 동시성 한도에서 제외한다.
+ */
+@Slf4j
+public class OrderAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = OrderAdmissionInterceptor.class.getName() + ".startedAt";
+    private static final String OTHER_KEY = "other";
+
+    private final AdmissionProperties properties;
+    private final AimdConcurrencyLimiter concurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public OrderAdmissionInterceptor(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.concurrencyLimiter = new AimdConcurrencyLimiter(properties.concurrency());
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("orders.admission.limit", concurrencyLimiter, AimdConcurrencyLimiter::limit)
+            .description("Current adaptive concurrency limit for order endpoints")
+            .register(meterRegistry);
+        Gauge.builder("orders.admission.inflight", concurrencyLimiter, AimdConcurrencyLimiter::inFlight)
+            .description("Order requests currently admitted")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        String endpoint = endpointOf(request, handler);
+        String clientKey = clientKey(request);
+        long now = System.nanoTime();
+
+        AdmissionProperties.RateLimit rateLimit = properties.rateLimitFor(endpoint);
+        long waitNanos = buckets
+            .computeIfAbsent(endpoint + "|" + clientKey, key -> new TokenBucket(rateLimit.rate(), rateLimit.burst()))
+            .tryAcquire(now);
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED", endpoint, clientKey,
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+            return false;
+        }
+
+        if (isLongLived(handler)) {
+            return true;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "OVERLOADED", endpoint, clientKey, 1);
+            return false;
+        }
+        request.setAttribute(STARTED_AT, now);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object startedAt = request.getAttribute(STARTED_AT);
+        if (startedAt instanceof Long started) {
+            request.removeAttribute(STARTED_AT);
+            boolean succeeded = ex == null && response.getStatus() < 500;
+            concurrencyLimiter.release(System.nanoTime() - started, succeeded);
+        }
+    }
+
+    /**
+     * 오래 사용되지 않아 가득 찬 버킷 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+    }
+
+    AimdConcurrencyLimiter concurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * 엔드포인트 이름 (컨트롤러 메서드명, 예: pay)
+     */
+    private String endpointOf(HttpServletRequest request, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            return method.getMethod().getName();
+        }
+        return String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(properties.apiKeyHeader());
+        if (apiKey != null && !apiKey.isBlank()) {
+            return "api-key:" + apiKey;
+        }
+        String email = request.getHeader(properties.customerEmailHeader());
+        if (email != null && !email.isBlank()) {
+            return "customer:" + email.toLowerCase();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String error,
+                        String endpoint, String clientKey, long retryAfterSeconds) throws IOException {
+        rejectedCounter(error, endpoint, clientKey).increment();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + error + "\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
+    private Counter rejectedCounter(String reason, String endpoint, String clientKey) {
+        // 태그 조합은 maxTaggedKeys개까지만 만들어 메트릭 카디널리티를 제한한다
+        String key = rejectedCounters.size() < properties.maxTaggedKeys() ? metricKey(clientKey) : OTHER_KEY;
+        return rejectedCounters.computeIfAbsent(reason + "|" + endpoint + "|" + key, id ->
+            Counter.builder("orders.admission.rejected")
+                .description("Order requests rejected by admission control")
+                .tag("reason", reason)
+                .tag("endpoint", endpoint)
+                .tag("key", key)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 메트릭 태그용 고객 키
+     * API 키/이메일/IP 원문은 /actuator/metrics로 노출되므로 종류와 SHA-256 앞 12자리만 남긴다. (예: api-key:3f2a9c01b7de)
+     */
+    private static String metricKey(String clientKey) {
+        int separator = clientKey.indexOf(':');
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(clientKey.getBytes(StandardCharsets.UTF_8));
+            return clientKey.substring(0, separator) + ":" + HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean isLongLived(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return false;
+        }
+        ResolvableType returnType = ResolvableType.forMethodReturnType(method.getMethod());
+        if (ResponseEntity.class.isAssignableFrom(returnType.toClass())) {
+            returnType = returnType.getGeneric(0);
+        }
+        Class<?> bodyType = returnType.toClass();
+        return ResponseBodyEmitter.class.isAssignableFrom(bodyType)
+            || DeferredResult.class.isAssignableFrom(bodyType)
+            || StreamingResponseBody.class.isAssignableFrom(bodyType);
+    }
+}
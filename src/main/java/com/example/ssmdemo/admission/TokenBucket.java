@@ -0,0 +1,48 @@
+package com.example.ssmdemo.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 버킷 (GCRA)
+ *
+ * 토큰 수 대신 "이론적 도착 시각(TAT)" 하나만 AtomicLong으로 관리하여
+ * 락 없이 CAS 한 번으로 허용 여부를 결정한다.
+ * 요청마다 TAT가 emissionInterval만큼 늘어나고, TAT가 현재보다 burst 구간 이상 앞서면 거절한다.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+    }
+
+    /**
+     * @return 0이면 허용, 양수면 다음 요청이 허용될 때까지 기다려야 하는 나노초
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat == Long.MIN_VALUE || tat < nowNanos ? nowNanos : tat;
+            long next = base + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstToleranceNanos - emissionIntervalNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태(마지막 요청 이후 충분히 지남)이면 제거해도 동작이 같다.
+     */
+    public boolean isIdle(long nowNanos) {
+        long tat = theoreticalArrival.get();
+        return tat == Long.MIN_VALUE || tat <= nowNanos;
+    }
+}
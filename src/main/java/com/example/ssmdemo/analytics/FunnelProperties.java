@@ -0,0 +1,20 @@
+package com.example.ssmdemo.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 전환 퍼널 집계 설정
+ *
+ * @param enabled       true면 생성/전이 커밋마다 퍼널 집계를 갱신하고 조회 API를 연다
+ * @param bucket        집계 시간 구간 (하루를 나누어떨어지게, 조회 범위와 간격의 최소 단위)
+ * @param flushInterval 메모리 증분을 집계 테이블에 반영하는 주기 (조회 결과는 이 주기만큼 늦을 수 있다)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.funnel")
+public record FunnelProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1h") Duration bucket,
+    @DefaultValue("10s") Duration flushInterval
+) {}
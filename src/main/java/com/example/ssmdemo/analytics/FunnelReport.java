@@ -0,0 +1,36 @@
+package com.example.ssmdemo.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퍼널 조회 결과
+ *
+ * @param from      조회 시작 (집계 구간 경계로 내림, 포함)
+ * @param to        조회 끝 (집계 구간 경계로 올림, 미포함)
+ * @param productId 상품 필터 (전체면 null)
+ * @param total     기간 전체
+ * @param products  상품별 (상품 필터가 있으면 null)
+ * @param interval  series 간격 (요청하지 않았으면 null)
+ * @param series    interval 간격으로 합친 구간별 퍼널 (요청하지 않았으면 null)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FunnelReport(
+    LocalDateTime from,
+    LocalDateTime to,
+    String productId,
+    FunnelStats total,
+    Map<String, FunnelStats> products,
+    Duration interval,
+    List<Point> series
+) {
+
+    /**
+     * @param start 구간 시작 (포함, 끝은 start + interval)
+     */
+    public record Point(LocalDateTime start, FunnelStats stats) {}
+}
@@ -0,0 +1,49 @@
+package com.example.ssmdemo.analytics;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 퍼널 단계 도달 수와 전환율
+ *
+ * 같은 기간에 일어난 생성/전이 수의 비율이다. (코호트가 아니므로 기간 경계에 걸친 주문은 앞뒤 기간에 나뉘어 잡힌다)
+ *
+ * @param counts         상태별 도달 수 (생성 = CREATED)
+ * @param paymentRate    PAID / CREATED
+ * @param shipmentRate   SHIPPED / PAID
+ * @param deliveryRate   DELIVERED / SHIPPED
+ * @param conversionRate DELIVERED / CREATED
+ * @param cancelRate     CANCELLED / CREATED
+ * @param returnRate     RETURNED / DELIVERED
+ */
+public record FunnelStats(
+    Map<OrderStatus, Long> counts,
+    double paymentRate,
+    double shipmentRate,
+    double deliveryRate,
+    double conversionRate,
+    double cancelRate,
+    double returnRate
+) {
+
+    public static FunnelStats of(Map<OrderStatus, Long> counts) {
+        Map<OrderStatus, Long> all = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            all.put(status, counts.getOrDefault(status, 0L));
+        }
+        return new FunnelStats(all,
+            rate(all, OrderStatus.PAID, OrderStatus.CREATED),
+            rate(all, OrderStatus.SHIPPED, OrderStatus.PAID),
+            rate(all, OrderStatus.DELIVERED, OrderStatus.SHIPPED),
+            rate(all, OrderStatus.DELIVERED, OrderStatus.CREATED),
+            rate(all, OrderStatus.CANCELLED, OrderStatus.CREATED),
+            rate(all, OrderStatus.RETURNED, OrderStatus.DELIVERED));
+    }
+
+    private static double rate(Map<OrderStatus, Long> counts, OrderStatus numerator, OrderStatus denominator) {
+        long base = counts.get(denominator);
+        return base > 0 ? (double) counts.get(numerator) / base : 0.0;
+    }
+}
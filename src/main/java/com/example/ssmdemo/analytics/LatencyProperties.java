@@ -0,0 +1,24 @@
+package com.example.ssmdemo.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상태 체류 시간 스케치 설정
+ *
+ * @param enabled                true면 전이 커밋마다 체류 시간을 스케치에 기록하고 조회 API를 연다
+ * @param window                 스케치 시간 창 (하루를 나누어떨어지게, 조회 범위의 최소 단위)
+ * @param snapshotInterval       메모리 증분을 저장된 스케치에 더하는 주기 (조회 결과는 이 주기만큼 늦을 수 있다)
+ * @param significantValueDigits HdrHistogram 유효 자릿수 (2 = 상대 오차 1%)
+ * @param maxUnsavedKeys         저장에 실패해 메모리에 남겨 둘 증분 키 수 상한 (넘으면 오래된 창부터 버린다)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.latency")
+public record LatencyProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1h") Duration window,
+    @DefaultValue("1m") Duration snapshotInterval,
+    @DefaultValue("2") int significantValueDigits,
+    @DefaultValue("10000") int maxUnsavedKeys
+) {}
@@ -0,0 +1,31 @@
+package com.example.ssmdemo.analytics;
+
+import com.example.ssmdemo.domain.order.enums.OrderLatencyStage;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 상태 체류 시간 조회 결과
+ *
+ * @param from      조회 시작 (시간 창 경계로 내림, 포함)
+ * @param to        조회 끝 (시간 창 경계로 올림, 미포함)
+ * @param productId 상품 필터 (전체면 null)
+ * @param stages    구간별 체류 시간 (표본이 없는 구간 포함)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LatencyReport(
+    LocalDateTime from,
+    LocalDateTime to,
+    String productId,
+    Map<OrderLatencyStage, Stage> stages
+) {
+
+    /**
+     * @param overall  전체 상품
+     * @param products 상품별 (상품 필터가 있으면 null)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Stage(LatencySummary overall, Map<String, LatencySummary> products) {}
+}
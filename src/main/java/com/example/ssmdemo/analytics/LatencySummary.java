@@ -0,0 +1,28 @@
+package com.example.ssmdemo.analytics;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 체류 시간 분위수 (밀리초)
+ *
+ * @param count 표본 수
+ */
+public record LatencySummary(
+    long count,
+    double meanMillis,
+    long p50Millis,
+    long p95Millis,
+    long p99Millis,
+    long maxMillis
+) {
+
+    public static LatencySummary of(Histogram histogram) {
+        return new LatencySummary(
+            histogram.getTotalCount(),
+            histogram.getTotalCount() > 0 ? histogram.getMean() : 0.0,
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(95),
+            histogram.getValueAtPercentile(99),
+            histogram.getMaxValue());
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.ssmdemo.analytics;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.event.OrderCreatedEvent;
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+import com.example.ssmdemo.domain.order.projection.FunnelBucketCount;
+import com.example.ssmdemo.domain.order.projection.FunnelProductCount;
+import com.example.ssmdemo.domain.order.repository.OrderFunnelRollupRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시간 구간/상품별 전환 퍼널 집계
+ *
+ * - 커밋된 생성(OrderCreatedEvent)과 전이(OrderTransitionEvent)마다 (구간, 상품, 도달 상태) 키의 수를 메모리에서 더한다.
+ * - flushInterval마다 쌓인 증분을 꺼내 order_funnel_rollups에 더하기 upsert로 반영한다. (UPDATE 후 없는 키만 INSERT)
+ *   반영에 실패하면 증분을 메모리에 되돌려 다음 주기에 다시 반영한다.
+ * - 조회는 집계 테이블만 읽고 구간을 합치므로 orders를 훑지 않는다. (반영 전 증분은 보이지 않는다)
+ * - 샤딩 사용 시 집계 테이블은 샤딩하지 않는 테이블과 같이 첫 번째 샤드에 둔다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(FunnelProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.funnel.enabled", havingValue = "true")
+public class OrderFunnelAggregator implements AutoCloseable {
+
+    private static final String UNKNOWN_PRODUCT = "UNKNOWN";
+
+    private final FunnelProperties properties;
+    private final OrderFunnelRollupRepository rollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+
+    public OrderFunnelAggregator(FunnelProperties properties,
+                                 OrderFunnelRollupRepository rollupRepository,
+                                 DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        TimeBuckets.validate(properties.bucket(), "ssm-demo.funnel.bucket");
+        this.properties = properties;
+        this.rollupRepository = rollupRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTimer = Timer.builder("orders.funnel.flush.duration")
+            .description("Duration of flushing funnel increments to the rollup table")
+            .register(meterRegistry);
+        Gauge.builder("orders.funnel.pending.keys", pending, Map::size)
+            .description("Funnel rollup keys with increments not yet flushed")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCreated(OrderCreatedEvent event) {
+        add(event.occurredAt(), event.productId(), OrderStatus.CREATED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(OrderTransitionEvent event) {
+        add(event.occurredAt(), event.productId(), event.target());
+    }
+
+    /**
+     * 쌓인 증분을 집계 테이블에 반영한다.
+     *
+     * @return 반영한 키 수
+     */
+    @Scheduled(initialDelayString = "${ssm-demo.funnel.flush-interval:10s}",
+               fixedDelayString = "${ssm-demo.funnel.flush-interval:10s}")
+    public int flush() {
+        Map<Key, Long> increments = new LinkedHashMap<>();
+        for (Key key : pending.keySet()) {
+            Long count = pending.remove(key);
+            if (count != null) {
+                increments.put(key, count);
+            }
+        }
+        if (increments.isEmpty()) {
+            return 0;
+        }
+
+        long started = System.nanoTime();
+        try {
+            try {
+                upsert(increments);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 같은 키를 먼저 INSERT했으면 이번에는 UPDATE로 반영된다
+                upsert(increments);
+            }
+        } catch (RuntimeException e) {
+            increments.forEach((key, count) -> pending.merge(key, count, Long::sum));
+            log.warn("[Funnel] 집계 반영 실패, 다음 주기에 재시도 - keys={}, cause={}", increments.size(), e.getMessage());
+            return 0;
+        } finally {
+            flushTimer.record(Duration.ofNanos(System.nanoTime() - started));
+        }
+        log.debug("[Funnel] 집계 반영 - keys={}", increments.size());
+        return increments.size();
+    }
+
+    /**
+     * 집계 테이블에서 퍼널 조회
+     *
+     * @param from      시작 (구간 경계로 내림)
+     * @param to        끝 (구간 경계로 올림)
+     * @param productId 상품 필터 (null이면 전체와 상품별)
+     * @param interval  series 간격 (null이면 series 없음, 집계 구간의 배수)
+     * @throws IllegalArgumentException 범위나 간격이 올바르지 않음
+     */
+    public FunnelReport report(LocalDateTime from, LocalDateTime to, String productId, Duration interval) {
+        LocalDateTime start = TimeBuckets.floor(from, properties.bucket());
+        LocalDateTime end = TimeBuckets.ceil(to, properties.bucket());
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from은 to보다 앞이어야 합니다: from=" + from + ", to=" + to);
+        }
+        if (interval != null && (interval.isZero() || interval.isNegative()
+                || interval.toSeconds() % properties.bucket().toSeconds() != 0)) {
+            throw new IllegalArgumentException("interval은 집계 구간(" + properties.bucket() + ")의 배수여야 합니다: " + interval);
+        }
+
+        Map<OrderStatus, Long> total = new EnumMap<>(OrderStatus.class);
+        Map<String, Map<OrderStatus, Long>> byProduct = new TreeMap<>();
+        for (FunnelProductCount count : rollupRepository.sumByProduct(start, end, productId)) {
+            total.merge(count.status(), count.count(), Long::sum);
+            byProduct.computeIfAbsent(count.productId(), product -> new EnumMap<>(OrderStatus.class))
+                .merge(count.status(), count.count(), Long::sum);
+        }
+        Map<String, FunnelStats> products = null;
+        if (productId == null) {
+            products = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<OrderStatus, Long>> entry : byProduct.entrySet()) {
+                products.put(entry.getKey(), FunnelStats.of(entry.getValue()));
+            }
+        }
+
+        List<FunnelReport.Point> series = null;
+        if (interval != null) {
+            long intervalSeconds = interval.toSeconds();
+            Map<LocalDateTime, Map<OrderStatus, Long>> points = new TreeMap<>();
+            for (FunnelBucketCount count : rollupRepository.sumByBucket(start, end, productId)) {
+                long offset = Duration.between(start, count.bucketStart()).toSeconds();
+                LocalDateTime pointStart = start.plusSeconds(offset - offset % intervalSeconds);
+                points.computeIfAbsent(pointStart, point -> new EnumMap<>(OrderStatus.class))
+                    .merge(count.status(), count.count(), Long::sum);
+            }
+            series = new ArrayList<>(points.size());
+            for (Map.Entry<LocalDateTime, Map<OrderStatus, Long>> entry : points.entrySet()) {
+                series.add(new FunnelReport.Point(entry.getKey(), FunnelStats.of(entry.getValue())));
+            }
+        }
+
+        return new FunnelReport(start, end, productId, FunnelStats.of(total), products, interval, series);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    // === Private Methods ===
+
+    private void add(LocalDateTime occurredAt, String productId, OrderStatus status) {
+        Key key = new Key(TimeBuckets.floor(occurredAt, properties.bucket()), productId != null ? productId : UNKNOWN_PRODUCT, status);
+        pending.merge(key, 1L, Long::sum);
+    }
+
+    private void upsert(Map<Key, Long> increments) {
+        List<Key> keys = new ArrayList<>(increments.keySet());
+        transactionTemplate.executeWithoutResult(status -> {
+            int[] updated = jdbcTemplate.batchUpdate("""
+                    update order_funnel_rollups set event_count = event_count + ?
+                    where bucket_start = ? and product_id = ? and status = ?
+                    """,
+                keys.stream().map(key -> new Object[]{
+                    increments.get(key), key.bucketStart(), key.productId(), key.status().name()}).toList());
+
+            List<Object[]> inserts = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                if (updated[i] == 0) {
+                    Key key = keys.get(i);
+                    inserts.add(new Object[]{key.bucketStart(), key.productId(), key.status().name(), increments.get(key)});
+                } else if (updated[i] == Statement.EXECUTE_FAILED) {
+                    throw new IllegalStateException("퍼널 집계 UPDATE 실패: " + keys.get(i));
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate("""
+                        insert into order_funnel_rollups (bucket_start, product_id, status, event_count)
+                        values (?, ?, ?, ?)
+                        """, inserts);
+            }
+        });
+    }
+
+    private record Key(LocalDateTime bucketStart, String productId, OrderStatus status) {}
+}
@@ -0,0 +1,253 @@
+package com.example.ssmdemo.analytics;
+
+import com.example.ssmdemo.domain.order.entity.OrderLatencySketch;
+import com.example.ssmdemo.domain.order.entity.OrderLatencySketchId;
+import com.example.ssmdemo.domain.order.enums.OrderLatencyStage;
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+import com.example.ssmdemo.domain.order.repository.OrderLatencySketchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+
+/**
+ * 상태 체류 시간 스트리밍 스케치 (createdAt→paidAt, paidAt→shippedAt, shippedAt→deliveredAt)
+ *
+ * - 커밋된 전이마다 원래 상태에 들어간 시각부터 전이 시각까지를 (시간 창, 구간, 상품)별 HdrHistogram Recorder에 밀리초로 기록한다.
+ *   Recorder.recordValue는 wait-free이므로 전이 스레드끼리 경합하지 않는다.
+ * - snapshotInterval마다 Recorder의 증분을 꺼내 order_latency_sketches의 같은 키 행에 더한다. (행 잠금 후 디코딩, 합산, 인코딩)
+ *   저장에 실패한 증분은 메모리에 남겨 다음 스냅샷에 함께 더한다. (maxUnsavedKeys를 넘으면 오래된 창부터 버리고 orders.latency.dropped로 센다)
+ * - 히스토그램은 더해서 합칠 수 있으므로, 조회는 범위의 행을 합쳐 상품별/전체 분위수를 계산한다. (상대 오차는 유효 자릿수로 정해진다)
+ * - 샤딩 사용 시 스케치 테이블은 샤딩하지 않는 테이블과 같이 첫 번째 샤드에 둔다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(LatencyProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.latency.enabled", havingValue = "true")
+public class OrderLatencySketches implements AutoCloseable {
+
+    private static final String UNKNOWN_PRODUCT = "UNKNOWN";
+
+    private final LatencyProperties properties;
+    private final OrderLatencySketchRepository sketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OrderLatencySketchId, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<OrderLatencySketchId, Recorder> retired = new HashMap<>();
+    private final Map<OrderLatencySketchId, Histogram> unsaved = new HashMap<>();
+    private final Timer snapshotTimer;
+    private final Counter droppedCounter;
+
+    public OrderLatencySketches(LatencyProperties properties,
+                                OrderLatencySketchRepository sketchRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        TimeBuckets.validate(properties.window(), "ssm-demo.latency.window");
+        this.properties = properties;
+        this.sketchRepository = sketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTimer = Timer.builder("orders.latency.snapshot.duration")
+            .description("Duration of adding in-memory latency sketches to the persisted snapshots")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("orders.latency.dropped")
+            .description("Latency samples dropped because unsaved increments exceeded max-unsaved-keys")
+            .register(meterRegistry);
+        Gauge.builder("orders.latency.recorders", recorders, Map::size)
+            .description("Latency sketch keys held in memory")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(OrderTransitionEvent event) {
+        if (event.sourceEnteredAt() == null) {
+            return;
+        }
+        OrderLatencyStage.of(event.source(), event.target()).ifPresent(stage -> {
+            long millis = Math.max(0, Duration.between(event.sourceEnteredAt(), event.occurredAt()).toMillis());
+            OrderLatencySketchId key = new OrderLatencySketchId(
+                TimeBuckets.floor(event.occurredAt(), properties.window()), stage,
+                event.productId() != null ? event.productId() : UNKNOWN_PRODUCT);
+            recorders.computeIfAbsent(key, k -> new Recorder(properties.significantValueDigits()))
+                .recordValue(millis);
+        });
+    }
+
+    /**
+     * 메모리의 증분을 저장된 스케치에 더한다.
+     *
+     * @return 갱신한 스케치 수
+     */
+    @Scheduled(initialDelayString = "${ssm-demo.latency.snapshot-interval:1m}",
+               fixedDelayString = "${ssm-demo.latency.snapshot-interval:1m}")
+    public synchronized int snapshot() {
+        Map<OrderLatencySketchId, Histogram> increments = new LinkedHashMap<>(unsaved);
+        unsaved.clear();
+        // 지난 스냅샷에 내린 Recorder는 한 번 더 비운다 (증분을 꺼낸 뒤 제거 전에 기존 참조로 들어온 기록)
+        retired.forEach((key, recorder) -> addInterval(increments, key, recorder));
+        retired.clear();
+        // 지난 창은 증분을 꺼낸 뒤 메모리에서 내린다 (제거 뒤 도착한 기록은 새 Recorder로 다시 모인다)
+        LocalDateTime expired = TimeBuckets.floor(LocalDateTime.now(), properties.window()).minus(properties.window());
+        for (Map.Entry<OrderLatencySketchId, Recorder> entry : recorders.entrySet()) {
+            OrderLatencySketchId key = entry.getKey();
+            Recorder recorder = entry.getValue();
+            addInterval(increments, key, recorder);
+            if (key.getWindowStart().isBefore(expired) && recorders.remove(key, recorder)) {
+                retired.put(key, recorder);
+            }
+        }
+        if (increments.isEmpty()) {
+            return 0;
+        }
+
+        long started = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> increments.forEach(this::addTo));
+        } catch (RuntimeException e) {
+            unsaved.putAll(increments);
+            log.warn("[Latency] 스케치 저장 실패, 다음 스냅샷에 재시도 - keys={}, cause={}", increments.size(), e.getMessage());
+            dropOldestUnsaved();
+            return 0;
+        } finally {
+            snapshotTimer.record(Duration.ofNanos(System.nanoTime() - started));
+        }
+        log.debug("[Latency] 스케치 저장 - keys={}", increments.size());
+        return increments.size();
+    }
+
+    /**
+     * 저장된 스케치를 합쳐 체류 시간 분위수 조회
+     *
+     * @param from      시작 (시간 창 경계로 내림)
+     * @param to        끝 (시간 창 경계로 올림)
+     * @param productId 상품 필터 (null이면 전체와 상품별)
+     * @param stage     구간 필터 (null이면 모든 구간)
+     * @throws IllegalArgumentException 범위가 올바르지 않음
+     */
+    public LatencyReport report(LocalDateTime from, LocalDateTime to, String productId, OrderLatencyStage stage) {
+        LocalDateTime start = TimeBuckets.floor(from, properties.window());
+        LocalDateTime end = TimeBuckets.ceil(to, properties.window());
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from은 to보다 앞이어야 합니다: from=" + from + ", to=" + to);
+        }
+
+        Map<OrderLatencyStage, Histogram> overall = new EnumMap<>(OrderLatencyStage.class);
+        Map<OrderLatencyStage, Map<String, Histogram>> byProduct = new EnumMap<>(OrderLatencyStage.class);
+        for (OrderLatencyStage candidate : OrderLatencyStage.values()) {
+            if (stage == null || stage == candidate) {
+                overall.put(candidate, newHistogram());
+                byProduct.put(candidate, new TreeMap<>());
+            }
+        }
+        for (OrderLatencySketch sketch : sketchRepository.findInRange(start, end, productId, stage)) {
+            Histogram histogram = decode(sketch.getHistogram());
+            OrderLatencyStage key = sketch.getId().getStage();
+            overall.get(key).add(histogram);
+            byProduct.get(key).computeIfAbsent(sketch.getId().getProductId(), product -> newHistogram()).add(histogram);
+        }
+
+        Map<OrderLatencyStage, LatencyReport.Stage> stages = new EnumMap<>(OrderLatencyStage.class);
+        overall.forEach((key, histogram) -> {
+            Map<String, LatencySummary> products = null;
+            if (productId == null) {
+                products = new LinkedHashMap<>();
+                for (Map.Entry<String, Histogram> entry : byProduct.get(key).entrySet()) {
+                    products.put(entry.getKey(), LatencySummary.of(entry.getValue()));
+                }
+            }
+            stages.put(key, new LatencyReport.Stage(LatencySummary.of(histogram), products));
+        });
+        return new LatencyReport(start, end, productId, stages);
+    }
+
+    @Override
+    public void close() {
+        snapshot();
+    }
+
+    // === Private Methods ===
+
+    private static void addInterval(Map<OrderLatencySketchId, Histogram> increments,
+                                    OrderLatencySketchId key, Recorder recorder) {
+        Histogram interval = recorder.getIntervalHistogram();
+        if (interval.getTotalCount() > 0) {
+            increments.merge(key, interval, (left, right) -> {
+                left.add(right);
+                return left;
+            });
+        }
+    }
+
+    /**
+     * DB 장애가 길어져 저장하지 못한 증분이 maxUnsavedKeys를 넘으면 오래된 창부터 버린다.
+     */
+    private void dropOldestUnsaved() {
+        int excess = unsaved.size() - Math.max(1, properties.maxUnsavedKeys());
+        if (excess <= 0) {
+            return;
+        }
+        List<OrderLatencySketchId> oldest = unsaved.keySet().stream()
+            .sorted(Comparator.comparing(OrderLatencySketchId::getWindowStart))
+            .limit(excess)
+            .toList();
+        long samples = 0;
+        for (OrderLatencySketchId key : oldest) {
+            samples += unsaved.remove(key).getTotalCount();
+        }
+        droppedCounter.increment(samples);
+        log.warn("[Latency] 저장하지 못한 증분 한도 초과, 오래된 창부터 버림 - keys={}, samples={}", excess, samples);
+    }
+
+    private void addTo(OrderLatencySketchId key, Histogram increment) {
+        sketchRepository.findForUpdate(key).ifPresentOrElse(
+            sketch -> {
+                Histogram merged = decode(sketch.getHistogram());
+                merged.add(increment);
+                sketch.replace(merged.getTotalCount(), encode(merged));
+            },
+            () -> sketchRepository.save(new OrderLatencySketch(key, increment.getTotalCount(), encode(increment))));
+    }
+
+    private Histogram newHistogram() {
+        return new Histogram(properties.significantValueDigits());
+    }
+
+    private static byte[] encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    private static Histogram decode(byte[] bytes) {
+        try {
+            Histogram histogram = Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+            histogram.setAutoResize(true);
+            return histogram;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("저장된 체류 시간 스케치를 읽을 수 없습니다.", e);
+        }
+    }
+}
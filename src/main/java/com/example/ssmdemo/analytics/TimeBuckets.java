@@ -0,0 +1,42 @@
+package com.example.ssmdemo.analytics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 자정 기준 고정 크기 시간 구간 계산
+ */
+final class TimeBuckets {
+
+    private static final long DAY_SECONDS = Duration.ofDays(1).toSeconds();
+
+    private TimeBuckets() {
+    }
+
+    /**
+     * @throws IllegalStateException 구간이 1분 미만이거나 하루를 나누어떨어지지 않음
+     */
+    static void validate(Duration size, String property) {
+        if (size.toSeconds() < 60 || DAY_SECONDS % size.toSeconds() != 0) {
+            throw new IllegalStateException("집계 구간은 1분 이상이고 하루를 나누어떨어져야 합니다: " + property + "=" + size);
+        }
+    }
+
+    /**
+     * 시각이 속한 구간의 시작
+     */
+    static LocalDateTime floor(LocalDateTime at, Duration size) {
+        LocalDateTime day = at.truncatedTo(ChronoUnit.DAYS);
+        long offset = Duration.between(day, at).toSeconds();
+        return day.plusSeconds(offset - offset % size.toSeconds());
+    }
+
+    /**
+     * 시각 이후 첫 구간 경계 (경계면 그대로)
+     */
+    static LocalDateTime ceil(LocalDateTime at, Duration size) {
+        LocalDateTime floor = floor(at, size);
+        return floor.equals(at) ? at : floor.plus(size);
+    }
+}
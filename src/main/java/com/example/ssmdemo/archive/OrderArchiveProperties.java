@@ -0,0 +1,24 @@
+package com.example.ssmdemo.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 종료 주문 보관(아카이빙) 설정
+ *
+ * @param enabled      보관 작업 사용 여부
+ * @param minAge       종료(취소/반품) 후 보관까지의 최소 경과 시간
+ * @param returnWindow 배송 완료 주문의 반품 가능 기간 (경과 후 minAge가 추가로 지나면 보관)
+ * @param batchSize    한 트랜잭션에서 옮길 주문 수
+ * @param interval     보관 작업 실행 주기
+ */
+@ConfigurationProperties(prefix = "ssm-demo.archive")
+public record OrderArchiveProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("30d") Duration minAge,
+    @DefaultValue("7d") Duration returnWindow,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("10m") Duration interval
+) {}
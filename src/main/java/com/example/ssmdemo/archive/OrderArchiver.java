@@ -0,0 +1,179 @@
+package com.example.ssmdemo.archive;
+
+import com.example.ssmdemo.domain.order.entity.ArchivedOrder;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.repository.ArchivedOrderRepository;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.shard.ShardRouter;
+import com.example.ssmdemo.writebehind.WriteBehindOrderStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종료 주문 보관 작업
+ *
+ * 보관 대상 주문을 id 순서(keyset)로 batchSize씩 읽어
+ * 한 트랜잭션 안에서 orders에서 삭제하고 orders_archive에 저장한다.
+ * 삭제는 읽은 버전 조건부라, 읽은 뒤 다른 트랜잭션이 바꾼 주문은 지우지 않고 실제로 지운 주문만 보관한다. (다음 주기에 다시 판단)
+ * 보관된 주문은 OrderService.getOrder에서 폴백 조회된다.
+ * 샤딩 사용 시 샤드마다 차례로 옮기며, 분할 중인 샤드는 다음 주기로 미룬다.
+ * (진행 중에 분할이 시작되면 옮길 주문의 버킷 락을 잡아 분할이 변경을 다시 맞추게 하고, 다른 샤드로 넘어간 주문은 건너뛴다)
+ * Write-Behind 사용 시 먼저 반영 대기 중인 주문을 DB에 반영하고, 그 사이 다시 반영 대기에 들어간 주문은 건너뛴다.
+ * (DB에서 지운 주문을 다음 반영이 orders에 되살리지 않도록)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OrderArchiveProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.archive.enabled", havingValue = "true")
+public class OrderArchiver {
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderArchiveProperties properties;
+    private final Optional<ShardRouter> shards;
+    private final Optional<WriteBehindOrderStore> writeBehindStore;
+
+    private final Counter archivedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong hotTableSize = new AtomicLong();
+    private final AtomicLong archiveTableSize = new AtomicLong();
+
+    public OrderArchiver(OrderRepository orderRepository,
+                         ArchivedOrderRepository archivedOrderRepository,
+                         PlatformTransactionManager transactionManager,
+                         OrderArchiveProperties properties,
+                         Optional<ShardRouter> shards,
+                         Optional<WriteBehindOrderStore> writeBehindStore,
+                         MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.shards = shards;
+        this.writeBehindStore = writeBehindStore;
+
+        this.archivedCounter = Counter.builder("orders.archive.moved")
+            .description("Orders moved from orders to orders_archive")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("orders.archive.batch.duration")
+            .description("Duration of one archive batch transaction")
+            .register(meterRegistry);
+        Gauge.builder("orders.table.size", hotTableSize, AtomicLong::get)
+            .description("Row count of the hot orders table (refreshed by the archiver)")
+            .tag("table", "orders")
+            .register(meterRegistry);
+        Gauge.builder("orders.table.size", archiveTableSize, AtomicLong::get)
+            .description("Row count of the orders_archive table (refreshed by the archiver)")
+            .tag("table", "orders_archive")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 보관 대상 주문을 모두 옮긴다.
+     *
+     * @return 옮긴 주문 수
+     */
+    @Scheduled(initialDelayString = "${ssm-demo.archive.interval:10m}",
+               fixedDelayString = "${ssm-demo.archive.interval:10m}")
+    public int archive() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        writeBehindStore.ifPresent(WriteBehindOrderStore::flush);
+        if (shards.isEmpty()) {
+            total = archiveBatches(now, null);
+            hotTableSize.set(orderRepository.count());
+            archiveTableSize.set(archivedOrderRepository.count());
+        } else {
+            ShardRouter router = shards.get();
+            for (String shard : router.shardNames()) {
+                if (router.isSplitting(shard)) {
+                    log.info("[Archive] 분할 중인 샤드는 건너뜀 - shard={}", shard);
+                    continue;
+                }
+                total += router.callOn(shard, () -> archiveBatches(now, shard));
+            }
+            hotTableSize.set(router.scatter(orderRepository::count).stream().mapToLong(Long::longValue).sum());
+            archiveTableSize.set(router.scatter(archivedOrderRepository::count).stream().mapToLong(Long::longValue).sum());
+        }
+
+        if (total > 0) {
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            log.info("[Archive] 보관 완료 - 주문={}, 소요={}ms, orders={}, orders_archive={}",
+                total, elapsedMillis, hotTableSize.get(), archiveTableSize.get());
+        }
+        return total;
+    }
+
+    /**
+     * 현재 DataSource(샤딩 시 바인딩된 샤드)의 보관 대상을 batchSize씩 옮긴다.
+     *
+     * @param shard 바인딩된 샤드 (샤딩 미사용 시 null)
+     */
+    private int archiveBatches(LocalDateTime now, String shard) {
+        LocalDateTime terminalBefore = now.minus(properties.minAge());
+        LocalDateTime deliveredBefore = terminalBefore.minus(properties.returnWindow());
+
+        String afterId = "";
+        int total = 0;
+        while (true) {
+            String cursor = afterId;
+            Batch batch = batchTimer.record(() -> transactionTemplate.execute(status -> {
+                List<Order> orders = orderRepository.findArchivable(
+                    cursor, terminalBefore, deliveredBefore, Limit.of(properties.batchSize()));
+                if (orders.isEmpty()) {
+                    return new Batch(0, null, 0);
+                }
+                List<Order> archivable = orders.stream()
+                    .filter(order -> writeBehindStore.map(store -> !store.isStaged(order.getId())).orElse(true))
+                    .filter(order -> shards.map(router -> router.shardOf(order.getId()).equals(shard)).orElse(true))
+                    .toList();
+                shards.ifPresent(router -> router.bindAll(archivable.stream().map(Order::getId).toList()));
+                List<Order> deleted = archivable.stream()
+                    .filter(order -> orderRepository.deleteIfUnchanged(order.getId(), order.getVersion()) == 1)
+                    .toList();
+                archivedOrderRepository.saveAll(deleted.stream()
+                    .map(order -> ArchivedOrder.from(order, now))
+                    .toList());
+                return new Batch(orders.size(), orders.get(orders.size() - 1).getId(), deleted.size());
+            }));
+
+            if (batch == null || batch.read() == 0) {
+                break;
+            }
+            total += batch.archived();
+            archivedCounter.increment(batch.archived());
+            afterId = batch.lastId();
+            if (batch.read() < properties.batchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 한 배치의 결과
+     *
+     * @param read     읽은 보관 대상 수 (keyset 진행 기준)
+     * @param lastId   읽은 마지막 주문 ID
+     * @param archived 실제로 옮긴 주문 수
+     */
+    private record Batch(int read, String lastId, int archived) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.ssmdemo.batch;
+
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.time.Duration;
+
+/**
+ * 배치 전이 작업 정의
+ * 예: SHIPPED 상태로 3일이 지난 주문에 DELIVER 이벤트 전송
+ *
+ * @param name   작업 이름 (체크포인트 키)
+ * @param status 대상 상태
+ * @param event  보낼 이벤트
+ * @param minAge 대상 상태가 된 뒤 경과해야 하는 시간
+ */
+public record OrderBatchJob(String name, OrderStatus status, OrderEvent event, Duration minAge) {
+
+    static OrderBatchJob of(String name, OrderBatchProperties.Job job) {
+        return new OrderBatchJob(name, job.status(), job.event(), job.minAge());
+    }
+}
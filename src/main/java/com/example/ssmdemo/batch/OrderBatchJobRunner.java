@@ -0,0 +1,320 @@
+package com.example.ssmdemo.batch;
+
+import com.example.ssmdemo.admission.TokenBucket;
+import com.example.ssmdemo.domain.order.entity.OrderBatchCheckpoint;
+import com.example.ssmdemo.domain.order.repository.OrderBatchCheckpointRepository;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.service.TransitionResult;
+import com.example.ssmdemo.shard.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 배치 전이 작업 실행기
+ *
+ * - 대상 주문을 id 순서(keyset)로 chunkSize씩 읽는다.
+ * - 청크는 parallelism 크기의 작업자 풀에서 청크당 한 트랜잭션으로 처리한다.
+ *   거부된 전이는 실패로 집계하고, 예외가 나면 청크를 롤백한 뒤 주문 단위 트랜잭션으로 다시 처리하여 실패 주문만 건너뛴다.
+ * - 앞선 청크가 모두 끝난 지점까지만 체크포인트를 전진시키므로, 중단 후 재시작하면 그 지점부터 이어서 처리한다.
+ * - maxOrdersPerSecond로 처리 속도를 제한하여 온라인 요청과 DB 커넥션을 나눠 쓴다.
+ * - 샤딩 사용 시 대상 주문은 샤드별 조회를 id 순서로 병합해 읽고, 청크는 샤드별 트랜잭션으로 나누어 처리한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OrderBatchProperties.class)
+public class OrderBatchJobRunner {
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final OrderBatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderBatchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Optional<ShardRouter> shards;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public OrderBatchJobRunner(OrderService orderService,
+                               OrderRepository orderRepository,
+                               OrderBatchCheckpointRepository checkpointRepository,
+                               PlatformTransactionManager transactionManager,
+                               OrderBatchProperties properties,
+                               MeterRegistry meterRegistry,
+                               Optional<ShardRouter> shards) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.shards = shards;
+    }
+
+    /**
+     * 설정에 등록된 작업 실행
+     */
+    public OrderBatchResult run(String jobName) {
+        OrderBatchProperties.Job job = properties.jobs() != null ? properties.jobs().get(jobName) : null;
+        if (job == null) {
+            throw new IllegalArgumentException("등록되지 않은 배치 작업입니다: " + jobName);
+        }
+        return run(OrderBatchJob.of(jobName, job));
+    }
+
+    public OrderBatchResult run(OrderBatchJob job) {
+        if (!runningJobs.add(job.name())) {
+            return new OrderBatchResult(job.name(), OrderBatchResult.Status.ALREADY_RUNNING, "", 0, 0, Duration.ZERO);
+        }
+        try {
+            return execute(job);
+        } finally {
+            runningJobs.remove(job.name());
+        }
+    }
+
+    private OrderBatchResult execute(OrderBatchJob job) {
+        long started = System.nanoTime();
+        OrderBatchCheckpoint checkpoint = checkpointRepository.findById(job.name())
+            .orElseGet(() -> new OrderBatchCheckpoint(job.name()));
+        checkpoint.start();
+        checkpoint = checkpointRepository.save(checkpoint);
+        String resumedFrom = checkpoint.getLastOrderId();
+        if (!resumedFrom.isEmpty()) {
+            log.info("[Batch] {} - 체크포인트에서 재개: afterId={}", job.name(), resumedFrom);
+        }
+
+        Metrics metrics = new Metrics(job.name());
+        ProgressTracker tracker = new ProgressTracker(checkpoint);
+        TokenBucket throttle = properties.maxOrdersPerSecond() > 0
+            ? new TokenBucket(properties.maxOrdersPerSecond(), properties.chunkSize())
+            : null;
+        LocalDateTime changedBefore = LocalDateTime.now().minus(job.minAge());
+        int parallelism = Math.max(1, properties.parallelism());
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+
+        try {
+            String afterId = resumedFrom;
+            while (true) {
+                List<String> ids = findCandidateIds(job, changedBefore, afterId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                throttle(throttle, ids.size());
+                permits.acquireUninterruptibly();
+
+                Chunk chunk = tracker.submit(ids.get(ids.size() - 1));
+                workers.execute(() -> {
+                    try {
+                        processChunk(job, ids, chunk, metrics);
+                    } finally {
+                        tracker.complete(chunk);
+                        permits.release();
+                    }
+                });
+
+                afterId = chunk.lastOrderId;
+                if (ids.size() < properties.chunkSize()) {
+                    break;
+                }
+            }
+            permits.acquireUninterruptibly(parallelism);
+        } finally {
+            workers.shutdown();
+        }
+
+        OrderBatchCheckpoint finished = tracker.finish();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        OrderBatchResult result = new OrderBatchResult(job.name(), OrderBatchResult.Status.COMPLETED, resumedFrom,
+            finished.getSucceeded(), finished.getFailed(), elapsed);
+        log.info("[Batch] {} 완료 - 성공={}, 실패={}, 소요={}ms, 처리량={}/s", job.name(),
+            result.succeeded(), result.failed(), elapsed.toMillis(), String.format("%.1f", result.throughput()));
+        return result;
+    }
+
+    /**
+     * 다음 청크의 대상 주문 ID (샤딩 사용 시 샤드별 keyset 조회를 병렬로 실행해 id 순서로 병합)
+     */
+    private List<String> findCandidateIds(OrderBatchJob job, LocalDateTime changedBefore, String afterId) {
+        Limit limit = Limit.of(properties.chunkSize());
+        return shards
+            .map(router -> router.scatterMerge(
+                () -> orderRepository.findBatchCandidateIds(job.status(), changedBefore, afterId, limit),
+                Comparator.<String>naturalOrder(), properties.chunkSize()))
+            .orElseGet(() -> orderRepository.findBatchCandidateIds(job.status(), changedBefore, afterId, limit));
+    }
+
+    private void processChunk(OrderBatchJob job, List<String> ids, Chunk chunk, Metrics metrics) {
+        long started = System.nanoTime();
+        for (List<String> group : groupByShard(ids)) {
+            processGroup(job, group, chunk);
+        }
+        metrics.chunkTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        metrics.succeeded.increment(chunk.succeeded);
+        metrics.failed.increment(chunk.failed);
+    }
+
+    /**
+     * 한 트랜잭션은 한 샤드만 사용하므로 샤딩 사용 시 청크를 샤드별로 나눈다.
+     */
+    private Collection<List<String>> groupByShard(List<String> ids) {
+        return shards
+            .map(router -> ids.stream()
+                .collect(Collectors.groupingBy(router::shardOf, LinkedHashMap::new, Collectors.toList()))
+                .values())
+            .orElseGet(() -> List.of(ids));
+    }
+
+    private void processGroup(OrderBatchJob job, List<String> ids, Chunk chunk) {
+        try {
+            Long succeeded = transactionTemplate.execute(status -> {
+                long count = 0;
+                for (String id : ids) {
+                    if (transitioned(job, id)) {
+                        count++;
+                    }
+                }
+                return count;
+            });
+            chunk.succeeded += succeeded;
+            chunk.failed += ids.size() - succeeded;
+        } catch (RuntimeException e) {
+            // 청크를 롤백하고 주문 단위로 다시 처리하여 실패한 주문만 건너뛴다
+            log.debug("[Batch] {} - 청크 실패, 주문 단위로 재처리: {}", job.name(), e.getMessage());
+            for (String id : ids) {
+                try {
+                    Boolean transitioned = transactionTemplate.execute(status -> transitioned(job, id));
+                    if (Boolean.TRUE.equals(transitioned)) {
+                        chunk.succeeded++;
+                    } else {
+                        chunk.failed++;
+                    }
+                } catch (RuntimeException itemFailure) {
+                    chunk.failed++;
+                    log.warn("[Batch] {} - 주문 처리 실패: orderId={}, cause={}",
+                        job.name(), id, itemFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean transitioned(OrderBatchJob job, String orderId) {
+        TransitionResult result = orderService.transition(orderId, job.event());
+        if (!result.isAccepted()) {
+            log.warn("[Batch] {} - 전이 거부: orderId={}, event={}, outcome={}",
+                job.name(), orderId, job.event(), result.outcome());
+        }
+        return result.isAccepted();
+    }
+
+    private void throttle(TokenBucket bucket, int orders) {
+        if (bucket == null) {
+            return;
+        }
+        for (int i = 0; i < orders; i++) {
+            long waitNanos;
+            while ((waitNanos = bucket.tryAcquire(System.nanoTime())) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+        }
+    }
+
+    // === Progress ===
+
+    private static final class Chunk {
+        private final String lastOrderId;
+        private volatile boolean done;
+        private long succeeded;
+        private long failed;
+
+        private Chunk(String lastOrderId) {
+            this.lastOrderId = lastOrderId;
+        }
+    }
+
+    /**
+     * 제출 순서대로 청크를 보관하고, 앞에서부터 연속으로 끝난 청크까지만 체크포인트를 전진시킨다.
+     */
+    private final class ProgressTracker {
+
+        private final Deque<Chunk> pending = new ArrayDeque<>();
+        private OrderBatchCheckpoint checkpoint;
+
+        private ProgressTracker(OrderBatchCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        synchronized Chunk submit(String lastOrderId) {
+            Chunk chunk = new Chunk(lastOrderId);
+            pending.addLast(chunk);
+            return chunk;
+        }
+
+        synchronized void complete(Chunk chunk) {
+            chunk.done = true;
+            boolean advanced = false;
+            while (!pending.isEmpty() && pending.peekFirst().done) {
+                Chunk head = pending.pollFirst();
+                checkpoint.advance(head.lastOrderId, head.succeeded, head.failed);
+                advanced = true;
+            }
+            if (advanced) {
+                checkpoint = checkpointRepository.save(checkpoint);
+            }
+        }
+
+        synchronized OrderBatchCheckpoint finish() {
+            checkpoint.complete();
+            checkpoint = checkpointRepository.save(checkpoint);
+            return checkpoint;
+        }
+    }
+
+    private final class Metrics {
+        private final Counter succeeded;
+        private final Counter failed;
+        private final Timer chunkTimer;
+
+        private Metrics(String job) {
+            this.succeeded = Counter.builder("orders.batch.processed")
+                .description("Orders processed by batch transition jobs")
+                .tag("job", job)
+                .tag("result", "succeeded")
+                .register(meterRegistry);
+            this.failed = Counter.builder("orders.batch.processed")
+                .description("Orders processed by batch transition jobs")
+                .tag("job", job)
+                .tag("result", "failed")
+                .register(meterRegistry);
+            this.chunkTimer = Timer.builder("orders.batch.chunk.duration")
+                .description("Duration of one batch chunk transaction")
+                .tag("job", job)
+                .register(meterRegistry);
+        }
+    }
+}
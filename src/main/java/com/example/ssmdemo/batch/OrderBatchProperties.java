@@ -0,0 +1,41 @@
+package com.example.ssmdemo.batch;
+
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 주문 배치 전이 작업 설정
+ *
+ * @param enabled            등록된 작업을 interval마다 자동 실행할지 여부 (수동 실행은 항상 가능)
+ * @param chunkSize          한 트랜잭션에서 처리할 주문 수
+ * @param parallelism        동시에 처리할 청크 수
+ * @param maxOrdersPerSecond 초당 처리 주문 수 상한 (0 이하면 제한 없음)
+ * @param jobs               작업 정의 (키: 작업 이름)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.batch")
+public record OrderBatchProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("100") int chunkSize,
+    @DefaultValue("4") int parallelism,
+    @DefaultValue("200") double maxOrdersPerSecond,
+    Map<String, Job> jobs
+) {
+
+    /**
+     * @param status   대상 상태
+     * @param event    보낼 이벤트
+     * @param minAge   대상 상태가 된 뒤 경과해야 하는 시간
+     * @param interval 자동 실행 주기
+     */
+    public record Job(
+        OrderStatus status,
+        OrderEvent event,
+        @DefaultValue("0s") Duration minAge,
+        @DefaultValue("1h") Duration interval
+    ) {}
+}
@@ -0,0 +1,28 @@
+package com.example.ssmdemo.batch;
+
+import java.time.Duration;
+
+/**
+ * 배치 작업 실행 결과
+ *
+ * @param job         작업 이름
+ * @param status      실행 결과
+ * @param resumedFrom 이전 실행에서 이어받은 주문 ID (처음부터 실행했으면 빈 문자열)
+ * @param succeeded   전이에 성공한 주문 수
+ * @param failed      전이에 실패한 주문 수
+ * @param elapsed     소요 시간
+ */
+public record OrderBatchResult(String job, Status status, String resumedFrom,
+                               long succeeded, long failed, Duration elapsed) {
+
+    public double throughput() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return (succeeded + failed) * 1000.0 / millis;
+    }
+
+    public enum Status {
+        COMPLETED,
+        /** 같은 작업이 이미 실행 중 */
+        ALREADY_RUNNING
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.ssmdemo.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 등록된 배치 작업을 작업별 interval마다 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.batch.enabled", havingValue = "true")
+public class OrderBatchScheduler {
+
+    private final OrderBatchJobRunner runner;
+    private final OrderBatchProperties properties;
+    private final Map<String, Instant> nextRuns = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${ssm-demo.batch.poll-interval:1m}")
+    public void runDueJobs() {
+        if (properties.jobs() == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        properties.jobs().forEach((name, job) -> {
+            if (!now.isBefore(nextRuns.getOrDefault(name, Instant.MIN))) {
+                nextRuns.put(name, now.plus(job.interval()));
+                runner.run(name);
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.ssmdemo.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.net.http.HttpClient;
+
+/**
+ * 클러스터 모드 설정 (opt-in)
+ *
+ * ssm-demo.cluster.enabled=true 일 때 주문 ID를 일관 해시 링으로 노드에 배정하고,
+ * 소유 노드가 아닌 곳으로 들어온 주문 요청을 소유 노드로 라우팅한다.
+ */
+@Configuration
+@EnableConfigurationProperties(ClusterProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.cluster.enabled", havingValue = "true")
+public class ClusterConfig {
+
+    @Bean
+    public OrderOwnership orderOwnership(ClusterProperties properties, ApplicationEventPublisher eventPublisher) {
+        return new OrderOwnership(properties.nodeId(), properties.nodes(), properties.virtualNodes(), eventPublisher);
+    }
+
+    @Bean
+    public OwnedStateMachineCache ownedStateMachineCache(OrderOwnership orderOwnership, ClusterProperties properties) {
+        return new OwnedStateMachineCache(orderOwnership, properties.hotMachines());
+    }
+
+    @Bean
+    public OrderRoutingInterceptor orderRoutingInterceptor(OrderOwnership orderOwnership, ClusterProperties properties,
+                                                           ObjectMapper objectMapper) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(properties.forwardTimeout())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.forwardTimeout());
+        return new OrderRoutingInterceptor(orderOwnership, properties,
+            RestClient.builder().requestFactory(requestFactory).build(), objectMapper);
+    }
+
+    /**
+     * 주문 API에 라우팅 인터셉터 등록
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "ssm-demo.cluster.enabled", havingValue = "true")
+    static class ClusterWebConfig implements WebMvcConfigurer {
+
+        private final OrderRoutingInterceptor orderRoutingInterceptor;
+
+        ClusterWebConfig(OrderRoutingInterceptor orderRoutingInterceptor) {
+            this.orderRoutingInterceptor = orderRoutingInterceptor;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(orderRoutingInterceptor).addPathPatterns("/api/orders/**");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.ssmdemo.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 클러스터 모드 설정
+ *
+ * @param enabled        클러스터 모드 사용 여부
+ * @param nodeId         현재 노드 ID (nodes의 키 중 하나)
+ * @param nodes          정적 멤버십 (노드 ID → 기본 URL)
+ * @param virtualNodes   노드당 해시 링 가상 노드 수
+ * @param routing        소유 노드가 아닌 곳으로 들어온 요청의 처리 방식
+ * @param forwardTimeout 소유 노드로 전달할 때의 응답 대기 시간
+ * @param hotMachines    소유 주문의 State Machine을 유지하는 최대 개수
+ */
+@ConfigurationProperties(prefix = "ssm-demo.cluster")
+public record ClusterProperties(
+    @DefaultValue("false") boolean enabled,
+    String nodeId,
+    Map<String, String> nodes,
+    @DefaultValue("128") int virtualNodes,
+    @DefaultValue("FORWARD") Routing routing,
+    @DefaultValue("2s") Duration forwardTimeout,
+    @DefaultValue("10000") int hotMachines
+) {
+
+    public enum Routing {
+        /** 소유 노드로 요청을 전달하고 응답을 그대로 돌려준다 */
+        FORWARD,
+        /** 307 Temporary Redirect로 클라이언트를 소유 노드로 보낸다 */
+        REDIRECT
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.ssmdemo.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주문 소유권 판단
+ *
+ * 주문 ID를 일관 해시 링에 올려 소유 노드를 정한다.
+ * 멤버십이 바뀌면 링을 새로 만들어 원자적으로 교체하고 OrderOwnershipChangedEvent를 발행한다.
+ */
+@Slf4j
+public class OrderOwnership {
+
+    private final String localNodeId;
+    private final int virtualNodes;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<Membership> membership = new AtomicReference<>();
+
+    public OrderOwnership(String localNodeId, Map<String, String> nodes, int virtualNodes,
+                          ApplicationEventPublisher eventPublisher) {
+        if (localNodeId == null || nodes == null || !nodes.containsKey(localNodeId)) {
+            throw new IllegalStateException(
+                "ssm-demo.cluster.node-id는 ssm-demo.cluster.nodes에 포함되어야 합니다: " + localNodeId);
+        }
+        this.localNodeId = localNodeId;
+        this.virtualNodes = virtualNodes;
+        this.eventPublisher = eventPublisher;
+        this.membership.set(new Membership(Map.copyOf(nodes), new ConsistentHashRing(nodes.keySet(), virtualNodes)));
+    }
+
+    public String localNodeId() {
+        return localNodeId;
+    }
+
+    public boolean isLocal(String orderId) {
+        return localNodeId.equals(ownerOf(orderId));
+    }
+
+    public String ownerOf(String orderId) {
+        return membership.get().ring().ownerOf(orderId);
+    }
+
+    /**
+     * 소유 노드의 기본 URL (현재 노드가 소유자이면 empty)
+     */
+    public Optional<String> remoteOwnerUrl(String orderId) {
+        Membership current = membership.get();
+        String owner = current.ring().ownerOf(orderId);
+        return localNodeId.equals(owner) ? Optional.empty() : Optional.of(current.nodes().get(owner));
+    }
+
+    public Map<String, String> members() {
+        return new LinkedHashMap<>(membership.get().nodes());
+    }
+
+    /**
+     * 멤버십 교체 (소유권 재분배)
+     */
+    public void updateMembership(Map<String, String> nodes) {
+        if (!nodes.containsKey(localNodeId)) {
+            throw new IllegalArgumentException("현재 노드가 멤버십에 없습니다: " + localNodeId);
+        }
+        Membership next = new Membership(Map.copyOf(nodes), new ConsistentHashRing(nodes.keySet(), virtualNodes));
+        Membership previous = membership.getAndSet(next);
+        log.info("[Cluster] 멤버십 변경 - {} -> {}", previous.nodes().keySet(), next.nodes().keySet());
+        eventPublisher.publishEvent(new OrderOwnershipChangedEvent(previous.ring().nodes(), next.ring().nodes()));
+    }
+
+    private record Membership(Map<String, String> nodes, ConsistentHashRing ring) {}
+}
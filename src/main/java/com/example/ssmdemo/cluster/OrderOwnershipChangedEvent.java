@@ -0,0 +1,8 @@
+package com.example.ssmdemo.cluster;
+
+import java.util.Set;
+
+/**
+ * 클러스터 멤버십 변경으로 주문 소유권이 재분배되었음을 알리는 이벤트
+ */
+public record OrderOwnershipChangedEvent(Set<String> previousNodes, Set<String> nodes) {}
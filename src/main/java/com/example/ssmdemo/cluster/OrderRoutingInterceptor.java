@@ -0,0 +1,161 @@
+package com.example.ssmdemo.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 주문 요청 라우팅
+ *
+ * {orderId}가 있는 요청이 소유 노드가 아닌 곳으로 들어오면 소유 노드로 전달(FORWARD)하거나
+ * 307로 리다이렉트(REDIRECT)한다. SSE/Long-Poll처럼 오래 유지되는 요청은 항상 리다이렉트한다.
+ * 전달된 요청은 X-Ssm-Forwarded-By 헤더로 표시하여 멤버십이 일시적으로 어긋나도 재전달하지 않는다.
+ *
+ * 전달에 실패해도 로컬에서 처리하지 않는다. (소유 노드와 동시에 전이하거나 같은 이벤트를 두 번 적용할 수 있다)
+ * - 연결 거부(요청이 전달되지 않음): 소유권을 다시 확인해 그 사이 현재 노드로 넘어왔으면 로컬 처리, 아니면 503 + Retry-After
+ * - 그 밖의 실패(응답 시간 초과 등, 소유 노드가 이미 처리했을 수 있음): 502
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OrderRoutingInterceptor implements HandlerInterceptor {
+
+    public static final String FORWARDED_HEADER = "X-Ssm-Forwarded-By";
+
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+        "host", "connection", "content-length", "transfer-encoding", "keep-alive", "upgrade");
+
+    private final OrderOwnership ownership;
+    private final ClusterProperties properties;
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (request.getHeader(FORWARDED_HEADER) != null) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+            (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String orderId = variables != null ? variables.get("orderId") : null;
+        if (orderId == null) {
+            return true;
+        }
+        Optional<String> ownerUrl = ownership.remoteOwnerUrl(orderId);
+        if (ownerUrl.isEmpty()) {
+            return true;
+        }
+
+        String target = ownerUrl.get() + request.getRequestURI()
+            + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+
+        if (properties.routing() == ClusterProperties.Routing.REDIRECT || isLongLived(handler)) {
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION, target);
+            return false;
+        }
+
+        try {
+            forward(request, response, target);
+            return false;
+        } catch (RestClientException e) {
+            if (!isConnectionRefused(e)) {
+                log.warn("[Cluster] 소유 노드 전달 실패, 처리 여부 알 수 없음 - orderId={}, owner={}, cause={}",
+                    orderId, ownership.ownerOf(orderId), e.getMessage());
+                reject(response, HttpStatus.BAD_GATEWAY, "OWNER_FAILED",
+                    "소유 노드의 응답을 받지 못했습니다. 주문 상태를 조회한 뒤 다시 시도해주세요: " + orderId);
+                return false;
+            }
+            if (ownership.remoteOwnerUrl(orderId).isEmpty()) {
+                log.info("[Cluster] 소유 노드 연결 거부, 소유권이 현재 노드로 이전되어 로컬 처리 - orderId={}", orderId);
+                return true;
+            }
+            log.warn("[Cluster] 소유 노드 연결 거부 - orderId={}, owner={}", orderId, ownership.ownerOf(orderId));
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "OWNER_UNAVAILABLE",
+                "주문 소유 노드에 연결할 수 없습니다: " + orderId);
+            return false;
+        }
+    }
+
+    /**
+     * 요청이 소유 노드에 전달되지 않았는지 (연결 단계 실패)
+     */
+    private static boolean isConnectionRefused(RestClientException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String error, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), Map.of("error", error, "message", message));
+    }
+
+    private void forward(HttpServletRequest request, HttpServletResponse response, String target) throws IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+
+        RestClient.RequestBodySpec spec = restClient.method(HttpMethod.valueOf(request.getMethod()))
+            .uri(URI.create(target))
+            .headers(headers -> {
+                for (String name : Collections.list(request.getHeaderNames())) {
+                    if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                        headers.addAll(name, Collections.list(request.getHeaders(name)));
+                    }
+                }
+                headers.set(FORWARDED_HEADER, ownership.localNodeId());
+            });
+        if (body.length > 0) {
+            spec.body(body);
+        }
+
+        spec.exchange((clientRequest, clientResponse) -> {
+            byte[] responseBody = clientResponse.getBody().readAllBytes();
+            response.setStatus(clientResponse.getStatusCode().value());
+            clientResponse.getHeaders().forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                    values.forEach(value -> response.addHeader(name, value));
+                }
+            });
+            response.getOutputStream().write(responseBody);
+            return null;
+        });
+    }
+
+    private boolean isLongLived(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return false;
+        }
+        Class<?> returnType = method.getReturnType().getParameterType();
+        return ResponseBodyEmitter.class.isAssignableFrom(returnType)
+            || DeferredResult.class.isAssignableFrom(returnType);
+    }
+}
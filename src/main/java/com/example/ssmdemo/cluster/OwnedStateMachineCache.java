@@ -0,0 +1,124 @@
+package com.example.ssmdemo.cluster;
+
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.statemachine.StateMachine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 소유 주문의 State Machine 캐시 (LRU)
+ *
+ * 소유 노드만 주문을 전이시키므로 머신을 요청마다 새로 만들지 않고 재사용한다.
+ * 소유권을 잃은 주문의 머신은 멤버십 변경 시 정리한다.
+ * 정리한 머신은 캐시 락을 놓은 뒤 머신 락(OrderService와 같은 synchronized(sm))을 잡고 멈춰,
+ * 다른 요청 스레드가 사용 중인 머신을 멈추지 않는다.
+ */
+@Slf4j
+public class OwnedStateMachineCache {
+
+    private final OrderOwnership ownership;
+    private final Map<String, StateMachine<OrderStatus, OrderEvent>> machines;
+
+    /** LRU로 밀려나 멈출 머신 (machines 락 안에서만 추가) */
+    private final List<StateMachine<OrderStatus, OrderEvent>> overflow = new ArrayList<>();
+
+    public OwnedStateMachineCache(OrderOwnership ownership, int capacity) {
+        this.ownership = ownership;
+        this.machines = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StateMachine<OrderStatus, OrderEvent>> eldest) {
+                if (size() > capacity) {
+                    overflow.add(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 소유 주문이면 캐시된 머신을, 아니면 새 머신을 반환한다.
+     */
+    public StateMachine<OrderStatus, OrderEvent> get(String orderId,
+                                                     Function<String, StateMachine<OrderStatus, OrderEvent>> factory) {
+        if (!ownership.isLocal(orderId)) {
+            return factory.apply(orderId);
+        }
+        StateMachine<OrderStatus, OrderEvent> machine;
+        List<StateMachine<OrderStatus, OrderEvent>> evicted;
+        synchronized (machines) {
+            machine = machines.computeIfAbsent(orderId, factory);
+            evicted = drainOverflow();
+        }
+        stop(evicted);
+        return machine;
+    }
+
+    /**
+     * 주문들의 머신을 캐시에서 제거한다. (워밍업용 가상 주문 정리 등)
+     */
+    public void evict(Collection<String> orderIds) {
+        List<StateMachine<OrderStatus, OrderEvent>> evicted = new ArrayList<>();
+        synchronized (machines) {
+            for (String orderId : orderIds) {
+                StateMachine<OrderStatus, OrderEvent> machine = machines.remove(orderId);
+                if (machine != null) {
+                    evicted.add(machine);
+                }
+            }
+        }
+        stop(evicted);
+    }
+
+    public int size() {
+        synchronized (machines) {
+            return machines.size();
+        }
+    }
+
+    @EventListener
+    public void onOwnershipChanged(OrderOwnershipChangedEvent event) {
+        List<StateMachine<OrderStatus, OrderEvent>> evicted = new ArrayList<>();
+        synchronized (machines) {
+            Iterator<Map.Entry<String, StateMachine<OrderStatus, OrderEvent>>> it = machines.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, StateMachine<OrderStatus, OrderEvent>> entry = it.next();
+                if (!ownership.isLocal(entry.getKey())) {
+                    evicted.add(entry.getValue());
+                    it.remove();
+                }
+            }
+        }
+        stop(evicted);
+        log.info("[Cluster] 소유권 이전으로 State Machine 정리 - {}건", evicted.size());
+    }
+
+    private List<StateMachine<OrderStatus, OrderEvent>> drainOverflow() {
+        if (overflow.isEmpty()) {
+            return List.of();
+        }
+        List<StateMachine<OrderStatus, OrderEvent>> drained = List.copyOf(overflow);
+        overflow.clear();
+        return drained;
+    }
+
+    /**
+     * 사용 중인 요청이 끝난 뒤 멈춘다. (캐시 락을 잡지 않은 상태에서 호출)
+     */
+    private static void stop(List<StateMachine<OrderStatus, OrderEvent>> evicted) {
+        for (StateMachine<OrderStatus, OrderEvent> machine : evicted) {
+            synchronized (machine) {
+                machine.stopReactively().block();
+            }
+        }
+    }
+}
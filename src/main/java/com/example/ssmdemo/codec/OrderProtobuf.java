@@ -0,0 +1,133 @@
+package com.example.ssmdemo.codec;
+
+import com.example.ssmdemo.controller.dto.OrderResponse;
+import com.example.ssmdemo.controller.dto.TransitionRejectedResponse;
+import com.example.ssmdemo.export.OrderExportRow;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 Protobuf 인코딩 (스키마: resources/proto/order.proto)
+ */
+public final class OrderProtobuf {
+
+    private OrderProtobuf() {
+    }
+
+    // === Encode ===
+
+    public static ProtobufOutput encode(OrderResponse order) {
+        ProtobufOutput out = new ProtobufOutput();
+        out.string(1, order.id());
+        out.string(2, order.productId());
+        out.int64(3, order.quantity() != null ? (long) order.quantity() : null);
+        out.decimal(4, order.totalAmount());
+        out.string(5, order.status());
+        out.string(6, order.statusDescription());
+        out.string(7, order.customerEmail());
+        out.string(8, order.paymentMethod());
+        out.string(9, order.paymentId());
+        out.timestamp(10, order.paidAt());
+        out.timestamp(11, order.shippedAt());
+        out.timestamp(12, order.deliveredAt());
+        out.timestamp(13, order.cancelledAt());
+        out.timestamp(14, order.createdAt());
+        return out;
+    }
+
+    public static ProtobufOutput encode(OrderExportRow row) {
+        ProtobufOutput out = new ProtobufOutput();
+        out.string(1, row.id());
+        out.string(2, row.productId());
+        out.int64(3, row.quantity() != null ? (long) row.quantity() : null);
+        out.decimal(4, row.totalAmount());
+        out.string(5, row.status() != null ? row.status().name() : null);
+        out.string(7, row.customerEmail());
+        out.string(8, row.paymentMethod());
+        out.string(9, row.paymentId());
+        out.timestamp(10, row.paidAt());
+        out.timestamp(11, row.shippedAt());
+        out.timestamp(12, row.deliveredAt());
+        out.timestamp(13, row.cancelledAt());
+        out.timestamp(14, row.createdAt());
+        out.timestamp(15, row.refundedAt());
+        return out;
+    }
+
+    public static ProtobufOutput encodeList(List<OrderResponse> orders) {
+        ProtobufOutput out = new ProtobufOutput();
+        for (OrderResponse order : orders) {
+            out.message(1, encode(order));
+        }
+        return out;
+    }
+
+    public static ProtobufOutput encode(TransitionRejectedResponse rejected) {
+        ProtobufOutput out = new ProtobufOutput();
+        out.string(1, rejected.error());
+        out.string(2, rejected.outcome());
+        out.string(3, rejected.orderId());
+        out.string(4, rejected.event());
+        out.string(5, rejected.currentStatus());
+        out.string(6, rejected.message());
+        out.string(7, rejected.timestamp());
+        return out;
+    }
+
+    // === Decode ===
+
+    public static OrderResponse decodeOrder(ByteBuffer buffer) {
+        return decodeOrder(new ProtobufInput(buffer));
+    }
+
+    public static List<OrderResponse> decodeList(ByteBuffer buffer) {
+        ProtobufInput in = new ProtobufInput(buffer);
+        List<OrderResponse> orders = new ArrayList<>();
+        for (int field; (field = in.next()) != 0; ) {
+            if (field == 1) {
+                orders.add(decodeOrder(in.message()));
+            } else {
+                in.skip();
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * 길이 접두 Order 메시지의 연속 (내보내기 형식)
+     */
+    public static List<OrderResponse> decodeDelimited(ByteBuffer buffer) {
+        ProtobufInput in = new ProtobufInput(buffer);
+        List<OrderResponse> orders = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            orders.add(decodeOrder(in.message()));
+        }
+        return orders;
+    }
+
+    private static OrderResponse decodeOrder(ProtobufInput in) {
+        OrderResponse.OrderResponseBuilder order = OrderResponse.builder();
+        for (int field; (field = in.next()) != 0; ) {
+            switch (field) {
+                case 1 -> order.id(in.string());
+                case 2 -> order.productId(in.string());
+                case 3 -> order.quantity((int) in.int64());
+                case 4 -> order.totalAmount(in.decimal());
+                case 5 -> order.status(in.string());
+                case 6 -> order.statusDescription(in.string());
+                case 7 -> order.customerEmail(in.string());
+                case 8 -> order.paymentMethod(in.string());
+                case 9 -> order.paymentId(in.string());
+                case 10 -> order.paidAt(in.timestamp());
+                case 11 -> order.shippedAt(in.timestamp());
+                case 12 -> order.deliveredAt(in.timestamp());
+                case 13 -> order.cancelledAt(in.timestamp());
+                case 14 -> order.createdAt(in.timestamp());
+                default -> in.skip();
+            }
+        }
+        return order.build();
+    }
+}
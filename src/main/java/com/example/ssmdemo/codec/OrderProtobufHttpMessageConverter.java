@@ -0,0 +1,87 @@
+package com.example.ssmdemo.codec;
+
+import com.example.ssmdemo.controller.dto.OrderResponse;
+import com.example.ssmdemo.controller.dto.TransitionRejectedResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 주문 응답 Protobuf Writer (Accept: application/x-protobuf)
+ *
+ * OrderResponse, List&lt;OrderResponse&gt;, TransitionRejectedResponse만 쓴다.
+ * 요청 본문 읽기는 지원하지 않는다.
+ */
+public class OrderProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public OrderProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == OrderResponse.class || clazz == TransitionRejectedResponse.class;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return canWrite(mediaType) && (supports(clazz) || isOrderList(type));
+    }
+
+    /**
+     * 목록은 요소 타입을 알 수 없는 Class 기준 조회에서도 미디어 타입을 노출한다. (실제 판단은 canWrite)
+     */
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) || List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        ProtobufOutput encoded = switch (body) {
+            case OrderResponse order -> OrderProtobuf.encode(order);
+            case TransitionRejectedResponse rejected -> OrderProtobuf.encode(rejected);
+            case List<?> orders -> OrderProtobuf.encodeList((List<OrderResponse>) orders);
+            default -> throw new IllegalArgumentException("Protobuf로 쓸 수 없는 타입: " + body.getClass());
+        };
+        outputMessage.getHeaders().setContentLength(encoded.size());
+        encoded.writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf 요청 본문은 지원하지 않습니다", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf 요청 본문은 지원하지 않습니다", inputMessage);
+    }
+
+    private static boolean isOrderList(@Nullable Type type) {
+        ResolvableType resolvable = ResolvableType.forType(type);
+        return List.class.isAssignableFrom(resolvable.toClass())
+            && resolvable.getGeneric(0).toClass() == OrderResponse.class;
+    }
+}
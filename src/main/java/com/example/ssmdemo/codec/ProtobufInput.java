@@ -0,0 +1,99 @@
+package com.example.ssmdemo.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Protobuf 와이어 형식 Reader (ProtobufOutput의 역)
+ *
+ * next()로 다음 필드 번호를 읽고, 필드 타입에 맞는 메서드로 값을 읽는다.
+ * 모르는 필드는 skip()으로 건너뛴다.
+ */
+public final class ProtobufInput {
+
+    private final ByteBuffer buffer;
+    private int wireType;
+
+    public ProtobufInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return 다음 필드 번호, 끝이면 0
+     */
+    public int next() {
+        if (!buffer.hasRemaining()) {
+            return 0;
+        }
+        long tag = varint();
+        wireType = (int) (tag & 0x7);
+        return (int) (tag >>> 3);
+    }
+
+    public String string() {
+        return new String(bytes(), StandardCharsets.UTF_8);
+    }
+
+    public long int64() {
+        return varint();
+    }
+
+    public long sint64() {
+        long raw = varint();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public LocalDateTime timestamp() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(int64()), ZoneId.systemDefault());
+    }
+
+    public BigDecimal decimal() {
+        ProtobufInput decimal = message();
+        long unscaled = 0;
+        int scale = 0;
+        for (int field; (field = decimal.next()) != 0; ) {
+            switch (field) {
+                case 1 -> unscaled = decimal.sint64();
+                case 2 -> scale = (int) decimal.int64();
+                default -> decimal.skip();
+            }
+        }
+        return new BigDecimal(BigInteger.valueOf(unscaled), scale);
+    }
+
+    public ProtobufInput message() {
+        return new ProtobufInput(ByteBuffer.wrap(bytes()));
+    }
+
+    public void skip() {
+        switch (wireType) {
+            case ProtobufOutput.WIRE_VARINT -> varint();
+            case ProtobufOutput.WIRE_LENGTH_DELIMITED -> buffer.position(buffer.position() + (int) varint());
+            case 1 -> buffer.position(buffer.position() + Long.BYTES);
+            case 5 -> buffer.position(buffer.position() + Integer.BYTES);
+            default -> throw new IllegalStateException("지원하지 않는 wire type: " + wireType);
+        }
+    }
+
+    private byte[] bytes() {
+        byte[] bytes = new byte[(int) varint()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private long varint() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ssmdemo.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Protobuf 와이어 형식 Writer
+ *
+ * protoc 생성 코드 없이 proto/order.proto 스키마대로 필드를 직접 기록한다.
+ * null 필드는 기록하지 않는다 (proto3 optional과 같은 의미).
+ */
+public final class ProtobufOutput extends ByteArrayOutputStream {
+
+    static final int WIRE_VARINT = 0;
+    static final int WIRE_LENGTH_DELIMITED = 2;
+
+    public ProtobufOutput() {
+        super(256);
+    }
+
+    public void string(int field, String value) {
+        if (value == null) {
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        tag(field, WIRE_LENGTH_DELIMITED);
+        varint(bytes.length);
+        write(bytes, 0, bytes.length);
+    }
+
+    public void int64(int field, Long value) {
+        if (value == null) {
+            return;
+        }
+        tag(field, WIRE_VARINT);
+        varint(value);
+    }
+
+    public void sint64(int field, long value) {
+        tag(field, WIRE_VARINT);
+        varint((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * 시각은 epoch millis (int64, LocalDateTime은 시스템 기본 시간대 기준)
+     */
+    public void timestamp(int field, LocalDateTime value) {
+        int64(field, value != null ? value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : null);
+    }
+
+    /**
+     * 금액은 Decimal 메시지 { sint64 unscaled = 1; int32 scale = 2; }
+     */
+    public void decimal(int field, BigDecimal value) {
+        if (value == null) {
+            return;
+        }
+        ProtobufOutput decimal = new ProtobufOutput();
+        decimal.sint64(1, value.unscaledValue().longValueExact());
+        decimal.int64(2, (long) value.scale());
+        message(field, decimal);
+    }
+
+    public void message(int field, ProtobufOutput message) {
+        tag(field, WIRE_LENGTH_DELIMITED);
+        varint(message.size());
+        write(message.buf, 0, message.count);
+    }
+
+    /**
+     * 길이 접두 메시지 (writeDelimitedTo와 같은 형식)
+     */
+    public void delimited(ProtobufOutput message) {
+        varint(message.size());
+        write(message.buf, 0, message.count);
+    }
+
+    public void varint(long value) {
+        while ((value & ~0x7fL) != 0) {
+            write((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        write((int) value);
+    }
+
+    /**
+     * 복사 없이 내부 버퍼를 감싼다. (다음 기록 전까지만 유효)
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
+
+    private void tag(int field, int wireType) {
+        varint(((long) field << 3) | wireType);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ssmdemo.config;
+
+import com.example.ssmdemo.codec.OrderProtobufHttpMessageConverter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 바이너리 응답 형식 (Accept 협상)
+ *
+ * - application/cbor, application/x-jackson-smile: JSON과 같은 필드, 시각은 epoch millis
+ *   (LocalDateTime은 시스템 기본 시간대의 시각으로 보고 변환한다)
+ * - application/x-protobuf: resources/proto/order.proto 스키마
+ *
+ * CBOR/Smile 빈은 Spring Boot 기본 Converter를 같은 자리에서 대체하고,
+ * Protobuf는 목록 끝에 추가해서 Accept가 없거나 *&#47;*이면 기존처럼 JSON으로 응답한다.
+ */
+@Configuration
+public class BinaryCodecConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+            epochMillisTimestamps(builder).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+            epochMillisTimestamps(builder).factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new OrderProtobufHttpMessageConverter());
+    }
+
+    private static Jackson2ObjectMapperBuilder epochMillisTimestamps(Jackson2ObjectMapperBuilder builder) {
+        return builder
+            .serializerByType(LocalDateTime.class, new JsonSerializer<LocalDateTime>() {
+                @Override
+                public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers)
+                        throws IOException {
+                    gen.writeNumber(value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                }
+            })
+            .deserializerByType(LocalDateTime.class, new JsonDeserializer<LocalDateTime>() {
+                @Override
+                public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                    return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneId.systemDefault());
+                }
+            });
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.ssmdemo.config;
+
+import com.example.ssmdemo.controller.OrderController;
+import com.example.ssmdemo.service.OrderService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 빠른 기동 모드 설정 (fast-startup 프로파일)
+ *
+ * fast-startup 프로파일은 spring.main.lazy-initialization=true로 관리 API, 내보내기, 배치 실행기 등
+ * 주문 처리 경로가 아닌 빈의 생성을 첫 사용 시점으로 미룬다.
+ * 주문 API와 OrderService(State Machine 팩토리, 리포지토리, EntityManagerFactory 포함)는 기동 시 만들어
+ * 첫 전이 요청이 빈 생성 비용을 떠안지 않게 한다. @Scheduled 빈은 Spring Boot가 지연 초기화에서 제외한다.
+ */
+@Configuration
+public class FastStartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter orderHotPathExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(OrderController.class, OrderService.class);
+    }
+}
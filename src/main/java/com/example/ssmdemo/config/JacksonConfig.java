@@ -0,0 +1,23 @@
+package com.example.ssmdemo.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 공통 설정 (JSON/CBOR/Smile ObjectMapper 모두 적용)
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * @JsonFilter 응답을 필터 지정 없이 쓰면 전체 필드를 쓴다. (필드 선택은 MappingJacksonValue로 지정)
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer serializeAllByDefault() {
+        return builder -> builder.filters(
+            new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ssmdemo.config;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+/**
+ * Redis 자동 설정 필터
+ *
+ * Redis는 주문 분산 락(ssm-demo.lock.enabled=true)에서만 쓰므로, 락을 쓰지 않으면 Redis 커넥션 팩토리(Lettuce 이벤트 루프),
+ * 템플릿, 헬스/메트릭 자동 설정을 건너뛴다. Redis 리포지토리는 쓰지 않으므로 함께 건너뛴다. (기동 시 리포지토리 스캔 생략)
+ * ssm-demo.lock.exclude-redis-when-disabled=true 일 때만 동작한다. (fast-startup 프로파일에서 켬, 그 외에는 Boot 기본 동작)
+ */
+public class RedisAutoConfigurationFilter implements AutoConfigurationImportFilter, EnvironmentAware {
+
+    private static final Set<String> REDIS_AUTO_CONFIGURATIONS = Set.of(
+        "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.data.redis.RedisHealthContributorAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.data.redis.RedisReactiveHealthContributorAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.redis.LettuceMetricsAutoConfiguration"
+    );
+
+    private static final String REDIS_REPOSITORIES =
+        "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration";
+
+    private boolean excludeEnabled;
+    private boolean lockEnabled;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.excludeEnabled = environment.getProperty("ssm-demo.lock.exclude-redis-when-disabled", Boolean.class, false);
+        this.lockEnabled = environment.getProperty("ssm-demo.lock.enabled", Boolean.class, false);
+    }
+
+    @Override
+    public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        boolean[] matches = new boolean[autoConfigurationClasses.length];
+        for (int i = 0; i < autoConfigurationClasses.length; i++) {
+            // 앞선 필터에서 이미 제외된 후보는 null로 전달된다
+            String candidate = autoConfigurationClasses[i];
+            matches[i] = !excludeEnabled || candidate == null || !REDIS_REPOSITORIES.equals(candidate)
+                && (lockEnabled || !REDIS_AUTO_CONFIGURATIONS.contains(candidate));
+        }
+        return matches;
+    }
+}
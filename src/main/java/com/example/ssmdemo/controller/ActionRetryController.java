@@ -0,0 +1,96 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.controller.dto.ActionRetryResponse;
+import com.example.ssmdemo.retry.ActionRetryRunResult;
+import com.example.ssmdemo.retry.OrderActionRetryQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 부수 효과 재시도 큐 / dead letter API (재시도 큐 사용 시에만 등록)
+ */
+@RestController
+@RequestMapping("/internal/action-retries")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.action-retry.enabled", havingValue = "true")
+public class ActionRetryController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final OrderActionRetryQueue retryQueue;
+
+    /**
+     * 재시도 대기 항목 조회 (다음 시도 시각 순, limit은 1~1000)
+     * GET /internal/action-retries?limit=100
+     */
+    @GetMapping
+    public ResponseEntity<?> getPending(@RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return invalidLimit(limit);
+        }
+        return ResponseEntity.ok(retryQueue.findPending(limit).stream()
+            .map(ActionRetryResponse::from)
+            .toList());
+    }
+
+    /**
+     * 시도 시각이 된 항목 즉시 재시도 (완료될 때까지 대기)
+     * POST /internal/action-retries/run
+     */
+    @PostMapping("/run")
+    public ResponseEntity<ActionRetryRunResult> run() {
+        return ResponseEntity.ok(retryQueue.retryDue());
+    }
+
+    /**
+     * dead letter 조회 (최근에 실패한 순, limit은 1~1000)
+     * GET /internal/action-retries/dead-letters?limit=100
+     */
+    @GetMapping("/dead-letters")
+    public ResponseEntity<?> getDeadLetters(@RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return invalidLimit(limit);
+        }
+        return ResponseEntity.ok(retryQueue.findDeadLetters(limit).stream()
+            .map(ActionRetryResponse::from)
+            .toList());
+    }
+
+    /**
+     * dead letter 단건 조회
+     * GET /internal/action-retries/dead-letters/{id}
+     */
+    @GetMapping("/dead-letters/{id}")
+    public ResponseEntity<?> getDeadLetter(@PathVariable String id) {
+        return retryQueue.findDeadLetter(id)
+            .<ResponseEntity<?>>map(deadLetter -> ResponseEntity.ok(ActionRetryResponse.from(deadLetter)))
+            .orElseGet(() -> notFound(id));
+    }
+
+    /**
+     * dead letter 재처리 (즉시 시도할 재시도 항목으로 되돌림, 실행은 재시도 작업이 한다)
+     * POST /internal/action-retries/dead-letters/{id}/replay
+     */
+    @PostMapping("/dead-letters/{id}/replay")
+    public ResponseEntity<?> replay(@PathVariable String id) {
+        if (!retryQueue.replay(id)) {
+            return notFound(id);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("id", id, "status", "REQUEUED"));
+    }
+
+    private ResponseEntity<?> invalidLimit(int limit) {
+        return ResponseEntity.badRequest()
+            .body(Map.of("error", "INVALID_LIMIT", "message", "limit은 1~" + MAX_LIMIT + " 사이여야 합니다: " + limit));
+    }
+
+    private ResponseEntity<?> notFound(String id) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(Map.of("error", "NOT_FOUND", "message", "dead letter가 없습니다: " + id));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.batch.OrderBatchJobRunner;
+import com.example.ssmdemo.batch.OrderBatchProperties;
+import com.example.ssmdemo.batch.OrderBatchResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주문 배치 전이 작업 API
+ */
+@RestController
+@RequestMapping("/internal/batch/jobs")
+@RequiredArgsConstructor
+public class BatchJobController {
+
+    private final OrderBatchJobRunner runner;
+    private final OrderBatchProperties properties;
+
+    /**
+     * 등록된 작업 실행 (완료될 때까지 대기)
+     * POST /internal/batch/jobs/{name}/run
+     */
+    @PostMapping("/{name}/run")
+    public ResponseEntity<Map<String, Object>> run(@PathVariable String name) {
+        if (properties.jobs() == null || !properties.jobs().containsKey(name)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "NOT_FOUND", "message", "등록되지 않은 배치 작업입니다: " + name));
+        }
+
+        OrderBatchResult result = runner.run(name);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("job", result.job());
+        body.put("status", result.status());
+        body.put("resumedFrom", result.resumedFrom());
+        body.put("succeeded", result.succeeded());
+        body.put("failed", result.failed());
+        body.put("elapsedMillis", result.elapsed().toMillis());
+        body.put("ordersPerSecond", result.throughput());
+        HttpStatus status = result.status() == OrderBatchResult.Status.ALREADY_RUNNING
+            ? HttpStatus.CONFLICT : HttpStatus.OK;
+        return ResponseEntity.status(status).body(body);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.cluster.OrderOwnership;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 클러스터 멤버십 관리 API (클러스터 모드에서만 등록)
+ */
+@RestController
+@RequestMapping("/internal/cluster")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.cluster.enabled", havingValue = "true")
+public class ClusterController {
+
+    private final OrderOwnership orderOwnership;
+
+    /**
+     * 멤버십 조회
+     * GET /internal/cluster
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMembership() {
+        return ResponseEntity.ok(Map.of(
+            "nodeId", orderOwnership.localNodeId(),
+            "members", orderOwnership.members()
+        ));
+    }
+
+    /**
+     * 멤버십 교체 (소유권 재분배)
+     * PUT /internal/cluster/members
+     */
+    @PutMapping("/members")
+    public ResponseEntity<Map<String, Object>> updateMembers(@RequestBody Map<String, String> members) {
+        orderOwnership.updateMembership(members);
+        return getMembership();
+    }
+
+    /**
+     * 주문 소유 노드 조회
+     * GET /internal/cluster/owner/{orderId}
+     */
+    @GetMapping("/owner/{orderId}")
+    public ResponseEntity<Map<String, Object>> getOwner(@PathVariable String orderId) {
+        return ResponseEntity.ok(Map.of(
+            "orderId", orderId,
+            "owner", orderOwnership.ownerOf(orderId),
+            "local", orderOwnership.isLocal(orderId)
+        ));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.jfr.FlightRecordingInfo;
+import com.example.ssmdemo.jfr.FlightRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JFR 녹화 API
+ */
+@RestController
+@RequestMapping("/internal/jfr/recordings")
+@RequiredArgsConstructor
+public class FlightRecordingController {
+
+    private final FlightRecordingService recordingService;
+
+    /**
+     * 녹화 목록
+     * GET /internal/jfr/recordings
+     */
+    @GetMapping
+    public ResponseEntity<List<FlightRecordingInfo>> list() {
+        return ResponseEntity.ok(recordingService.list());
+    }
+
+    /**
+     * 녹화 시작
+     * POST /internal/jfr/recordings?name=slow-pay
+     */
+    @PostMapping
+    public ResponseEntity<?> start(@RequestParam(required = false) String name) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(recordingService.start(name));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "TOO_MANY_RECORDINGS", "message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 녹화 종료
+     * POST /internal/jfr/recordings/{id}/stop
+     */
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<FlightRecordingInfo> stop(@PathVariable long id) {
+        return ResponseEntity.of(recordingService.stop(id));
+    }
+
+    /**
+     * 녹화 다운로드 (.jfr, JDK Mission Control 또는 `jfr print`로 분석)
+     * GET /internal/jfr/recordings/{id}
+     */
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> download(@PathVariable long id) {
+        return recordingService.get(id)
+            .<ResponseEntity<StreamingResponseBody>>map(info -> {
+                StreamingResponseBody body = out -> {
+                    try (InputStream in = recordingService.open(id).orElseGet(InputStream::nullInputStream)) {
+                        in.transferTo(out);
+                    }
+                };
+                return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(info.name() + ".jfr").build().toString())
+                    .body(body);
+            })
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 녹화 삭제
+     * DELETE /internal/jfr/recordings/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable long id) {
+        return recordingService.delete(id)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
+    }
+}
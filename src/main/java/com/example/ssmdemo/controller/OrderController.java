@@ -1,17 +1,50 @@
 package com.example.ssmdemo.controller;
 
 import com.example.ssmdemo.controller.dto.CreateOrderRequest;
+import com.example.ssmdemo.controller.dto.OrderAwaitResponse;
 import com.example.ssmdemo.controller.dto.OrderResponse;
+import com.example.ssmdemo.controller.dto.OrderStatsResponse;
+import com.example.ssmdemo.controller.dto.TransitionRejectedResponse;
 import com.example.ssmdemo.domain.order.entity.Order;
 import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.projection.OrderField;
+import com.example.ssmdemo.domain.order.projection.OrderView;
+import com.example.ssmdemo.export.OrderExportFormat;
+import com.example.ssmdemo.export.OrderExportQuery;
+import com.example.ssmdemo.export.OrderExporter;
 import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.service.TransitionResult;
+import com.example.ssmdemo.stream.OrderStatusAwaiter;
+import com.example.ssmdemo.stream.OrderStreamFilter;
+import com.example.ssmdemo.stream.OrderStreamHub;
+import com.example.ssmdemo.stream.OrderStreamProperties;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongFunction;
 
 /**
  * 주문 API 컨트롤러
@@ -22,6 +55,10 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderStreamHub orderStreamHub;
+    private final OrderStatusAwaiter orderStatusAwaiter;
+    private final OrderStreamProperties streamProperties;
+    private final OrderExporter orderExporter;
 
     /**
      * 주문 생성
@@ -45,9 +82,44 @@ public class OrderController {
      * GET /api/orders/{orderId}
      */
     @GetMapping("/{orderId}")
-    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId) {
-        Order order = orderService.getOrder(orderId);
-        return ResponseEntity.ok(OrderResponse.from(order));
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId, ServletWebRequest request)
+            throws HttpMediaTypeNotAcceptableException {
+        OrderRepresentation representation = OrderRepresentation.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (notModified(orderId, request, version -> OrderETag.of(version, representation))) {
+            return null;
+        }
+
+        OrderView view = orderService.getOrderView(orderId, OrderField.ALL);
+        return ResponseEntity.ok()
+            .contentType(representation.mediaType())
+            .eTag(OrderETag.of(view.version(), representation))
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(OrderResponse.from(view));
+    }
+
+    /**
+     * 주문 조회 (필드 선택)
+     * GET /api/orders/{orderId}?fields=id,status,paidAt
+     * 선택한 필드의 컬럼만 조회해서 해당 필드만 응답한다. (JSON/CBOR/Smile만, Protobuf는 스키마 전체를 쓰므로 406)
+     */
+    @GetMapping(value = "/{orderId}", params = "fields")
+    public ResponseEntity<MappingJacksonValue> getOrderFields(@PathVariable String orderId,
+                                                              @RequestParam String fields,
+                                                              ServletWebRequest request)
+            throws HttpMediaTypeNotAcceptableException {
+        Set<OrderField> selected = OrderField.parse(fields);
+        OrderRepresentation representation = OrderRepresentation.negotiate(
+            request.getHeader(HttpHeaders.ACCEPT), OrderRepresentation.JACKSON);
+        if (notModified(orderId, request, version -> OrderETag.of(version, representation, selected))) {
+            return null;
+        }
+
+        OrderView view = orderService.getOrderView(orderId, selected);
+        return ResponseEntity.ok()
+            .contentType(representation.mediaType())
+            .eTag(OrderETag.of(view.version(), representation, selected))
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(selectFields(OrderResponse.from(view), selected));
     }
 
     /**
@@ -56,20 +128,48 @@ public class OrderController {
      */
     @GetMapping
     public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        List<Order> orders = orderService.getAllOrders();
+        List<OrderView> views = orderService.getAllOrderViews(OrderField.ALL);
         return ResponseEntity.ok(
-            orders.stream().map(OrderResponse::from).toList()
+            views.stream().map(OrderResponse::from).toList()
         );
     }
 
+    /**
+     * 전체 주문 조회 (필드 선택, JSON/CBOR/Smile만)
+     * GET /api/orders?fields=id,status
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<MappingJacksonValue> getAllOrderFields(
+            @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        Set<OrderField> selected = OrderField.parse(fields);
+        OrderRepresentation representation = OrderRepresentation.negotiate(accept, OrderRepresentation.JACKSON);
+        List<OrderView> views = orderService.getAllOrderViews(selected);
+        return ResponseEntity.ok()
+            .contentType(representation.mediaType())
+            .body(selectFields(views.stream().map(OrderResponse::from).toList(), selected));
+    }
+
+    /**
+     * 상태별 주문 수
+     * GET /api/orders/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<OrderStatsResponse> getStats() {
+        return ResponseEntity.ok(OrderStatsResponse.of(orderService.getStatusCounts()));
+    }
+
     /**
      * 결제 처리
      * POST /api/orders/{orderId}/pay
      */
     @PostMapping("/{orderId}/pay")
-    public ResponseEntity<OrderResponse> pay(@PathVariable String orderId) {
-        Order order = orderService.pay(orderId);
-        return ResponseEntity.ok(OrderResponse.from(order));
+    public ResponseEntity<?> pay(@PathVariable String orderId,
+                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        return transition(orderId, OrderEvent.PAY, ifMatch, accept);
     }
 
     /**
@@ -77,9 +177,11 @@ public class OrderController {
      * POST /api/orders/{orderId}/ship
      */
     @PostMapping("/{orderId}/ship")
-    public ResponseEntity<OrderResponse> ship(@PathVariable String orderId) {
-        Order order = orderService.ship(orderId);
-        return ResponseEntity.ok(OrderResponse.from(order));
+    public ResponseEntity<?> ship(@PathVariable String orderId,
+                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        return transition(orderId, OrderEvent.SHIP, ifMatch, accept);
     }
 
     /**
@@ -87,9 +189,11 @@ public class OrderController {
      * POST /api/orders/{orderId}/deliver
      */
     @PostMapping("/{orderId}/deliver")
-    public ResponseEntity<OrderResponse> deliver(@PathVariable String orderId) {
-        Order order = orderService.deliver(orderId);
-        return ResponseEntity.ok(OrderResponse.from(order));
+    public ResponseEntity<?> deliver(@PathVariable String orderId,
+                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        return transition(orderId, OrderEvent.DELIVER, ifMatch, accept);
     }
 
     /**
@@ -97,9 +201,11 @@ public class OrderController {
      * POST /api/orders/{orderId}/cancel
      */
     @PostMapping("/{orderId}/cancel")
-    public ResponseEntity<OrderResponse> cancel(@PathVariable String orderId) {
-        Order order = orderService.cancel(orderId);
-        return ResponseEntity.ok(OrderResponse.from(order));
+    public ResponseEntity<?> cancel(@PathVariable String orderId,
+                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        return transition(orderId, OrderEvent.CANCEL, ifMatch, accept);
     }
 
     /**
@@ -107,9 +213,11 @@ public class OrderController {
      * POST /api/orders/{orderId}/return
      */
     @PostMapping("/{orderId}/return")
-    public ResponseEntity<OrderResponse> returnOrder(@PathVariable String orderId) {
-        Order order = orderService.returnOrder(orderId);
-        return ResponseEntity.ok(OrderResponse.from(order));
+    public ResponseEntity<?> returnOrder(@PathVariable String orderId,
+                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        return transition(orderId, OrderEvent.RETURN, ifMatch, accept);
     }
 
     /**
@@ -119,7 +227,7 @@ public class OrderController {
     @GetMapping("/{orderId}/available-events")
     public ResponseEntity<Map<String, Object>> getAvailableEvents(@PathVariable String orderId) {
         Order order = orderService.getOrder(orderId);
-        List<OrderEvent> events = orderService.getAvailableEvents(orderId);
+        List<OrderEvent> events = orderService.getAvailableEvents(order);
 
         return ResponseEntity.ok(Map.of(
             "orderId", orderId,
@@ -133,4 +241,120 @@ public class OrderController {
                 .toList()
         ));
     }
+
+    /**
+     * 주문 상태 변경 스트림 (SSE)
+     * GET /api/orders/stream?status={status}&customerEmail={email}
+     * 재연결 시 Last-Event-ID 헤더 이후의 이벤트부터 재전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrders(@RequestParam(required = false) OrderStatus status,
+                                   @RequestParam(required = false) String customerEmail,
+                                   @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return orderStreamHub.subscribe(new OrderStreamFilter(null, status, customerEmail), lastEventId);
+    }
+
+    /**
+     * 단일 주문 상태 변경 스트림 (SSE)
+     * GET /api/orders/{orderId}/stream
+     */
+    @GetMapping(value = "/{orderId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrder(@PathVariable String orderId,
+                                  @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        orderService.getOrder(orderId);
+        return orderStreamHub.subscribe(OrderStreamFilter.ofOrder(orderId), lastEventId);
+    }
+
+    /**
+     * 주문 상태 대기 (Long-Poll)
+     * GET /api/orders/{orderId}/await?status=DELIVERED&timeout=30s
+     * 지정 상태 또는 종료 상태에 도달하거나 timeout이 지나면 응답
+     * timeout은 [awaitMinTimeout, awaitMaxTimeout]으로 맞춘다. (0 이하는 서블릿에서 무제한 대기가 된다)
+     */
+    @GetMapping("/{orderId}/await")
+    public DeferredResult<OrderAwaitResponse> awaitStatus(
+            @PathVariable String orderId,
+            @RequestParam OrderStatus status,
+            @RequestParam(defaultValue = "30s") @DurationFormat(style = DurationFormat.Style.SIMPLE) Duration timeout) {
+        Duration bounded = timeout.compareTo(streamProperties.awaitMaxTimeout()) > 0
+            ? streamProperties.awaitMaxTimeout()
+            : timeout.compareTo(streamProperties.awaitMinTimeout()) < 0 ? streamProperties.awaitMinTimeout() : timeout;
+        return orderStatusAwaiter.await(orderId, status, bounded,
+            () -> orderService.getOrder(orderId).getStatus());
+    }
+
+    /**
+     * 주문 대량 내보내기
+     * GET /api/orders/export?format=CSV|COLUMNAR|PROTOBUF&status={status}&from={from}&to={to}
+     * 커서로 읽은 행을 응답 스트림에 바로 기록 (from 포함, to 미포함)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "CSV") OrderExportFormat format,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        OrderExportQuery query = new OrderExportQuery(status, from, to);
+        StreamingResponseBody body = outputStream ->
+            orderExporter.export(query, format, Channels.newChannel(outputStream));
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("orders" + format.getFileExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * If-None-Match가 현재 버전의 이 표현 ETag와 같으면 304 (버전만 조회해서 비교하고, 엔티티 로드와 응답 생성은 하지 않는다)
+     */
+    private boolean notModified(String orderId, ServletWebRequest request, LongFunction<String> etag) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return false;
+        }
+        Optional<Long> version = orderService.findVersion(orderId);
+        if (version.isEmpty() || !request.checkNotModified(etag.apply(version.get()))) {
+            return false;
+        }
+        if (request.getResponse() != null) {
+            request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return true;
+    }
+
+    private static MappingJacksonValue selectFields(Object body, Set<OrderField> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(OrderResponse.FIELD_FILTER,
+            SimpleBeanPropertyFilter.filterOutAllExcept(OrderField.names(fields))));
+        return value;
+    }
+
+    /**
+     * 전이 후 결과 응답: 성공 200, 거부(처리 불가/Guard 거부) 409, If-Match 불일치 412
+     * 모든 응답에 현재 버전과 응답 형식의 ETag를 싣는다.
+     */
+    private ResponseEntity<?> transition(String orderId, OrderEvent event, String ifMatch, String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        OrderRepresentation representation = OrderRepresentation.negotiate(accept);
+        TransitionResult result = ifMatch != null
+            ? orderService.transition(orderId, event, order -> OrderETag.matches(ifMatch, order.getVersion()))
+            : orderService.transition(orderId, event);
+
+        HttpStatus status = switch (result.outcome()) {
+            case ACCEPTED -> HttpStatus.OK;
+            case PRECONDITION_FAILED -> HttpStatus.PRECONDITION_FAILED;
+            case REJECTED, GUARD_DENIED -> HttpStatus.CONFLICT;
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status)
+            .contentType(representation.mediaType())
+            .eTag(OrderETag.of(result.order().getVersion(), representation))
+            .varyBy(HttpHeaders.ACCEPT);
+        return status == HttpStatus.OK
+            ? response.body(OrderResponse.from(result.order()))
+            : response.body(TransitionRejectedResponse.from(result));
+    }
 }
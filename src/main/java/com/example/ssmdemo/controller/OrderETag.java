@@ -0,0 +1,64 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.domain.order.projection.OrderField;
+
+import java.util.Set;
+
+/**
+ * 주문 ETag (강한 검증자)
+ *
+ * 값은 주문 버전이며, 바이트가 다른 표현(응답 형식, 선택한 필드)은 검증자를 공유하지 않도록 접미사를 붙인다.
+ * - JSON 전체 필드: "3"
+ * - 다른 형식: "3-cbor", "3-smile", "3-protobuf"
+ * - 필드 선택: "3-f1a", "3-cbor-f1a" (선택한 필드의 비트마스크)
+ * If-Match는 주문 상태에 대한 조건이므로 표현과 관계없이 버전만 비교한다.
+ */
+final class OrderETag {
+
+    private OrderETag() {
+    }
+
+    static String of(long version) {
+        return of(version, OrderRepresentation.JSON);
+    }
+
+    static String of(long version, OrderRepresentation representation) {
+        return of(version, representation, OrderField.ALL);
+    }
+
+    static String of(long version, OrderRepresentation representation, Set<OrderField> fields) {
+        StringBuilder tag = new StringBuilder().append('"').append(version);
+        if (representation != OrderRepresentation.JSON) {
+            tag.append('-').append(representation.name().toLowerCase());
+        }
+        if (!fields.equals(OrderField.ALL)) {
+            long mask = 0;
+            for (OrderField field : fields) {
+                mask |= 1L << field.ordinal();
+            }
+            tag.append("-f").append(Long.toHexString(mask));
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * If-Match 비교 (강한 비교, "*"는 항상 일치, 약한 ETag는 일치하지 않음)
+     */
+    static boolean matches(String ifMatch, long version) {
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                continue;
+            }
+            String tag = value.substring(1, value.length() - 1);
+            int suffix = tag.indexOf('-');
+            if ((suffix < 0 ? tag : tag.substring(0, suffix)).equals(Long.toString(version))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
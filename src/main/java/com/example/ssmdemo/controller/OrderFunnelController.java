@@ -0,0 +1,46 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.analytics.FunnelReport;
+import com.example.ssmdemo.analytics.OrderFunnelAggregator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 전환 퍼널 조회 API (퍼널 집계 사용 시에만 등록)
+ */
+@RestController
+@RequestMapping("/api/orders/analytics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.funnel.enabled", havingValue = "true")
+public class OrderFunnelController {
+
+    private final OrderFunnelAggregator funnelAggregator;
+
+    /**
+     * 기간/상품별 퍼널 (집계 테이블만 읽음, 기본 최근 24시간)
+     * GET /api/orders/analytics/funnel?from={from}&to={to}&productId={productId}&interval=PT1H
+     */
+    @GetMapping("/funnel")
+    public ResponseEntity<?> getFunnel(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String productId,
+            @RequestParam(required = false) Duration interval) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(1);
+        try {
+            FunnelReport report = funnelAggregator.report(start, end, productId, interval);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "INVALID_RANGE", "message", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.importer.OrderImportFormat;
+import com.example.ssmdemo.importer.OrderImportResult;
+import com.example.ssmdemo.importer.OrderImporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주문 가져오기 API
+ */
+@RestController
+@RequestMapping("/internal/imports")
+@RequiredArgsConstructor
+public class OrderImportController {
+
+    private final OrderImporter orderImporter;
+
+    /**
+     * 요청 본문을 스트리밍으로 읽어 적재 (완료될 때까지 대기)
+     * POST /internal/imports/{name}?format=NDJSON
+     *
+     * 중단된 가져오기는 같은 이름으로 같은 본문을 다시 보내면 체크포인트 다음 레코드부터 이어서 적재한다.
+     */
+    @PostMapping("/{name}")
+    public ResponseEntity<Map<String, Object>> importOrders(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "CSV") OrderImportFormat format,
+            InputStream body) {
+        OrderImportResult result;
+        try {
+            result = orderImporter.importOrders(name, format, body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "INVALID_INPUT", "message", e.getMessage()));
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("name", result.name());
+        response.put("status", result.status());
+        response.put("resumedFrom", result.resumedFrom());
+        response.put("imported", result.imported());
+        response.put("skipped", result.skipped());
+        response.put("rejected", result.rejected());
+        response.put("elapsedMillis", result.elapsed().toMillis());
+        response.put("rowsPerSecond", result.throughput());
+        response.put("rejections", result.rejections());
+        HttpStatus status = switch (result.status()) {
+            case COMPLETED -> HttpStatus.OK;
+            case ALREADY_RUNNING -> HttpStatus.CONFLICT;
+            case FAILED -> HttpStatus.SERVICE_UNAVAILABLE;
+        };
+        return ResponseEntity.status(status).body(response);
+    }
+}
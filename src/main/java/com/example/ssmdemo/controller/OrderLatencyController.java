@@ -0,0 +1,46 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.analytics.LatencyReport;
+import com.example.ssmdemo.analytics.OrderLatencySketches;
+import com.example.ssmdemo.domain.order.enums.OrderLatencyStage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 상태 체류 시간 조회 API (체류 시간 스케치 사용 시에만 등록)
+ */
+@RestController
+@RequestMapping("/api/orders/analytics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.latency.enabled", havingValue = "true")
+public class OrderLatencyController {
+
+    private final OrderLatencySketches latencySketches;
+
+    /**
+     * 구간별 체류 시간 p50/p95/p99 (저장된 스케치만 읽음, 기본 최근 24시간)
+     * GET /api/orders/analytics/latency?from={from}&to={to}&productId={productId}&stage=PAID_TO_SHIPPED
+     */
+    @GetMapping("/latency")
+    public ResponseEntity<?> getLatency(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String productId,
+            @RequestParam(required = false) OrderLatencyStage stage) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(1);
+        try {
+            LatencyReport report = latencySketches.report(start, end, productId, stage);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "INVALID_RANGE", "message", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.codec.OrderProtobufHttpMessageConverter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 응답 형식 (Accept 협상)
+ *
+ * ETag가 형식마다 달라야 하므로 컨트롤러가 직접 형식을 고르고 Content-Type으로 고정한다.
+ * (Content-Type이 정해진 응답은 Spring이 다시 협상하지 않는다)
+ */
+enum OrderRepresentation {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    PROTOBUF(OrderProtobufHttpMessageConverter.PROTOBUF);
+
+    /**
+     * Jackson으로 쓰는 형식 (MappingJacksonValue 필드 선택을 지원, Protobuf는 스키마 전체 필드를 쓰므로 제외)
+     */
+    static final Set<OrderRepresentation> JACKSON = EnumSet.of(JSON, CBOR, SMILE);
+
+    private final MediaType mediaType;
+
+    OrderRepresentation(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Accept의 품질(q) 순으로, 같은 품질이면 헤더 순서대로 처음 호환되는 형식 (Accept가 없으면 JSON)
+     */
+    static OrderRepresentation negotiate(String accept) throws HttpMediaTypeNotAcceptableException {
+        return negotiate(accept, EnumSet.allOf(OrderRepresentation.class));
+    }
+
+    static OrderRepresentation negotiate(String accept, Set<OrderRepresentation> supported)
+            throws HttpMediaTypeNotAcceptableException {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            throw new HttpMediaTypeNotAcceptableException(e.getMessage());
+        }
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType candidate : acceptable) {
+            if (candidate.getQualityValue() <= 0) {
+                continue;
+            }
+            for (OrderRepresentation representation : supported) {
+                if (candidate.isCompatibleWith(representation.mediaType)) {
+                    return representation;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(supported.stream().map(OrderRepresentation::mediaType).toList());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.shadow.ShadowComparator;
+import com.example.ssmdemo.shadow.ShadowStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 전이 결정 섀도 비교 결과 API (섀도 비교 사용 시에만 등록)
+ */
+@RestController
+@RequestMapping("/internal/shadow")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.shadow.enabled", havingValue = "true")
+public class ShadowController {
+
+    private final ShadowComparator shadowComparator;
+
+    /**
+     * 누적 통계와 최근 불일치 조회
+     * GET /internal/shadow?limit=100
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getReport(@RequestParam(defaultValue = "100") int limit) {
+        ShadowStats stats = shadowComparator.stats();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("engine", shadowComparator.engineName());
+        body.put("sampled", stats.sampled());
+        body.put("dropped", stats.dropped());
+        body.put("rolledBack", stats.rolledBack());
+        body.put("compared", stats.compared());
+        body.put("matched", stats.matched());
+        body.put("mismatched", stats.mismatched());
+        body.put("errors", stats.errors());
+        body.put("queued", stats.queued());
+        body.put("mismatches", shadowComparator.mismatches(limit));
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * 보관 중인 불일치 삭제 (통계는 유지)
+     * DELETE /internal/shadow/mismatches
+     */
+    @DeleteMapping("/mismatches")
+    public ResponseEntity<Void> clearMismatches() {
+        shadowComparator.clearMismatches();
+        return ResponseEntity.noContent().build();
+    }
+}
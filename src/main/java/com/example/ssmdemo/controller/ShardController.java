@@ -0,0 +1,81 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.shard.ShardRouter;
+import com.example.ssmdemo.shard.ShardSplitResult;
+import com.example.ssmdemo.shard.ShardSplitter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 샤드 관리 API (샤딩 사용 시에만 등록)
+ */
+@RestController
+@RequestMapping("/internal/shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.shard.enabled", havingValue = "true")
+public class ShardController {
+
+    private final ShardRouter shardRouter;
+    private final ShardSplitter shardSplitter;
+
+    /**
+     * 샤드별 버킷 수 조회
+     * GET /internal/shards
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getShards() {
+        return ResponseEntity.ok(Map.of(
+            "buckets", shardRouter.shardMap().buckets(),
+            "shards", shardRouter.shardMap().bucketCounts(shardRouter.shardNames())
+        ));
+    }
+
+    /**
+     * 원본 샤드의 버킷 절반을 대상 샤드로 옮긴다.
+     * POST /internal/shards/split?source=shard-0&target=shard-1
+     */
+    @PostMapping("/split")
+    public ResponseEntity<Map<String, Object>> split(@RequestParam String source, @RequestParam String target) {
+        ShardSplitResult result;
+        try {
+            result = shardSplitter.split(source, target);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "INVALID_SPLIT", "message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "SPLIT_IN_PROGRESS", "message", e.getMessage()));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("source", result.source());
+        body.put("target", result.target());
+        body.put("buckets", result.buckets());
+        body.put("copied", result.copied());
+        body.put("reconciled", result.reconciled());
+        body.put("deleted", result.deleted());
+        body.put("frozenMillis", result.frozen().toMillis());
+        body.put("elapsedMillis", result.elapsed().toMillis());
+        body.put("shards", shardRouter.shardMap().bucketCounts(shardRouter.shardNames()));
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * 주문의 버킷과 샤드 조회
+     * GET /internal/shards/owner/{orderId}
+     */
+    @GetMapping("/owner/{orderId}")
+    public ResponseEntity<Map<String, Object>> getOwner(@PathVariable String orderId) {
+        return ResponseEntity.ok(Map.of(
+            "orderId", orderId,
+            "bucket", shardRouter.shardMap().bucketOf(orderId),
+            "shard", shardRouter.shardOf(orderId)
+        ));
+    }
+}
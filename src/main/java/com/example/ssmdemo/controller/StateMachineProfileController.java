@@ -0,0 +1,47 @@
+package com.example.ssmdemo.controller;
+
+import com.example.ssmdemo.profile.ProfileSnapshot;
+import com.example.ssmdemo.profile.StateMachineProfiler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Guard/Action 지연 시간 프로파일 API
+ */
+@RestController
+@RequestMapping("/internal/statemachine/profile")
+@RequiredArgsConstructor
+public class StateMachineProfileController {
+
+    private final StateMachineProfiler profiler;
+
+    /**
+     * 구간 × 컴포넌트 × 전이별 지연 시간 조회
+     * GET /internal/statemachine/profile
+     */
+    @GetMapping
+    public ResponseEntity<ProfileSnapshot> getProfile() {
+        return ResponseEntity.ok(profiler.snapshot());
+    }
+
+    /**
+     * 기록 켜기/끄기
+     * PUT /internal/statemachine/profile?enabled=true
+     */
+    @PutMapping
+    public ResponseEntity<ProfileSnapshot> setEnabled(@RequestParam boolean enabled) {
+        profiler.setEnabled(enabled);
+        return getProfile();
+    }
+
+    /**
+     * 기록 초기화
+     * DELETE /internal/statemachine/profile
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        profiler.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
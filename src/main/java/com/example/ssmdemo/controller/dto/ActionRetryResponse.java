@@ -0,0 +1,49 @@
+package com.example.ssmdemo.controller.dto;
+
+import com.example.ssmdemo.domain.order.entity.OrderActionDeadLetter;
+import com.example.ssmdemo.domain.order.entity.OrderActionRetry;
+import com.example.ssmdemo.domain.order.enums.OrderSideEffect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ActionRetryResponse(
+    String id,
+    OrderSideEffect effect,
+    String orderId,
+    String reference,
+    int attempts,
+    String lastError,
+    LocalDateTime createdAt,
+    LocalDateTime nextAttemptAt,
+    LocalDateTime deadAt
+) {
+    public static ActionRetryResponse from(OrderActionRetry retry) {
+        return new ActionRetryResponse(
+            retry.getId(),
+            retry.getCall().effect(),
+            retry.getCall().orderId(),
+            retry.getCall().reference(),
+            retry.getAttempts(),
+            retry.getLastError(),
+            retry.getCreatedAt(),
+            retry.getNextAttemptAt(),
+            null
+        );
+    }
+
+    public static ActionRetryResponse from(OrderActionDeadLetter deadLetter) {
+        return new ActionRetryResponse(
+            deadLetter.getId(),
+            deadLetter.getCall().effect(),
+            deadLetter.getCall().orderId(),
+            deadLetter.getCall().reference(),
+            deadLetter.getAttempts(),
+            deadLetter.getLastError(),
+            deadLetter.getCreatedAt(),
+            null,
+            deadLetter.getDeadAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ssmdemo.controller.dto;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+public record OrderAwaitResponse(
+    String orderId,
+    String status,
+    String statusDescription,
+    boolean reached,
+    boolean timedOut
+) {
+    public static OrderAwaitResponse of(String orderId, OrderStatus status, OrderStatus awaited, boolean timedOut) {
+        return new OrderAwaitResponse(
+            orderId,
+            status.name(),
+            status.getDescription(),
+            status == awaited,
+            timedOut
+        );
+    }
+}
@@ -1,9 +1,20 @@
 package com.example.ssmdemo.controller.dto;
 
 import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.projection.OrderView;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Builder;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
+/**
+ * 주문 응답
+ * 시각은 응답 형식의 Writer가 직렬화한다. (JSON: ISO-8601 문자열, CBOR/Smile/Protobuf: UTC epoch millis)
+ * ?fields= 요청은 FIELD_FILTER로 선택한 필드만 쓴다. (필터를 지정하지 않으면 전체)
+ */
+@Builder(toBuilder = true)
+@JsonFilter(OrderResponse.FIELD_FILTER)
 public record OrderResponse(
     String id,
     String productId,
@@ -14,12 +25,14 @@ public record OrderResponse(
     String customerEmail,
     String paymentMethod,
     String paymentId,
-    String paidAt,
-    String shippedAt,
-    String deliveredAt,
-    String cancelledAt,
-    String createdAt
+    LocalDateTime paidAt,
+    LocalDateTime shippedAt,
+    LocalDateTime deliveredAt,
+    LocalDateTime cancelledAt,
+    LocalDateTime createdAt
 ) {
+    public static final String FIELD_FILTER = "orderFields";
+
     public static OrderResponse from(Order order) {
         return new OrderResponse(
             order.getId(),
@@ -31,11 +44,30 @@ public record OrderResponse(
             order.getCustomerEmail(),
             order.getPaymentMethod(),
             order.getPaymentId(),
-            order.getPaidAt() != null ? order.getPaidAt().toString() : null,
-            order.getShippedAt() != null ? order.getShippedAt().toString() : null,
-            order.getDeliveredAt() != null ? order.getDeliveredAt().toString() : null,
-            order.getCancelledAt() != null ? order.getCancelledAt().toString() : null,
-            order.getCreatedAt() != null ? order.getCreatedAt().toString() : null
+            order.getPaidAt(),
+            order.getShippedAt(),
+            order.getDeliveredAt(),
+            order.getCancelledAt(),
+            order.getCreatedAt()
+        );
+    }
+
+    public static OrderResponse from(OrderView view) {
+        return new OrderResponse(
+            view.id(),
+            view.productId(),
+            view.quantity(),
+            view.totalAmount(),
+            view.status() != null ? view.status().name() : null,
+            view.status() != null ? view.status().getDescription() : null,
+            view.customerEmail(),
+            view.paymentMethod(),
+            view.paymentId(),
+            view.paidAt(),
+            view.shippedAt(),
+            view.deliveredAt(),
+            view.cancelledAt(),
+            view.createdAt()
         );
     }
 }
@@ -0,0 +1,17 @@
+package com.example.ssmdemo.controller.dto;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.util.Map;
+
+public record OrderStatsResponse(
+    long total,
+    Map<OrderStatus, Long> byStatus
+) {
+    public static OrderStatsResponse of(Map<OrderStatus, Long> counts) {
+        return new OrderStatsResponse(
+            counts.values().stream().mapToLong(Long::longValue).sum(),
+            counts
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.ssmdemo.controller.dto;
+
+import com.example.ssmdemo.service.TransitionResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거부된 전이 응답 (409, If-Match 불일치는 412)
+ * error/message 필드는 예외 응답과 같은 형식이다.
+ */
+public record TransitionRejectedResponse(
+    String error,
+    String outcome,
+    String orderId,
+    String event,
+    String currentStatus,
+    String message,
+    String timestamp
+) {
+    public static TransitionRejectedResponse from(TransitionResult result) {
+        return new TransitionRejectedResponse(
+            result.outcome() == TransitionResult.Outcome.PRECONDITION_FAILED ? "PRECONDITION_FAILED" : "INVALID_TRANSITION",
+            result.outcome().name(),
+            result.order().getId(),
+            result.event().name(),
+            result.status().name(),
+            result.message(),
+            LocalDateTime.now().toString()
+        );
+    }
+}
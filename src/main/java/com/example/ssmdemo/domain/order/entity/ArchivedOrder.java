@@ -0,0 +1,113 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 주문 엔티티
+ * 종료 후 일정 기간이 지난 주문을 orders 테이블에서 옮겨 보관한다. (읽기 전용)
+ */
+@Entity
+@Table(name = "orders_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ArchivedOrder {
+
+    @Id
+    @Column(length = 26)
+    private String id;
+
+    @Column(nullable = false)
+    private String productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(length = 100)
+    private String customerEmail;
+
+    @Column(length = 50)
+    private String paymentMethod;
+
+    private String paymentId;
+
+    private LocalDateTime paidAt;
+
+    private LocalDateTime shippedAt;
+
+    private LocalDateTime deliveredAt;
+
+    private LocalDateTime cancelledAt;
+
+    private LocalDateTime refundedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    public static ArchivedOrder from(Order order, LocalDateTime archivedAt) {
+        return ArchivedOrder.builder()
+            .id(order.getId())
+            .productId(order.getProductId())
+            .quantity(order.getQuantity())
+            .totalAmount(order.getTotalAmount())
+            .status(order.getStatus())
+            .customerEmail(order.getCustomerEmail())
+            .paymentMethod(order.getPaymentMethod())
+            .paymentId(order.getPaymentId())
+            .paidAt(order.getPaidAt())
+            .shippedAt(order.getShippedAt())
+            .deliveredAt(order.getDeliveredAt())
+            .cancelledAt(order.getCancelledAt())
+            .refundedAt(order.getRefundedAt())
+            .createdAt(order.getCreatedAt())
+            .modifiedAt(order.getModifiedAt())
+            .version(order.getVersion())
+            .archivedAt(archivedAt)
+            .build();
+    }
+
+    /**
+     * 조회 응답용 Order로 변환 (영속성 컨텍스트에 속하지 않음)
+     */
+    public Order toOrder() {
+        return Order.builder()
+            .id(id)
+            .productId(productId)
+            .quantity(quantity)
+            .totalAmount(totalAmount)
+            .status(status)
+            .customerEmail(customerEmail)
+            .paymentMethod(paymentMethod)
+            .paymentId(paymentId)
+            .paidAt(paidAt)
+            .shippedAt(shippedAt)
+            .deliveredAt(deliveredAt)
+            .cancelledAt(cancelledAt)
+            .refundedAt(refundedAt)
+            .createdAt(createdAt)
+            .modifiedAt(modifiedAt)
+            .version(version)
+            .build();
+    }
+}
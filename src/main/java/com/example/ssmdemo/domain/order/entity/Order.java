@@ -11,11 +11,14 @@ import java.time.LocalDateTime;
  * 주문 엔티티
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_created_at", columnList = "createdAt"),
+    @Index(name = "idx_orders_status_id", columnList = "status, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Order {
 
     @Id
@@ -58,6 +61,17 @@ public class Order {
 
     private LocalDateTime modifiedAt;
 
+    /**
+     * 마지막으로 이 주문을 변경한 락 보유자의 펜싱 토큰
+     */
+    private Long fencingToken;
+
+    /**
+     * 변경 버전 (전이마다 1 증가, ETag 값으로 사용)
+     */
+    @Column(nullable = false)
+    private long version;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -102,4 +116,26 @@ public class Order {
     public void updateStatus(OrderStatus status) {
         this.status = status;
     }
+
+    public void assignFencingToken(long fencingToken) {
+        this.fencingToken = fencingToken;
+    }
+
+    public void increaseVersion() {
+        this.version++;
+    }
+
+    /**
+     * 상태에 들어간 시각 (기록이 없으면 null)
+     */
+    public LocalDateTime enteredAt(OrderStatus status) {
+        return switch (status) {
+            case CREATED -> createdAt;
+            case PAID -> paidAt;
+            case SHIPPED -> shippedAt;
+            case DELIVERED -> deliveredAt;
+            case CANCELLED -> cancelledAt;
+            case RETURNED -> refundedAt;
+        };
+    }
 }
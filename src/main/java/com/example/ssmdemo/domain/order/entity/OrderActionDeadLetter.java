@@ -0,0 +1,60 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도를 모두 소진한 부수 효과
+ * 재처리(replay)하면 같은 ID의 재시도 항목으로 되돌아간다.
+ */
+@Entity
+@Table(name = "order_action_dead_letters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderActionDeadLetter {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Version
+    private Long version;
+
+    @Embedded
+    private OrderSideEffectCall call;
+
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime deadAt;
+
+    public static OrderActionDeadLetter from(OrderActionRetry retry, int attempts, String lastError) {
+        OrderActionDeadLetter deadLetter = new OrderActionDeadLetter();
+        deadLetter.id = retry.getId();
+        deadLetter.call = retry.getCall();
+        deadLetter.attempts = attempts;
+        deadLetter.lastError = OrderActionRetry.truncate(lastError);
+        deadLetter.createdAt = retry.getCreatedAt();
+        deadLetter.deadAt = LocalDateTime.now();
+        return deadLetter;
+    }
+
+    /**
+     * 즉시 다시 시도할 재시도 항목 (시도 횟수는 처음부터 다시 센다)
+     */
+    public OrderActionRetry toRetry() {
+        return OrderActionRetry.builder()
+            .id(id)
+            .call(call)
+            .attempts(0)
+            .lastError(lastError)
+            .createdAt(createdAt)
+            .build();
+    }
+}
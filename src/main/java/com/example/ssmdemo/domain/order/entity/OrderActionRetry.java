@@ -0,0 +1,60 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 재시도 대기 중인 부수 효과
+ * 전이 Action에서 실패한 호출을 전이 트랜잭션 안에서 기록하고, 재시도 작업이 nextAttemptAt 순서로 처리한다.
+ */
+@Entity
+@Table(name = "order_action_retries", indexes = {
+    @Index(name = "idx_order_action_retries_next_attempt_at", columnList = "nextAttemptAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderActionRetry {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Version
+    private Long version;
+
+    @Embedded
+    private OrderSideEffectCall call;
+
+    /** 지금까지 실패한 시도 수 (Action에서의 첫 실패 포함) */
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    private OrderActionRetry(String id, OrderSideEffectCall call, int attempts, LocalDateTime nextAttemptAt,
+                             String lastError, LocalDateTime createdAt) {
+        LocalDateTime now = LocalDateTime.now();
+        this.id = id != null ? id : UUID.randomUUID().toString();
+        this.call = call;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt != null ? nextAttemptAt : now;
+        this.lastError = truncate(lastError);
+        this.createdAt = createdAt != null ? createdAt : now;
+        this.updatedAt = now;
+    }
+
+    static String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
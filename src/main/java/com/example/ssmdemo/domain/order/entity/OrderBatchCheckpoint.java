@@ -0,0 +1,66 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 배치 작업 진행 위치
+ * 처리가 끝난 마지막 주문 ID(keyset)를 기록하여 재시작 시 이어서 처리한다.
+ */
+@Entity
+@Table(name = "order_batch_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderBatchCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    @Column(nullable = false, length = 26)
+    private String lastOrderId;
+
+    @Column(nullable = false)
+    private boolean running;
+
+    private long succeeded;
+
+    private long failed;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    public OrderBatchCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.lastOrderId = "";
+    }
+
+    /**
+     * 실행 시작 (이전 실행이 끝나지 않았으면 그 위치에서 이어간다)
+     */
+    public void start() {
+        if (!running) {
+            this.lastOrderId = "";
+            this.succeeded = 0;
+            this.failed = 0;
+            this.running = true;
+        }
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = startedAt;
+    }
+
+    public void advance(String lastOrderId, long succeeded, long failed) {
+        this.lastOrderId = lastOrderId;
+        this.succeeded += succeeded;
+        this.failed += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.running = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 시간 구간/상품별 퍼널 단계 도달 수
+ *
+ * 생성(CREATED)과 커밋된 전이마다 도달한 상태의 수를 더한다. (전이 이벤트와 도달 상태는 1:1)
+ * OrderFunnelAggregator가 메모리에서 모은 증분을 주기적으로 더하기 upsert로 반영하므로,
+ * 여러 인스턴스가 같은 행에 증분을 더해도 합계가 맞다.
+ */
+@Entity
+@Table(name = "order_funnel_rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderFunnelRollup {
+
+    @EmbeddedId
+    private OrderFunnelRollupId id;
+
+    @Column(nullable = false)
+    private long eventCount;
+}
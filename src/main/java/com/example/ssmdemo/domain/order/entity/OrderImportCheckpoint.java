@@ -0,0 +1,69 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 가져오기 진행 위치
+ * 적재가 끝난 마지막 입력 레코드 순번을 기록하여, 같은 입력으로 재시작하면 그 다음 레코드부터 적재한다.
+ */
+@Entity
+@Table(name = "order_import_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderImportCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String importName;
+
+    @Column(nullable = false)
+    private long position;
+
+    @Column(nullable = false)
+    private boolean running;
+
+    private long imported;
+
+    private long skipped;
+
+    private long rejected;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    public OrderImportCheckpoint(String importName) {
+        this.importName = importName;
+    }
+
+    /**
+     * 실행 시작 (이전 실행이 끝나지 않았으면 그 위치에서 이어간다)
+     */
+    public void start() {
+        if (!running) {
+            this.position = 0;
+            this.imported = 0;
+            this.skipped = 0;
+            this.rejected = 0;
+            this.running = true;
+        }
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = startedAt;
+    }
+
+    public void advance(long position, long imported, long skipped, long rejected) {
+        this.position = position;
+        this.imported += imported;
+        this.skipped += skipped;
+        this.rejected += rejected;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.running = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
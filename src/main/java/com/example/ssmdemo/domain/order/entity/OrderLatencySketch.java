@@ -0,0 +1,44 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 창/구간/상품별 상태 체류 시간 스케치
+ *
+ * 밀리초 단위 HdrHistogram을 압축 인코딩해 저장한다. 히스토그램은 더해서 합칠 수 있으므로
+ * OrderLatencySketches가 스냅샷마다 메모리의 증분을 더해 갱신하고, 조회는 범위의 행을 합쳐 분위수를 계산한다.
+ */
+@Entity
+@Table(name = "order_latency_sketches")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderLatencySketch {
+
+    @EmbeddedId
+    private OrderLatencySketchId id;
+
+    @Column(nullable = false)
+    private long sampleCount;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] histogram;
+
+    private LocalDateTime updatedAt;
+
+    public OrderLatencySketch(OrderLatencySketchId id, long sampleCount, byte[] histogram) {
+        this.id = id;
+        this.sampleCount = sampleCount;
+        this.histogram = histogram;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void replace(long sampleCount, byte[] histogram) {
+        this.sampleCount = sampleCount;
+        this.histogram = histogram;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
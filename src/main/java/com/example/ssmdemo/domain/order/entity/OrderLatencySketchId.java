@@ -0,0 +1,29 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import com.example.ssmdemo.domain.order.enums.OrderLatencyStage;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 체류 시간 스케치 키 (시간 창, 구간, 상품)
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OrderLatencySketchId implements Serializable {
+
+    @Column(nullable = false)
+    private LocalDateTime windowStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OrderLatencyStage stage;
+
+    @Column(nullable = false)
+    private String productId;
+}
@@ -0,0 +1,68 @@
+package com.example.ssmdemo.domain.order.entity;
+
+import com.example.ssmdemo.domain.order.enums.OrderSideEffect;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.math.BigDecimal;
+
+/**
+ * 부수 효과 호출 내용
+ * 재시도는 주문을 다시 읽지 않고 이 값만으로 같은 호출을 반복한다.
+ *
+ * @param effect            부수 효과 종류
+ * @param orderId           주문 ID
+ * @param reference         멱등 키 (결제 ID, 환불 ID 등 전이 시 만든 값, 재시도에서도 그대로 사용)
+ * @param originalReference 원 결제 ID (환불)
+ * @param amount            금액
+ * @param paymentMethod     결제 수단
+ * @param customerEmail     알림 수신자
+ * @param targetStatus      전이 후 상태 (알림 메시지용)
+ */
+@Embeddable
+public record OrderSideEffectCall(
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    OrderSideEffect effect,
+
+    @Column(nullable = false, length = 26)
+    String orderId,
+
+    @Column(length = 50)
+    String reference,
+
+    @Column(length = 50)
+    String originalReference,
+
+    @Column(precision = 10, scale = 2)
+    BigDecimal amount,
+
+    @Column(length = 50)
+    String paymentMethod,
+
+    @Column(length = 100)
+    String customerEmail,
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    OrderStatus targetStatus
+) {
+
+    public static OrderSideEffectCall payment(Order order, String paymentId) {
+        return new OrderSideEffectCall(OrderSideEffect.PAYMENT, order.getId(), paymentId, null,
+            order.getTotalAmount(), order.getPaymentMethod(), null, null);
+    }
+
+    public static OrderSideEffectCall refund(Order order, String refundId) {
+        return new OrderSideEffectCall(OrderSideEffect.REFUND, order.getId(), refundId, order.getPaymentId(),
+            order.getTotalAmount(), null, null, null);
+    }
+
+    public static OrderSideEffectCall notification(Order order, OrderStatus targetStatus) {
+        return new OrderSideEffectCall(OrderSideEffect.NOTIFICATION, order.getId(), null, null,
+            null, null, order.getCustomerEmail(), targetStatus);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.ssmdemo.domain.order.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 상태 체류 시간을 재는 구간 (정상 흐름의 연속한 두 상태)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderLatencyStage {
+
+    CREATED_TO_PAID(OrderStatus.CREATED, OrderStatus.PAID, "결제까지"),
+    PAID_TO_SHIPPED(OrderStatus.PAID, OrderStatus.SHIPPED, "배송 시작까지"),
+    SHIPPED_TO_DELIVERED(OrderStatus.SHIPPED, OrderStatus.DELIVERED, "배송 완료까지");
+
+    private final OrderStatus from;
+    private final OrderStatus to;
+    private final String description;
+
+    /**
+     * 전이에 해당하는 구간 (취소/반품 등 정상 흐름이 아니면 empty)
+     */
+    public static Optional<OrderLatencyStage> of(OrderStatus source, OrderStatus target) {
+        for (OrderLatencyStage stage : values()) {
+            if (stage.from == source && stage.to == target) {
+                return Optional.of(stage);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.ssmdemo.domain.order.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재시도 가능한 외부 부수 효과 (Action에서 호출)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderSideEffect {
+
+    PAYMENT("결제 승인"),
+    REFUND("환불"),
+    NOTIFICATION("알림 발송");
+
+    private final String description;
+}
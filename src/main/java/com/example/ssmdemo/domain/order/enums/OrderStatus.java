@@ -18,4 +18,11 @@ public enum OrderStatus {
     RETURNED("반품 완료");
 
     private final String description;
+
+    /**
+     * 종료 상태 여부 (OrderStateMachineConfig의 end 상태와 동일)
+     */
+    public boolean isTerminal() {
+        return this == CANCELLED || this == RETURNED;
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.ssmdemo.domain.order.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성 완료 이벤트
+ *
+ * OrderService.createOrder가 발행하며 (생성은 State Machine 전이가 아니므로 OrderTransitionEvent가 없다),
+ * 구독자는 {@code @TransactionalEventListener(phase = AFTER_COMMIT)}로 커밋된 생성만 받는다.
+ */
+public record OrderCreatedEvent(
+    String orderId,
+    String productId,
+    LocalDateTime occurredAt
+) {}
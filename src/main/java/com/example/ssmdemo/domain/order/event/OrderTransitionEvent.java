@@ -0,0 +1,25 @@
+package com.example.ssmdemo.domain.order.event;
+
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 전이 완료 이벤트
+ *
+ * OrderStateMachineListener가 전이 종료 시점에 발행하며,
+ * 구독자는 {@code @TransactionalEventListener(phase = AFTER_COMMIT)}로 커밋된 전이만 받는다.
+ *
+ * @param sourceEnteredAt 원래 상태에 들어간 시각 (주문의 createdAt/paidAt/..., 기록이 없으면 null)
+ */
+public record OrderTransitionEvent(
+    String orderId,
+    String productId,
+    String customerEmail,
+    OrderStatus source,
+    OrderStatus target,
+    OrderEvent event,
+    LocalDateTime occurredAt,
+    LocalDateTime sourceEnteredAt
+) {}
@@ -0,0 +1,10 @@
+package com.example.ssmdemo.domain.order.projection;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 구간/상태별 퍼널 단계 도달 수 (GROUP BY 프로젝션)
+ */
+public record FunnelBucketCount(LocalDateTime bucketStart, OrderStatus status, long count) {}
@@ -0,0 +1,8 @@
+package com.example.ssmdemo.domain.order.projection;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+/**
+ * 상품/상태별 퍼널 단계 도달 수 (구간 합계 GROUP BY 프로젝션)
+ */
+public record FunnelProductCount(String productId, OrderStatus status, long count) {}
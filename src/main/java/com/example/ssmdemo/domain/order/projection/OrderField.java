@@ -0,0 +1,69 @@
+package com.example.ssmdemo.domain.order.projection;
+
+import com.example.ssmdemo.exception.InvalidOrderFieldException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 필드 선택 (?fields=)
+ * 응답 필드 이름과 그 값을 만드는 엔티티 속성 (statusDescription은 status에서 만든다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderField {
+
+    ID("id", "id"),
+    PRODUCT_ID("productId", "productId"),
+    QUANTITY("quantity", "quantity"),
+    TOTAL_AMOUNT("totalAmount", "totalAmount"),
+    STATUS("status", "status"),
+    STATUS_DESCRIPTION("statusDescription", "status"),
+    CUSTOMER_EMAIL("customerEmail", "customerEmail"),
+    PAYMENT_METHOD("paymentMethod", "paymentMethod"),
+    PAYMENT_ID("paymentId", "paymentId"),
+    PAID_AT("paidAt", "paidAt"),
+    SHIPPED_AT("shippedAt", "shippedAt"),
+    DELIVERED_AT("deliveredAt", "deliveredAt"),
+    CANCELLED_AT("cancelledAt", "cancelledAt"),
+    CREATED_AT("createdAt", "createdAt");
+
+    public static final Set<OrderField> ALL = Collections.unmodifiableSet(EnumSet.allOf(OrderField.class));
+
+    private static final Map<String, OrderField> BY_NAME = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(OrderField::getName, Function.identity()));
+
+    private final String name;
+    private final String attribute;
+
+    /**
+     * "id,status,paidAt" 형식 파싱 (빈 값이면 전체 필드)
+     *
+     * @throws InvalidOrderFieldException 알 수 없는 필드
+     */
+    public static Set<OrderField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<OrderField> selected = EnumSet.noneOf(OrderField.class);
+        for (String name : fields.split(",")) {
+            OrderField field = BY_NAME.get(name.trim());
+            if (field == null) {
+                throw new InvalidOrderFieldException(name.trim(), BY_NAME.keySet());
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+
+    public static Set<String> names(Set<OrderField> fields) {
+        return fields.stream().map(OrderField::getName).collect(Collectors.toUnmodifiableSet());
+    }
+}
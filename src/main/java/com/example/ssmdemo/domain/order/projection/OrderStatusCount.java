@@ -0,0 +1,8 @@
+package com.example.ssmdemo.domain.order.projection;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+/**
+ * 상태별 주문 수 (GROUP BY 프로젝션)
+ */
+public record OrderStatusCount(OrderStatus status, long count) {}
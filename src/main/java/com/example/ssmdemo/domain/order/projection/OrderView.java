@@ -0,0 +1,50 @@
+package com.example.ssmdemo.domain.order.projection;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 조회 전용 주문 프로젝션
+ * JPQL에서 컬럼을 바로 담으므로 엔티티가 영속성 컨텍스트에 올라가지 않는다.
+ * 필드 선택 조회에서는 선택하지 않은 필드가 null이다. (id, version은 항상 포함)
+ */
+@Builder
+public record OrderView(
+    String id,
+    String productId,
+    Integer quantity,
+    BigDecimal totalAmount,
+    OrderStatus status,
+    String customerEmail,
+    String paymentMethod,
+    String paymentId,
+    LocalDateTime paidAt,
+    LocalDateTime shippedAt,
+    LocalDateTime deliveredAt,
+    LocalDateTime cancelledAt,
+    LocalDateTime createdAt,
+    long version
+) {
+    public static OrderView from(Order order) {
+        return new OrderView(
+            order.getId(),
+            order.getProductId(),
+            order.getQuantity(),
+            order.getTotalAmount(),
+            order.getStatus(),
+            order.getCustomerEmail(),
+            order.getPaymentMethod(),
+            order.getPaymentId(),
+            order.getPaidAt(),
+            order.getShippedAt(),
+            order.getDeliveredAt(),
+            order.getCancelledAt(),
+            order.getCreatedAt(),
+            order.getVersion()
+        );
+    }
+}
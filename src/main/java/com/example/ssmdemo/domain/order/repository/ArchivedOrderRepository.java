@@ -0,0 +1,14 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.ArchivedOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, String> {
+
+    @Query("select o.version from ArchivedOrder o where o.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+}
@@ -0,0 +1,17 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.OrderActionDeadLetter;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface OrderActionDeadLetterRepository extends JpaRepository<OrderActionDeadLetter, String> {
+
+    /**
+     * 최근에 실패한 순
+     */
+    @Query("select d from OrderActionDeadLetter d order by d.deadAt desc, d.id")
+    List<OrderActionDeadLetter> findRecent(Limit limit);
+}
@@ -0,0 +1,56 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.OrderActionRetry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderActionRetryRepository extends JpaRepository<OrderActionRetry, String> {
+
+    /**
+     * 시도 시각이 된 항목 (오래 기다린 순)
+     */
+    @Query("select r from OrderActionRetry r where r.nextAttemptAt <= :now order by r.nextAttemptAt, r.id")
+    List<OrderActionRetry> findDue(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("select r from OrderActionRetry r order by r.nextAttemptAt, r.id")
+    List<OrderActionRetry> findPending(Limit limit);
+
+    /**
+     * 항목 선점
+     * 다음 시도 시각을 lease 만큼 미뤄 다른 노드/실행이 같은 항목을 가져가지 않게 한다.
+     * (0 반환 = 다른 실행이 먼저 선점함)
+     */
+    @Modifying
+    @Query("""
+        update OrderActionRetry r set r.nextAttemptAt = :leaseUntil, r.version = r.version + 1
+        where r.id = :id and r.version = :version
+        """)
+    int claim(@Param("id") String id, @Param("version") long version, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 실패한 시도 기록 후 다음 시도 예약 (선점한 버전일 때만, 0 반환 = lease가 지나 다른 실행이 가져감)
+     */
+    @Modifying
+    @Query("""
+        update OrderActionRetry r
+        set r.attempts = :attempts, r.nextAttemptAt = :nextAttemptAt, r.lastError = :lastError,
+            r.updatedAt = :now, r.version = r.version + 1
+        where r.id = :id and r.version = :version
+        """)
+    int reschedule(@Param("id") String id, @Param("version") long version, @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 큐에서 제거 (성공 또는 dead letter로 이동, 선점한 버전일 때만)
+     */
+    @Modifying
+    @Query("delete from OrderActionRetry r where r.id = :id and r.version = :version")
+    int remove(@Param("id") String id, @Param("version") long version);
+}
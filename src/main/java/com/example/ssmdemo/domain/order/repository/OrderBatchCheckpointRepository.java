@@ -0,0 +1,7 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.OrderBatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderBatchCheckpointRepository extends JpaRepository<OrderBatchCheckpoint, String> {
+}
@@ -0,0 +1,46 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.OrderFunnelRollup;
+import com.example.ssmdemo.domain.order.entity.OrderFunnelRollupId;
+import com.example.ssmdemo.domain.order.projection.FunnelBucketCount;
+import com.example.ssmdemo.domain.order.projection.FunnelProductCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderFunnelRollupRepository extends JpaRepository<OrderFunnelRollup, OrderFunnelRollupId> {
+
+    /**
+     * 구간 [from, to)의 상품/상태별 합계 (productId가 null이면 전체 상품)
+     */
+    @Query("""
+        select new com.example.ssmdemo.domain.order.projection.FunnelProductCount(
+            r.id.productId, r.id.status, sum(r.eventCount))
+        from OrderFunnelRollup r
+        where r.id.bucketStart >= :from and r.id.bucketStart < :to
+          and (:productId is null or r.id.productId = :productId)
+        group by r.id.productId, r.id.status
+        """)
+    List<FunnelProductCount> sumByProduct(@Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("productId") String productId);
+
+    /**
+     * 구간 [from, to)의 시간 구간/상태별 합계 (productId가 null이면 전체 상품)
+     */
+    @Query("""
+        select new com.example.ssmdemo.domain.order.projection.FunnelBucketCount(
+            r.id.bucketStart, r.id.status, sum(r.eventCount))
+        from OrderFunnelRollup r
+        where r.id.bucketStart >= :from and r.id.bucketStart < :to
+          and (:productId is null or r.id.productId = :productId)
+        group by r.id.bucketStart, r.id.status
+        order by r.id.bucketStart
+        """)
+    List<FunnelBucketCount> sumByBucket(@Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("productId") String productId);
+}
@@ -0,0 +1,7 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.OrderImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderImportCheckpointRepository extends JpaRepository<OrderImportCheckpoint, String> {
+}
@@ -0,0 +1,13 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+
+/**
+ * 새 주문 저장 (OrderRepository fragment)
+ * 주문 ID를 직접 할당하므로 save는 새 주문도 merge(SELECT 후 INSERT)로 처리한다.
+ * 새로 만든 주문은 insert로 SELECT 없이 저장한다.
+ */
+public interface OrderInsertRepository {
+
+    Order insert(Order order);
+}
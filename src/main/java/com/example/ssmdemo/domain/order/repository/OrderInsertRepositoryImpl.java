@@ -0,0 +1,20 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 새 주문 저장 구현 (persist, INSERT는 flush/커밋 시 실행)
+ */
+class OrderInsertRepositoryImpl implements OrderInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Order insert(Order order) {
+        entityManager.persist(order);
+        return order;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.entity.OrderLatencySketch;
+import com.example.ssmdemo.domain.order.entity.OrderLatencySketchId;
+import com.example.ssmdemo.domain.order.enums.OrderLatencyStage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderLatencySketchRepository extends JpaRepository<OrderLatencySketch, OrderLatencySketchId> {
+
+    /**
+     * 증분을 더하기 위한 조회 (다른 인스턴스의 동시 갱신을 막는다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from OrderLatencySketch s where s.id = :id")
+    Optional<OrderLatencySketch> findForUpdate(@Param("id") OrderLatencySketchId id);
+
+    /**
+     * 창 시작이 [from, to)인 스케치 (productId, stage가 null이면 전체)
+     */
+    @Query("""
+        select s from OrderLatencySketch s
+        where s.id.windowStart >= :from and s.id.windowStart < :to
+          and (:productId is null or s.id.productId = :productId)
+          and (:stage is null or s.id.stage = :stage)
+        """)
+    List<OrderLatencySketch> findInRange(@Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         @Param("productId") String productId,
+                                         @Param("stage") OrderLatencyStage stage);
+}
@@ -1,7 +1,148 @@
 package com.example.ssmdemo.domain.order.repository;
 
 import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.projection.OrderStatusCount;
+import com.example.ssmdemo.domain.order.projection.OrderView;
+import com.example.ssmdemo.export.OrderExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, String> {
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface OrderRepository extends JpaRepository<Order, String>, OrderViewRepository, OrderInsertRepository {
+
+    /**
+     * 조회 전용 프로젝션 (전체 필드)
+     * 생성자 표현식으로 조회하므로 엔티티 관리(영속성 컨텍스트, 변경 감지 스냅샷)를 거치지 않는다.
+     */
+    @Query("""
+        select new com.example.ssmdemo.domain.order.projection.OrderView(
+            o.id, o.productId, o.quantity, o.totalAmount, o.status, o.customerEmail, o.paymentMethod,
+            o.paymentId, o.paidAt, o.shippedAt, o.deliveredAt, o.cancelledAt, o.createdAt, o.version)
+        from Order o
+        where o.id = :id
+        """)
+    Optional<OrderView> findViewById(@Param("id") String id);
+
+    @Query("""
+        select new com.example.ssmdemo.domain.order.projection.OrderView(
+            o.id, o.productId, o.quantity, o.totalAmount, o.status, o.customerEmail, o.paymentMethod,
+            o.paymentId, o.paidAt, o.shippedAt, o.deliveredAt, o.cancelledAt, o.createdAt, o.version)
+        from Order o
+        order by o.id
+        """)
+    List<OrderView> findAllViews();
+
+    /**
+     * 상태별 주문 수
+     */
+    @Query("""
+        select new com.example.ssmdemo.domain.order.projection.OrderStatusCount(o.status, count(o))
+        from Order o
+        group by o.status
+        """)
+    List<OrderStatusCount> countByStatus();
+
+    /**
+     * 보관 대상 주문 조회 (id 기준 keyset 페이징)
+     * - CANCELLED / RETURNED: 종료 시각이 terminalBefore 이전
+     * - DELIVERED: 배송 완료 시각이 deliveredBefore 이전 (반품 기간 경과)
+     */
+    @Query("""
+        select o from Order o
+        where o.id > :afterId
+          and ((o.status = com.example.ssmdemo.domain.order.enums.OrderStatus.CANCELLED and o.cancelledAt < :terminalBefore)
+            or (o.status = com.example.ssmdemo.domain.order.enums.OrderStatus.RETURNED and o.refundedAt < :terminalBefore)
+            or (o.status = com.example.ssmdemo.domain.order.enums.OrderStatus.DELIVERED and o.deliveredAt < :deliveredBefore))
+        order by o.id
+        """)
+    List<Order> findArchivable(@Param("afterId") String afterId,
+                               @Param("terminalBefore") LocalDateTime terminalBefore,
+                               @Param("deliveredBefore") LocalDateTime deliveredBefore,
+                               Limit limit);
+
+    /**
+     * 내보내기용 전진 전용 커서 조회
+     * 생성자 표현식으로 조회하므로 엔티티가 영속성 컨텍스트에 쌓이지 않는다. (트랜잭션 안에서 소비해야 함)
+     */
+    @Query("""
+        select new com.example.ssmdemo.export.OrderExportRow(
+            o.id, o.productId, o.quantity, o.totalAmount, o.status, o.customerEmail, o.paymentMethod,
+            o.paymentId, o.paidAt, o.shippedAt, o.deliveredAt, o.cancelledAt, o.refundedAt, o.createdAt)
+        from Order o
+        where (:status is null or o.status = :status)
+          and (:from is null or o.createdAt >= :from)
+          and (:to is null or o.createdAt < :to)
+        order by o.createdAt, o.id
+        """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderExportRow> streamForExport(@Param("status") OrderStatus status,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    @Query("select min(o.createdAt) from Order o")
+    LocalDateTime findMinCreatedAt();
+
+    @Query("select max(o.createdAt) from Order o")
+    LocalDateTime findMaxCreatedAt();
+
+    /**
+     * 읽은 버전 그대로인 주문만 삭제 (보관, 0 반환 = 읽은 뒤 전이 등으로 바뀜)
+     */
+    @Modifying
+    @Query("delete from Order o where o.id = :id and o.version = :version")
+    int deleteIfUnchanged(@Param("id") String id, @Param("version") long version);
+
+    /**
+     * 펜싱 토큰 전진
+     * 더 큰 토큰만 기록되며, 갱신된 행은 트랜잭션이 끝날 때까지 잠기므로
+     * 이후의 보유자는 앞선 보유자의 커밋 뒤에 진행한다. (0 반환 = 더 새로운 보유자가 이미 기록함)
+     */
+    @Modifying
+    @Query("""
+        update Order o set o.fencingToken = :token
+        where o.id = :id and (o.fencingToken is null or o.fencingToken < :token)
+        """)
+    int advanceFencingToken(@Param("id") String id, @Param("token") long token);
+
+    /**
+     * 버전만 조회 (조건부 GET에서 엔티티를 로드하지 않고 ETag 비교)
+     */
+    @Query("select o.version from Order o where o.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    /**
+     * 배치 작업 대상 주문 ID (id 순서 keyset, idx_orders_status_id로 상태 범위만 id 순서로 읽는다)
+     * 현재 상태가 된 시각(paidAt, shippedAt 등, 없으면 createdAt)이 changedBefore 이전인 주문만 대상이다.
+     */
+    @Query("""
+        select o.id from Order o
+        where o.status = :status
+          and coalesce(case o.status
+                when com.example.ssmdemo.domain.order.enums.OrderStatus.PAID then o.paidAt
+                when com.example.ssmdemo.domain.order.enums.OrderStatus.SHIPPED then o.shippedAt
+                when com.example.ssmdemo.domain.order.enums.OrderStatus.DELIVERED then o.deliveredAt
+                when com.example.ssmdemo.domain.order.enums.OrderStatus.CANCELLED then o.cancelledAt
+                when com.example.ssmdemo.domain.order.enums.OrderStatus.RETURNED then o.refundedAt
+              end, o.createdAt) < :changedBefore
+          and o.id > :afterId
+        order by o.id
+        """)
+    List<String> findBatchCandidateIds(@Param("status") OrderStatus status,
+                                       @Param("changedBefore") LocalDateTime changedBefore,
+                                       @Param("afterId") String afterId,
+                                       Limit limit);
 }
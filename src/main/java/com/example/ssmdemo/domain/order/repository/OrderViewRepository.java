@@ -0,0 +1,19 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.projection.OrderField;
+import com.example.ssmdemo.domain.order.projection.OrderView;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 필드 선택 조회 (OrderRepository fragment)
+ * 선택한 필드의 컬럼만 SELECT 한다.
+ */
+public interface OrderViewRepository {
+
+    Optional<OrderView> findViewById(String id, Set<OrderField> fields);
+
+    List<OrderView> findAllViews(Set<OrderField> fields);
+}
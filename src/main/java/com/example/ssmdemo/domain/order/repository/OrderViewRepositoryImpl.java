@@ -0,0 +1,86 @@
+package com.example.ssmdemo.domain.order.repository;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.projection.OrderField;
+import com.example.ssmdemo.domain.order.projection.OrderView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 필드 선택 조회 구현
+ * 선택한 필드의 엔티티 속성을 Tuple로 조회해 OrderView에 담는다. (속성 이름은 OrderField 화이트리스트에서만 온다)
+ */
+class OrderViewRepositoryImpl implements OrderViewRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<OrderView> findViewById(String id, Set<OrderField> fields) {
+        Set<String> attributes = attributes(fields);
+        TypedQuery<Tuple> query = entityManager.createQuery(
+            select(attributes) + " from Order o where o.id = :id", Tuple.class);
+        return query.setParameter("id", id)
+            .getResultStream()
+            .findFirst()
+            .map(tuple -> toView(tuple, attributes));
+    }
+
+    @Override
+    public List<OrderView> findAllViews(Set<OrderField> fields) {
+        Set<String> attributes = attributes(fields);
+        return entityManager.createQuery(select(attributes) + " from Order o order by o.id", Tuple.class)
+            .getResultStream()
+            .map(tuple -> toView(tuple, attributes))
+            .toList();
+    }
+
+    private static Set<String> attributes(Set<OrderField> fields) {
+        Set<String> attributes = new LinkedHashSet<>();
+        attributes.add("id");
+        attributes.add("version");
+        fields.forEach(field -> attributes.add(field.getAttribute()));
+        return attributes;
+    }
+
+    private static String select(Set<String> attributes) {
+        return attributes.stream()
+            .map(attribute -> "o." + attribute + " as " + attribute)
+            .collect(Collectors.joining(", ", "select ", ""));
+    }
+
+    private static OrderView toView(Tuple tuple, Set<String> attributes) {
+        OrderView.OrderViewBuilder view = OrderView.builder();
+        for (String attribute : attributes) {
+            Object value = tuple.get(attribute);
+            switch (attribute) {
+                case "id" -> view.id((String) value);
+                case "version" -> view.version((Long) value);
+                case "productId" -> view.productId((String) value);
+                case "quantity" -> view.quantity((Integer) value);
+                case "totalAmount" -> view.totalAmount((BigDecimal) value);
+                case "status" -> view.status((OrderStatus) value);
+                case "customerEmail" -> view.customerEmail((String) value);
+                case "paymentMethod" -> view.paymentMethod((String) value);
+                case "paymentId" -> view.paymentId((String) value);
+                case "paidAt" -> view.paidAt((LocalDateTime) value);
+                case "shippedAt" -> view.shippedAt((LocalDateTime) value);
+                case "deliveredAt" -> view.deliveredAt((LocalDateTime) value);
+                case "cancelledAt" -> view.cancelledAt((LocalDateTime) value);
+                case "createdAt" -> view.createdAt((LocalDateTime) value);
+                default -> throw new IllegalStateException("알 수 없는 속성: " + attribute);
+            }
+        }
+        return view.build();
+    }
+}
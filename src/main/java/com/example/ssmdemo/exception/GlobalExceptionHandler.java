@@ -19,7 +19,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(OrderNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleOrderNotFound(OrderNotFoundException e) {
-        log.error("Order not found: {}", e.getMessage());
+        log.warn("Order not found: {}", e.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
             .body(Map.of(
                 "error", "NOT_FOUND",
@@ -28,10 +28,14 @@ public class GlobalExceptionHandler {
             ));
     }
 
+    /**
+     * 주문 API의 전이 거부는 TransitionResult로 예외 없이 409를 응답하며,
+     * 여기에는 보관 주문 변경처럼 예외로 남은 경우만 온다.
+     */
     @ExceptionHandler(InvalidStateTransitionException.class)
     public ResponseEntity<Map<String, Object>> handleInvalidTransition(InvalidStateTransitionException e) {
-        log.error("Invalid state transition: {}", e.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        log.debug("Invalid state transition: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
             .body(Map.of(
                 "error", "INVALID_TRANSITION",
                 "message", e.getMessage(),
@@ -39,6 +43,28 @@ public class GlobalExceptionHandler {
             ));
     }
 
+    @ExceptionHandler(OrderLockException.class)
+    public ResponseEntity<Map<String, Object>> handleOrderLock(OrderLockException e) {
+        log.warn("Order lock conflict: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(Map.of(
+                "error", "LOCK_CONFLICT",
+                "message", e.getMessage(),
+                "timestamp", LocalDateTime.now().toString()
+            ));
+    }
+
+    @ExceptionHandler(InvalidOrderFieldException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidField(InvalidOrderFieldException e) {
+        log.debug("Invalid field selection: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(Map.of(
+                "error", "INVALID_FIELDS",
+                "message", e.getMessage(),
+                "timestamp", LocalDateTime.now().toString()
+            ));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception e) {
         log.error("Unexpected error: {}\n{}", e.getMessage(), getLimitedStackTrace(e));
@@ -0,0 +1,15 @@
+package com.example.ssmdemo.exception;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * 알 수 없는 응답 필드 선택 (?fields=, 클라이언트 입력 오류이므로 스택 트레이스 없이 생성)
+ */
+public class InvalidOrderFieldException extends RuntimeException {
+
+    public InvalidOrderFieldException(String field, Collection<String> supported) {
+        super("알 수 없는 필드입니다: " + field + " (지원: " + String.join(",", new TreeSet<>(supported)) + ")",
+            null, false, false);
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.ssmdemo.exception;
 
+/**
+ * 처리할 수 없는 이벤트
+ * 거부는 예상된 결과이므로 스택 트레이스를 채우지 않는다.
+ * 예외 없이 받으려면 {@code OrderService.transition}이 반환하는 TransitionResult를 사용한다.
+ */
 public class InvalidStateTransitionException extends RuntimeException {
 
     public InvalidStateTransitionException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,11 @@
+package com.example.ssmdemo.exception;
+
+/**
+ * 주문 락 획득 실패 또는 펜싱 토큰 충돌 (스택 트레이스 없음)
+ */
+public class OrderLockException extends RuntimeException {
+
+    public OrderLockException(String message) {
+        super(message, null, false, false);
+    }
+}
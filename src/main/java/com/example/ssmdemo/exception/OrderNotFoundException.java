@@ -1,8 +1,11 @@
 package com.example.ssmdemo.exception;
 
+/**
+ * 존재하지 않는 주문 (잘못된 ID 조회는 흔하므로 스택 트레이스 없이 생성)
+ */
 public class OrderNotFoundException extends RuntimeException {
 
     public OrderNotFoundException(String orderId) {
-        super("주문을 찾을 수 없습니다: " + orderId);
+        super("주문을 찾을 수 없습니다: " + orderId, null, false, false);
     }
 }
@@ -0,0 +1,310 @@
+package com.example.ssmdemo.export;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 컬럼 형식 내보내기
+ *
+ * 파일 구조: MAGIC, [row group]*, 0
+ * row group: [행 수][컬럼 14개: 바이트 길이 + 데이터]
+ * - status, productId, paymentMethod: row group 단위 사전 인코딩 (사전 + 코드)
+ * - 금액: scale + 정수값, 시각: epoch millis (LocalDateTime은 시스템 기본 시간대 기준)
+ * - 정수는 모두 varint (부호 있는 값은 zigzag), null은 0으로 표현하고 값은 +1 하여 저장
+ */
+public class OrderColumnarExportWriter implements OrderExportWriter {
+
+    static final byte[] MAGIC = {'S', 'S', 'M', 'C', '1'};
+    static final int ROW_GROUP_SIZE = 4096;
+    private static final int COLUMN_COUNT = 14;
+
+    private final WritableByteChannel channel;
+    private final List<OrderExportRow> rows = new ArrayList<>(ROW_GROUP_SIZE);
+    private boolean headerWritten;
+
+    public OrderColumnarExportWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void write(OrderExportRow row) throws IOException {
+        rows.add(row);
+        if (rows.size() >= ROW_GROUP_SIZE) {
+            writeRowGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (!rows.isEmpty()) {
+            writeRowGroup();
+        }
+        writeHeaderIfNeeded();
+        Column end = new Column();
+        end.varint(0);
+        writeFully(ByteBuffer.wrap(end.toByteArray()));
+    }
+
+    private void writeRowGroup() throws IOException {
+        writeHeaderIfNeeded();
+
+        Column[] columns = new Column[COLUMN_COUNT];
+        Arrays.setAll(columns, i -> new Column());
+        DictionaryColumn productIds = new DictionaryColumn();
+        DictionaryColumn statuses = new DictionaryColumn();
+        DictionaryColumn paymentMethods = new DictionaryColumn();
+
+        for (OrderExportRow row : rows) {
+            columns[0].string(row.id());
+            productIds.add(row.productId());
+            columns[2].nullableLong(row.quantity() != null ? (long) row.quantity() : null);
+            columns[3].decimal(row.totalAmount());
+            statuses.add(row.status() != null ? row.status().name() : null);
+            columns[5].string(row.customerEmail());
+            paymentMethods.add(row.paymentMethod());
+            columns[7].string(row.paymentId());
+            columns[8].timestamp(row.paidAt());
+            columns[9].timestamp(row.shippedAt());
+            columns[10].timestamp(row.deliveredAt());
+            columns[11].timestamp(row.cancelledAt());
+            columns[12].timestamp(row.refundedAt());
+            columns[13].timestamp(row.createdAt());
+        }
+        columns[1] = productIds.encode();
+        columns[4] = statuses.encode();
+        columns[6] = paymentMethods.encode();
+
+        Column header = new Column();
+        header.varint(rows.size());
+        writeFully(ByteBuffer.wrap(header.toByteArray()));
+        for (Column column : columns) {
+            Column length = new Column();
+            length.varint(column.size());
+            writeFully(ByteBuffer.wrap(length.toByteArray()));
+            writeFully(ByteBuffer.wrap(column.toByteArray()));
+        }
+        rows.clear();
+    }
+
+    private void writeHeaderIfNeeded() throws IOException {
+        if (!headerWritten) {
+            writeFully(ByteBuffer.wrap(MAGIC));
+            headerWritten = true;
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // === Reader ===
+
+    /**
+     * 컬럼 형식 파일을 row group 단위로 읽어 행을 전달한다.
+     */
+    public static void read(InputStream in, Consumer<OrderExportRow> consumer) throws IOException {
+        byte[] magic = in.readNBytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("컬럼 형식 파일이 아닙니다");
+        }
+        while (true) {
+            int rowCount = (int) readVarint(in);
+            if (rowCount == 0) {
+                return;
+            }
+            ByteBuffer[] columns = new ByteBuffer[COLUMN_COUNT];
+            for (int i = 0; i < COLUMN_COUNT; i++) {
+                int length = (int) readVarint(in);
+                columns[i] = ByteBuffer.wrap(in.readNBytes(length));
+            }
+            List<String> productIds = DictionaryColumn.decode(columns[1], rowCount);
+            List<String> statuses = DictionaryColumn.decode(columns[4], rowCount);
+            List<String> paymentMethods = DictionaryColumn.decode(columns[6], rowCount);
+
+            for (int i = 0; i < rowCount; i++) {
+                Long quantity = Column.readNullableLong(columns[2]);
+                consumer.accept(new OrderExportRow(
+                    Column.readString(columns[0]),
+                    productIds.get(i),
+                    quantity != null ? quantity.intValue() : null,
+                    Column.readDecimal(columns[3]),
+                    statuses.get(i) != null ? OrderStatus.valueOf(statuses.get(i)) : null,
+                    Column.readString(columns[5]),
+                    paymentMethods.get(i),
+                    Column.readString(columns[7]),
+                    Column.readTimestamp(columns[8]),
+                    Column.readTimestamp(columns[9]),
+                    Column.readTimestamp(columns[10]),
+                    Column.readTimestamp(columns[11]),
+                    Column.readTimestamp(columns[12]),
+                    Column.readTimestamp(columns[13])
+                ));
+            }
+        }
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    // === Column Encoding ===
+
+    private static final class Column extends ByteArrayOutputStream {
+
+        void varint(long value) {
+            while ((value & ~0x7fL) != 0) {
+                write((int) ((value & 0x7f) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void nullableLong(Long value) {
+            varint(value == null ? 0 : zigzag(value) + 1);
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1L);
+            write(bytes, 0, bytes.length);
+        }
+
+        void decimal(BigDecimal value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            varint(value.scale() + 1L);
+            varint(zigzag(value.unscaledValue().longValueExact()));
+        }
+
+        void timestamp(LocalDateTime value) {
+            nullableLong(value != null ? value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : null);
+        }
+
+        static long readVarint(ByteBuffer buffer) {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        static Long readNullableLong(ByteBuffer buffer) {
+            long raw = readVarint(buffer);
+            return raw == 0 ? null : unzigzag(raw - 1);
+        }
+
+        static String readString(ByteBuffer buffer) {
+            long raw = readVarint(buffer);
+            if (raw == 0) {
+                return null;
+            }
+            byte[] bytes = new byte[(int) (raw - 1)];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        static BigDecimal readDecimal(ByteBuffer buffer) {
+            long scale = readVarint(buffer);
+            if (scale == 0) {
+                return null;
+            }
+            return new BigDecimal(BigInteger.valueOf(unzigzag(readVarint(buffer))), (int) (scale - 1));
+        }
+
+        static LocalDateTime readTimestamp(ByteBuffer buffer) {
+            Long millis = readNullableLong(buffer);
+            return millis != null ? LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()) : null;
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    /**
+     * 사전 인코딩 컬럼: [사전 크기][사전 문자열들][행별 코드] (코드 0 = null)
+     */
+    private static final class DictionaryColumn {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private final Column values = new Column();
+
+        void add(String value) {
+            if (value == null) {
+                values.varint(0);
+                return;
+            }
+            int code = codes.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size();
+            });
+            values.varint(code);
+        }
+
+        Column encode() {
+            Column column = new Column();
+            column.varint(dictionary.size());
+            dictionary.forEach(column::string);
+            column.write(values.toByteArray(), 0, values.size());
+            return column;
+        }
+
+        static List<String> decode(ByteBuffer buffer, int rowCount) {
+            int size = (int) Column.readVarint(buffer);
+            List<String> dictionary = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                dictionary.add(Column.readString(buffer));
+            }
+            List<String> decoded = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                int code = (int) Column.readVarint(buffer);
+                decoded.add(code == 0 ? null : dictionary.get(code - 1));
+            }
+            return decoded;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.ssmdemo.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 내보내기 (RFC 4180, UTF-8)
+ */
+public class OrderCsvExportWriter implements OrderExportWriter {
+
+    static final String HEADER = "id,productId,quantity,totalAmount,status,customerEmail,paymentMethod,paymentId,"
+        + "paidAt,shippedAt,deliveredAt,cancelledAt,refundedAt,createdAt";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final StringBuilder line = new StringBuilder(256);
+
+    public OrderCsvExportWriter(WritableByteChannel channel) {
+        this.channel = channel;
+        line.append(HEADER).append('\n');
+    }
+
+    @Override
+    public void write(OrderExportRow row) throws IOException {
+        field(row.id()).append(',');
+        field(row.productId()).append(',');
+        field(row.quantity()).append(',');
+        field(row.totalAmount() != null ? row.totalAmount().toPlainString() : null).append(',');
+        field(row.status()).append(',');
+        field(row.customerEmail()).append(',');
+        field(row.paymentMethod()).append(',');
+        field(row.paymentId()).append(',');
+        field(row.paidAt()).append(',');
+        field(row.shippedAt()).append(',');
+        field(row.deliveredAt()).append(',');
+        field(row.cancelledAt()).append(',');
+        field(row.refundedAt()).append(',');
+        field(row.createdAt()).append('\n');
+
+        if (line.length() >= BUFFER_SIZE / 8) {
+            encodeLine();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        encodeLine();
+        drain();
+    }
+
+    private StringBuilder field(Object value) {
+        if (value == null) {
+            return line;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return line.append(text);
+        }
+        return line.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    private void encodeLine() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(line);
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, false);
+            if (result.isOverflow()) {
+                drain();
+            } else {
+                break;
+            }
+        }
+        line.setLength(0);
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.ssmdemo.export;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 내보내기 CLI
+ *
+ * 사용 예:
+ * ./gradlew bootRun --args='--spring.main.web-application-type=none
+ *     --ssm-demo.export.output=./export --ssm-demo.export.format=COLUMNAR --ssm-demo.export.parts=4'
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.export.output")
+public class OrderExportCommand implements ApplicationRunner {
+
+    private final OrderExporter orderExporter;
+    private final OrderExportProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        List<OrderExporter.ExportPart> parts = orderExporter.exportParallel(
+            new OrderExportQuery(properties.status(), properties.from(), properties.to()),
+            properties.format(),
+            properties.output(),
+            properties.parts());
+
+        long rows = parts.stream().mapToLong(OrderExporter.ExportPart::rows).sum();
+        log.info("[Export] 완료 - 파일={}, rows={}, 소요={}ms",
+            parts.size(), rows, (System.nanoTime() - started) / 1_000_000);
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
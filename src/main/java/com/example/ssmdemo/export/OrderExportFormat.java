@@ -0,0 +1,29 @@
+package com.example.ssmdemo.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderExportFormat {
+
+    CSV("text/csv", ".csv"),
+    COLUMNAR("application/vnd.ssm-demo.orders-columnar", ".ssmc"),
+    PROTOBUF("application/x-protobuf; delimited=true", ".pb");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    public OrderExportWriter newWriter(WritableByteChannel channel) {
+        return switch (this) {
+            case CSV -> new OrderCsvExportWriter(channel);
+            case COLUMNAR -> new OrderColumnarExportWriter(channel);
+            case PROTOBUF -> new OrderProtobufExportWriter(channel);
+        };
+    }
+}
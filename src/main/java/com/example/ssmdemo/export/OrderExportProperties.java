@@ -0,0 +1,30 @@
+package com.example.ssmdemo.export;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 설정
+ *
+ * @param parallelism 병렬 내보내기 시 동시에 실행할 구간 수 (DB 커넥션 풀 크기 이하로 설정)
+ * @param output      CLI 모드 출력 디렉터리 (설정 시 내보내기 후 애플리케이션 종료)
+ * @param format      CLI 모드 출력 형식
+ * @param parts       CLI 모드 createdAt 구간 분할 수
+ * @param status      CLI 모드 상태 필터
+ * @param from        CLI 모드 생성 시각 하한 (포함)
+ * @param to          CLI 모드 생성 시각 상한 (미포함)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.export")
+public record OrderExportProperties(
+    @DefaultValue("4") int parallelism,
+    Path output,
+    @DefaultValue("CSV") OrderExportFormat format,
+    @DefaultValue("1") int parts,
+    OrderStatus status,
+    LocalDateTime from,
+    LocalDateTime to
+) {}
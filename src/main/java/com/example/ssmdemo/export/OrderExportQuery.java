@@ -0,0 +1,19 @@
+package com.example.ssmdemo.export;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 조건 (null인 조건은 무시)
+ *
+ * @param status 주문 상태
+ * @param from   생성 시각 하한 (포함)
+ * @param to     생성 시각 상한 (미포함)
+ */
+public record OrderExportQuery(OrderStatus status, LocalDateTime from, LocalDateTime to) {
+
+    public OrderExportQuery withRange(LocalDateTime from, LocalDateTime to) {
+        return new OrderExportQuery(status, from, to);
+    }
+}
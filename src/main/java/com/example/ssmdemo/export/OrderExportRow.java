@@ -0,0 +1,26 @@
+package com.example.ssmdemo.export;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 주문 행 (JPQL 생성자 표현식으로 조회되어 영속성 컨텍스트에 쌓이지 않음)
+ */
+public record OrderExportRow(
+    String id,
+    String productId,
+    Integer quantity,
+    BigDecimal totalAmount,
+    OrderStatus status,
+    String customerEmail,
+    String paymentMethod,
+    String paymentId,
+    LocalDateTime paidAt,
+    LocalDateTime shippedAt,
+    LocalDateTime deliveredAt,
+    LocalDateTime cancelledAt,
+    LocalDateTime refundedAt,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,17 @@
+package com.example.ssmdemo.export;
+
+import java.io.IOException;
+
+/**
+ * 주문 내보내기 Writer
+ * 행 단위로 받아 내부 버퍼가 차면 채널로 내보내므로 메모리 사용량이 전체 건수와 무관하다.
+ */
+public interface OrderExportWriter {
+
+    void write(OrderExportRow row) throws IOException;
+
+    /**
+     * 남은 버퍼를 모두 내보낸다. (채널은 닫지 않음)
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,180 @@
+package com.example.ssmdemo.export;
+
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.shard.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 주문 대량 내보내기
+ *
+ * 읽기 전용 트랜잭션 안에서 전진 전용 커서로 주문을 읽어 Writer로 바로 흘려보낸다.
+ * 전체 결과를 메모리에 올리지 않으므로 건수와 무관하게 메모리 사용량이 일정하다.
+ * 샤딩 사용 시 샤드마다 차례로 커서를 열어 같은 Writer로 이어 쓴다. (정렬은 샤드 안에서만 유지된다)
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(OrderExportProperties.class)
+public class OrderExporter {
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final OrderExportProperties properties;
+    private final Optional<ShardRouter> shards;
+
+    public OrderExporter(OrderRepository orderRepository,
+                         PlatformTransactionManager transactionManager,
+                         OrderExportProperties properties,
+                         Optional<ShardRouter> shards) {
+        this.orderRepository = orderRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.shards = shards;
+    }
+
+    /**
+     * 조건에 맞는 주문을 채널로 내보낸다.
+     *
+     * @return 내보낸 행 수
+     */
+    public long export(OrderExportQuery query, OrderExportFormat format, WritableByteChannel channel) {
+        OrderExportWriter writer = format.newWriter(channel);
+        long rows = shards
+            .map(router -> router.shardNames().stream()
+                .mapToLong(shard -> router.callOn(shard, () -> writeRows(query, writer)))
+                .sum())
+            .orElseGet(() -> writeRows(query, writer));
+        try {
+            writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    /**
+     * createdAt 구간을 나누어 구간별 파일로 병렬 내보낸다.
+     */
+    public List<ExportPart> exportParallel(OrderExportQuery query, OrderExportFormat format, Path directory, int parts) {
+        LocalDateTime from = query.from() != null ? query.from() : findCreatedAt(orderRepository::findMinCreatedAt, false);
+        LocalDateTime to = query.to() != null ? query.to() : findCreatedAt(orderRepository::findMaxCreatedAt, true);
+        if (from == null || to == null) {
+            return List.of();
+        }
+        if (query.to() == null) {
+            // 상한은 미포함이므로 마지막 주문이 빠지지 않게 조금 늘린다
+            to = to.plusNanos(1_000);
+        }
+
+        List<LocalDateTime> bounds = split(from, to, Math.max(1, parts));
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(properties.parallelism(), bounds.size() - 1)));
+        try {
+            List<Future<ExportPart>> futures = new ArrayList<>();
+            for (int i = 0; i < bounds.size() - 1; i++) {
+                OrderExportQuery range = query.withRange(bounds.get(i), bounds.get(i + 1));
+                Path file = directory.resolve(String.format("orders-part-%03d%s", i, format.getFileExtension()));
+                futures.add(executor.submit(() -> exportToFile(range, format, file)));
+            }
+
+            List<ExportPart> results = new ArrayList<>();
+            for (Future<ExportPart> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("내보내기가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("내보내기 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 현재 DataSource(샤딩 시 바인딩된 샤드)의 행을 읽기 전용 트랜잭션 안에서 Writer로 흘려보낸다.
+     */
+    private long writeRows(OrderExportQuery query, OrderExportWriter writer) {
+        Long rows = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<OrderExportRow> stream =
+                     orderRepository.streamForExport(query.status(), query.from(), query.to())) {
+                for (OrderExportRow row : (Iterable<OrderExportRow>) stream::iterator) {
+                    writer.write(row);
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        });
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * 생성 시각 최소/최대 (샤딩 사용 시 샤드별 값 중 최소/최대)
+     */
+    private LocalDateTime findCreatedAt(Supplier<LocalDateTime> query, boolean max) {
+        if (shards.isEmpty()) {
+            return query.get();
+        }
+        Stream<LocalDateTime> values = shards.get().scatter(query).stream().filter(Objects::nonNull);
+        return (max ? values.max(Comparator.naturalOrder()) : values.min(Comparator.naturalOrder())).orElse(null);
+    }
+
+    private ExportPart exportToFile(OrderExportQuery range, OrderExportFormat format, Path file) throws IOException {
+        long started = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long rows = export(range, format, channel);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            log.info("[Export] 구간 완료 - file={}, range=[{}, {}), rows={}, 소요={}ms",
+                file.getFileName(), range.from(), range.to(), rows, elapsed.toMillis());
+            return new ExportPart(file, range.from(), range.to(), rows);
+        }
+    }
+
+    private static List<LocalDateTime> split(LocalDateTime from, LocalDateTime to, int parts) {
+        long totalNanos = Duration.between(from, to).toNanos();
+        List<LocalDateTime> bounds = new ArrayList<>(parts + 1);
+        for (int i = 0; i < parts; i++) {
+            bounds.add(from.plusNanos(totalNanos / parts * i));
+        }
+        bounds.add(to);
+        return bounds;
+    }
+
+    public record ExportPart(Path file, LocalDateTime from, LocalDateTime to, long rows) {}
+}
@@ -0,0 +1,44 @@
+package com.example.ssmdemo.export;
+
+import com.example.ssmdemo.codec.OrderProtobuf;
+import com.example.ssmdemo.codec.ProtobufOutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Protobuf 내보내기: 길이 접두 Order 메시지의 연속 (parseDelimitedFrom으로 한 건씩 읽기)
+ */
+public class OrderProtobufExportWriter implements OrderExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final ProtobufOutput buffer = new ProtobufOutput();
+
+    public OrderProtobufExportWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void write(OrderExportRow row) throws IOException {
+        buffer.delimited(OrderProtobuf.encode(row));
+        if (buffer.size() >= BUFFER_SIZE) {
+            drain();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        drain();
+    }
+
+    private void drain() throws IOException {
+        ByteBuffer bytes = buffer.toByteBuffer();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        buffer.reset();
+    }
+}
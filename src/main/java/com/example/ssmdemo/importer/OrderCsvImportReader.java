@@ -0,0 +1,135 @@
+package com.example.ssmdemo.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 입력 Reader (RFC 4180)
+ *
+ * 첫 레코드는 헤더이며 컬럼 순서는 자유롭다. 모르는 컬럼은 무시하므로 내보내기 CSV를 그대로 읽을 수 있다.
+ * 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이중 따옴표("")를 처리하고 빈 줄은 건너뛴다.
+ */
+public class OrderCsvImportReader implements OrderImportReader {
+
+    private static final int NONE = -2;
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private int pushedBack = NONE;
+    private long recordNumber;
+
+    public OrderCsvImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public OrderImportRecord next() throws IOException {
+        if (columns == null) {
+            columns = readHeader();
+        }
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+
+        long number = ++recordNumber;
+        if (values.size() != columns.size()) {
+            throw new OrderImportRecordException(number,
+                "컬럼 수 불일치: 헤더 " + columns.size() + "개, 레코드 " + values.size() + "개");
+        }
+        List<String> row = values;
+        return OrderImportRecord.parse(number, name -> {
+            Integer index = columns.get(name);
+            return index != null ? row.get(index) : null;
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // === Private Methods ===
+
+    private Map<String, Integer> readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            indexes.put(header.get(i).strip(), i);
+        }
+        List<String> missing = OrderImportRecord.REQUIRED_FIELDS.stream()
+            .filter(name -> !indexes.containsKey(name))
+            .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + missing);
+        }
+        return indexes;
+    }
+
+    /**
+     * 레코드 하나를 필드 목록으로 읽는다. (입력 끝이면 null)
+     */
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new OrderImportRecordException(recordNumber + 1, "닫히지 않은 따옴표");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.ssmdemo.importer;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.shadow.ShadowDecision;
+import com.example.ssmdemo.shadow.StateMachineDecisionEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 가져올 주문의 이력 검증
+ *
+ * 전이 시각(paidAt, shippedAt, ...)을 시간 순으로 늘어놓아 CREATED에서 시작하는 이벤트 이력으로 복원하고,
+ * 각 이벤트를 State Machine 설정(OrderStateMachineConfig)의 전이 그래프와 Guard로 차례로 결정해 본다.
+ * 모든 이벤트가 받아들여지고 마지막 상태가 입력 상태와 같아야 올바른 이력이다.
+ * 예) SHIPPED인데 paidAt이 없으면 CREATED에서 SHIP을 받을 수 없으므로 거부한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderHistoryValidator {
+
+    private static final int MAX_ID_LENGTH = 26;
+
+    private final StateMachineDecisionEngine stateMachine;
+
+    /**
+     * @return 거부 사유 (올바른 레코드면 empty)
+     */
+    public Optional<String> validate(OrderImportRecord record) {
+        if (record.id().length() > MAX_ID_LENGTH) {
+            return Optional.of("id가 " + MAX_ID_LENGTH + "자를 넘습니다: " + record.id());
+        }
+        if (record.quantity() <= 0) {
+            return Optional.of("quantity는 1 이상이어야 합니다: " + record.quantity());
+        }
+        if (record.totalAmount().compareTo(BigDecimal.ZERO) < 0) {
+            return Optional.of("totalAmount는 음수일 수 없습니다: " + record.totalAmount());
+        }
+
+        List<Step> history = new ArrayList<>();
+        for (Step step : Step.values()) {
+            LocalDateTime at = step.timestamp.apply(record);
+            if (at == null) {
+                continue;
+            }
+            if (at.isBefore(record.createdAt())) {
+                return Optional.of(step.field + "(" + at + ")가 createdAt(" + record.createdAt() + ")보다 이릅니다.");
+            }
+            history.add(step);
+        }
+        // 같은 시각이면 그래프 순서(선언 순서)를 유지한다
+        history.sort(Comparator.comparing(step -> step.timestamp.apply(record)));
+
+        Order.OrderBuilder order = Order.builder()
+            .id(record.id())
+            .productId(record.productId())
+            .quantity(record.quantity())
+            .totalAmount(record.totalAmount())
+            .customerEmail(record.customerEmail())
+            .paymentMethod(record.paymentMethod())
+            .paymentId(record.paymentId())
+            .createdAt(record.createdAt());
+        OrderStatus current = OrderStatus.CREATED;
+        for (Step step : history) {
+            ShadowDecision decision = stateMachine.decide(order.status(current).build(), step.event);
+            if (!decision.accepted()) {
+                return Optional.of("이력 불일치: " + current + " 상태에서 " + step.event + " 전이 불가 ("
+                    + step.field + "=" + step.timestamp.apply(record) + ")");
+            }
+            current = decision.target();
+            step.apply.accept(order, step.timestamp.apply(record));
+        }
+        if (current != record.status()) {
+            return Optional.of("상태 불일치: 이력상 " + current + ", 입력 " + record.status());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 전이 시각 필드와 그 시각에 일어난 이벤트
+     */
+    private enum Step {
+        PAY(OrderEvent.PAY, "paidAt", OrderImportRecord::paidAt, Order.OrderBuilder::paidAt),
+        SHIP(OrderEvent.SHIP, "shippedAt", OrderImportRecord::shippedAt, Order.OrderBuilder::shippedAt),
+        DELIVER(OrderEvent.DELIVER, "deliveredAt", OrderImportRecord::deliveredAt, Order.OrderBuilder::deliveredAt),
+        CANCEL(OrderEvent.CANCEL, "cancelledAt", OrderImportRecord::cancelledAt, Order.OrderBuilder::cancelledAt),
+        RETURN(OrderEvent.RETURN, "refundedAt", OrderImportRecord::refundedAt, Order.OrderBuilder::refundedAt);
+
+        private final OrderEvent event;
+        private final String field;
+        private final Function<OrderImportRecord, LocalDateTime> timestamp;
+        private final BiConsumer<Order.OrderBuilder, LocalDateTime> apply;
+
+        Step(OrderEvent event, String field, Function<OrderImportRecord, LocalDateTime> timestamp,
+             BiConsumer<Order.OrderBuilder, LocalDateTime> apply) {
+            this.event = event;
+            this.field = field;
+            this.timestamp = timestamp;
+            this.apply = apply;
+        }
+    }
+}
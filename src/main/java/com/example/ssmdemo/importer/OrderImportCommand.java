@@ -0,0 +1,49 @@
+package com.example.ssmdemo.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * 주문 가져오기 CLI
+ *
+ * 사용 예 (중단 후 같은 명령으로 다시 실행하면 체크포인트 다음 레코드부터 이어서 적재):
+ * ./gradlew bootRun --args='--spring.main.web-application-type=none
+ *     --ssm-demo.import.input=./legacy-orders.ndjson --ssm-demo.import.format=NDJSON --ssm-demo.import.parallelism=8'
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.import.input")
+public class OrderImportCommand implements ApplicationRunner {
+
+    private final OrderImporter orderImporter;
+    private final OrderImportProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        String name = properties.name() != null && !properties.name().isBlank()
+            ? properties.name()
+            : properties.input().getFileName().toString();
+
+        OrderImportResult result;
+        try (InputStream input = Files.newInputStream(properties.input())) {
+            result = orderImporter.importOrders(name, properties.format(), input);
+        }
+        result.rejections().forEach(rejection -> log.warn("[Import] 거부 - record={}, orderId={}, reason={}",
+            rejection.recordNumber(), rejection.orderId(), rejection.reason()));
+
+        int exitCode = result.status() == OrderImportResult.Status.COMPLETED ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
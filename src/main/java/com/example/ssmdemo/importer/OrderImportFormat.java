@@ -0,0 +1,33 @@
+package com.example.ssmdemo.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 가져오기 입력 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderImportFormat {
+
+    /** 헤더가 있는 RFC 4180 CSV (내보내기 CSV와 같은 컬럼) */
+    CSV("text/csv"),
+    /** 한 줄에 주문 하나인 JSON (Newline Delimited JSON) */
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    public OrderImportReader newReader(InputStream input, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+        return switch (this) {
+            case CSV -> new OrderCsvImportReader(reader);
+            case NDJSON -> new OrderNdjsonImportReader(reader, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.ssmdemo.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * 주문 대량 가져오기 설정
+ *
+ * @param chunkSize        한 트랜잭션으로 적재할 레코드 수 (체크포인트 단위)
+ * @param rowsPerInsert    INSERT 한 문장에 담을 행 수 (multi-row VALUES)
+ * @param parallelism      동시에 적재할 청크 수 (DB 커넥션 풀 크기 이하로 설정, 메모리에는 최대 parallelism + 1개 청크만 유지)
+ * @param rejectionSamples 결과에 담을 거부 레코드 예시 수
+ * @param input            CLI 모드 입력 파일 (설정 시 가져오기 후 애플리케이션 종료)
+ * @param format           CLI 모드 입력 형식
+ * @param name             CLI 모드 가져오기 이름 (체크포인트 키, 비우면 입력 파일 이름)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.import")
+public record OrderImportProperties(
+    @DefaultValue("1000") int chunkSize,
+    @DefaultValue("100") int rowsPerInsert,
+    @DefaultValue("4") int parallelism,
+    @DefaultValue("20") int rejectionSamples,
+    Path input,
+    @DefaultValue("CSV") OrderImportFormat format,
+    String name
+) {}
@@ -0,0 +1,19 @@
+package com.example.ssmdemo.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가져오기 입력을 한 레코드씩 읽는 스트리밍 Reader
+ *
+ * 읽은 레코드를 보관하지 않으므로 입력 크기와 무관하게 메모리 사용량이 일정하다.
+ */
+public interface OrderImportReader extends Closeable {
+
+    /**
+     * 다음 레코드 (입력 끝이면 null)
+     *
+     * @throws OrderImportRecordException 레코드 하나를 해석할 수 없음 (다음 호출은 그다음 레코드부터 읽는다)
+     */
+    OrderImportRecord next() throws IOException;
+}
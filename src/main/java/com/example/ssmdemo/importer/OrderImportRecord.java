@@ -0,0 +1,112 @@
+package com.example.ssmdemo.importer;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 가져올 주문 레코드 (내보내기 행과 같은 필드)
+ *
+ * @param recordNumber 입력에서의 순번 (1부터, 헤더 제외. 체크포인트 위치로 사용)
+ */
+public record OrderImportRecord(
+    long recordNumber,
+    String id,
+    String productId,
+    Integer quantity,
+    BigDecimal totalAmount,
+    OrderStatus status,
+    String customerEmail,
+    String paymentMethod,
+    String paymentId,
+    LocalDateTime paidAt,
+    LocalDateTime shippedAt,
+    LocalDateTime deliveredAt,
+    LocalDateTime cancelledAt,
+    LocalDateTime refundedAt,
+    LocalDateTime createdAt
+) {
+
+    /**
+     * 필드 이름 (CSV 헤더, NDJSON 속성 이름)
+     */
+    public static final List<String> FIELDS = List.of(
+        "id", "productId", "quantity", "totalAmount", "status", "customerEmail", "paymentMethod", "paymentId",
+        "paidAt", "shippedAt", "deliveredAt", "cancelledAt", "refundedAt", "createdAt");
+
+    /**
+     * 비어 있으면 안 되는 필드
+     */
+    public static final List<String> REQUIRED_FIELDS = List.of(
+        "id", "productId", "quantity", "totalAmount", "status", "createdAt");
+
+    /**
+     * 필드 문자열로 레코드 생성 (빈 문자열은 null)
+     *
+     * @param field 필드 이름으로 값을 돌려주는 함수 (없으면 null)
+     * @throws OrderImportRecordException 필수 필드가 없거나 형식이 맞지 않음
+     */
+    public static OrderImportRecord parse(long recordNumber, Function<String, String> field) {
+        Fields fields = new Fields(recordNumber, field);
+        for (String required : REQUIRED_FIELDS) {
+            fields.require(required);
+        }
+        return new OrderImportRecord(
+            recordNumber,
+            fields.text("id"),
+            fields.text("productId"),
+            fields.parse("quantity", Integer::valueOf),
+            fields.parse("totalAmount", BigDecimal::new),
+            fields.parse("status", OrderStatus::valueOf),
+            fields.text("customerEmail"),
+            fields.text("paymentMethod"),
+            fields.text("paymentId"),
+            fields.parse("paidAt", LocalDateTime::parse),
+            fields.parse("shippedAt", LocalDateTime::parse),
+            fields.parse("deliveredAt", LocalDateTime::parse),
+            fields.parse("cancelledAt", LocalDateTime::parse),
+            fields.parse("refundedAt", LocalDateTime::parse),
+            fields.parse("createdAt", LocalDateTime::parse));
+    }
+
+    /**
+     * 마지막 전이 시각 (전이 이력이 없으면 null)
+     */
+    public LocalDateTime lastTransitionAt() {
+        return Stream.of(paidAt, shippedAt, deliveredAt, cancelledAt, refundedAt)
+            .filter(Objects::nonNull)
+            .max(LocalDateTime::compareTo)
+            .orElse(null);
+    }
+
+    private record Fields(long recordNumber, Function<String, String> field) {
+
+        String text(String name) {
+            String value = field.apply(name);
+            return value == null || value.isEmpty() ? null : value;
+        }
+
+        void require(String name) {
+            if (text(name) == null) {
+                throw new OrderImportRecordException(recordNumber, "필수 필드 누락: " + name);
+            }
+        }
+
+        <T> T parse(String name, Function<String, T> parser) {
+            String value = text(name);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return parser.apply(value.strip());
+            } catch (RuntimeException e) {
+                throw new OrderImportRecordException(recordNumber, "형식 오류: " + name + "=" + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.ssmdemo.importer;
+
+import lombok.Getter;
+
+/**
+ * 레코드 하나를 해석할 수 없음 (해당 레코드만 거부하고 계속 읽는다)
+ */
+@Getter
+public class OrderImportRecordException extends RuntimeException {
+
+    private final long recordNumber;
+
+    public OrderImportRecordException(long recordNumber, String message) {
+        super(message);
+        this.recordNumber = recordNumber;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.ssmdemo.importer;
+
+/**
+ * 거부된 레코드
+ *
+ * @param recordNumber 입력에서의 순번
+ * @param orderId      주문 ID (해석하지 못했으면 null)
+ * @param reason       거부 사유
+ */
+public record OrderImportRejection(long recordNumber, String orderId, String reason) {}
@@ -0,0 +1,37 @@
+package com.example.ssmdemo.importer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가져오기 실행 결과
+ *
+ * @param name        가져오기 이름 (체크포인트 키)
+ * @param status      실행 결과
+ * @param resumedFrom 이전 실행에서 이어받은 레코드 순번 (처음부터 실행했으면 0)
+ * @param imported    적재한 주문 수 (이어받은 실행 포함, 이하 같음)
+ * @param skipped     이미 있어 건너뛴 주문 수
+ * @param rejected    형식 또는 이력 검증에 실패한 레코드 수
+ * @param elapsed     소요 시간
+ * @param rejections  거부 레코드 예시 (이번 실행에서 앞의 rejectionSamples건)
+ */
+public record OrderImportResult(String name, Status status, long resumedFrom,
+                                long imported, long skipped, long rejected, Duration elapsed,
+                                List<OrderImportRejection> rejections) {
+
+    /**
+     * 초당 처리 레코드 수
+     */
+    public double throughput() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return (imported + skipped + rejected) * 1000.0 / millis;
+    }
+
+    public enum Status {
+        COMPLETED,
+        /** 같은 이름의 가져오기가 이미 실행 중 */
+        ALREADY_RUNNING,
+        /** 청크 적재 실패로 중단 (체크포인트는 실패한 청크 앞, 같은 이름으로 다시 실행하면 이어간다) */
+        FAILED
+    }
+}
@@ -0,0 +1,400 @@
+package com.example.ssmdemo.importer;
+
+import com.example.ssmdemo.domain.order.entity.OrderImportCheckpoint;
+import com.example.ssmdemo.domain.order.repository.OrderImportCheckpointRepository;
+import com.example.ssmdemo.shard.ShardRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 대량 가져오기 (기존 시스템 이관)
+ *
+ * - 입력을 한 레코드씩 읽어 형식과 이력(OrderHistoryValidator)을 검증하고, 통과한 레코드를 chunkSize씩 모은다.
+ * - 청크는 parallelism 크기의 작업자 풀에서 청크당 한 트랜잭션으로 적재한다.
+ *   INSERT 한 문장에 rowsPerInsert행을 담으므로(multi-row VALUES) 왕복 수가 행 수보다 훨씬 적다.
+ * - 읽기는 작업자가 비기를 기다리므로 메모리에는 최대 parallelism + 1개 청크만 있다.
+ * - 앞선 청크가 모두 끝난 레코드 순번까지만 체크포인트를 전진시키므로, 같은 이름으로 다시 실행하면 그 다음 레코드부터 적재한다.
+ *   체크포인트 뒤에서 이미 커밋된 청크는 다시 적재할 때 키 중복이 나므로, 행 단위로 다시 넣어 있는 주문은 건너뛴다.
+ * - 주문은 State Machine을 거치지 않고 입력의 상태와 전이 시각 그대로 저장한다. (부수 효과 Action 미실행, version 0)
+ * - 샤딩 사용 시 청크를 샤드별로 나누어 샤드별 트랜잭션으로 적재한다.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(OrderImportProperties.class)
+public class OrderImporter {
+
+    private static final List<String> COLUMNS = List.of(
+        "id", "product_id", "quantity", "total_amount", "status", "customer_email", "payment_method", "payment_id",
+        "paid_at", "shipped_at", "delivered_at", "cancelled_at", "refunded_at", "created_at", "modified_at", "version");
+
+    private final OrderHistoryValidator validator;
+    private final OrderImportCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final OrderImportProperties properties;
+    private final Optional<ShardRouter> shards;
+    private final Set<String> runningImports = ConcurrentHashMap.newKeySet();
+
+    private final Counter importedCounter;
+    private final Counter skippedCounter;
+    private final Counter rejectedCounter;
+    private final Timer chunkTimer;
+
+    public OrderImporter(OrderHistoryValidator validator,
+                         OrderImportCheckpointRepository checkpointRepository,
+                         DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         OrderImportProperties properties,
+                         MeterRegistry meterRegistry,
+                         Optional<ShardRouter> shards) {
+        this.validator = validator;
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.shards = shards;
+        this.importedCounter = counter(meterRegistry, "imported");
+        this.skippedCounter = counter(meterRegistry, "skipped");
+        this.rejectedCounter = counter(meterRegistry, "rejected");
+        this.chunkTimer = Timer.builder("orders.import.chunk.duration")
+            .description("Duration of one import chunk transaction")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 입력을 끝까지 읽어 적재한다. (완료될 때까지 대기, 입력 스트림은 닫는다)
+     *
+     * @param name 가져오기 이름 (체크포인트 키, 재시작 시 같은 이름과 같은 입력을 사용)
+     * @throws IllegalArgumentException 입력 헤더가 올바르지 않음
+     */
+    public OrderImportResult importOrders(String name, OrderImportFormat format, InputStream input) {
+        if (!runningImports.add(name)) {
+            return new OrderImportResult(name, OrderImportResult.Status.ALREADY_RUNNING, 0, 0, 0, 0,
+                Duration.ZERO, List.of());
+        }
+        try (OrderImportReader reader = format.newReader(input, objectMapper)) {
+            return execute(name, reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            runningImports.remove(name);
+        }
+    }
+
+    private OrderImportResult execute(String name, OrderImportReader reader) throws IOException {
+        long started = System.nanoTime();
+        OrderImportCheckpoint checkpoint = checkpointRepository.findById(name)
+            .orElseGet(() -> new OrderImportCheckpoint(name));
+        checkpoint.start();
+        checkpoint = checkpointRepository.save(checkpoint);
+        long resumedFrom = checkpoint.getPosition();
+        if (resumedFrom > 0) {
+            log.info("[Import] {} - 체크포인트에서 재개: 레코드 {} 이후", name, resumedFrom);
+        }
+
+        ProgressTracker tracker = new ProgressTracker(checkpoint);
+        List<OrderImportRejection> rejections = Collections.synchronizedList(new ArrayList<>());
+        int parallelism = Math.max(1, properties.parallelism());
+        int chunkSize = Math.max(1, properties.chunkSize());
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+
+        try {
+            Chunk chunk = new Chunk(chunkSize);
+            long position = 0;
+            while (true) {
+                OrderImportRecord record;
+                try {
+                    record = reader.next();
+                } catch (OrderImportRecordException e) {
+                    position = e.getRecordNumber();
+                    if (position > resumedFrom) {
+                        chunk.reject(new OrderImportRejection(position, null, e.getMessage()), rejections);
+                        chunk.lastPosition = position;
+                    }
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                position = record.recordNumber();
+                if (position <= resumedFrom) {
+                    continue;
+                }
+
+                Optional<String> invalid = validator.validate(record);
+                if (invalid.isPresent()) {
+                    chunk.reject(new OrderImportRejection(position, record.id(), invalid.get()), rejections);
+                } else {
+                    chunk.records.add(record);
+                }
+                chunk.lastPosition = position;
+
+                if (chunk.records.size() >= chunkSize) {
+                    if (tracker.failed()) {
+                        break;
+                    }
+                    submit(chunk, tracker, permits, workers);
+                    chunk = new Chunk(chunkSize);
+                }
+            }
+            if (chunk.lastPosition > 0 && !tracker.failed()) {
+                submit(chunk, tracker, permits, workers);
+            }
+            permits.acquireUninterruptibly(parallelism);
+        } finally {
+            workers.shutdown();
+        }
+
+        if (tracker.failed()) {
+            // 체크포인트는 실패한 청크 앞에서 멈춘 채 실행 중으로 남아, 같은 이름으로 다시 실행하면 그 다음부터 이어간다
+            OrderImportCheckpoint stopped = tracker.checkpoint();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            log.error("[Import] {} 중단 - 레코드 {}까지 체크포인트, 적재={}, 건너뜀={}, 거부={}", name,
+                stopped.getPosition(), stopped.getImported(), stopped.getSkipped(), stopped.getRejected());
+            return new OrderImportResult(name, OrderImportResult.Status.FAILED, resumedFrom,
+                stopped.getImported(), stopped.getSkipped(), stopped.getRejected(), elapsed, List.copyOf(rejections));
+        }
+
+        OrderImportCheckpoint finished = tracker.finish();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        OrderImportResult result = new OrderImportResult(name, OrderImportResult.Status.COMPLETED, resumedFrom,
+            finished.getImported(), finished.getSkipped(), finished.getRejected(), elapsed, List.copyOf(rejections));
+        log.info("[Import] {} 완료 - 적재={}, 건너뜀={}, 거부={}, 소요={}ms, 처리량={} rows/s", name,
+            result.imported(), result.skipped(), result.rejected(), elapsed.toMillis(),
+            String.format("%.1f", result.throughput()));
+        return result;
+    }
+
+    private void submit(Chunk chunk, ProgressTracker tracker, Semaphore permits, ExecutorService workers) {
+        permits.acquireUninterruptibly();
+        tracker.submit(chunk);
+        workers.execute(() -> {
+            try {
+                load(chunk);
+            } catch (RuntimeException e) {
+                chunk.failure = e;
+                log.error("[Import] 청크 적재 실패 - 레코드 {}까지, cause={}", chunk.lastPosition, e.getMessage(), e);
+            } finally {
+                tracker.complete(chunk);
+                permits.release();
+            }
+        });
+    }
+
+    private void load(Chunk chunk) {
+        long started = System.nanoTime();
+        for (List<OrderImportRecord> group : groupByShard(chunk.records)) {
+            if (shards.isPresent()) {
+                ShardRouter router = shards.get();
+                router.callOn(router.shardOf(group.get(0).id()), () -> {
+                    loadGroup(group, chunk);
+                    return null;
+                });
+            } else {
+                loadGroup(group, chunk);
+            }
+        }
+        chunkTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        importedCounter.increment(chunk.imported);
+        skippedCounter.increment(chunk.skipped);
+        rejectedCounter.increment(chunk.rejected);
+        chunk.records.clear();
+    }
+
+    /**
+     * 한 트랜잭션은 한 샤드만 사용하므로 샤딩 사용 시 청크를 샤드별로 나눈다.
+     */
+    private Collection<List<OrderImportRecord>> groupByShard(List<OrderImportRecord> records) {
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        return shards
+            .map(router -> records.stream()
+                .collect(Collectors.groupingBy(record -> router.shardOf(record.id()), LinkedHashMap::new,
+                    Collectors.toList()))
+                .values())
+            .orElseGet(() -> List.of(records));
+    }
+
+    private void loadGroup(List<OrderImportRecord> records, Chunk chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                bind(records);
+                for (int from = 0; from < records.size(); from += properties.rowsPerInsert()) {
+                    insert(records.subList(from, Math.min(records.size(), from + properties.rowsPerInsert())));
+                }
+            });
+            chunk.imported += records.size();
+        } catch (DataIntegrityViolationException e) {
+            // 청크를 롤백하고 행 단위로 다시 넣어 이미 있는 주문(재시작 시 중복)과 제약을 위반한 주문만 건너뛴다
+            // 그 밖의 실패(커넥션, 타임아웃, 락 등)는 그대로 던져 청크를 실패시키고 체크포인트를 멈춘다
+            log.debug("[Import] 청크 적재 실패, 행 단위로 재처리: {}", e.getMessage());
+            for (OrderImportRecord record : records) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        bind(List.of(record));
+                        insert(List.of(record));
+                    });
+                    chunk.imported++;
+                } catch (DuplicateKeyException duplicate) {
+                    chunk.skipped++;
+                } catch (DataIntegrityViolationException itemFailure) {
+                    chunk.rejected++;
+                    log.warn("[Import] 주문 적재 실패: record={}, orderId={}, cause={}",
+                        record.recordNumber(), record.id(), itemFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 샤딩 사용 시 적재할 주문의 버킷 락을 잡는다. (분할 중인 버킷이면 동결이 끝날 때까지 기다리고, 변경이 분할에 기록된다)
+     */
+    private void bind(List<OrderImportRecord> records) {
+        shards.ifPresent(router -> router.bindAll(records.stream().map(OrderImportRecord::id).toList()));
+    }
+
+    /**
+     * multi-row INSERT 한 문장으로 적재
+     */
+    private void insert(List<OrderImportRecord> records) {
+        String row = COLUMNS.stream().map(column -> "?").collect(Collectors.joining(", ", "(", ")"));
+        String sql = "insert into orders (" + String.join(", ", COLUMNS) + ") values "
+            + String.join(", ", Collections.nCopies(records.size(), row));
+        Object[] args = new Object[records.size() * COLUMNS.size()];
+        int i = 0;
+        for (OrderImportRecord record : records) {
+            args[i++] = record.id();
+            args[i++] = record.productId();
+            args[i++] = record.quantity();
+            args[i++] = record.totalAmount();
+            args[i++] = record.status().name();
+            args[i++] = record.customerEmail();
+            args[i++] = record.paymentMethod();
+            args[i++] = record.paymentId();
+            args[i++] = record.paidAt();
+            args[i++] = record.shippedAt();
+            args[i++] = record.deliveredAt();
+            args[i++] = record.cancelledAt();
+            args[i++] = record.refundedAt();
+            args[i++] = record.createdAt();
+            args[i++] = record.lastTransitionAt();
+            args[i++] = 0L;
+        }
+        jdbcTemplate.update(sql, args);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("orders.import.records")
+            .description("Records processed by order imports")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    // === Progress ===
+
+    private final class Chunk {
+        private final List<OrderImportRecord> records;
+        private long lastPosition;
+        private volatile boolean done;
+        private RuntimeException failure;
+        private long imported;
+        private long skipped;
+        private long rejected;
+
+        private Chunk(int chunkSize) {
+            this.records = new ArrayList<>(chunkSize);
+        }
+
+        private void reject(OrderImportRejection rejection, List<OrderImportRejection> samples) {
+            rejected++;
+            if (samples.size() < properties.rejectionSamples()) {
+                samples.add(rejection);
+            }
+            log.debug("[Import] 레코드 거부: record={}, orderId={}, reason={}",
+                rejection.recordNumber(), rejection.orderId(), rejection.reason());
+        }
+    }
+
+    /**
+     * 제출 순서대로 청크를 보관하고, 앞에서부터 연속으로 끝난 청크까지만 체크포인트를 전진시킨다.
+     * 실패한 청크가 있으면 그 앞에서 멈춘다.
+     */
+    private final class ProgressTracker {
+
+        private final Deque<Chunk> pending = new ArrayDeque<>();
+        private OrderImportCheckpoint checkpoint;
+        private boolean failed;
+
+        private ProgressTracker(OrderImportCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        synchronized void submit(Chunk chunk) {
+            pending.addLast(chunk);
+        }
+
+        synchronized void complete(Chunk chunk) {
+            chunk.done = true;
+            failed |= chunk.failure != null;
+            boolean advanced = false;
+            while (!pending.isEmpty() && pending.peekFirst().done && pending.peekFirst().failure == null) {
+                Chunk head = pending.pollFirst();
+                checkpoint.advance(head.lastPosition, head.imported, head.skipped, head.rejected);
+                advanced = true;
+            }
+            if (advanced) {
+                checkpoint = checkpointRepository.save(checkpoint);
+            }
+        }
+
+        synchronized boolean failed() {
+            return failed;
+        }
+
+        synchronized OrderImportCheckpoint checkpoint() {
+            return checkpoint;
+        }
+
+        synchronized OrderImportCheckpoint finish() {
+            checkpoint.complete();
+            checkpoint = checkpointRepository.save(checkpoint);
+            return checkpoint;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ssmdemo.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON 입력 Reader
+ *
+ * 한 줄을 JSON 객체 하나로 읽으며 속성 이름은 CSV 헤더와 같다. 모르는 속성은 무시하고 빈 줄은 건너뛴다.
+ */
+public class OrderNdjsonImportReader implements OrderImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long recordNumber;
+
+    public OrderNdjsonImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public OrderImportRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        long number = ++recordNumber;
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new OrderImportRecordException(number, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new OrderImportRecordException(number, "JSON 객체가 아닙니다.");
+        }
+        return OrderImportRecord.parse(number, name -> {
+            JsonNode value = node.get(name);
+            return value == null || value.isNull() ? null : value.asText();
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.ssmdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.ssmdemo.ActionExecution")
+@Label("Action Execution")
+@Category({"SSM Demo", "State Machine"})
+@Description("Execution of one transition action")
+public class ActionExecutionJfrEvent extends OrderJfrEvent {
+
+    @Label("Action")
+    String action;
+
+    @Label("Failed")
+    boolean failed;
+}
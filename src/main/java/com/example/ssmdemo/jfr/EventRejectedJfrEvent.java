@@ -0,0 +1,19 @@
+package com.example.ssmdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 현재 상태에서 처리할 수 없어 거부된 이벤트, 또는 Guard에 막혀 상태가 바뀌지 않은 이벤트
+ */
+@Name("com.example.ssmdemo.EventRejected")
+@Label("Event Rejected")
+@Category({"SSM Demo", "State Machine"})
+@Description("Event not accepted by the state machine or denied by a guard")
+public class EventRejectedJfrEvent extends OrderJfrEvent {
+
+    @Label("Reason")
+    String reason;
+}
@@ -0,0 +1,17 @@
+package com.example.ssmdemo.jfr;
+
+import java.time.Instant;
+
+/**
+ * 녹화 상태
+ *
+ * @param id        녹화 ID
+ * @param name      녹화 이름
+ * @param state     NEW | DELAYED | RUNNING | STOPPED | CLOSED
+ * @param startTime 시작 시각 (시작 전이면 null)
+ * @param stopTime  종료 시각 (진행 중이면 null)
+ * @param sizeBytes 디스크에 기록된 크기
+ */
+public record FlightRecordingInfo(long id, String name, String state,
+                                  Instant startTime, Instant stopTime, long sizeBytes) {
+}
@@ -0,0 +1,23 @@
+package com.example.ssmdemo.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 요청 시 JFR 녹화 설정
+ *
+ * @param settings      JDK 기본 설정 이름 (default: 오버헤드 1% 미만, profile: 메서드 샘플링/락 대기 상세)
+ * @param maxAge        녹화 데이터 보관 기간 (초과분은 오래된 것부터 폐기)
+ * @param maxSize       녹화 데이터 최대 크기
+ * @param maxRecordings 동시에 보관할 녹화 수
+ */
+@ConfigurationProperties(prefix = "ssm-demo.jfr")
+public record FlightRecordingProperties(
+    @DefaultValue("profile") String settings,
+    @DefaultValue("30m") Duration maxAge,
+    @DefaultValue("256MB") DataSize maxSize,
+    @DefaultValue("4") int maxRecordings
+) {}
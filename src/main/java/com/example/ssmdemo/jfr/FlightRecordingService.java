@@ -0,0 +1,130 @@
+package com.example.ssmdemo.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 요청 시 JFR 녹화 시작/종료/다운로드
+ * 설정 파일(default/profile)에 주문 전이 이벤트를 임계값 없이 추가하여 녹화한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(FlightRecordingProperties.class)
+public class FlightRecordingService {
+
+    private static final List<Class<? extends jdk.jfr.Event>> ORDER_EVENTS = List.of(
+        OrderTransitionJfrEvent.class,
+        GuardEvaluationJfrEvent.class,
+        ActionExecutionJfrEvent.class,
+        EventRejectedJfrEvent.class,
+        MachineAcquireJfrEvent.class
+    );
+
+    private final FlightRecordingProperties properties;
+    private final Map<Long, Recording> recordings = new ConcurrentSkipListMap<>();
+
+    public FlightRecordingService(FlightRecordingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 녹화 시작
+     *
+     * @throws IllegalStateException 보관 중인 녹화 수가 maxRecordings에 도달한 경우
+     */
+    public synchronized FlightRecordingInfo start(String name) {
+        if (recordings.size() >= properties.maxRecordings()) {
+            throw new IllegalStateException(
+                "보관 중인 녹화가 " + recordings.size() + "개입니다. 기존 녹화를 삭제한 뒤 다시 시도하세요.");
+        }
+
+        Recording recording = new Recording(settings());
+        ORDER_EVENTS.forEach(type -> recording.enable(type).withoutThreshold());
+        recording.setName(name != null && !name.isBlank() ? name : "ssm-demo-" + System.currentTimeMillis());
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.maxAge());
+        recording.setMaxSize(properties.maxSize().toBytes());
+        recording.start();
+        recordings.put(recording.getId(), recording);
+
+        log.info("[JFR] 녹화 시작 - id={}, name={}, settings={}", recording.getId(), recording.getName(), properties.settings());
+        return info(recording);
+    }
+
+    public Optional<FlightRecordingInfo> stop(long id) {
+        return find(id).map(recording -> {
+            if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+                recording.stop();
+                log.info("[JFR] 녹화 종료 - id={}, size={}B", id, recording.getSize());
+            }
+            return info(recording);
+        });
+    }
+
+    /**
+     * 녹화 데이터 (.jfr) 스트림. 진행 중인 녹화는 지금까지 기록된 청크를 반환한다.
+     */
+    public Optional<InputStream> open(long id) {
+        return find(id).map(recording -> {
+            try {
+                InputStream stream = recording.getStream(null, null);
+                return stream != null ? stream : InputStream.nullInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public boolean delete(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            return false;
+        }
+        recording.close();
+        return true;
+    }
+
+    public Optional<FlightRecordingInfo> get(long id) {
+        return find(id).map(FlightRecordingService::info);
+    }
+
+    public List<FlightRecordingInfo> list() {
+        return recordings.values().stream().map(FlightRecordingService::info).toList();
+    }
+
+    private Optional<Recording> find(long id) {
+        return Optional.ofNullable(recordings.get(id));
+    }
+
+    private Map<String, String> settings() {
+        try {
+            return Configuration.getConfiguration(properties.settings()).getSettings();
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 설정을 읽을 수 없습니다: " + properties.settings(), e);
+        }
+    }
+
+    private static FlightRecordingInfo info(Recording recording) {
+        return new FlightRecordingInfo(
+            recording.getId(),
+            recording.getName(),
+            recording.getState().name(),
+            recording.getStartTime(),
+            recording.getStopTime(),
+            recording.getSize()
+        );
+    }
+}
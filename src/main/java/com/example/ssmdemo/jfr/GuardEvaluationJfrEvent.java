@@ -0,0 +1,19 @@
+package com.example.ssmdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.ssmdemo.GuardEvaluation")
+@Label("Guard Evaluation")
+@Category({"SSM Demo", "State Machine"})
+@Description("Evaluation of one transition guard")
+public class GuardEvaluationJfrEvent extends OrderJfrEvent {
+
+    @Label("Guard")
+    String guard;
+
+    @Label("Allowed")
+    boolean allowed;
+}
@@ -0,0 +1,16 @@
+package com.example.ssmdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.ssmdemo.MachineAcquire")
+@Label("State Machine Acquire")
+@Category({"SSM Demo", "State Machine"})
+@Description("Preparing a state machine for an order (stop, reset to the order state and start when out of sync)")
+public class MachineAcquireJfrEvent extends OrderJfrEvent {
+
+    @Label("Reset")
+    boolean reset;
+}
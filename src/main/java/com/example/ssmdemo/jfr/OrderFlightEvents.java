@@ -0,0 +1,123 @@
+package com.example.ssmdemo.jfr;
+
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import org.springframework.statemachine.StateContext;
+import org.springframework.statemachine.action.Action;
+import org.springframework.statemachine.guard.Guard;
+
+/**
+ * 주문 전이 JFR 이벤트 기록
+ *
+ * 녹화 중이 아니면 shouldCommit()이 false를 반환하고 필드 설정을 건너뛰며,
+ * 이벤트 객체는 탈출하지 않으므로 JIT가 할당을 제거한다.
+ */
+public final class OrderFlightEvents {
+
+    private OrderFlightEvents() {
+    }
+
+    // === Guard / Action ===
+
+    public static Guard<OrderStatus, OrderEvent> guard(String name, Guard<OrderStatus, OrderEvent> guard) {
+        return context -> {
+            GuardEvaluationJfrEvent jfrEvent = new GuardEvaluationJfrEvent();
+            jfrEvent.begin();
+            boolean allowed = guard.evaluate(context);
+            if (jfrEvent.shouldCommit()) {
+                describe(jfrEvent, context);
+                jfrEvent.guard = name;
+                jfrEvent.allowed = allowed;
+                jfrEvent.commit();
+            }
+            return allowed;
+        };
+    }
+
+    public static Action<OrderStatus, OrderEvent> action(String name, Action<OrderStatus, OrderEvent> action) {
+        return context -> {
+            ActionExecutionJfrEvent jfrEvent = new ActionExecutionJfrEvent();
+            jfrEvent.begin();
+            boolean failed = true;
+            try {
+                action.execute(context);
+                failed = false;
+            } finally {
+                if (jfrEvent.shouldCommit()) {
+                    describe(jfrEvent, context);
+                    jfrEvent.action = name;
+                    jfrEvent.failed = failed;
+                    jfrEvent.commit();
+                }
+            }
+        };
+    }
+
+    // === OrderService ===
+
+    /**
+     * 전이 시작 (OrderService.sendEvent 진입 시)
+     */
+    public static OrderTransitionJfrEvent beginTransition() {
+        OrderTransitionJfrEvent jfrEvent = new OrderTransitionJfrEvent();
+        jfrEvent.begin();
+        return jfrEvent;
+    }
+
+    /**
+     * 전이 종료
+     *
+     * @param target 전이 후 상태 (거부됐으면 원래 상태)
+     */
+    public static void endTransition(OrderTransitionJfrEvent jfrEvent, String orderId, OrderStatus source,
+                                     OrderStatus target, OrderEvent event, boolean accepted) {
+        if (jfrEvent.shouldCommit()) {
+            describe(jfrEvent, orderId, source, target, event);
+            jfrEvent.accepted = accepted;
+            jfrEvent.commit();
+        }
+    }
+
+    public static MachineAcquireJfrEvent beginAcquire() {
+        MachineAcquireJfrEvent jfrEvent = new MachineAcquireJfrEvent();
+        jfrEvent.begin();
+        return jfrEvent;
+    }
+
+    public static void endAcquire(MachineAcquireJfrEvent jfrEvent, String orderId, OrderStatus source,
+                                  OrderEvent event, boolean reset) {
+        if (jfrEvent.shouldCommit()) {
+            describe(jfrEvent, orderId, source, null, event);
+            jfrEvent.reset = reset;
+            jfrEvent.commit();
+        }
+    }
+
+    public static void rejected(String orderId, OrderStatus source, OrderEvent event, String reason) {
+        EventRejectedJfrEvent jfrEvent = new EventRejectedJfrEvent();
+        if (jfrEvent.shouldCommit()) {
+            describe(jfrEvent, orderId, source, source, event);
+            jfrEvent.reason = reason;
+            jfrEvent.commit();
+        }
+    }
+
+    // === Helper Methods ===
+
+    private static void describe(OrderJfrEvent jfrEvent, StateContext<OrderStatus, OrderEvent> context) {
+        Object orderId = context.getMessageHeader("orderId");
+        describe(jfrEvent,
+            orderId != null ? orderId.toString() : null,
+            context.getSource() != null ? context.getSource().getId() : null,
+            context.getTarget() != null ? context.getTarget().getId() : null,
+            context.getEvent());
+    }
+
+    private static void describe(OrderJfrEvent jfrEvent, String orderId, OrderStatus source,
+                                 OrderStatus target, OrderEvent event) {
+        jfrEvent.orderId = orderId;
+        jfrEvent.source = source != null ? source.name() : null;
+        jfrEvent.target = target != null ? target.name() : null;
+        jfrEvent.event = event != null ? event.name() : null;
+    }
+}
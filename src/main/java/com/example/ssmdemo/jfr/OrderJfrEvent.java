@@ -0,0 +1,22 @@
+package com.example.ssmdemo.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * 주문 전이 JFR 이벤트 공통 필드
+ */
+abstract class OrderJfrEvent extends Event {
+
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Source")
+    String source;
+
+    @Label("Target")
+    String target;
+
+    @Label("Event")
+    String event;
+}
@@ -0,0 +1,20 @@
+package com.example.ssmdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 전이 한 번 (시작 시각 + 소요 시간으로 시작/종료를 함께 표현)
+ * OrderService.sendEvent에서 머신 준비부터 상태 반영까지를 감싼다.
+ */
+@Name("com.example.ssmdemo.OrderTransition")
+@Label("Order Transition")
+@Category({"SSM Demo", "State Machine"})
+@Description("State machine transition of one order, from machine acquire to state update")
+public class OrderTransitionJfrEvent extends OrderJfrEvent {
+
+    @Label("Accepted")
+    boolean accepted;
+}
@@ -0,0 +1,37 @@
+package com.example.ssmdemo.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 주문 분산 락 설정 (opt-in)
+ *
+ * ssm-demo.lock.enabled=true 일 때 OrderService 전이를 주문 단위 Redis 락으로 감싼다.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderLockProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.lock.enabled", havingValue = "true")
+public class OrderLockConfig {
+
+    @Bean
+    public RedisOrderLock redisOrderLock(StringRedisTemplate redisTemplate, OrderLockProperties properties,
+                                         MeterRegistry meterRegistry) {
+        return new RedisOrderLock(redisTemplate, properties, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer orderLockListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    RedisOrderLock redisOrderLock) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisOrderLock, new ChannelTopic(RedisOrderLock.RELEASE_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.ssmdemo.lock;
+
+/**
+ * 획득한 주문 락
+ *
+ * @param orderId      주문 ID
+ * @param owner        락 값 (보유자 식별용, 해제 시 비교)
+ * @param fencingToken 획득할 때마다 단조 증가하는 토큰
+ */
+public record OrderLockHandle(String orderId, String owner, long fencingToken) {}
@@ -0,0 +1,20 @@
+package com.example.ssmdemo.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 분산 락 설정
+ *
+ * @param enabled     전이 시 Redis 분산 락 사용 여부
+ * @param lease       락 만료 시간 (보유자가 죽어도 이 시간 후 해제)
+ * @param waitTimeout 락 획득 최대 대기 시간
+ */
+@ConfigurationProperties(prefix = "ssm-demo.lock")
+public record OrderLockProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10s") Duration lease,
+    @DefaultValue("5s") Duration waitTimeout
+) {}
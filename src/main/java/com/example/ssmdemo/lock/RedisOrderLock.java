@@ -0,0 +1,166 @@
+package com.example.ssmdemo.lock;
+
+import com.example.ssmdemo.exception.OrderLockException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Redis 기반 주문 분산 락
+ *
+ * - 획득: SET key owner NX PX lease와 펜싱 토큰 INCR을 한 스크립트로 원자적으로 수행한다.
+ *   (따로 보내면 그 사이 lease가 만료되어 다음 보유자가 더 작은 토큰을 받을 수 있다)
+ * - 해제: 값이 자신의 owner일 때만 삭제하는 스크립트(compare-and-delete)로 해제하고 해제 채널에 발행한다.
+ * - 대기: 해제 메시지(pub/sub)로 깨어나며, 메시지가 없으면 락의 남은 TTL만큼만 기다린다. (sleep 폴링 없음)
+ */
+@Slf4j
+public class RedisOrderLock implements MessageListener {
+
+    public static final String LOCK_KEY_PREFIX = "ssm-demo:lock:order:";
+    public static final String FENCE_KEY_PREFIX = "ssm-demo:lock:fence:";
+    public static final String RELEASE_CHANNEL = "ssm-demo:lock:released";
+
+    public static final String ACQUIRE_SCRIPT = """
+        if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+            return redis.call('incr', KEYS[2])
+        end
+        return 0
+        """;
+
+    public static final String RELEASE_SCRIPT = """
+        if redis.call('get', KEYS[1]) == ARGV[1] then
+            redis.call('del', KEYS[1])
+            redis.call('publish', ARGV[2], ARGV[3])
+            return 1
+        end
+        return 0
+        """;
+
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>(ACQUIRE_SCRIPT, Long.class);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderLockProperties properties;
+    private final Map<String, CompletableFuture<Void>> releaseSignals = new ConcurrentHashMap<>();
+
+    private final Timer acquiredTimer;
+    private final Timer timedOutTimer;
+    private final Counter contendedCounter;
+
+    public RedisOrderLock(StringRedisTemplate redisTemplate, OrderLockProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.acquiredTimer = Timer.builder("orders.lock.wait")
+            .description("Time spent waiting for the per-order lock")
+            .tag("result", "acquired")
+            .register(meterRegistry);
+        this.timedOutTimer = Timer.builder("orders.lock.wait")
+            .description("Time spent waiting for the per-order lock")
+            .tag("result", "timeout")
+            .register(meterRegistry);
+        this.contendedCounter = Counter.builder("orders.lock.contended")
+            .description("Lock acquisitions that found the lock held and had to wait")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 락 획득 (waitTimeout 내에 실패하면 OrderLockException)
+     */
+    public OrderLockHandle acquire(String orderId) {
+        String key = LOCK_KEY_PREFIX + orderId;
+        String owner = UUID.randomUUID().toString();
+        long started = System.nanoTime();
+        long deadline = started + properties.waitTimeout().toNanos();
+        boolean contended = false;
+
+        while (true) {
+            // 해제 메시지를 놓치지 않도록 시도 전에 신호를 등록한다
+            CompletableFuture<Void> signal = releaseSignals.computeIfAbsent(orderId, id -> new CompletableFuture<>());
+            // 펜싱 토큰은 1부터 발급되므로 0은 획득 실패
+            Long token = redisTemplate.execute(ACQUIRE, List.of(key, FENCE_KEY_PREFIX + orderId),
+                owner, Long.toString(properties.lease().toMillis()));
+            if (token != null && token > 0) {
+                acquiredTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return new OrderLockHandle(orderId, owner, token);
+            }
+
+            if (!contended) {
+                contended = true;
+                contendedCounter.increment();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                timedOutTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                throw new OrderLockException("다른 요청이 주문을 처리 중입니다. 잠시 후 다시 시도해주세요: " + orderId);
+            }
+            awaitRelease(signal, Math.min(remaining, remainingLease(key)));
+        }
+    }
+
+    /**
+     * 락 해제 (다른 보유자의 락은 해제하지 않는다)
+     */
+    public void release(OrderLockHandle handle) {
+        Long released = redisTemplate.execute(RELEASE,
+            List.of(LOCK_KEY_PREFIX + handle.orderId()),
+            handle.owner(), RELEASE_CHANNEL, handle.orderId());
+        if (released == null || released == 0) {
+            log.warn("[Lock] 이미 만료되어 다른 보유자에게 넘어간 락 - orderId={}, fencingToken={}",
+                handle.orderId(), handle.fencingToken());
+        }
+    }
+
+    /**
+     * 해제 채널 구독 메시지 (본문 = 주문 ID)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CompletableFuture<Void> signal = releaseSignals.remove(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+
+    private long remainingLease(String key) {
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        if (ttl == null || ttl < 0) {
+            // 키가 이미 없거나 만료 정보가 없으면 바로 재시도
+            return ttl != null && ttl == -2 ? 0 : properties.lease().toNanos();
+        }
+        return Duration.ofMillis(ttl + 1).toNanos();
+    }
+
+    private void awaitRelease(CompletableFuture<Void> signal, long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            signal.get(nanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 락 만료 시각에 도달 - 다시 시도
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderLockException("락 대기가 중단되었습니다");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
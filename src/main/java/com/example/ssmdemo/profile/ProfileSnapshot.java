@@ -0,0 +1,32 @@
+package com.example.ssmdemo.profile;
+
+import java.util.List;
+
+/**
+ * 프로파일 조회 결과
+ *
+ * @param enabled     현재 기록 중인지 여부
+ * @param entries     구간 × 컴포넌트 × 전이별 지연 시간 (누적 시간 내림차순)
+ * @param components  구간 × 컴포넌트별 지연 시간 (전이 합산, 누적 시간 내림차순)
+ */
+public record ProfileSnapshot(boolean enabled, List<Entry> entries, List<Entry> components) {
+
+    /**
+     * @param section    구간 종류
+     * @param component  Guard/Action 팩토리 메서드 이름 (MACHINE/PERSISTENCE는 작업 이름)
+     * @param transition "원본상태:이벤트" (합산 항목은 "*")
+     */
+    public record Entry(
+        ProfiledSection section,
+        String component,
+        String transition,
+        long count,
+        double totalMillis,
+        double meanMicros,
+        double p50Micros,
+        double p90Micros,
+        double p99Micros,
+        double p999Micros,
+        double maxMicros
+    ) {}
+}
@@ -0,0 +1,15 @@
+package com.example.ssmdemo.profile;
+
+/**
+ * 프로파일 기록 구간 종류
+ */
+public enum ProfiledSection {
+    /** OrderGuards의 Guard */
+    GUARD,
+    /** OrderActions의 Action */
+    ACTION,
+    /** State Machine 재설정/시작 (주문 상태로 초기화) */
+    MACHINE,
+    /** 전이 결과 저장 (JPA save 또는 Write-Behind 반영) */
+    PERSISTENCE
+}
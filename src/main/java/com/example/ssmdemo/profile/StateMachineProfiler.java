@@ -0,0 +1,202 @@
+package com.example.ssmdemo.profile;
+
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.statemachine.StateContext;
+import org.springframework.statemachine.action.Action;
+import org.springframework.statemachine.guard.Guard;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * State Machine 지연 시간 프로파일러
+ *
+ * Guard/Action과 서비스의 머신 재설정·저장 구간을 컴포넌트 × 전이별 HdrHistogram(나노초)으로 기록한다.
+ * - 기록: Recorder.recordValue는 wait-free이므로 전이 스레드끼리 경합하지 않는다.
+ * - 조회: 구간 히스토그램을 꺼내 누적 히스토그램에 합친다.
+ * - 꺼짐: volatile 읽기 한 번 후 원래 Guard/Action을 그대로 호출하며 System.nanoTime도 부르지 않는다.
+ */
+@Component
+@EnableConfigurationProperties(StateMachineProfilerProperties.class)
+public class StateMachineProfiler {
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final int significantValueDigits;
+    private final Map<Key, Series> series = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    public StateMachineProfiler(StateMachineProfilerProperties properties) {
+        this.significantValueDigits = properties.significantValueDigits();
+        this.enabled = properties.enabled();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 기록된 값을 모두 지운다.
+     */
+    public void reset() {
+        series.clear();
+    }
+
+    // === Decorators ===
+
+    public Guard<OrderStatus, OrderEvent> guard(String name, Guard<OrderStatus, OrderEvent> guard) {
+        return context -> {
+            if (!enabled) {
+                return guard.evaluate(context);
+            }
+            long started = System.nanoTime();
+            try {
+                return guard.evaluate(context);
+            } finally {
+                record(ProfiledSection.GUARD, name, transitionOf(context), started);
+            }
+        };
+    }
+
+    public Action<OrderStatus, OrderEvent> action(String name, Action<OrderStatus, OrderEvent> action) {
+        return context -> {
+            if (!enabled) {
+                action.execute(context);
+                return;
+            }
+            long started = System.nanoTime();
+            try {
+                action.execute(context);
+            } finally {
+                record(ProfiledSection.ACTION, name, transitionOf(context), started);
+            }
+        };
+    }
+
+    // === Manual Sections ===
+
+    /**
+     * 구간 시작 시각 (꺼져 있으면 0)
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * start()로 시작한 구간 기록 (start()가 0을 반환했으면 무시)
+     */
+    public void stop(ProfiledSection section, String component, OrderStatus source, OrderEvent event, long started) {
+        if (started != 0L) {
+            record(section, component, transition(source, event), started);
+        }
+    }
+
+    private void record(ProfiledSection section, String component, String transition, long started) {
+        long elapsed = System.nanoTime() - started;
+        series.computeIfAbsent(new Key(section, component, transition), key -> new Series(significantValueDigits))
+            .record(elapsed);
+    }
+
+    private static String transitionOf(StateContext<OrderStatus, OrderEvent> context) {
+        OrderStatus source = context.getSource() != null ? context.getSource().getId() : null;
+        return transition(source, context.getEvent());
+    }
+
+    private static String transition(OrderStatus source, OrderEvent event) {
+        return (source != null ? source.name() : "?") + ":" + (event != null ? event.name() : "?");
+    }
+
+    // === Snapshot ===
+
+    /**
+     * 누적 지연 시간 조회
+     */
+    public ProfileSnapshot snapshot() {
+        List<ProfileSnapshot.Entry> entries = new ArrayList<>();
+        Map<Key, Histogram> components = new LinkedHashMap<>();
+        Map<Key, Long> componentTotals = new LinkedHashMap<>();
+
+        series.forEach((key, value) -> {
+            Histogram histogram;
+            long totalNanos;
+            synchronized (value) {
+                histogram = value.accumulate();
+                totalNanos = value.totalNanos.sum();
+            }
+            entries.add(entry(key, histogram, totalNanos));
+
+            Key componentKey = new Key(key.section(), key.component(), "*");
+            components.computeIfAbsent(componentKey, k -> new Histogram(significantValueDigits)).add(histogram);
+            componentTotals.merge(componentKey, totalNanos, Long::sum);
+        });
+
+        List<ProfileSnapshot.Entry> merged = new ArrayList<>();
+        components.forEach((key, histogram) -> merged.add(entry(key, histogram, componentTotals.get(key))));
+
+        Comparator<ProfileSnapshot.Entry> byTotal =
+            Comparator.comparingDouble(ProfileSnapshot.Entry::totalMillis).reversed();
+        entries.sort(byTotal);
+        merged.sort(byTotal);
+        return new ProfileSnapshot(enabled, entries, merged);
+    }
+
+    private static ProfileSnapshot.Entry entry(Key key, Histogram histogram, long totalNanos) {
+        return new ProfileSnapshot.Entry(
+            key.section(),
+            key.component(),
+            key.transition(),
+            histogram.getTotalCount(),
+            totalNanos / NANOS_PER_MILLI,
+            histogram.getMean() / NANOS_PER_MICRO,
+            histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+            histogram.getValueAtPercentile(90) / NANOS_PER_MICRO,
+            histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+            histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+            histogram.getMaxValue() / NANOS_PER_MICRO
+        );
+    }
+
+    private record Key(ProfiledSection section, String component, String transition) {}
+
+    private static final class Series {
+
+        private final Recorder recorder;
+        private final Histogram accumulated;
+        private final LongAdder totalNanos = new LongAdder();
+        private Histogram interval;
+
+        private Series(int significantValueDigits) {
+            this.recorder = new Recorder(significantValueDigits);
+            this.accumulated = new Histogram(significantValueDigits);
+        }
+
+        void record(long elapsedNanos) {
+            recorder.recordValue(Math.max(0, elapsedNanos));
+            totalNanos.add(elapsedNanos);
+        }
+
+        /**
+         * 호출자가 이 객체로 동기화한 상태에서 호출해야 한다.
+         */
+        Histogram accumulate() {
+            interval = recorder.getIntervalHistogram(interval);
+            accumulated.add(interval);
+            return accumulated.copy();
+        }
+    }
+}
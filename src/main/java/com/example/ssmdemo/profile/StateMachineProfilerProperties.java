@@ -0,0 +1,16 @@
+package com.example.ssmdemo.profile;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Guard/Action 지연 시간 프로파일러 설정
+ *
+ * @param enabled                   시작 시 기록 여부 (실행 중에는 PUT /internal/statemachine/profile로 전환)
+ * @param significantValueDigits    HdrHistogram 유효 자릿수 (1~5)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.profiler")
+public record StateMachineProfilerProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("2") int significantValueDigits
+) {}
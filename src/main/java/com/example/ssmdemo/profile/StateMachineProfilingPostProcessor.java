@@ -0,0 +1,66 @@
+package com.example.ssmdemo.profile;
+
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.jfr.OrderFlightEvents;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.statemachine.action.Action;
+import org.springframework.statemachine.guard.Guard;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Guard/Action 팩토리 빈(OrderGuards, OrderActions 등)을 프록시로 감싸
+ * 반환되는 모든 Guard/Action에 {@link StateMachineProfiler}와 JFR 이벤트({@link OrderFlightEvents}) 데코레이터를 씌운다.
+ * 컴포넌트 이름은 팩토리 메서드 이름(예: paymentValidGuard)이다.
+ *
+ * State Machine 설정이 팩토리 메서드를 호출하는 시점에 한 번 감싸므로, 새 Guard/Action을 추가해도 별도 등록이 필요 없다.
+ */
+@Component
+public class StateMachineProfilingPostProcessor implements BeanPostProcessor {
+
+    private static final String STATE_MACHINE_PACKAGE = "com.example.ssmdemo.statemachine";
+
+    private final ObjectProvider<StateMachineProfiler> profiler;
+
+    public StateMachineProfilingPostProcessor(ObjectProvider<StateMachineProfiler> profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> type = bean.getClass();
+        if (!type.getPackageName().startsWith(STATE_MACHINE_PACKAGE) || !declaresFactoryMethod(type)) {
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> decorate(invocation.getMethod(), invocation.proceed()));
+        return proxyFactory.getProxy(type.getClassLoader());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object decorate(Method method, Object result) {
+        if (result instanceof Guard<?, ?> guard) {
+            String name = method.getName();
+            return profiler.getObject().guard(name, OrderFlightEvents.guard(name, (Guard<OrderStatus, OrderEvent>) guard));
+        }
+        if (result instanceof Action<?, ?> action) {
+            String name = method.getName();
+            return profiler.getObject().action(name, OrderFlightEvents.action(name, (Action<OrderStatus, OrderEvent>) action));
+        }
+        return result;
+    }
+
+    private static boolean declaresFactoryMethod(Class<?> type) {
+        return Arrays.stream(type.getDeclaredMethods())
+            .map(Method::getReturnType)
+            .anyMatch(returnType -> Guard.class.equals(returnType) || Action.class.equals(returnType));
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.ssmdemo.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 라우터
+ *
+ * dataSource()는 LazyConnectionDataSourceProxy로, 실제 커넥션이 필요한 시점의 readOnly 플래그를 보고
+ * 읽기 전용 트랜잭션은 복제본 풀로, 나머지는 primary로 보낸다.
+ *
+ * - 지연: primary의 replica_heartbeat에 주기적으로 현재 시각을 기록하고, 복제본에서 읽은 값과의 차이를 지연으로 본다.
+ *   maxLag를 넘거나 읽을 수 없는 복제본은 제외되며, 사용할 복제본이 없으면 primary를 쓴다.
+ * - read-your-writes: recordWrite()로 기록된 주문은 커밋 후 readYourWrites 동안 pinPrimaryIfRecentlyWritten()에서
+ *   현재 트랜잭션을 primary로 고정한다.
+ * - 풀별 지연 시간: Hikari 메트릭(hikaricp.connections.acquire/usage, pool 태그) + 라우팅/복제 지연 메트릭
+ */
+@Slf4j
+public class ReadReplicaRouter implements InitializingBean, AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final ReplicaProperties properties;
+    private final JdbcTemplate primaryJdbc;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    private final Counter pinnedCounter;
+    private final Counter noReplicaCounter;
+
+    public ReadReplicaRouter(HikariDataSource primary, List<HikariDataSource> replicaPools,
+                             ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.properties = properties;
+        this.replicas = replicaPools.stream().map(pool -> new ReplicaPool(pool, meterRegistry)).toList();
+        this.primaryJdbc = new JdbcTemplate(primary);
+
+        primary.setMetricRegistry(meterRegistry);
+        this.pinnedCounter = routedCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.noReplicaCounter = routedCounter(meterRegistry, PRIMARY, "no-replica");
+    }
+
+    /**
+     * heartbeat 테이블 생성 후 첫 지연 측정 (DataSource를 내주기 전에 복제본 사용 가능 여부를 정한다)
+     */
+    @Override
+    public void afterPropertiesSet() {
+        primaryJdbc.execute("create table if not exists replica_heartbeat (id int primary key, beat_at bigint not null)");
+        heartbeat();
+    }
+
+    /**
+     * 애플리케이션 DataSource (쓰기/읽기-쓰기 → primary, 읽기 전용 → 복제본)
+     */
+    public DataSource dataSource() {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReadOnlyRoutingDataSource());
+        return proxy;
+    }
+
+    /**
+     * 주문 쓰기 기록 (현재 트랜잭션 커밋 시점부터 readYourWrites 동안 primary에서 조회)
+     */
+    public void recordWrite(String orderId) {
+        if (properties.readYourWrites().isZero()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWrites.put(orderId, System.nanoTime() + properties.readYourWrites().toNanos());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWrites.put(orderId, System.nanoTime() + properties.readYourWrites().toNanos());
+            }
+        });
+    }
+
+    /**
+     * 최근 쓰기가 있었던 주문이면 현재 트랜잭션의 조회를 primary로 고정한다.
+     * 트랜잭션의 첫 쿼리 전에 호출해야 한다.
+     */
+    public void pinPrimaryIfRecentlyWritten(String orderId) {
+        Long expiresAt = recentWrites.get(orderId);
+        if (expiresAt == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        if (expiresAt - System.nanoTime() <= 0) {
+            recentWrites.remove(orderId, expiresAt);
+            return;
+        }
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PINNED_TO_PRIMARY.remove();
+            }
+        });
+    }
+
+    /**
+     * primary heartbeat 기록 후 복제본 지연 측정
+     */
+    @Scheduled(initialDelayString = "${ssm-demo.replica.heartbeat-interval:1s}",
+               fixedDelayString = "${ssm-demo.replica.heartbeat-interval:1s}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primaryJdbc.update("update replica_heartbeat set beat_at = ? where id = 1", now) == 0) {
+                primaryJdbc.update("insert into replica_heartbeat (id, beat_at) values (1, ?)", now);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[Replica] heartbeat 기록 실패: {}", e.getMessage());
+        }
+        refreshLag();
+
+        long nanos = System.nanoTime();
+        recentWrites.values().removeIf(expiresAt -> expiresAt - nanos <= 0);
+    }
+
+    /**
+     * 복제본별 지연 측정 (heartbeat를 읽을 수 없으면 사용 불가)
+     */
+    public void refreshLag() {
+        long now = System.currentTimeMillis();
+        for (ReplicaPool replica : replicas) {
+            try {
+                Long beatAt = replica.jdbc.queryForObject("select beat_at from replica_heartbeat where id = 1", Long.class);
+                replica.lagMillis = beatAt != null ? Math.max(0, now - beatAt) : Long.MAX_VALUE;
+            } catch (RuntimeException e) {
+                if (replica.lagMillis != Long.MAX_VALUE) {
+                    log.warn("[Replica] {} 지연 측정 실패, 복구될 때까지 제외: {}", replica.name, e.getMessage());
+                }
+                replica.lagMillis = Long.MAX_VALUE;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+        primary.close();
+    }
+
+    // === Routing ===
+
+    private DataSource route() {
+        if (Boolean.TRUE.equals(PINNED_TO_PRIMARY.get())) {
+            pinnedCounter.increment();
+            return primary;
+        }
+        ReplicaPool replica = switch (properties.strategy()) {
+            case ROUND_ROBIN -> nextAvailable();
+            case LEAST_LOADED -> leastLoaded();
+        };
+        if (replica == null) {
+            noReplicaCounter.increment();
+            return primary;
+        }
+        replica.routedCounter.increment();
+        return replica.pool;
+    }
+
+    private ReplicaPool nextAvailable() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaPool replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private ReplicaPool leastLoaded() {
+        ReplicaPool selected = null;
+        int selectedActive = Integer.MAX_VALUE;
+        for (ReplicaPool replica : replicas) {
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            int active = replica.activeConnections();
+            if (active < selectedActive) {
+                selected = replica;
+                selectedActive = active;
+            }
+        }
+        return selected;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("orders.datasource.routed")
+            .description("Read-only connections routed per pool")
+            .tag("pool", pool)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    private final class ReplicaPool {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private final JdbcTemplate jdbc;
+        private final Counter routedCounter;
+        private volatile long lagMillis = Long.MAX_VALUE;
+
+        private ReplicaPool(HikariDataSource pool, MeterRegistry meterRegistry) {
+            this.name = pool.getPoolName();
+            this.pool = pool;
+            this.jdbc = new JdbcTemplate(pool);
+            this.routedCounter = routedCounter(meterRegistry, name, "replica");
+
+            pool.setMetricRegistry(meterRegistry);
+            TimeGauge.builder("orders.datasource.replica.lag", this, TimeUnit.MILLISECONDS,
+                    replica -> replica.lagMillis == Long.MAX_VALUE ? Double.NaN : replica.lagMillis)
+                .description("Replication lag measured from the primary heartbeat (NaN: unreachable)")
+                .tag("pool", name)
+                .register(meterRegistry);
+        }
+
+        private boolean isAvailable() {
+            return lagMillis <= properties.maxLag().toMillis();
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            return mxBean != null ? mxBean.getActiveConnections() : 0;
+        }
+    }
+
+    /**
+     * LazyConnectionDataSourceProxy의 읽기 전용 대상
+     */
+    private final class ReadOnlyRoutingDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route().getConnection(username, password);
+        }
+    }
+}
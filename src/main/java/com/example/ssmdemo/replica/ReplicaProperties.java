@@ -0,0 +1,48 @@
+package com.example.ssmdemo.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ *
+ * @param enabled           읽기 전용 트랜잭션을 복제본으로 보낼지 여부 (spring.datasource는 primary)
+ * @param strategy          복제본 선택 방식
+ * @param maxLag            허용 복제 지연 (초과한 복제본은 지연이 줄어들 때까지 제외)
+ * @param readYourWrites    주문을 생성/전이한 뒤 그 주문의 조회를 primary로 보내는 시간 (0: 사용 안 함)
+ * @param heartbeatInterval primary heartbeat 기록 및 복제본 지연 측정 주기
+ * @param replicas          복제본 커넥션 풀 목록
+ */
+@ConfigurationProperties(prefix = "ssm-demo.replica")
+public record ReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("ROUND_ROBIN") Strategy strategy,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("5s") Duration readYourWrites,
+    @DefaultValue("1s") Duration heartbeatInterval,
+    @DefaultValue List<Replica> replicas
+) {
+
+    public enum Strategy {
+        /** 복제본을 차례로 사용 */
+        ROUND_ROBIN,
+        /** 사용 중 커넥션이 가장 적은 복제본 사용 */
+        LEAST_LOADED
+    }
+
+    /**
+     * @param name        풀 이름 (메트릭 pool 태그)
+     * @param url         JDBC URL
+     * @param maxPoolSize 최대 커넥션 수
+     */
+    public record Replica(
+        String name,
+        String url,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("10") int maxPoolSize
+    ) {}
+}
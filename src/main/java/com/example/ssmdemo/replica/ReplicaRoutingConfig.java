@@ -0,0 +1,55 @@
+package com.example.ssmdemo.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (opt-in)
+ *
+ * ssm-demo.replica.enabled=true 일 때 spring.datasource를 primary 풀로, ssm-demo.replica.replicas를 복제본 풀로 만들고
+ * 애플리케이션 DataSource를 라우팅 DataSource로 대체한다. (DataSourceAutoConfiguration은 물러남)
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRouter readReplicaRouter(DataSourceProperties dataSourceProperties, ReplicaProperties properties,
+                                               MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName(ReadReplicaRouter.PRIMARY);
+
+        List<HikariDataSource> replicas = properties.replicas().stream()
+            .map(replica -> {
+                HikariDataSource pool = new HikariDataSource();
+                pool.setPoolName(replica.name());
+                pool.setJdbcUrl(replica.url());
+                pool.setUsername(replica.username());
+                pool.setPassword(replica.password());
+                pool.setMaximumPoolSize(replica.maxPoolSize());
+                pool.setReadOnly(true);
+                return pool;
+            })
+            .toList();
+
+        return new ReadReplicaRouter(primary, replicas, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRouter readReplicaRouter) {
+        return readReplicaRouter.dataSource();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ssmdemo.retry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 실패한 부수 효과(결제, 환불, 알림) 재시도 설정
+ *
+ * @param enabled        재시도 큐 사용 여부 (false면 Action 실패가 errorAction으로 넘어간다)
+ * @param pollInterval   시도 시각이 된 항목을 찾는 주기
+ * @param batchSize      한 번에 선점할 항목 수 (샤드별)
+ * @param parallelism    동시에 실행할 재시도 수
+ * @param maxAttempts    dead letter로 옮기기 전까지의 최대 시도 수 (Action에서의 첫 시도 포함)
+ * @param initialBackoff 첫 재시도까지의 대기 시간 (이후 시도마다 2배)
+ * @param maxBackoff     재시도 대기 시간 상한
+ * @param jitter         대기 시간을 줄이는 무작위 비율 (0~1, 0.5면 대기 시간의 50~100%)
+ * @param lease          선점한 항목을 다른 실행이 가져가지 못하는 시간 (실행 중 프로세스가 죽으면 이후 다시 시도)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.action-retry")
+public record ActionRetryProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1s") Duration pollInterval,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("4") int parallelism,
+    @DefaultValue("6") int maxAttempts,
+    @DefaultValue("1s") Duration initialBackoff,
+    @DefaultValue("5m") Duration maxBackoff,
+    @DefaultValue("0.5") double jitter,
+    @DefaultValue("1m") Duration lease
+) {}
@@ -0,0 +1,20 @@
+package com.example.ssmdemo.retry;
+
+/**
+ * 재시도 실행 한 번의 결과
+ *
+ * @param claimed      선점한 항목 수
+ * @param succeeded    성공하여 큐에서 제거된 항목 수
+ * @param rescheduled  다시 실패하여 다음 시도가 예약된 항목 수
+ * @param deadLettered 시도를 모두 소진하여 dead letter로 옮긴 항목 수
+ * @param lostLease    실행 중 lease가 지나 다른 실행이 가져가서 결과를 버린 항목 수
+ */
+public record ActionRetryRunResult(int claimed, int succeeded, int rescheduled, int deadLettered, int lostLease) {
+
+    public static final ActionRetryRunResult EMPTY = new ActionRetryRunResult(0, 0, 0, 0, 0);
+
+    public ActionRetryRunResult plus(ActionRetryRunResult other) {
+        return new ActionRetryRunResult(claimed + other.claimed, succeeded + other.succeeded,
+            rescheduled + other.rescheduled, deadLettered + other.deadLettered, lostLease + other.lostLease);
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.ssmdemo.retry;
+
+import com.example.ssmdemo.domain.order.entity.OrderActionDeadLetter;
+import com.example.ssmdemo.domain.order.entity.OrderActionRetry;
+import com.example.ssmdemo.domain.order.entity.OrderSideEffectCall;
+import com.example.ssmdemo.domain.order.enums.OrderSideEffect;
+import com.example.ssmdemo.domain.order.repository.OrderActionDeadLetterRepository;
+import com.example.ssmdemo.domain.order.repository.OrderActionRetryRepository;
+import com.example.ssmdemo.shard.ShardRouter;
+import com.example.ssmdemo.statemachine.action.OrderSideEffects;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실패한 부수 효과 재시도 큐
+ *
+ * - Action에서 실패한 호출은 전이 트랜잭션 안에서 order_action_retries에 기록된다. (전이와 함께 커밋/롤백)
+ * - pollInterval마다 시도 시각이 된 항목을 batchSize씩 읽고, parallelism 크기의 작업자 풀에서 항목마다 선점(lease)한 뒤 다시 호출한다.
+ *   선점은 버전 조건부 UPDATE라 여러 노드가 같은 항목을 동시에 실행하지 않고,
+ *   결과 반영도 선점한 버전일 때만 하므로 lease가 지나 다른 실행이 가져간 항목의 결과는 버린다.
+ * - 성공하면 큐에서 지우고, 실패하면 min(maxBackoff, initialBackoff * 2^(시도-1))에 jitter를 적용해 다시 예약하며,
+ *   maxAttempts를 소진하면 order_action_dead_letters로 옮긴다.
+ * - 재시도는 주문을 다시 읽거나 바꾸지 않고 기록된 호출(멱등 키 포함)만 반복한다.
+ * - 샤딩 사용 시 항목은 주문의 샤드에 기록되며, 재시도는 샤드마다 차례로 실행한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ActionRetryProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.action-retry.enabled", havingValue = "true")
+public class OrderActionRetryQueue implements AutoCloseable {
+
+    private final OrderActionRetryRepository retryRepository;
+    private final OrderActionDeadLetterRepository deadLetterRepository;
+    private final OrderSideEffects sideEffects;
+    private final TransactionTemplate transactionTemplate;
+    private final ActionRetryProperties properties;
+    private final Optional<ShardRouter> shards;
+    private final ExecutorService workers;
+
+    private final Map<OrderSideEffect, Map<Outcome, Counter>> counters = new EnumMap<>(OrderSideEffect.class);
+    private final AtomicLong pendingSize = new AtomicLong();
+    private final AtomicLong deadLetterSize = new AtomicLong();
+
+    public OrderActionRetryQueue(OrderActionRetryRepository retryRepository,
+                                 OrderActionDeadLetterRepository deadLetterRepository,
+                                 OrderSideEffects sideEffects,
+                                 PlatformTransactionManager transactionManager,
+                                 ActionRetryProperties properties,
+                                 Optional<ShardRouter> shards,
+                                 MeterRegistry meterRegistry) {
+        this.retryRepository = retryRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.sideEffects = sideEffects;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.shards = shards;
+        this.workers = Executors.newFixedThreadPool(Math.max(1, properties.parallelism()));
+
+        for (OrderSideEffect effect : OrderSideEffect.values()) {
+            Map<Outcome, Counter> byOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                byOutcome.put(outcome, Counter.builder("orders.action.retries")
+                    .description("Failed side effects by retry outcome")
+                    .tag("effect", effect.name())
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+            }
+            counters.put(effect, byOutcome);
+        }
+        Gauge.builder("orders.action.retry.pending", pendingSize, AtomicLong::get)
+            .description("Side effects waiting for retry (refreshed by the retry poller)")
+            .register(meterRegistry);
+        Gauge.builder("orders.action.retry.dead", deadLetterSize, AtomicLong::get)
+            .description("Side effects that exhausted their retries (refreshed by the retry poller)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 실패한 호출 기록 (현재 트랜잭션에 참여하며, Action에서의 실패를 첫 시도로 센다)
+     */
+    public void enqueue(OrderSideEffectCall call, RuntimeException failure) {
+        OrderActionRetry retry = retryRepository.save(OrderActionRetry.builder()
+            .call(call)
+            .attempts(1)
+            .nextAttemptAt(LocalDateTime.now().plus(backoff(1)))
+            .lastError(describe(failure))
+            .build());
+        counter(call.effect(), Outcome.ENQUEUED).increment();
+        log.warn("[Retry] {} 실패, 재시도 예약 - orderId={}, retryId={}, nextAttemptAt={}, cause={}",
+            call.effect(), call.orderId(), retry.getId(), retry.getNextAttemptAt(), retry.getLastError());
+    }
+
+    /**
+     * 시도 시각이 된 항목을 모두 다시 실행한다.
+     */
+    @Scheduled(initialDelayString = "${ssm-demo.action-retry.poll-interval:1s}",
+               fixedDelayString = "${ssm-demo.action-retry.poll-interval:1s}")
+    public ActionRetryRunResult retryDue() {
+        LocalDateTime now = LocalDateTime.now();
+        ActionRetryRunResult result;
+        if (shards.isEmpty()) {
+            result = retryDueBatches(now, null);
+            pendingSize.set(retryRepository.count());
+            deadLetterSize.set(deadLetterRepository.count());
+        } else {
+            ShardRouter router = shards.get();
+            result = ActionRetryRunResult.EMPTY;
+            for (String shard : router.shardNames()) {
+                result = result.plus(router.callOn(shard, () -> retryDueBatches(now, shard)));
+            }
+            pendingSize.set(router.scatter(retryRepository::count).stream().mapToLong(Long::longValue).sum());
+            deadLetterSize.set(router.scatter(deadLetterRepository::count).stream().mapToLong(Long::longValue).sum());
+        }
+
+        if (result.claimed() > 0) {
+            log.info("[Retry] 재시도 완료 - {}, pending={}, dead={}", result, pendingSize.get(), deadLetterSize.get());
+        }
+        return result;
+    }
+
+    /**
+     * dead letter를 즉시 시도할 재시도 항목으로 되돌린다.
+     *
+     * @return dead letter가 있었으면 true
+     */
+    public boolean replay(String deadLetterId) {
+        return shards
+            .map(router -> router.scatter(() -> replayLocal(deadLetterId)).contains(true))
+            .orElseGet(() -> replayLocal(deadLetterId));
+    }
+
+    /**
+     * 재시도 대기 항목 (다음 시도 시각 순)
+     */
+    public List<OrderActionRetry> findPending(int limit) {
+        return shards
+            .map(router -> router.scatterMerge(() -> retryRepository.findPending(Limit.of(limit)),
+                Comparator.comparing(OrderActionRetry::getNextAttemptAt).thenComparing(OrderActionRetry::getId), limit))
+            .orElseGet(() -> retryRepository.findPending(Limit.of(limit)));
+    }
+
+    /**
+     * dead letter (최근에 실패한 순)
+     */
+    public List<OrderActionDeadLetter> findDeadLetters(int limit) {
+        Comparator<OrderActionDeadLetter> recentFirst = Comparator.comparing(OrderActionDeadLetter::getDeadAt)
+            .reversed()
+            .thenComparing(OrderActionDeadLetter::getId);
+        return shards
+            .map(router -> router.scatterMerge(() -> deadLetterRepository.findRecent(Limit.of(limit)), recentFirst, limit))
+            .orElseGet(() -> deadLetterRepository.findRecent(Limit.of(limit)));
+    }
+
+    public Optional<OrderActionDeadLetter> findDeadLetter(String deadLetterId) {
+        return shards
+            .map(router -> router.scatter(() -> deadLetterRepository.findById(deadLetterId)).stream()
+                .flatMap(Optional::stream)
+                .findFirst())
+            .orElseGet(() -> deadLetterRepository.findById(deadLetterId));
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 현재 DataSource(샤딩 시 바인딩된 샤드)에서 now 시점에 시도 시각이 된 항목을 batchSize씩 처리한다.
+     * 처리한 항목과 다른 실행이 선점한 항목은 now 이후로 밀리므로 한 번의 실행에서 반복되지 않는다.
+     *
+     * @param shard 바인딩된 샤드 (샤딩 미사용 시 null, 작업자 스레드도 같은 샤드에서 실행한다)
+     */
+    private ActionRetryRunResult retryDueBatches(LocalDateTime now, String shard) {
+        ActionRetryRunResult total = ActionRetryRunResult.EMPTY;
+        while (true) {
+            List<OrderActionRetry> due = transactionTemplate.execute(status ->
+                retryRepository.findDue(now, Limit.of(properties.batchSize())));
+            if (due == null || due.isEmpty()) {
+                break;
+            }
+            total = total.plus(retryAll(due, shard));
+            if (due.size() < properties.batchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 작업자 풀에서 항목마다 선점, 호출, 결과 반영을 차례로 실행한다.
+     * lease는 항목마다 호출 직전에 잡으므로 배치의 다른 항목을 기다리는 시간은 lease에 포함되지 않는다.
+     */
+    private ActionRetryRunResult retryAll(List<OrderActionRetry> due, String shard) {
+        List<Future<ActionRetryRunResult>> futures = new ArrayList<>(due.size());
+        for (OrderActionRetry retry : due) {
+            futures.add(workers.submit(() -> shards
+                .map(router -> router.callOn(shard, () -> retryOne(retry)))
+                .orElseGet(() -> retryOne(retry))));
+        }
+
+        ActionRetryRunResult total = ActionRetryRunResult.EMPTY;
+        for (Future<ActionRetryRunResult> future : futures) {
+            try {
+                total = total.plus(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(remaining -> remaining.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                // 선점한 항목이면 lease가 지난 뒤 다시 시도된다
+                log.warn("[Retry] 재시도 처리 실패 - cause={}", describe(e.getCause()));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 항목 하나를 선점해 다시 호출하고 결과를 반영한다. (다른 실행이 먼저 선점했으면 EMPTY)
+     */
+    private ActionRetryRunResult retryOne(OrderActionRetry retry) {
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(properties.lease());
+        Integer claimed = transactionTemplate.execute(status ->
+            retryRepository.claim(retry.getId(), retry.getVersion(), leaseUntil));
+        if (claimed == null || claimed == 0) {
+            return ActionRetryRunResult.EMPTY;
+        }
+
+        String error = null;
+        try {
+            sideEffects.execute(retry.getCall());
+        } catch (RuntimeException e) {
+            error = describe(e);
+        }
+        Outcome outcome = record(retry, retry.getVersion() + 1, error);
+        counter(retry.getCall().effect(), outcome).increment();
+        return switch (outcome) {
+            case SUCCEEDED -> new ActionRetryRunResult(1, 1, 0, 0, 0);
+            case RESCHEDULED -> new ActionRetryRunResult(1, 0, 1, 0, 0);
+            case DEAD_LETTERED -> new ActionRetryRunResult(1, 0, 0, 1, 0);
+            default -> new ActionRetryRunResult(1, 0, 0, 0, 1);
+        };
+    }
+
+    /**
+     * 실행 결과 반영 (성공: 제거, 실패: 재예약 또는 dead letter로 이동)
+     * 선점한 버전일 때만 반영하며, 그 사이 lease가 지나 다른 실행이 가져갔으면 결과를 버린다. (LOST_LEASE)
+     *
+     * @param claimedVersion 선점으로 올린 버전
+     */
+    private Outcome record(OrderActionRetry retry, long claimedVersion, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        int attempts = retry.getAttempts() + 1;
+        Outcome outcome = transactionTemplate.execute(status -> {
+            if (error == null) {
+                return retryRepository.remove(retry.getId(), claimedVersion) == 1 ? Outcome.SUCCEEDED : Outcome.LOST_LEASE;
+            }
+            if (attempts >= properties.maxAttempts()) {
+                if (retryRepository.remove(retry.getId(), claimedVersion) == 0) {
+                    return Outcome.LOST_LEASE;
+                }
+                deadLetterRepository.save(OrderActionDeadLetter.from(retry, attempts, error));
+                return Outcome.DEAD_LETTERED;
+            }
+            return retryRepository.reschedule(retry.getId(), claimedVersion, attempts, now.plus(backoff(attempts)),
+                error, now) == 1 ? Outcome.RESCHEDULED : Outcome.LOST_LEASE;
+        });
+
+        if (outcome == Outcome.DEAD_LETTERED) {
+            log.error("[Retry] {} 재시도 소진, dead letter로 이동 - orderId={}, retryId={}, attempts={}, cause={}",
+                retry.getCall().effect(), retry.getCall().orderId(), retry.getId(), attempts, error);
+        } else if (outcome == Outcome.LOST_LEASE) {
+            log.warn("[Retry] {} 선점 만료, 결과를 버림 (다른 실행이 가져감) - orderId={}, retryId={}, error={}",
+                retry.getCall().effect(), retry.getCall().orderId(), retry.getId(), error);
+        }
+        return outcome;
+    }
+
+    private boolean replayLocal(String deadLetterId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Optional<OrderActionDeadLetter> found = deadLetterRepository.findById(deadLetterId);
+            if (found.isEmpty()) {
+                return false;
+            }
+            OrderActionDeadLetter deadLetter = found.get();
+            deadLetterRepository.delete(deadLetter);
+            retryRepository.save(deadLetter.toRetry());
+            counter(deadLetter.getCall().effect(), Outcome.REPLAYED).increment();
+            log.info("[Retry] dead letter 재처리 예약 - orderId={}, retryId={}",
+                deadLetter.getCall().orderId(), deadLetterId);
+            return true;
+        }));
+    }
+
+    /**
+     * 실패한 시도 수에 따른 다음 시도까지의 대기 시간
+     * min(maxBackoff, initialBackoff * 2^(failedAttempts-1)) * (1 - jitter * random)
+     */
+    private Duration backoff(int failedAttempts) {
+        long initial = properties.initialBackoff().toMillis();
+        long max = properties.maxBackoff().toMillis();
+        int doublings = Math.min(Math.max(failedAttempts - 1, 0), 30);
+        long base = initial > max >> doublings ? max : Math.min(max, initial << doublings);
+        double jitter = Math.clamp(properties.jitter(), 0.0, 1.0);
+        return Duration.ofMillis((long) (base * (1 - jitter * ThreadLocalRandom.current().nextDouble())));
+    }
+
+    private Counter counter(OrderSideEffect effect, Outcome outcome) {
+        return counters.get(effect).get(outcome);
+    }
+
+    private static String describe(Throwable failure) {
+        return failure.getClass().getSimpleName() + ": " + failure.getMessage();
+    }
+
+    private enum Outcome {
+        ENQUEUED, SUCCEEDED, RESCHEDULED, DEAD_LETTERED, REPLAYED, LOST_LEASE
+    }
+}
@@ -1,13 +1,37 @@
 package com.example.ssmdemo.service;
 
+import com.example.ssmdemo.cluster.OrderOwnership;
+import com.example.ssmdemo.cluster.OwnedStateMachineCache;
+import com.example.ssmdemo.domain.order.entity.ArchivedOrder;
 import com.example.ssmdemo.domain.order.entity.Order;
 import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.event.OrderCreatedEvent;
 import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.projection.OrderField;
+import com.example.ssmdemo.domain.order.projection.OrderStatusCount;
+import com.example.ssmdemo.domain.order.projection.OrderView;
+import com.example.ssmdemo.domain.order.repository.ArchivedOrderRepository;
 import com.example.ssmdemo.domain.order.repository.OrderRepository;
 import com.example.ssmdemo.exception.InvalidStateTransitionException;
+import com.example.ssmdemo.exception.OrderLockException;
 import com.example.ssmdemo.exception.OrderNotFoundException;
+import com.example.ssmdemo.jfr.MachineAcquireJfrEvent;
+import com.example.ssmdemo.jfr.OrderFlightEvents;
+import com.example.ssmdemo.jfr.OrderTransitionJfrEvent;
+import com.example.ssmdemo.lock.OrderLockHandle;
+import com.example.ssmdemo.lock.RedisOrderLock;
+import com.example.ssmdemo.profile.ProfiledSection;
+import com.example.ssmdemo.profile.StateMachineProfiler;
+import com.example.ssmdemo.replica.ReadReplicaRouter;
+import com.example.ssmdemo.shadow.ShadowComparator;
+import com.example.ssmdemo.shadow.ShadowDecision;
+import com.example.ssmdemo.shard.ShardRouter;
+import com.example.ssmdemo.writebehind.WriteBehindOrderStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.Lifecycle;
+import org.springframework.data.domain.Sort;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.statemachine.StateMachine;
@@ -15,11 +39,21 @@ import org.springframework.statemachine.StateMachineEventResult;
 import org.springframework.statemachine.config.StateMachineFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * 주문 서비스
@@ -32,6 +66,17 @@ public class OrderService {
 
     private final StateMachineFactory<OrderStatus, OrderEvent> stateMachineFactory;
     private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final Optional<WriteBehindOrderStore> writeBehindStore;
+    private final Optional<OrderOwnership> orderOwnership;
+    private final Optional<OwnedStateMachineCache> ownedStateMachines;
+    private final Optional<RedisOrderLock> orderLock;
+    private final Optional<ReadReplicaRouter> readReplicas;
+    private final Optional<ShardRouter> shards;
+    private final Optional<ShadowComparator> shadow;
+    private final StateMachineProfiler profiler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 주문 생성
@@ -39,7 +84,8 @@ public class OrderService {
     @Transactional
     public Order createOrder(String productId, Integer quantity, BigDecimal amount,
                             String customerEmail, String paymentMethod) {
-        String orderId = "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String orderId = newOrderId();
+        shards.ifPresent(router -> router.bind(orderId));
 
         Order order = Order.builder()
             .id(orderId)
@@ -51,7 +97,9 @@ public class OrderService {
             .status(OrderStatus.CREATED)
             .build();
 
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderRepository.insert(order);
+        readReplicas.ifPresent(router -> router.recordWrite(orderId));
+        eventPublisher.publishEvent(new OrderCreatedEvent(orderId, productId, savedOrder.getCreatedAt()));
         log.info("주문 생성 완료 - orderId: {}, status: {}", savedOrder.getId(), savedOrder.getStatus());
 
         return savedOrder;
@@ -59,156 +107,435 @@ public class OrderService {
 
     /**
      * 주문 조회
+     * orders 테이블에 없으면 보관(orders_archive) 주문을 조회한다.
+     * 복제본 라우팅 사용 시 방금 쓰기가 있었던 주문은 primary에서 조회한다. (read-your-writes)
      */
     @Transactional(readOnly = true)
     public Order getOrder(String orderId) {
-        return orderRepository.findById(orderId)
+        shards.ifPresent(router -> router.bind(orderId));
+        readReplicas.ifPresent(router -> router.pinPrimaryIfRecentlyWritten(orderId));
+        return findActiveOrder(orderId)
+            .or(() -> archivedOrderRepository.findById(orderId).map(ArchivedOrder::toOrder))
             .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
 
+    /**
+     * 주문 조회 (조회 전용 프로젝션)
+     * 엔티티를 관리하지 않고 선택한 필드의 컬럼만 조회한다. 반영 대기 중인 전이 결과와 보관 주문 순서는 getOrder와 같다.
+     */
+    @Transactional(readOnly = true)
+    public OrderView getOrderView(String orderId, Set<OrderField> fields) {
+        shards.ifPresent(router -> router.bind(orderId));
+        readReplicas.ifPresent(router -> router.pinPrimaryIfRecentlyWritten(orderId));
+        return writeBehindStore.flatMap(store -> store.find(orderId)).map(OrderView::from)
+            .or(() -> fields.containsAll(OrderField.ALL)
+                ? orderRepository.findViewById(orderId)
+                : orderRepository.findViewById(orderId, fields))
+            .or(() -> archivedOrderRepository.findById(orderId).map(archived -> OrderView.from(archived.toOrder())))
+            .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+
+    /**
+     * 전체 주문 조회 (조회 전용 프로젝션, id 순서)
+     * 샤딩 사용 시 샤드별로 병렬 조회한 뒤 id 순서로 병합한다.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderView> getAllOrderViews(Set<OrderField> fields) {
+        List<OrderView> views = shards
+            .map(router -> router.scatterMerge(() -> findAllViews(fields), Comparator.comparing(OrderView::id), 0))
+            .orElseGet(() -> findAllViews(fields));
+        if (writeBehindStore.isEmpty()) {
+            return views;
+        }
+
+        // 아직 DB에 반영되지 않은 전이 결과를 덮어쓴다
+        Map<String, OrderView> merged = new LinkedHashMap<>();
+        views.forEach(view -> merged.put(view.id(), view));
+        writeBehindStore.get().stagedOrders().forEach(order -> merged.put(order.getId(), OrderView.from(order)));
+        return List.copyOf(merged.values());
+    }
+
+    /**
+     * 주문 버전 조회 (엔티티를 로드하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(String orderId) {
+        shards.ifPresent(router -> router.bind(orderId));
+        readReplicas.ifPresent(router -> router.pinPrimaryIfRecentlyWritten(orderId));
+        return writeBehindStore.flatMap(store -> store.find(orderId)).map(Order::getVersion)
+            .or(() -> orderRepository.findVersionById(orderId))
+            .or(() -> archivedOrderRepository.findVersionById(orderId));
+    }
+
     /**
      * 전체 주문 조회
      */
     @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+        List<Order> orders = shards
+            .map(router -> router.scatterMerge(
+                () -> orderRepository.findAll(Sort.by("id")), Comparator.comparing(Order::getId), 0))
+            .orElseGet(orderRepository::findAll);
+        if (writeBehindStore.isEmpty()) {
+            return orders;
+        }
+
+        // 아직 DB에 반영되지 않은 전이 결과를 덮어쓴다
+        Map<String, Order> merged = new LinkedHashMap<>();
+        orders.forEach(order -> merged.put(order.getId(), order));
+        writeBehindStore.get().stagedOrders().forEach(order -> merged.put(order.getId(), order));
+        return List.copyOf(merged.values());
+    }
+
+    /**
+     * 상태별 주문 수 (DB에 반영된 주문 기준, 보관 주문 제외)
+     * 샤딩 사용 시 샤드별 집계를 병렬로 조회해 합친다.
+     */
+    @Transactional(readOnly = true)
+    public Map<OrderStatus, Long> getStatusCounts() {
+        List<List<OrderStatusCount>> partials = shards
+            .map(router -> router.scatter(orderRepository::countByStatus))
+            .orElseGet(() -> List.of(orderRepository.countByStatus()));
+
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        partials.forEach(partial -> partial.forEach(count -> counts.merge(count.status(), count.count(), Long::sum)));
+        return counts;
     }
 
     /**
      * 결제 처리
      */
-    @Transactional
     public Order pay(String orderId) {
-        Order order = getOrder(orderId);
-        log.info("===== 결제 시작 - orderId: {}, 현재 상태: {} =====", orderId, order.getStatus());
-
-        sendEvent(order, OrderEvent.PAY);
-
-        Order updatedOrder = orderRepository.save(order);
-        log.info("===== 결제 완료 - orderId: {}, 변경된 상태: {} =====", orderId, updatedOrder.getStatus());
-
-        return updatedOrder;
+        return transition(orderId, OrderEvent.PAY).orElseThrow();
     }
 
     /**
      * 배송 시작
      */
-    @Transactional
     public Order ship(String orderId) {
-        Order order = getOrder(orderId);
-        log.info("===== 배송 시작 - orderId: {}, 현재 상태: {} =====", orderId, order.getStatus());
-
-        sendEvent(order, OrderEvent.SHIP);
-
-        Order updatedOrder = orderRepository.save(order);
-        log.info("===== 배송 처리 완료 - orderId: {}, 변경된 상태: {} =====", orderId, updatedOrder.getStatus());
-
-        return updatedOrder;
+        return transition(orderId, OrderEvent.SHIP).orElseThrow();
     }
 
     /**
      * 배송 완료
      */
-    @Transactional
     public Order deliver(String orderId) {
-        Order order = getOrder(orderId);
-        log.info("===== 배송 완료 처리 - orderId: {}, 현재 상태: {} =====", orderId, order.getStatus());
-
-        sendEvent(order, OrderEvent.DELIVER);
-
-        Order updatedOrder = orderRepository.save(order);
-        log.info("===== 배송 완료 - orderId: {}, 변경된 상태: {} =====", orderId, updatedOrder.getStatus());
-
-        return updatedOrder;
+        return transition(orderId, OrderEvent.DELIVER).orElseThrow();
     }
 
     /**
      * 주문 취소
      */
-    @Transactional
     public Order cancel(String orderId) {
-        Order order = getOrder(orderId);
-        log.info("===== 주문 취소 시작 - orderId: {}, 현재 상태: {} =====", orderId, order.getStatus());
-
-        sendEvent(order, OrderEvent.CANCEL);
-        order.markAsCancelled();
-
-        Order updatedOrder = orderRepository.save(order);
-        log.info("===== 주문 취소 완료 - orderId: {}, 변경된 상태: {} =====", orderId, updatedOrder.getStatus());
-
-        return updatedOrder;
+        return transition(orderId, OrderEvent.CANCEL).orElseThrow();
     }
 
     /**
      * 반품 처리
      */
-    @Transactional
     public Order returnOrder(String orderId) {
-        Order order = getOrder(orderId);
-        log.info("===== 반품 처리 시작 - orderId: {}, 현재 상태: {} =====", orderId, order.getStatus());
-
-        sendEvent(order, OrderEvent.RETURN);
-        order.markAsReturned();
+        return transition(orderId, OrderEvent.RETURN).orElseThrow();
+    }
 
-        Order updatedOrder = orderRepository.save(order);
-        log.info("===== 반품 완료 - orderId: {}, 변경된 상태: {} =====", orderId, updatedOrder.getStatus());
+    /**
+     * 이벤트로 전이
+     * 처리할 수 없거나 Guard에 막힌 이벤트는 예외 없이 거부 결과로 반환하며, 이때는 아무것도 저장하지 않는다.
+     */
+    public TransitionResult transition(String orderId, OrderEvent event) {
+        return transition(orderId, event, order -> true);
+    }
 
-        return updatedOrder;
+    /**
+     * 조건부 전이
+     * 트랜잭션 안에서 로드한 주문이 precondition(예: If-Match 버전 비교)을 만족할 때만 이벤트를 보낸다.
+     *
+     * 주문 락은 트랜잭션(DB 커넥션)을 열기 전에 획득하고 트랜잭션이 끝난 뒤 해제하여,
+     * 락을 기다리는 요청이 커넥션 풀을 점유하지 않게 한다.
+     * 호출자의 트랜잭션(배치 청크 등)에 참여하는 경우에는 그 안에서 획득하고 트랜잭션 종료 시 해제한다.
+     */
+    public TransitionResult transition(String orderId, OrderEvent event, Predicate<Order> precondition) {
+        if (orderLock.isEmpty() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return executeTransition(orderId, event, precondition, null);
+        }
+        RedisOrderLock lock = orderLock.get();
+        OrderLockHandle handle = lock.acquire(orderId);
+        try {
+            return executeTransition(orderId, event, precondition, handle);
+        } finally {
+            lock.release(handle);
+        }
     }
 
     /**
      * 현재 상태에서 가능한 이벤트 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<OrderEvent> getAvailableEvents(String orderId) {
-        Order order = getOrder(orderId);
-        StateMachine<OrderStatus, OrderEvent> sm = acquireStateMachine(order);
+        return getAvailableEvents(getOrder(orderId));
+    }
 
-        return sm.getTransitions().stream()
-            .filter(t -> t.getSource().getId() == order.getStatus())
-            .map(t -> t.getTrigger().getEvent())
-            .distinct()
-            .toList();
+    /**
+     * 이미 조회한 주문의 현재 상태에서 가능한 이벤트 목록 조회 (DB 조회 없음)
+     */
+    public List<OrderEvent> getAvailableEvents(Order order) {
+        StateMachine<OrderStatus, OrderEvent> sm = stateMachineFor(order.getId());
+
+        synchronized (sm) {
+            acquireStateMachine(sm, order, null);
+            return sm.getTransitions().stream()
+                .filter(t -> t.getSource().getId() == order.getStatus())
+                .map(t -> t.getTrigger().getEvent())
+                .distinct()
+                .toList();
+        }
     }
 
     // === Private Methods ===
 
-    private void sendEvent(Order order, OrderEvent event) {
-        StateMachine<OrderStatus, OrderEvent> sm = acquireStateMachine(order);
+    /**
+     * 트랜잭션 안에서 전이
+     * 거부된 전이는 펜싱 토큰 기록까지 롤백한다. (호출자의 트랜잭션에 참여한 경우는 호출자에게 맡긴다)
+     *
+     * @param lockHandle 트랜잭션 밖에서 미리 획득한 주문 락 (없으면 락 사용 시 트랜잭션 안에서 획득)
+     */
+    private TransitionResult executeTransition(String orderId, OrderEvent event, Predicate<Order> precondition,
+                                               OrderLockHandle lockHandle) {
+        return transactionTemplate.execute(status -> {
+            TransitionResult result = transitionInTransaction(orderId, event, precondition, lockHandle);
+            if (result.outcome() != TransitionResult.Outcome.ACCEPTED && status.isNewTransaction()) {
+                status.setRollbackOnly();
+            }
+            return result;
+        });
+    }
 
-        Message<OrderEvent> message = MessageBuilder
-            .withPayload(event)
-            .setHeader("orderId", order.getId())
-            .build();
+    private TransitionResult transitionInTransaction(String orderId, OrderEvent event, Predicate<Order> precondition,
+                                                     OrderLockHandle lockHandle) {
+        shards.ifPresent(router -> router.bind(orderId));
+        Order order = loadForTransition(orderId, lockHandle);
+        OrderStatus source = order.getStatus();
+        if (!precondition.test(order)) {
+            return new TransitionResult(TransitionResult.Outcome.PRECONDITION_FAILED, order, source, event);
+        }
+        log.info("===== {} 시작 - orderId: {}, 현재 상태: {} =====", event.getDescription(), orderId, source);
+
+        // 섀도 비교 대상이면 Action이 바꾸기 전의 주문을 복사해 둔다 (비교는 트랜잭션이 끝난 뒤 큐에 들어간다)
+        Order shadowInput = shadow.filter(ShadowComparator::sample).map(comparator -> order.toBuilder().build()).orElse(null);
+        TransitionResult.Outcome outcome = sendEvent(order, event);
+        if (shadowInput != null) {
+            shadow.get().submit(shadowInput, event, outcome == TransitionResult.Outcome.ACCEPTED
+                ? ShadowDecision.accepted(order.getStatus())
+                : ShadowDecision.rejected(source));
+        }
+        if (outcome != TransitionResult.Outcome.ACCEPTED) {
+            log.info("===== {} 거부 - orderId: {}, 현재 상태: {}, 결과: {} =====",
+                event.getDescription(), orderId, source, outcome);
+            return new TransitionResult(outcome, order, source, event);
+        }
+
+        switch (event) {
+            case CANCEL -> order.markAsCancelled();
+            case RETURN -> order.markAsReturned();
+            default -> { }
+        }
+        order.increaseVersion();
+
+        Order updatedOrder = saveTransition(order, source, event);
+        readReplicas.ifPresent(router -> router.recordWrite(orderId));
+        log.info("===== {} 완료 - orderId: {}, 변경된 상태: {} =====", event.getDescription(), orderId, updatedOrder.getStatus());
+
+        return new TransitionResult(TransitionResult.Outcome.ACCEPTED, updatedOrder, source, event);
+    }
+
+    private List<OrderView> findAllViews(Set<OrderField> fields) {
+        return fields.containsAll(OrderField.ALL)
+            ? orderRepository.findAllViews()
+            : orderRepository.findAllViews(fields);
+    }
+
+    /**
+     * 주문 ID 생성
+     * 클러스터 모드에서는 현재 노드가 소유하는 ID를 골라 생성 직후의 요청이 다른 노드로 전달되지 않게 한다.
+     */
+    private String newOrderId() {
+        String orderId;
+        int attempts = 0;
+        do {
+            orderId = "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        } while (orderOwnership.isPresent() && !orderOwnership.get().isLocal(orderId) && ++attempts < 64);
+        return orderId;
+    }
+
+    /**
+     * 전이 대상 주문 로드
+     * Write-Behind 모드에서는 영속성 컨텍스트 밖의 복사본을 사용하여
+     * 트랜잭션 커밋 시 dirty checking으로 동기 UPDATE가 발생하지 않도록 한다.
+     */
+    private Order loadForTransition(String orderId, OrderLockHandle lockHandle) {
+        Optional<Long> fencingToken = orderLock.map(lock -> lockHandle != null
+            ? advanceFencingToken(lockHandle)
+            : lockForTransition(lock, orderId));
+
+        Order order = findActiveOrder(orderId)
+            .orElseThrow(() -> archivedOrderRepository.existsById(orderId)
+                ? new InvalidStateTransitionException("보관된 주문은 변경할 수 없습니다: " + orderId)
+                : new OrderNotFoundException(orderId));
+        Order target = writeBehindStore.isPresent() ? order.toBuilder().build() : order;
+        fencingToken.ifPresent(target::assignFencingToken);
+        return target;
+    }
 
-        var result = sm.sendEvent(Mono.just(message)).blockLast();
+    /**
+     * 호출자의 트랜잭션 안에서 주문 락 획득 후 펜싱 토큰 기록
+     * 락은 트랜잭션이 끝난 뒤 해제하여 다음 보유자가 커밋된 상태를 읽도록 한다.
+     */
+    private long lockForTransition(RedisOrderLock lock, String orderId) {
+        OrderLockHandle handle = lock.acquire(orderId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.release(handle);
+            }
+        });
+        return advanceFencingToken(handle);
+    }
+
+    /**
+     * 펜싱 토큰 기록
+     * 락이 만료된 뒤 늦게 진행하는 보유자는 DB의 더 큰 토큰에 막혀 쓰지 못한다.
+     */
+    private long advanceFencingToken(OrderLockHandle handle) {
+        String orderId = handle.orderId();
+        if (orderRepository.advanceFencingToken(orderId, handle.fencingToken()) == 0
+                && orderRepository.existsById(orderId)) {
+            throw new OrderLockException(
+                "더 새로운 락 보유자가 주문을 변경했습니다: " + orderId + " (fencingToken=" + handle.fencingToken() + ")");
+        }
+        return handle.fencingToken();
+    }
+
+    private Optional<Order> findActiveOrder(String orderId) {
+        return writeBehindStore.flatMap(store -> store.find(orderId))
+            .or(() -> orderRepository.findById(orderId));
+    }
+
+    /**
+     * 전이 결과 저장
+     * Write-Behind 모드에서는 메모리 테이블 + WAL에 반영하고 DB 저장은 백그라운드로 미룬다.
+     */
+    private Order saveTransition(Order order, OrderStatus source, OrderEvent event) {
+        long started = profiler.start();
+        if (writeBehindStore.isPresent()) {
+            writeBehindStore.get().stage(order);
+            profiler.stop(ProfiledSection.PERSISTENCE, "writeBehindStage", source, event, started);
+            return order;
+        }
+        Order saved = orderRepository.save(order);
+        profiler.stop(ProfiledSection.PERSISTENCE, "jpaSave", source, event, started);
+        profileCommit(source, event);
+        return saved;
+    }
 
-        if (result == null || result.getResultType() != StateMachineEventResult.ResultType.ACCEPTED) {
-            throw new InvalidStateTransitionException(
-                String.format("이벤트 [%s]을(를) 처리할 수 없습니다. 현재 상태: [%s]",
-                    event.name(), order.getStatus().name()));
+    /**
+     * 관리 중인 엔티티의 UPDATE는 커밋 시점에 flush되므로 커밋 구간을 따로 기록한다.
+     */
+    private void profileCommit(OrderStatus source, OrderEvent event) {
+        if (!profiler.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                started = profiler.start();
+            }
+
+            @Override
+            public void afterCommit() {
+                profiler.stop(ProfiledSection.PERSISTENCE, "jpaCommit", source, event, started);
+            }
+        });
+    }
 
-        // 상태 머신의 현재 상태를 엔티티에 반영
-        order.updateStatus(sm.getState().getId());
+    /**
+     * 이벤트 전송 후 머신 상태를 주문에 반영
+     * Guard가 거부한 이벤트도 머신은 ACCEPTED로 응답하므로 상태가 바뀌지 않았으면 GUARD_DENIED로 판단한다.
+     */
+    private TransitionResult.Outcome sendEvent(Order order, OrderEvent event) {
+        StateMachine<OrderStatus, OrderEvent> sm = stateMachineFor(order.getId());
+        OrderStatus source = order.getStatus();
+        OrderTransitionJfrEvent transitionEvent = OrderFlightEvents.beginTransition();
+        TransitionResult.Outcome outcome = TransitionResult.Outcome.REJECTED;
+
+        // 소유 노드 캐시의 머신은 요청 간에 공유되므로 머신 단위로 직렬화한다
+        synchronized (sm) {
+            try {
+                long acquireStarted = profiler.start();
+                acquireStateMachine(sm, order, event);
+                profiler.stop(ProfiledSection.MACHINE, "resetAndStart", source, event, acquireStarted);
+
+                Message<OrderEvent> message = MessageBuilder
+                    .withPayload(event)
+                    .setHeader("orderId", order.getId())
+                    .build();
+
+                var result = sm.sendEvent(Mono.just(message)).blockLast();
+
+                if (result == null || result.getResultType() != StateMachineEventResult.ResultType.ACCEPTED) {
+                    OrderFlightEvents.rejected(order.getId(), source, event,
+                        result != null ? result.getResultType().name() : "NO_RESULT");
+                    return outcome;
+                }
+
+                // 상태 머신의 현재 상태를 엔티티에 반영
+                order.updateStatus(sm.getState().getId());
+                if (order.getStatus() == source) {
+                    OrderFlightEvents.rejected(order.getId(), source, event, "GUARD_DENIED");
+                    outcome = TransitionResult.Outcome.GUARD_DENIED;
+                } else {
+                    outcome = TransitionResult.Outcome.ACCEPTED;
+                }
+                return outcome;
+            } finally {
+                OrderFlightEvents.endTransition(transitionEvent, order.getId(), source, order.getStatus(), event,
+                    outcome == TransitionResult.Outcome.ACCEPTED);
+            }
+        }
     }
 
-    private StateMachine<OrderStatus, OrderEvent> acquireStateMachine(Order order) {
-        StateMachine<OrderStatus, OrderEvent> sm =
-            stateMachineFactory.getStateMachine(order.getId());
+    private StateMachine<OrderStatus, OrderEvent> stateMachineFor(String orderId) {
+        return ownedStateMachines
+            .map(cache -> cache.get(orderId, stateMachineFactory::getStateMachine))
+            .orElseGet(() -> stateMachineFactory.getStateMachine(orderId));
+    }
 
-        // 현재 주문 상태로 State Machine 초기화
-        sm.stopReactively().block();
-        sm.getStateMachineAccessor()
-            .doWithAllRegions(accessor -> accessor
-                .resetStateMachineReactively(
-                    new org.springframework.statemachine.support.DefaultStateMachineContext<>(
-                        order.getStatus(), null, null, null))
-                .block());
-        sm.startReactively().block();
+    /**
+     * @param event 보낼 이벤트 (JFR 기록용, 이벤트 목록 조회 시 null)
+     */
+    private void acquireStateMachine(StateMachine<OrderStatus, OrderEvent> sm, Order order, OrderEvent event) {
+        MachineAcquireJfrEvent acquireEvent = OrderFlightEvents.beginAcquire();
+
+        // 캐시된 머신이 이미 주문 상태에 있으면 재초기화를 생략한다 (캐시에서 정리되어 멈춘 머신은 다시 초기화)
+        boolean running = !(sm instanceof Lifecycle lifecycle) || lifecycle.isRunning();
+        boolean inSync = running && sm.getState() != null && sm.getState().getId() == order.getStatus() && !sm.isComplete();
+        if (!inSync) {
+            // 현재 주문 상태로 State Machine 초기화
+            sm.stopReactively().block();
+            sm.getStateMachineAccessor()
+                .doWithAllRegions(accessor -> accessor
+                    .resetStateMachineReactively(
+                        new org.springframework.statemachine.support.DefaultStateMachineContext<>(
+                            order.getStatus(), null, null, null))
+                    .block());
+            sm.startReactively().block();
+        }
 
         // ExtendedState에 주문 정보 저장 (Guard/Action에서 사용)
         sm.getExtendedState().getVariables().put("order", order);
-
-        return sm;
+        OrderFlightEvents.endAcquire(acquireEvent, order.getId(), order.getStatus(), event, !inSync);
     }
 }
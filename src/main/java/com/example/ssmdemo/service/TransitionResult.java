@@ -0,0 +1,59 @@
+package com.example.ssmdemo.service;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.exception.InvalidStateTransitionException;
+
+/**
+ * 전이 결과
+ * 중복/지연 이벤트처럼 예상된 거부를 예외 없이 값으로 돌려준다.
+ *
+ * @param outcome 처리 결과
+ * @param order   전이 후 주문 (거부됐으면 현재 주문)
+ * @param source  전이 전 상태
+ * @param event   보낸 이벤트
+ */
+public record TransitionResult(Outcome outcome, Order order, OrderStatus source, OrderEvent event) {
+
+    public enum Outcome {
+        /** 전이 완료 */
+        ACCEPTED,
+        /** 현재 상태에서 처리할 수 없는 이벤트 */
+        REJECTED,
+        /** 전이는 있으나 Guard 조건을 만족하지 않음 */
+        GUARD_DENIED,
+        /** 호출자가 기대한 버전(If-Match)과 현재 주문이 다름 */
+        PRECONDITION_FAILED
+    }
+
+    public boolean isAccepted() {
+        return outcome == Outcome.ACCEPTED;
+    }
+
+    public OrderStatus status() {
+        return order.getStatus();
+    }
+
+    public String message() {
+        return switch (outcome) {
+            case ACCEPTED -> String.format("이벤트 [%s] 처리 완료. 현재 상태: [%s]", event.name(), status().name());
+            case REJECTED -> String.format("이벤트 [%s]을(를) 처리할 수 없습니다. 현재 상태: [%s]",
+                event.name(), status().name());
+            case GUARD_DENIED -> String.format("이벤트 [%s]이(가) 전이 조건을 만족하지 않습니다. 현재 상태: [%s]",
+                event.name(), status().name());
+            case PRECONDITION_FAILED -> String.format("주문이 변경되어 이벤트 [%s]을(를) 보내지 않았습니다. 현재 버전: [%d]",
+                event.name(), order.getVersion());
+        };
+    }
+
+    /**
+     * 전이된 주문을 반환하고, 거부됐으면 {@link InvalidStateTransitionException}을 던진다.
+     */
+    public Order orElseThrow() {
+        if (!isAccepted()) {
+            throw new InvalidStateTransitionException(message());
+        }
+        return order;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.ssmdemo.shadow;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * 기존(State Machine 도입 전) 방식의 상태 계산
+ * 상태와 이벤트 조합을 분기문으로 직접 판단한다.
+ */
+@Component
+public class LegacyOrderStatusCalculator implements ShadowDecisionEngine {
+
+    public static final String NAME = "legacy";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public ShadowDecision decide(Order order, OrderEvent event) {
+        OrderStatus status = order.getStatus();
+        OrderStatus next = switch (status) {
+            case CREATED -> switch (event) {
+                case PAY -> isPayable(order) ? OrderStatus.PAID : null;
+                case CANCEL -> OrderStatus.CANCELLED;
+                default -> null;
+            };
+            case PAID -> switch (event) {
+                case SHIP -> OrderStatus.SHIPPED;
+                case CANCEL -> order.getShippedAt() == null ? OrderStatus.CANCELLED : null;
+                default -> null;
+            };
+            case SHIPPED -> event == OrderEvent.DELIVER ? OrderStatus.DELIVERED : null;
+            case DELIVERED -> event == OrderEvent.RETURN ? OrderStatus.RETURNED : null;
+            case CANCELLED, RETURNED -> null;
+        };
+        return next != null ? ShadowDecision.accepted(next) : ShadowDecision.rejected(status);
+    }
+
+    private boolean isPayable(Order order) {
+        return order.getTotalAmount() != null
+            && order.getTotalAmount().compareTo(BigDecimal.ZERO) > 0
+            && order.getPaymentMethod() != null
+            && !order.getPaymentMethod().isBlank();
+    }
+}
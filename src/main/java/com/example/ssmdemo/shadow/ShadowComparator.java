@@ -0,0 +1,198 @@
+package com.example.ssmdemo.shadow;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 전이 결정 섀도 비교 (마이그레이션 Phase 2 병행 운영)
+ *
+ * OrderService가 sampleRate 비율로 뽑은 이벤트의 전이 전 주문 복사본과 주 경로의 결정을 넘기면,
+ * 제한된 크기의 큐를 거쳐 작업자 스레드에서 섀도 엔진으로 같은 이벤트를 결정하고
+ * 수락 여부와 결과 상태를 비교한다.
+ * - 요청 스레드는 샘플링, 복사, 큐 추가만 하며 큐가 가득 차면 기다리지 않고 버린다. (orders.shadow.dropped)
+ * - 트랜잭션 안에서 넘긴 결정은 트랜잭션이 끝난 뒤 큐에 넣는다. 수락된 전이가 롤백되면 그 결정은 반영되지 않았으므로
+ *   비교하지 않고 따로 센다. (orders.shadow.rollbacks, 거부 결정은 원래 롤백되므로 그대로 비교)
+ * - 섀도 엔진의 예외는 불일치와 따로 센다. (orders.shadow.compared{result=error})
+ * - 불일치는 최근 mismatchCapacity건만 메모리에 보관한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ShadowProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.shadow.enabled", havingValue = "true")
+public class ShadowComparator implements AutoCloseable {
+
+    private final ShadowProperties properties;
+    private final ShadowDecisionEngine engine;
+    private final ThreadPoolExecutor workers;
+    private final Deque<ShadowMismatch> mismatches;
+
+    private final Counter sampled;
+    private final Counter dropped;
+    private final Counter rolledBack;
+    private final Counter matched;
+    private final Counter mismatched;
+    private final Counter errors;
+
+    public ShadowComparator(ShadowProperties properties, List<ShadowDecisionEngine> engines, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.engine = engines.stream()
+            .filter(candidate -> candidate.name().equals(properties.engine()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("알 수 없는 섀도 엔진입니다: ssm-demo.shadow.engine="
+                + properties.engine() + " (사용 가능: "
+                + engines.stream().map(ShadowDecisionEngine::name).collect(Collectors.joining(", ")) + ")"));
+        this.mismatches = new ArrayDeque<>(properties.mismatchCapacity());
+        this.sampled = counter(meterRegistry, "orders.shadow.sampled", "Events sampled for shadow comparison", null);
+        this.dropped = counter(meterRegistry, "orders.shadow.dropped", "Sampled events dropped because the shadow queue was full", null);
+        this.rolledBack = counter(meterRegistry, "orders.shadow.rollbacks",
+            "Sampled accepted transitions not compared because their transaction rolled back", null);
+        this.matched = counter(meterRegistry, "orders.shadow.compared", "Shadow comparisons by result", "match");
+        this.mismatched = counter(meterRegistry, "orders.shadow.compared", "Shadow comparisons by result", "mismatch");
+        this.errors = counter(meterRegistry, "orders.shadow.compared", "Shadow comparisons by result", "error");
+
+        int threads = Math.max(1, properties.workers());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity())),
+            task -> {
+                Thread thread = new Thread(task, "shadow-compare-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            (task, executor) -> dropped.increment());
+
+        Gauge.builder("orders.shadow.queue.size", workers, executor -> executor.getQueue().size())
+            .description("Sampled events waiting for shadow comparison")
+            .tag("engine", engine.name())
+            .register(meterRegistry);
+        log.info("[Shadow] 섀도 비교 사용 - engine={}, sampleRate={}", engine.name(), properties.sampleRate());
+    }
+
+    /**
+     * 이번 이벤트를 비교할지 (요청 스레드에서 주문 복사 전에 호출)
+     */
+    public boolean sample() {
+        double rate = properties.sampleRate();
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * 비교 요청 (기다리지 않으며 큐가 가득 차면 버린다, 트랜잭션 안이면 트랜잭션이 끝난 뒤 큐에 넣는다)
+     *
+     * @param order   전이 전 주문의 복사본 (이후 변경되지 않아야 한다)
+     * @param primary 주 경로의 결정
+     */
+    public void submit(Order order, OrderEvent event, ShadowDecision primary) {
+        sampled.increment();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            workers.execute(() -> compare(order, event, primary));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (primary.accepted() && status != STATUS_COMMITTED) {
+                    rolledBack.increment();
+                    return;
+                }
+                workers.execute(() -> compare(order, event, primary));
+            }
+        });
+    }
+
+    public ShadowStats stats() {
+        return new ShadowStats((long) sampled.count(), (long) dropped.count(), (long) rolledBack.count(),
+            (long) matched.count(), (long) mismatched.count(), (long) errors.count(), workers.getQueue().size());
+    }
+
+    /**
+     * 최근 불일치 (최신 순)
+     */
+    public List<ShadowMismatch> mismatches(int limit) {
+        synchronized (mismatches) {
+            return mismatches.stream().limit(Math.max(0, limit)).toList();
+        }
+    }
+
+    public void clearMismatches() {
+        synchronized (mismatches) {
+            mismatches.clear();
+        }
+    }
+
+    public String engineName() {
+        return engine.name();
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    // === Private Methods ===
+
+    private void compare(Order order, OrderEvent event, ShadowDecision primary) {
+        OrderStatus source = order.getStatus();
+        ShadowDecision shadow;
+        try {
+            shadow = engine.decide(order, event);
+        } catch (RuntimeException e) {
+            errors.increment();
+            record(new ShadowMismatch(order.getId(), event, source, primary, null, engine.name(),
+                e.getClass().getSimpleName() + ": " + e.getMessage(), LocalDateTime.now()));
+            return;
+        }
+
+        if (shadow.equals(primary)) {
+            matched.increment();
+            return;
+        }
+        mismatched.increment();
+        record(new ShadowMismatch(order.getId(), event, source, primary, shadow, engine.name(), null, LocalDateTime.now()));
+    }
+
+    private void record(ShadowMismatch mismatch) {
+        log.warn("[Shadow] 결정 불일치 - orderId={}, event={}, source={}, primary={}, {}={}{}",
+            mismatch.orderId(), mismatch.event(), mismatch.source(), mismatch.primary(), mismatch.engine(),
+            mismatch.shadow(), mismatch.error() != null ? ", error=" + mismatch.error() : "");
+        synchronized (mismatches) {
+            if (mismatches.size() >= properties.mismatchCapacity()) {
+                mismatches.pollLast();
+            }
+            if (properties.mismatchCapacity() > 0) {
+                mismatches.addFirst(mismatch);
+            }
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String name, String description, String result) {
+        Counter.Builder builder = Counter.builder(name)
+            .description(description)
+            .tag("engine", engine.name());
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        return builder.register(meterRegistry);
+    }
+}
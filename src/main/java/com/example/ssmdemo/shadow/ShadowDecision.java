@@ -0,0 +1,20 @@
+package com.example.ssmdemo.shadow;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+/**
+ * 전이 결정
+ *
+ * @param accepted 이벤트를 받아들였는지 (처리할 수 없는 이벤트, Guard 거부는 false)
+ * @param target   결정 후 상태 (거부면 원래 상태)
+ */
+public record ShadowDecision(boolean accepted, OrderStatus target) {
+
+    public static ShadowDecision accepted(OrderStatus target) {
+        return new ShadowDecision(true, target);
+    }
+
+    public static ShadowDecision rejected(OrderStatus source) {
+        return new ShadowDecision(false, source);
+    }
+}
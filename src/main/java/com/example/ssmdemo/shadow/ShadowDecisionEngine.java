@@ -0,0 +1,21 @@
+package com.example.ssmdemo.shadow;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+
+/**
+ * 섀도 비교용 전이 결정 엔진
+ *
+ * 주 경로(OrderService의 State Machine)와 같은 입력으로 결정만 계산한다.
+ * 비교 작업자 스레드에서 호출되므로 주문을 바꾸거나 부수 효과를 실행하면 안 된다.
+ * 빈으로 등록하면 ssm-demo.shadow.engine에 이름을 지정해 사용할 수 있다.
+ */
+public interface ShadowDecisionEngine {
+
+    String name();
+
+    /**
+     * @param order 전이 전 주문의 복사본
+     */
+    ShadowDecision decide(Order order, OrderEvent event);
+}
@@ -0,0 +1,29 @@
+package com.example.ssmdemo.shadow;
+
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주 경로와 섀도 엔진의 결정이 다른 이벤트
+ *
+ * @param orderId    주문 ID
+ * @param event      이벤트
+ * @param source     전이 전 상태
+ * @param primary    주 경로(State Machine)의 결정
+ * @param shadow     섀도 엔진의 결정 (엔진이 예외를 던졌으면 null)
+ * @param engine     섀도 엔진 이름
+ * @param error      섀도 엔진의 예외 (없으면 null)
+ * @param detectedAt 비교 시각
+ */
+public record ShadowMismatch(
+    String orderId,
+    OrderEvent event,
+    OrderStatus source,
+    ShadowDecision primary,
+    ShadowDecision shadow,
+    String engine,
+    String error,
+    LocalDateTime detectedAt
+) {}
@@ -0,0 +1,24 @@
+package com.example.ssmdemo.shadow;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 전이 결정 섀도 비교 설정 (마이그레이션 Phase 2 병행 운영)
+ *
+ * @param enabled          섀도 비교 사용 여부
+ * @param engine           비교할 결정 엔진 이름 ({@link ShadowDecisionEngine#name()}, 예: legacy, state-machine)
+ * @param sampleRate       비교할 이벤트 비율 (0~1)
+ * @param queueCapacity    비교 대기 큐 크기 (가득 차면 버리고 dropped로 집계)
+ * @param workers          비교 작업자 스레드 수
+ * @param mismatchCapacity 보관할 최근 불일치 수
+ */
+@ConfigurationProperties(prefix = "ssm-demo.shadow")
+public record ShadowProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("legacy") String engine,
+    @DefaultValue("0.01") double sampleRate,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("1") int workers,
+    @DefaultValue("1000") int mismatchCapacity
+) {}
@@ -0,0 +1,20 @@
+package com.example.ssmdemo.shadow;
+
+/**
+ * 섀도 비교 누적 통계
+ *
+ * @param sampled    비교 대상으로 뽑힌 이벤트 수
+ * @param dropped    큐가 가득 차 버린 이벤트 수
+ * @param rolledBack 수락됐지만 트랜잭션이 롤백되어 비교하지 않은 이벤트 수
+ * @param matched    결정이 같은 이벤트 수
+ * @param mismatched 결정이 다른 이벤트 수 (섀도 엔진 오류 제외)
+ * @param errors     섀도 엔진이 예외를 던진 이벤트 수
+ * @param queued     비교를 기다리는 이벤트 수
+ */
+public record ShadowStats(long sampled, long dropped, long rolledBack, long matched, long mismatched, long errors,
+                          int queued) {
+
+    public long compared() {
+        return matched + mismatched + errors;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.ssmdemo.shadow;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.statemachine.ExtendedState;
+import org.springframework.statemachine.StateContext;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.support.DefaultExtendedState;
+import org.springframework.statemachine.support.DefaultStateContext;
+import org.springframework.statemachine.transition.Transition;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State Machine 설정(OrderStateMachineConfig)의 전이 그래프와 Guard로 결정하는 엔진
+ *
+ * 머신을 시작하거나 이벤트를 보내지 않고, 원래 상태와 이벤트에 맞는 전이의 Guard를 설정 순서대로 평가한다.
+ * Action은 실행하지 않으므로 부수 효과 없이 결정만 계산한다.
+ * 주 경로의 캐시 머신 재사용/재초기화가 설정과 다른 결정을 내리는지 확인하는 데 쓴다.
+ */
+@Component
+public class StateMachineDecisionEngine implements ShadowDecisionEngine {
+
+    public static final String NAME = "state-machine";
+
+    private final StateMachine<OrderStatus, OrderEvent> machine;
+    private final Map<OrderStatus, Map<OrderEvent, List<Transition<OrderStatus, OrderEvent>>>> transitions =
+        new EnumMap<>(OrderStatus.class);
+
+    public StateMachineDecisionEngine(StateMachineFactory<OrderStatus, OrderEvent> stateMachineFactory) {
+        this.machine = stateMachineFactory.getStateMachine("shadow");
+        for (Transition<OrderStatus, OrderEvent> transition : machine.getTransitions()) {
+            if (transition.getTrigger() == null) {
+                continue;
+            }
+            transitions.computeIfAbsent(transition.getSource().getId(), status -> new EnumMap<>(OrderEvent.class))
+                .computeIfAbsent(transition.getTrigger().getEvent(), event -> new ArrayList<>())
+                .add(transition);
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public ShadowDecision decide(Order order, OrderEvent event) {
+        OrderStatus source = order.getStatus();
+        List<Transition<OrderStatus, OrderEvent>> candidates = transitions
+            .getOrDefault(source, Map.of())
+            .getOrDefault(event, List.of());
+
+        Message<OrderEvent> message = MessageBuilder.withPayload(event).setHeader("orderId", order.getId()).build();
+        ExtendedState extendedState = new DefaultExtendedState();
+        extendedState.getVariables().put("order", order);
+        for (Transition<OrderStatus, OrderEvent> transition : candidates) {
+            if (transition.getGuard() == null || Boolean.TRUE.equals(transition.getGuard()
+                    .apply(context(message, extendedState, transition))
+                    .block())) {
+                return ShadowDecision.accepted(transition.getTarget().getId());
+            }
+        }
+        return ShadowDecision.rejected(source);
+    }
+
+    private StateContext<OrderStatus, OrderEvent> context(Message<OrderEvent> message, ExtendedState extendedState,
+                                                          Transition<OrderStatus, OrderEvent> transition) {
+        return new DefaultStateContext<>(StateContext.Stage.TRANSITION, message, message.getHeaders(), extendedState,
+            transition, machine, transition.getSource(), transition.getTarget(), null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.ssmdemo.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 샤딩 설정 (opt-in)
+ *
+ * ssm-demo.shard.enabled=true 일 때 ssm-demo.shard.shards를 샤드 풀로 만들고
+ * 애플리케이션 DataSource를 샤드 라우팅 DataSource로 대체한다. (DataSourceAutoConfiguration은 물러남)
+ * Write-Behind(프로세스 메모리의 단일 반영 큐)와 읽기 복제본(단일 primary 가정)과는 함께 쓸 수 없다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.shard.enabled", havingValue = "true")
+public class ShardConfig {
+
+    private static final Set<String> SCHEMA_CREATING_ACTIONS = Set.of("create", "create-drop", "create-only");
+
+    @Bean(destroyMethod = "close")
+    public ShardRouter shardRouter(ShardProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        for (String incompatible : List.of("ssm-demo.write-behind.enabled", "ssm-demo.replica.enabled")) {
+            if (environment.getProperty(incompatible, Boolean.class, false)) {
+                throw new IllegalStateException("샤딩은 " + incompatible + "=true 와 함께 사용할 수 없습니다");
+            }
+        }
+
+        List<HikariDataSource> shards = properties.shards().stream()
+            .map(shard -> {
+                HikariDataSource pool = new HikariDataSource();
+                pool.setPoolName(shard.name());
+                pool.setJdbcUrl(shard.url());
+                pool.setUsername(shard.username());
+                pool.setPassword(shard.password());
+                pool.setMaximumPoolSize(shard.maxPoolSize());
+                return pool;
+            })
+            .toList();
+
+        return new ShardRouter(shards, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRouter shardRouter) {
+        return shardRouter.dataSource();
+    }
+
+    /**
+     * 나머지 샤드 스키마 생성
+     * Hibernate의 스키마 자동 생성은 기본 커넥션(첫 번째 샤드)에만 적용되므로,
+     * ddl-auto가 생성 계열이면 나머지 샤드에도 같은 매핑으로 테이블을 만든다.
+     */
+    @Bean
+    public SmartInitializingSingleton shardSchemaExporter(ShardRouter shardRouter,
+                                                          EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            Object action = entityManagerFactory.getProperties().get("hibernate.hbm2ddl.auto");
+            if (action == null || !SCHEMA_CREATING_ACTIONS.contains(action.toString())) {
+                return;
+            }
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            List<String> shards = shardRouter.shardNames();
+            for (String shard : shards.subList(1, shards.size())) {
+                shardRouter.callOn(shard, () -> {
+                    sessionFactory.getSchemaManager().exportMappedObjects(true);
+                    return null;
+                });
+                log.info("[Shard] 스키마 생성 - shard={}", shard);
+            }
+        };
+    }
+}
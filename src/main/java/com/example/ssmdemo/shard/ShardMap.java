@@ -0,0 +1,80 @@
+package com.example.ssmdemo.shard;
+
+import com.example.ssmdemo.cluster.ConsistentHashRing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버킷 → 샤드 맵 (불변)
+ *
+ * 주문 ID는 해시로 고정된 버킷에 속하고, 버킷이 어느 샤드에 있는지만 맵으로 관리한다.
+ * 샤드를 나눌 때는 버킷 단위로 행을 옮긴 뒤 맵만 바꾸므로 주문 ID는 그대로 유지된다.
+ */
+public final class ShardMap {
+
+    private final String[] owners;
+
+    ShardMap(String[] owners) {
+        this.owners = owners;
+    }
+
+    /**
+     * 버킷을 샤드 순서대로 연속 구간으로 나눈 초기 맵
+     */
+    static ShardMap initial(List<String> shards, int buckets) {
+        String[] owners = new String[buckets];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            owners[bucket] = shards.get((int) ((long) bucket * shards.size() / buckets));
+        }
+        return new ShardMap(owners);
+    }
+
+    public int bucketOf(String orderId) {
+        return (int) Long.remainderUnsigned(ConsistentHashRing.hash(orderId), owners.length);
+    }
+
+    public String shardOf(String orderId) {
+        return owners[bucketOf(orderId)];
+    }
+
+    public String ownerOf(int bucket) {
+        return owners[bucket];
+    }
+
+    public int buckets() {
+        return owners.length;
+    }
+
+    public List<Integer> bucketsOf(String shard) {
+        List<Integer> buckets = new ArrayList<>();
+        for (int bucket = 0; bucket < owners.length; bucket++) {
+            if (owners[bucket].equals(shard)) {
+                buckets.add(bucket);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * 샤드별 버킷 수
+     */
+    public Map<String, Integer> bucketCounts(List<String> shards) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        shards.forEach(shard -> counts.put(shard, 0));
+        for (String owner : owners) {
+            counts.merge(owner, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    ShardMap reassign(Collection<Integer> buckets, String target) {
+        String[] next = Arrays.copyOf(owners, owners.length);
+        buckets.forEach(bucket -> next[bucket] = target);
+        return new ShardMap(next);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.ssmdemo.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 테이블 샤딩 설정
+ *
+ * @param enabled        orders / orders_archive를 주문 ID 해시로 여러 DB에 나누어 저장할지 여부 (spring.datasource는 사용하지 않음)
+ * @param buckets        논리 버킷 수 (주문 ID 해시 % buckets → 버킷 → 샤드, 분할 단위이므로 처음 정한 뒤 바꾸지 않는다)
+ * @param lockTimeout    분할 중 잠긴 버킷의 주문을 기다리는 최대 시간 (초과 시 409)
+ * @param copyBatchSize  분할 시 한 번에 복사/삭제하는 행 수
+ * @param mapRefreshInterval 버킷 맵을 shard_map에서 다시 읽는 주기 (다른 인스턴스의 분할 반영)
+ * @param shards         샤드 커넥션 풀 목록 (첫 번째 샤드가 버킷 맵과 샤딩되지 않는 테이블을 가진다)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.shard")
+public record ShardProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("256") int buckets,
+    @DefaultValue("5s") Duration lockTimeout,
+    @DefaultValue("500") int copyBatchSize,
+    @DefaultValue("5s") Duration mapRefreshInterval,
+    @DefaultValue List<Shard> shards
+) {
+
+    /**
+     * @param name        샤드 이름 (버킷 맵과 메트릭 pool 태그)
+     * @param url         JDBC URL
+     * @param maxPoolSize 최대 커넥션 수
+     */
+    public record Shard(
+        String name,
+        String url,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("10") int maxPoolSize
+    ) {}
+}
@@ -0,0 +1,450 @@
+package com.example.ssmdemo.shard;
+
+import com.example.ssmdemo.exception.OrderLockException;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 주문 샤드 라우터
+ *
+ * dataSource()는 LazyConnectionDataSourceProxy로, 실제 커넥션이 필요한 시점에 현재 스레드에 바인딩된 샤드의 풀을 쓴다.
+ * (바인딩이 없으면 첫 번째 샤드 = 버킷 맵과 샤딩되지 않는 테이블의 위치)
+ *
+ * - 단건: bind(orderId)로 트랜잭션의 첫 쿼리 전에 주문의 샤드를 바인딩한다. 한 트랜잭션은 한 샤드만 사용한다.
+ * - 목록/통계: scatter()로 샤드마다 가상 스레드에서 병렬 조회하고, scatterMerge()는 정렬된 결과를 k-way 병합한다.
+ * - 분할: 버킷마다 공정 ReadWriteLock을 두어, bind()는 트랜잭션 동안 읽기 락을 잡고
+ *   ShardSplitter는 옮기는 버킷의 쓰기 락을 잡은 상태에서 차이를 반영하고 맵을 바꾼다.
+ *   분할 중에는 옮기는 버킷에 바인딩됐던 주문 ID를 트랜잭션이 끝날 때 기록해, 차이 반영이 바뀐 주문만 다시 복사하게 한다.
+ * - 다중 인스턴스: 버킷 맵은 mapRefreshInterval마다 shard_map에서 다시 읽어, 다른 인스턴스가 분할한 결과를 따라간다.
+ *   동결은 인스턴스 안의 락이므로 분할하는 동안 다른 인스턴스의 쓰기는 막지 못한다. (분할은 다른 인스턴스를 비운 뒤 실행)
+ */
+@Slf4j
+public class ShardRouter implements InitializingBean, AutoCloseable {
+
+    private static final ThreadLocal<String> BOUND_SHARD = new ThreadLocal<>();
+
+    private final Map<String, HikariDataSource> pools;
+    private final String directoryShard;
+    private final ShardProperties properties;
+    private final ReentrantReadWriteLock[] bucketLocks;
+    private final Set<String> splitting = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Set<String>> trackedChanges = new ConcurrentHashMap<>();
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Counter> routedCounters = new LinkedHashMap<>();
+    private final Timer scatterTimer;
+    private volatile ShardMap shardMap;
+
+    public ShardRouter(List<HikariDataSource> shardPools, ShardProperties properties, MeterRegistry meterRegistry) {
+        if (shardPools.isEmpty()) {
+            throw new IllegalStateException("ssm-demo.shard.shards가 비어 있습니다");
+        }
+        this.pools = new LinkedHashMap<>();
+        shardPools.forEach(pool -> pools.put(pool.getPoolName(), pool));
+        this.directoryShard = shardPools.get(0).getPoolName();
+        this.properties = properties;
+        this.bucketLocks = new ReentrantReadWriteLock[properties.buckets()];
+        for (int bucket = 0; bucket < bucketLocks.length; bucket++) {
+            bucketLocks[bucket] = new ReentrantReadWriteLock(true);
+        }
+
+        for (HikariDataSource pool : shardPools) {
+            pool.setMetricRegistry(meterRegistry);
+            routedCounters.put(pool.getPoolName(), Counter.builder("orders.shard.routed")
+                .description("Transactions bound to a shard by order ID")
+                .tag("shard", pool.getPoolName())
+                .register(meterRegistry));
+        }
+        this.scatterTimer = Timer.builder("orders.shard.scatter.duration")
+            .description("Duration of one scatter-gather query across all shards")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.shardMap = loadShardMap();
+        log.info("[Shard] 버킷 맵 로드 - {}", shardMap.bucketCounts(shardNames()));
+    }
+
+    /**
+     * 애플리케이션 DataSource (현재 바인딩된 샤드, 없으면 첫 번째 샤드)
+     */
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource());
+    }
+
+    public List<String> shardNames() {
+        return List.copyOf(pools.keySet());
+    }
+
+    public ShardMap shardMap() {
+        return shardMap;
+    }
+
+    public String shardOf(String orderId) {
+        return shardMap.shardOf(orderId);
+    }
+
+    /**
+     * 현재 트랜잭션을 주문의 샤드로 바인딩한다. 트랜잭션의 첫 쿼리 전에 호출해야 한다.
+     * 버킷의 읽기 락은 트랜잭션이 끝날 때 해제되며, 분할 중인 버킷이면 lockTimeout까지 기다린다.
+     */
+    public void bind(String orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("샤드 바인딩은 트랜잭션 안에서만 할 수 있습니다: " + orderId);
+        }
+        int bucket = shardMap.bucketOf(orderId);
+        Lock lock = bucketLocks[bucket].readLock();
+        if (!tryLock(lock)) {
+            throw new OrderLockException("샤드 분할 중인 주문입니다: " + orderId);
+        }
+
+        // 맵은 버킷 쓰기 락 안에서만 바뀌므로 읽기 락을 잡은 뒤의 소유 샤드는 트랜잭션 동안 유지된다
+        String shard = shardMap.ownerOf(bucket);
+        String bound = BOUND_SHARD.get();
+        if (bound != null && !bound.equals(shard)) {
+            lock.unlock();
+            throw new IllegalStateException(
+                "한 트랜잭션에서 여러 샤드를 사용할 수 없습니다: " + bound + ", " + shard + " (orderId=" + orderId + ")");
+        }
+        if (bound == null) {
+            BOUND_SHARD.set(shard);
+            routedCounters.get(shard).increment();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 락을 풀기 전에 기록해야 freeze 이후의 차이 반영이 이 트랜잭션의 변경을 놓치지 않는다
+                Set<String> changes = trackedChanges.get(bucket);
+                if (changes != null) {
+                    changes.add(orderId);
+                }
+                lock.unlock();
+                if (bound == null) {
+                    BOUND_SHARD.remove();
+                }
+            }
+        });
+    }
+
+    /**
+     * 여러 주문을 현재 트랜잭션에 바인딩한다. (모두 같은 샤드여야 한다)
+     * 분할의 freeze와 같은 버킷 번호 순서로 락을 잡아 서로 기다리며 멈추지 않게 한다.
+     */
+    public void bindAll(Collection<String> orderIds) {
+        ShardMap map = shardMap;
+        orderIds.stream()
+            .sorted(Comparator.comparingInt(map::bucketOf))
+            .forEach(this::bind);
+    }
+
+    /**
+     * 지정한 샤드에서 실행한다. (트랜잭션 밖에서 호출하고, 트랜잭션은 action 안에서 시작한다)
+     */
+    public <T> T callOn(String shard, Supplier<T> action) {
+        if (!pools.containsKey(shard)) {
+            throw new IllegalArgumentException("알 수 없는 샤드: " + shard);
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("진행 중인 트랜잭션 안에서는 샤드를 바꿀 수 없습니다: " + shard);
+        }
+        String previous = BOUND_SHARD.get();
+        BOUND_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                BOUND_SHARD.set(previous);
+            } else {
+                BOUND_SHARD.remove();
+            }
+        }
+    }
+
+    /**
+     * 모든 샤드에서 병렬 실행 (결과는 shardNames() 순서)
+     */
+    public <T> List<T> scatter(Supplier<T> query) {
+        long started = System.nanoTime();
+        List<Future<T>> futures = new ArrayList<>(pools.size());
+        for (String shard : pools.keySet()) {
+            futures.add(scatterExecutor.submit(() -> callOn(shard, query)));
+        }
+        try {
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 조회가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("샤드 조회 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            scatterTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 샤드별로 order 순서로 정렬된 결과를 병렬 조회한 뒤 k-way 병합한다.
+     *
+     * @param limit 최대 결과 수 (0 이하: 전체)
+     */
+    public <T> List<T> scatterMerge(Supplier<List<T>> query, Comparator<? super T> order, int limit) {
+        List<List<T>> partials = scatter(query);
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>((a, b) -> order.compare(a.head, b.head));
+        int total = 0;
+        for (List<T> partial : partials) {
+            total += partial.size();
+            if (!partial.isEmpty()) {
+                heads.add(new Cursor<>(partial));
+            }
+        }
+
+        int size = limit > 0 ? Math.min(limit, total) : total;
+        List<T> merged = new ArrayList<>(size);
+        while (merged.size() < size) {
+            Cursor<T> cursor = heads.poll();
+            merged.add(cursor.head);
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * shard_map을 다시 읽어 다른 인스턴스가 바꾼 버킷 소유 샤드를 반영한다.
+     * 바뀐 버킷을 동결해 이전 샤드에 바인딩된 트랜잭션이 끝난 뒤 맵을 바꾸며, 동결하지 못하면 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(initialDelayString = "${ssm-demo.shard.map-refresh-interval:5s}",
+               fixedDelayString = "${ssm-demo.shard.map-refresh-interval:5s}")
+    public void refreshShardMap() {
+        ShardMap loaded;
+        try {
+            loaded = loadShardMap();
+        } catch (RuntimeException e) {
+            log.warn("[Shard] 버킷 맵 갱신 실패: {}", e.getMessage());
+            return;
+        }
+        List<Integer> changed = new ArrayList<>();
+        for (int bucket = 0; bucket < loaded.buckets(); bucket++) {
+            if (!loaded.ownerOf(bucket).equals(shardMap.ownerOf(bucket))) {
+                changed.add(bucket);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            freeze(changed);
+        } catch (OrderLockException e) {
+            log.warn("[Shard] 버킷 맵 갱신 보류 - {}", e.getMessage());
+            return;
+        }
+        try {
+            // 동결을 기다리는 사이 이 인스턴스의 분할이 맵을 바꿨을 수 있으므로 바뀐 버킷만 새 소유 샤드로 옮긴다
+            Map<String, List<Integer>> targets = new LinkedHashMap<>();
+            changed.forEach(bucket -> targets.computeIfAbsent(loaded.ownerOf(bucket), shard -> new ArrayList<>()).add(bucket));
+            ShardMap current = shardMap;
+            for (Map.Entry<String, List<Integer>> target : targets.entrySet()) {
+                current = current.reassign(target.getValue(), target.getKey());
+            }
+            shardMap = current;
+        } finally {
+            unfreeze(changed);
+        }
+        log.info("[Shard] 버킷 맵 갱신 - 변경 버킷={}, {}", changed.size(), shardMap.bucketCounts(shardNames()));
+    }
+
+    /**
+     * 분할 중인 원본 샤드 (보관 작업은 분할이 끝날 때까지 이 샤드를 건너뛴다)
+     */
+    public boolean isSplitting(String shard) {
+        return splitting.contains(shard);
+    }
+
+    @Override
+    public void close() {
+        scatterExecutor.shutdownNow();
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+    // === ShardSplitter ===
+
+    JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(pools.get(shard));
+    }
+
+    boolean beginSplit(String shard) {
+        return splitting.add(shard);
+    }
+
+    void endSplit(String shard) {
+        splitting.remove(shard);
+    }
+
+    /**
+     * 버킷의 변경 기록 시작
+     * 이후에 끝나는 트랜잭션 중 이 버킷에 바인딩됐던 주문 ID가 반환된 집합에 쌓인다. (롤백 포함)
+     */
+    Set<String> trackChanges(Collection<Integer> buckets) {
+        Set<String> changes = ConcurrentHashMap.newKeySet();
+        buckets.forEach(bucket -> trackedChanges.put(bucket, changes));
+        return changes;
+    }
+
+    void untrackChanges(Collection<Integer> buckets) {
+        buckets.forEach(trackedChanges::remove);
+    }
+
+    /**
+     * 버킷 쓰기 락 획득 (버킷 번호 순서, 실패하면 잡은 락을 풀고 예외)
+     */
+    void freeze(List<Integer> buckets) {
+        List<Integer> locked = new ArrayList<>(buckets.size());
+        for (int bucket : buckets) {
+            if (!tryLock(bucketLocks[bucket].writeLock())) {
+                unfreeze(locked);
+                throw new OrderLockException("버킷 " + bucket + "의 진행 중인 트랜잭션이 끝나지 않았습니다");
+            }
+            locked.add(bucket);
+        }
+    }
+
+    void unfreeze(List<Integer> buckets) {
+        buckets.forEach(bucket -> bucketLocks[bucket].writeLock().unlock());
+    }
+
+    /**
+     * 버킷 소유 샤드 변경 (버킷 맵 테이블에 기록한 뒤 라우팅에 반영, freeze 상태에서 호출)
+     */
+    void reassign(Collection<Integer> buckets, String target) {
+        JdbcTemplate directory = jdbc(directoryShard);
+        directory.batchUpdate("update shard_map set shard = ? where bucket = ?",
+            buckets.stream().map(bucket -> new Object[]{target, bucket}).toList());
+        shardMap = shardMap.reassign(buckets, target);
+    }
+
+    // === Private Methods ===
+
+    private boolean tryLock(Lock lock) {
+        try {
+            return lock.tryLock(properties.lockTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 첫 번째 샤드의 shard_map 테이블에서 버킷 맵을 읽는다. (없으면 초기 맵을 기록)
+     */
+    private ShardMap loadShardMap() {
+        JdbcTemplate directory = new JdbcTemplate(pools.get(directoryShard));
+        directory.execute("create table if not exists shard_map (bucket int primary key, shard varchar(64) not null)");
+
+        List<Map<String, Object>> rows = directory.queryForList("select bucket, shard from shard_map order by bucket");
+        if (rows.isEmpty()) {
+            ShardMap initial = ShardMap.initial(shardNames(), properties.buckets());
+            List<Object[]> inserts = new ArrayList<>(initial.buckets());
+            for (int bucket = 0; bucket < initial.buckets(); bucket++) {
+                inserts.add(new Object[]{bucket, initial.ownerOf(bucket)});
+            }
+            directory.batchUpdate("insert into shard_map (bucket, shard) values (?, ?)", inserts);
+            log.info("[Shard] 초기 버킷 맵 기록 - buckets={}, shards={}", initial.buckets(), shardNames());
+            return initial;
+        }
+
+        if (rows.size() != properties.buckets()) {
+            throw new IllegalStateException(
+                "shard_map의 버킷 수(" + rows.size() + ")가 ssm-demo.shard.buckets(" + properties.buckets() + ")와 다릅니다");
+        }
+        String[] owners = new String[rows.size()];
+        for (Map<String, Object> row : rows) {
+            String shard = (String) row.get("shard");
+            if (!pools.containsKey(shard)) {
+                throw new IllegalStateException("shard_map이 설정에 없는 샤드를 가리킵니다: " + shard);
+            }
+            owners[((Number) row.get("bucket")).intValue()] = shard;
+        }
+        return new ShardMap(owners);
+    }
+
+    private static final class Cursor<T> {
+
+        private final List<T> items;
+        private int index;
+        private T head;
+
+        private Cursor(List<T> items) {
+            this.items = items;
+            this.head = items.get(0);
+        }
+
+        private boolean advance() {
+            if (++index >= items.size()) {
+                return false;
+            }
+            head = items.get(index);
+            return true;
+        }
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 샤드의 풀에서 커넥션을 얻는다.
+     */
+    private final class ShardRoutingDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return currentPool().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return currentPool().getConnection(username, password);
+        }
+
+        private HikariDataSource currentPool() {
+            String shard = BOUND_SHARD.get();
+            return pools.get(shard != null ? shard : directoryShard);
+        }
+    }
+}
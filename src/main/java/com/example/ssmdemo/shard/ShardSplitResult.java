@@ -0,0 +1,24 @@
+package com.example.ssmdemo.shard;
+
+import java.time.Duration;
+
+/**
+ * 샤드 분할 결과
+ *
+ * @param buckets    옮긴 버킷 수
+ * @param copied     온라인 복사 단계에서 복사한 행 수
+ * @param reconciled 동결 단계에서 다시 맞춘 행 수
+ * @param deleted    원본 샤드에서 지운 행 수
+ * @param frozen     옮긴 버킷의 요청이 멈춰 있던 시간
+ * @param elapsed    전체 소요 시간
+ */
+public record ShardSplitResult(
+    String source,
+    String target,
+    int buckets,
+    long copied,
+    long reconciled,
+    long deleted,
+    Duration frozen,
+    Duration elapsed
+) {}
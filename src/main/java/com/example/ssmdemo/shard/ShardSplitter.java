@@ -0,0 +1,239 @@
+package com.example.ssmdemo.shard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 온라인 샤드 분할
+ *
+ * 원본 샤드가 가진 버킷의 뒤쪽 절반을 대상 샤드로 옮긴다.
+ * 1. 복사: 옮길 버킷의 행을 id 순서(keyset)로 읽어 대상 샤드에 넣는다. (이 동안 주문 처리는 계속된다)
+ * 2. 동결: 복사 중에 바뀐 주문을 먼저 맞춘 뒤, 옮길 버킷의 쓰기 락을 잡아 진행 중인 트랜잭션이 끝나길 기다리고
+ *    그 사이 바뀐 주문만 다시 복사한 다음 버킷 맵을 바꾼다. (바뀐 주문은 ShardRouter가 트랜잭션이 끝날 때 기록한다)
+ *    동결 구간의 작업량은 샤드 크기가 아니라 변경 수에 비례한다.
+ *    동결 동안 해당 버킷의 주문 요청은 기다리고, lockTimeout을 넘으면 409로 거절된다.
+ * 3. 정리: 전환 전에 시작한 트랜잭션이 모두 끝난 뒤 원본 샤드의 옮긴 행을 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ssm-demo.shard.enabled", havingValue = "true")
+public class ShardSplitter {
+
+    /**
+     * 주문 ID로 샤딩되는 테이블
+     */
+    private static final List<String> SHARDED_TABLES = List.of("orders", "orders_archive");
+
+    private final ShardRouter router;
+    private final ShardProperties properties;
+
+    public synchronized ShardSplitResult split(String source, String target) {
+        List<String> shards = router.shardNames();
+        if (!shards.contains(source) || !shards.contains(target) || source.equals(target)) {
+            throw new IllegalArgumentException("분할할 수 없는 샤드 조합입니다: " + source + " → " + target);
+        }
+        List<Integer> sourceBuckets = router.shardMap().bucketsOf(source);
+        if (sourceBuckets.size() < 2) {
+            throw new IllegalArgumentException("버킷이 2개 미만인 샤드는 나눌 수 없습니다: " + source);
+        }
+        if (!router.beginSplit(source)) {
+            throw new IllegalStateException("이미 분할 중인 샤드입니다: " + source);
+        }
+
+        List<Integer> moving = List.copyOf(sourceBuckets.subList(sourceBuckets.size() / 2, sourceBuckets.size()));
+        Set<Integer> movingSet = Set.copyOf(moving);
+        long started = System.nanoTime();
+        try {
+            log.info("[Shard] 분할 시작 - {} → {}, buckets={}", source, target, moving.size());
+
+            Set<String> changes = router.trackChanges(moving);
+            long copied = 0;
+            long reconciled = 0;
+            Duration frozen;
+            try {
+                // 이전에 실패한 분할이 남긴 행을 지우고 복사한다
+                for (String table : SHARDED_TABLES) {
+                    delete(table, target, movingSet);
+                    copied += copy(table, source, target, movingSet);
+                }
+                reconcile(drain(changes), source, target);
+
+                long frozenStarted = System.nanoTime();
+                router.freeze(moving);
+                try {
+                    reconciled = reconcile(drain(changes), source, target);
+                    router.reassign(moving, target);
+                } finally {
+                    router.unfreeze(moving);
+                }
+                frozen = Duration.ofNanos(System.nanoTime() - frozenStarted);
+            } finally {
+                router.untrackChanges(moving);
+            }
+
+            // 전환 전 맵으로 바인딩된 트랜잭션이 끝날 때까지 기다린 뒤 원본 행을 지운다
+            router.freeze(moving);
+            router.unfreeze(moving);
+            long deleted = 0;
+            for (String table : SHARDED_TABLES) {
+                deleted += delete(table, source, movingSet);
+            }
+
+            ShardSplitResult result = new ShardSplitResult(source, target, moving.size(), copied, reconciled, deleted,
+                frozen, Duration.ofNanos(System.nanoTime() - started));
+            log.info("[Shard] 분할 완료 - {}", result);
+            return result;
+        } finally {
+            router.endSplit(source);
+        }
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 원본 샤드의 옮길 버킷 행을 대상 샤드로 복사
+     */
+    private long copy(String table, String source, String target, Set<Integer> buckets) {
+        JdbcTemplate from = router.jdbc(source);
+        JdbcTemplate to = router.jdbc(target);
+        String afterId = "";
+        long copied = 0;
+        while (true) {
+            SqlRowSet rows = from.queryForRowSet(
+                "select * from " + table + " where id > ? order by id limit ?", afterId, properties.copyBatchSize());
+            List<String> columns = columns(rows.getMetaData());
+            List<Object[]> batch = new ArrayList<>();
+            int read = 0;
+            while (rows.next()) {
+                read++;
+                afterId = rows.getString("id");
+                if (buckets.contains(router.shardMap().bucketOf(afterId))) {
+                    batch.add(values(rows, columns));
+                }
+            }
+            insert(to, table, columns, batch);
+            copied += batch.size();
+            if (read < properties.copyBatchSize()) {
+                return copied;
+            }
+        }
+    }
+
+    /**
+     * 복사 이후 바뀐 주문 반영
+     * 대상 샤드의 행을 지우고 원본에 남아 있는 행을 다시 복사한다. (원본에서 사라진 행은 대상에서도 사라진다)
+     *
+     * @return 다시 맞춘 주문 수
+     */
+    private long reconcile(Set<String> orderIds, String source, String target) {
+        JdbcTemplate from = router.jdbc(source);
+        JdbcTemplate to = router.jdbc(target);
+        for (List<String> ids : partition(orderIds)) {
+            String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+            for (String table : SHARDED_TABLES) {
+                to.update("delete from " + table + " where id in (" + placeholders + ")", ids.toArray());
+                SqlRowSet rows = from.queryForRowSet(
+                    "select * from " + table + " where id in (" + placeholders + ")", ids.toArray());
+                List<String> columns = columns(rows.getMetaData());
+                List<Object[]> batch = new ArrayList<>();
+                while (rows.next()) {
+                    batch.add(values(rows, columns));
+                }
+                insert(to, table, columns, batch);
+            }
+        }
+        return orderIds.size();
+    }
+
+    /**
+     * 지금까지 기록된 변경을 꺼낸다. (꺼내는 동안 끝난 트랜잭션의 변경은 다음 차례에 남는다)
+     */
+    private static Set<String> drain(Set<String> changes) {
+        Set<String> drained = new HashSet<>();
+        for (Iterator<String> it = changes.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    /**
+     * 샤드에서 버킷에 속한 행 삭제 (id 순서로 copyBatchSize씩)
+     */
+    private long delete(String table, String shard, Set<Integer> buckets) {
+        JdbcTemplate jdbc = router.jdbc(shard);
+        String afterId = "";
+        long deleted = 0;
+        while (true) {
+            List<String> ids = jdbc.queryForList("select id from " + table + " where id > ? order by id limit ?",
+                String.class, afterId, properties.copyBatchSize());
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            afterId = ids.get(ids.size() - 1);
+            List<Object[]> moving = ids.stream()
+                .filter(id -> buckets.contains(router.shardMap().bucketOf(id)))
+                .map(id -> new Object[]{id})
+                .toList();
+            jdbc.batchUpdate("delete from " + table + " where id = ?", moving);
+            deleted += moving.size();
+            if (ids.size() < properties.copyBatchSize()) {
+                return deleted;
+            }
+        }
+    }
+
+    private void insert(JdbcTemplate jdbc, String table, List<String> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("insert into " + table + " (" + String.join(", ", columns) + ") values ("
+            + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")", rows);
+    }
+
+    private List<List<String>> partition(Iterable<String> ids) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> chunk = new ArrayList<>();
+        for (String id : ids) {
+            chunk.add(id);
+            if (chunk.size() == properties.copyBatchSize()) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static List<String> columns(SqlRowSetMetaData metaData) {
+        List<String> columns = new ArrayList<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            columns.add(metaData.getColumnName(i));
+        }
+        return columns;
+    }
+
+    private static Object[] values(SqlRowSet rows, List<String> columns) {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rows.getObject(i + 1);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.ssmdemo.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행 수/행 수/JDBC 시간을 {@link SqlStatementCounter}에 기록하는 DataSource
+ *
+ * Connection, Statement, ResultSet을 JDK 프록시로 감싼다.
+ * - execute 계열: 실행 시간과 변경 행 수 기록
+ * - executeBatch: addBatch 수만큼 SQL로 기록 (왕복은 1회)
+ * - ResultSet.next: 읽은 행 수 기록
+ * Hibernate뿐 아니라 JdbcTemplate으로 실행한 SQL도 집계된다.
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementCounter counter;
+
+    public CountingDataSource(DataSource target, SqlStatementCounter counter) {
+        super(target);
+        this.counter = counter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // === Proxies ===
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return statement(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return statement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                return statement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * @param sql PreparedStatement/CallableStatement의 SQL (Statement이면 null, 실행 시 인자로 받음)
+     */
+    private <T extends Statement> T statement(Class<T> type, T target, String sql) {
+        int[] batched = new int[1];
+        String[] batchSql = {sql};
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            switch (name) {
+                case "addBatch" -> {
+                    batched[0]++;
+                    if (args != null && args.length == 1 && batchSql[0] == null) {
+                        batchSql[0] = (String) args[0];
+                    }
+                    return invoke(target, method, args);
+                }
+                case "clearBatch" -> batched[0] = 0;
+                case "executeBatch", "executeLargeBatch" -> {
+                    String statement = batchSql[0];
+                    int count = batched[0];
+                    batched[0] = 0;
+                    if (sql == null) {
+                        batchSql[0] = null;
+                    }
+                    long started = System.nanoTime();
+                    Object result = invoke(target, method, args);
+                    counter.recordStatements(SqlStatementType.of(statement), statement, count,
+                        updatedRows(result), System.nanoTime() - started);
+                    return result;
+                }
+                case "executeQuery", "executeUpdate", "executeLargeUpdate", "execute" -> {
+                    String statement = sql != null ? sql : (String) args[0];
+                    long started = System.nanoTime();
+                    Object result = invoke(target, method, args);
+                    long elapsed = System.nanoTime() - started;
+                    long rows = result instanceof Number updated ? updated.longValue() : 0;
+                    counter.recordStatements(SqlStatementType.of(statement), statement, 1, rows, elapsed);
+                    return result instanceof ResultSet resultSet ? resultSet(resultSet) : result;
+                }
+                case "getResultSet", "getGeneratedKeys" -> {
+                    Object result = invoke(target, method, args);
+                    return result instanceof ResultSet resultSet ? resultSet(resultSet) : result;
+                }
+                default -> {
+                    return invoke(target, method, args);
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private ResultSet resultSet(ResultSet target) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                counter.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    // === Helpers ===
+
+    private static long updatedRows(Object batchResult) {
+        long rows = 0;
+        if (batchResult instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(count, 0);
+            }
+        } else if (batchResult instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * equals/hashCode는 프록시 자신 기준 (Hibernate가 Statement/ResultSet을 맵 키로 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> args.length == 1 ? proxy == args[0] : handler.invoke(proxy, method, args);
+                case "hashCode" -> args == null ? System.identityHashCode(proxy) : handler.invoke(proxy, method, args);
+                default -> handler.invoke(proxy, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
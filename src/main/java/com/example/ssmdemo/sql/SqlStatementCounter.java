@@ -0,0 +1,124 @@
+package com.example.ssmdemo.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 실행 집계
+ *
+ * {@link CountingDataSource}가 실행한 SQL을 현재 스레드에 열린 모든 구간에 더한다.
+ * 구간이 없으면 전역 카운터(orders.sql.executed{type})에만 기록된다.
+ * (샤딩 scatter처럼 다른 스레드에서 실행된 쿼리는 요청 구간에 포함되지 않는다)
+ *
+ * 이름이 있는 구간은 닫힐 때 호출당 집계를 메트릭으로 남긴다.
+ * - orders.sql.statements{scope, name}: 호출당 SQL 수
+ * - orders.sql.rows{scope, name}: 호출당 읽은/변경한 행 수
+ * - orders.sql.time{scope, name}: 호출당 JDBC 시간
+ */
+public class SqlStatementCounter {
+
+    private final ThreadLocal<ArrayDeque<SqlStatementScope>> scopes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final MeterRegistry meterRegistry;
+    private final Map<SqlStatementType, Counter> executed = new EnumMap<>(SqlStatementType.class);
+    private final Map<String, ScopeMeters> scopeMeters = new ConcurrentHashMap<>();
+
+    public SqlStatementCounter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (SqlStatementType type : SqlStatementType.values()) {
+            executed.put(type, Counter.builder("orders.sql.executed")
+                .description("SQL statements executed through the application DataSource")
+                .tag("type", type.name().toLowerCase())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 메트릭을 남기는 구간을 연다.
+     *
+     * @param kind 구간 종류 (http, service)
+     * @param name 구간 이름 (예: OrderController.pay, OrderService.pay)
+     */
+    public SqlStatementScope open(String kind, String name) {
+        return push(new SqlStatementScope(this, kind, name, false));
+    }
+
+    /**
+     * 실행한 SQL까지 기록하는 구간을 연다. (메트릭을 남기지 않음, 테스트/디버깅용)
+     */
+    public SqlStatementScope capture() {
+        return push(new SqlStatementScope(this, null, null, true));
+    }
+
+    // === CountingDataSource ===
+
+    void recordStatements(SqlStatementType type, String sql, int count, long rows, long nanos) {
+        executed.get(type).increment(count);
+        ArrayDeque<SqlStatementScope> open = scopes.get();
+        for (SqlStatementScope scope : open) {
+            scope.addStatements(type, sql, count, rows, nanos);
+        }
+        if (open.isEmpty()) {
+            scopes.remove();
+        }
+    }
+
+    void recordRows(long rows) {
+        ArrayDeque<SqlStatementScope> open = scopes.get();
+        for (SqlStatementScope scope : open) {
+            scope.addRows(rows);
+        }
+        if (open.isEmpty()) {
+            scopes.remove();
+        }
+    }
+
+    // === SqlStatementScope ===
+
+    void close(SqlStatementScope scope) {
+        ArrayDeque<SqlStatementScope> open = scopes.get();
+        open.removeLastOccurrence(scope);
+        if (open.isEmpty()) {
+            scopes.remove();
+        }
+        if (scope.name() == null) {
+            return;
+        }
+        SqlStatementCounts counts = scope.counts();
+        ScopeMeters meters = scopeMeters.computeIfAbsent(scope.kind() + ":" + scope.name(),
+            key -> new ScopeMeters(meterRegistry, scope.kind(), scope.name()));
+        meters.statements().record(counts.total());
+        meters.rows().record(counts.rows());
+        meters.time().record(counts.jdbcTime().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private SqlStatementScope push(SqlStatementScope scope) {
+        scopes.get().addLast(scope);
+        return scope;
+    }
+
+    private record ScopeMeters(DistributionSummary statements, DistributionSummary rows, Timer time) {
+
+        ScopeMeters(MeterRegistry registry, String kind, String name) {
+            this(DistributionSummary.builder("orders.sql.statements")
+                    .description("SQL statements per call")
+                    .tags("scope", kind, "name", name)
+                    .register(registry),
+                DistributionSummary.builder("orders.sql.rows")
+                    .description("Rows read or changed per call")
+                    .tags("scope", kind, "name", name)
+                    .register(registry),
+                Timer.builder("orders.sql.time")
+                    .description("JDBC execute time per call")
+                    .tags("scope", kind, "name", name)
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.ssmdemo.sql;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구간(HTTP 요청, OrderService 메서드 등)에서 실행된 SQL 집계
+ *
+ * @param statements 종류별 실행 수 (배치는 addBatch 수만큼)
+ * @param rows       읽은 행 수 + 변경된 행 수
+ * @param jdbcTime   JDBC execute 호출에 걸린 시간 (행 읽기 제외)
+ * @param sql        실행한 SQL (capture 구간에서만 기록, 아니면 빈 목록)
+ */
+public record SqlStatementCounts(Map<SqlStatementType, Long> statements, long rows, Duration jdbcTime, List<String> sql) {
+
+    public long count(SqlStatementType type) {
+        return statements.getOrDefault(type, 0L);
+    }
+
+    public long total() {
+        return statements.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 응답 헤더 값 (예: select=1, insert=0, update=1, delete=0, other=0, rows=2, jdbc=0.41ms)
+     */
+    public String toHeaderValue() {
+        StringBuilder value = new StringBuilder();
+        for (SqlStatementType type : SqlStatementType.values()) {
+            value.append(type.name().toLowerCase()).append('=').append(count(type)).append(", ");
+        }
+        return value.append("rows=").append(rows)
+            .append(", jdbc=").append(String.format("%.2fms", jdbcTime.toNanos() / 1_000_000.0))
+            .toString();
+    }
+
+    static SqlStatementCounts of(long[] statements, long rows, long jdbcNanos, List<String> sql) {
+        Map<SqlStatementType, Long> counts = new EnumMap<>(SqlStatementType.class);
+        for (SqlStatementType type : SqlStatementType.values()) {
+            counts.put(type, statements[type.ordinal()]);
+        }
+        return new SqlStatementCounts(counts, rows, Duration.ofNanos(jdbcNanos), List.copyOf(sql));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.ssmdemo.sql;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 요청의 SQL 집계를 X-SQL-Stats 헤더로 붙인다. (디버그용)
+ * 트랜잭션은 서비스 메서드에서 끝나므로 커밋 시 실행된 UPDATE까지 포함된다.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = {"ssm-demo.sql-stats.enabled", "ssm-demo.sql-stats.response-header"}, havingValue = "true")
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-SQL-Stats";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlStatementInterceptor.SCOPE_ATTRIBUTE)
+                    instanceof SqlStatementScope scope) {
+            response.getHeaders().set(HEADER, scope.counts().toHeaderValue());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.ssmdemo.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * HTTP 요청(핸들러 메서드) 단위 SQL 집계 구간
+ * 구간 이름은 컨트롤러 메서드(예: OrderController.pay)이며, 비동기 응답은 핸들러가 반환할 때까지만 집계한다.
+ */
+public class SqlStatementInterceptor implements AsyncHandlerInterceptor {
+
+    static final String SCOPE_ATTRIBUTE = SqlStatementInterceptor.class.getName() + ".scope";
+
+    private final SqlStatementCounter counter;
+
+    public SqlStatementInterceptor(SqlStatementCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            request.setAttribute(SCOPE_ATTRIBUTE, counter.open("http", name));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        close(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        close(request);
+    }
+
+    private void close(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof SqlStatementScope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.ssmdemo.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL 집계 구간
+ * 연 스레드에서만 사용하며, 구간이 겹치면(HTTP 요청 안의 OrderService 호출) 바깥 구간에도 함께 더해진다.
+ */
+public final class SqlStatementScope implements AutoCloseable {
+
+    private final SqlStatementCounter counter;
+    private final String kind;
+    private final String name;
+    private final List<String> sql;
+    private final long[] statements = new long[SqlStatementType.values().length];
+    private long rows;
+    private long jdbcNanos;
+    private boolean closed;
+
+    SqlStatementScope(SqlStatementCounter counter, String kind, String name, boolean captureSql) {
+        this.counter = counter;
+        this.kind = kind;
+        this.name = name;
+        this.sql = captureSql ? new ArrayList<>() : null;
+    }
+
+    /**
+     * 지금까지의 집계
+     */
+    public SqlStatementCounts counts() {
+        return SqlStatementCounts.of(statements, rows, jdbcNanos, sql != null ? sql : List.of());
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            counter.close(this);
+        }
+    }
+
+    String kind() {
+        return kind;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void addStatements(SqlStatementType type, String statement, int count, long rows, long nanos) {
+        statements[type.ordinal()] += count;
+        this.rows += rows;
+        this.jdbcNanos += nanos;
+        if (sql != null) {
+            for (int i = 0; i < count; i++) {
+                sql.add(statement);
+            }
+        }
+    }
+
+    void addRows(long rows) {
+        this.rows += rows;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.ssmdemo.sql;
+
+import java.util.Locale;
+
+/**
+ * SQL 문 종류 (첫 키워드 기준)
+ */
+public enum SqlStatementType {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    OTHER;
+
+    /**
+     * SQL 앞의 공백과 주석을 건너뛰고 첫 키워드로 종류를 판단한다. (with ... select는 SELECT)
+     */
+    public static SqlStatementType of(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        int i = 0;
+        while (i < sql.length()) {
+            if (Character.isWhitespace(sql.charAt(i))) {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? sql.length() : end + 2;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? sql.length() : end + 1;
+            } else {
+                break;
+            }
+        }
+        int end = i;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return switch (sql.substring(i, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> SELECT;
+            case "insert" -> INSERT;
+            case "update" -> UPDATE;
+            case "delete" -> DELETE;
+            default -> OTHER;
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ssmdemo.sql;
+
+import com.example.ssmdemo.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 집계 설정 (opt-in)
+ *
+ * ssm-demo.sql-stats.enabled=true 일 때 애플리케이션 DataSource(dataSource 빈)를 {@link CountingDataSource}로 감싸고,
+ * HTTP 요청과 OrderService 메서드마다 SQL 수/행 수/JDBC 시간을 집계한다.
+ * OrderService 구간은 트랜잭션보다 바깥에서 열려 커밋 시 실행된 SQL도 포함한다.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatsProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.sql-stats.enabled", havingValue = "true")
+public class SqlStatsConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter(MeterRegistry meterRegistry) {
+        return new SqlStatementCounter(meterRegistry);
+    }
+
+    @Bean
+    static BeanPostProcessor countingDataSourcePostProcessor(ObjectProvider<SqlStatementCounter> counter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource, counter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * OrderService 메서드 구간 (트랜잭션 인터셉터보다 바깥)
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor orderServiceSqlStatementAdvisor(ObjectProvider<SqlStatementCounter> counter) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            new ComposablePointcut(new RootClassFilter(OrderService.class)),
+            (MethodInterceptor) invocation -> {
+                String name = "OrderService." + invocation.getMethod().getName();
+                SqlStatementScope scope = counter.getObject().open("service", name);
+                try {
+                    return invocation.proceed();
+                } finally {
+                    scope.close();
+                }
+            });
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * HTTP 요청 구간 인터셉터 등록
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "ssm-demo.sql-stats.enabled", havingValue = "true")
+    static class SqlStatsWebConfig implements WebMvcConfigurer {
+
+        private final SqlStatementCounter sqlStatementCounter;
+
+        SqlStatsWebConfig(SqlStatementCounter sqlStatementCounter) {
+            this.sqlStatementCounter = sqlStatementCounter;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new SqlStatementInterceptor(sqlStatementCounter));
+        }
+    }
+}
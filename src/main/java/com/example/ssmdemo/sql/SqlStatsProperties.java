@@ -0,0 +1,16 @@
+package com.example.ssmdemo.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * SQL 실행 집계 설정
+ *
+ * @param enabled        DataSource 프록시로 SQL 수/행 수/JDBC 시간 집계 여부
+ * @param responseHeader 응답에 X-SQL-Stats 헤더를 붙일지 여부 (디버그용)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.sql-stats")
+public record SqlStatsProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("false") boolean responseHeader
+) {}
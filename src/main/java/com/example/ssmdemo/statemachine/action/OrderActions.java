@@ -1,22 +1,34 @@
 package com.example.ssmdemo.statemachine.action;
 
 import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.entity.OrderSideEffectCall;
 import com.example.ssmdemo.domain.order.enums.OrderEvent;
 import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.retry.OrderActionRetryQueue;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * 주문 상태 전이 Action (부수 효과 실행)
+ *
+ * 외부 부수 효과(결제, 환불, 알림)는 {@link OrderSideEffects}로 호출한다.
+ * 재시도 큐를 사용하면 실패한 호출을 전이 트랜잭션 안에서 큐에 기록하고 전이는 그대로 진행하며,
+ * 사용하지 않으면 예외를 errorAction으로 넘긴다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class OrderActions {
 
+    private final OrderSideEffects sideEffects;
+    private final Optional<OrderActionRetryQueue> retryQueue;
+
     /**
      * 결제 처리 Action
      */
@@ -28,17 +40,10 @@ public class OrderActions {
                 return;
             }
 
-            // 결제 처리 (시연용: 가상 결제 ID 생성)
+            // 결제 처리 (시연용: 가상 결제 ID 생성, 재시도 시 멱등 키로 사용)
             String paymentId = "PAY-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
             order.markAsPaid(paymentId);
-
-            log.info("============================================");
-            log.info("[Action] 결제 처리 완료");
-            log.info("  - 주문 ID: {}", order.getId());
-            log.info("  - 결제 ID: {}", paymentId);
-            log.info("  - 결제 금액: {}", order.getTotalAmount());
-            log.info("  - 결제 수단: {}", order.getPaymentMethod());
-            log.info("============================================");
+            run(OrderSideEffectCall.payment(order, paymentId));
         };
     }
 
@@ -73,15 +78,7 @@ public class OrderActions {
                 return;
             }
 
-            OrderStatus targetStatus = context.getTarget().getId();
-            String message = String.format("주문 상태가 [%s](%s)(으)로 변경되었습니다.",
-                targetStatus.name(), targetStatus.getDescription());
-
-            log.info("============================================");
-            log.info("[Action] 알림 발송");
-            log.info("  - 수신자: {}", order.getCustomerEmail());
-            log.info("  - 메시지: {}", message);
-            log.info("============================================");
+            run(OrderSideEffectCall.notification(order, context.getTarget().getId()));
         };
     }
 
@@ -96,14 +93,7 @@ public class OrderActions {
             }
 
             String refundId = "REF-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-
-            log.info("============================================");
-            log.info("[Action] 환불 처리 완료");
-            log.info("  - 주문 ID: {}", order.getId());
-            log.info("  - 환불 ID: {}", refundId);
-            log.info("  - 환불 금액: {}", order.getTotalAmount());
-            log.info("  - 원 결제 ID: {}", order.getPaymentId());
-            log.info("============================================");
+            run(OrderSideEffectCall.refund(order, refundId));
         };
     }
 
@@ -147,6 +137,20 @@ public class OrderActions {
         };
     }
 
+    /**
+     * 부수 효과 실행 (실패 시 재시도 큐가 있으면 기록하고 전이를 계속한다)
+     */
+    private void run(OrderSideEffectCall call) {
+        try {
+            sideEffects.execute(call);
+        } catch (RuntimeException e) {
+            if (retryQueue.isEmpty()) {
+                throw e;
+            }
+            retryQueue.get().enqueue(call, e);
+        }
+    }
+
     private Order getOrder(StateContext<OrderStatus, OrderEvent> context) {
         return (Order) context.getExtendedState().getVariables().get("order");
     }
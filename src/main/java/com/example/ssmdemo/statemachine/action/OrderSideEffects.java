@@ -0,0 +1,66 @@
+package com.example.ssmdemo.statemachine.action;
+
+import com.example.ssmdemo.domain.order.entity.OrderSideEffectCall;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전이 Action의 외부 부수 효과 (결제 승인, 환불, 알림 발송)
+ *
+ * 호출은 {@link OrderSideEffectCall}에 담긴 값만 사용하므로 재시도 작업이 주문을 다시 읽지 않고 같은 호출을 반복할 수 있다.
+ * 결제/환불은 reference(결제 ID, 환불 ID)를 멱등 키로 외부 시스템에 전달한다.
+ */
+@Slf4j
+@Component
+public class OrderSideEffects {
+
+    public void execute(OrderSideEffectCall call) {
+        switch (call.effect()) {
+            case PAYMENT -> capturePayment(call);
+            case REFUND -> refund(call);
+            case NOTIFICATION -> sendNotification(call);
+        }
+    }
+
+    /**
+     * 결제 승인 (시연용: 로그 출력)
+     */
+    public void capturePayment(OrderSideEffectCall call) {
+        log.info("============================================");
+        log.info("[Action] 결제 처리 완료");
+        log.info("  - 주문 ID: {}", call.orderId());
+        log.info("  - 결제 ID: {}", call.reference());
+        log.info("  - 결제 금액: {}", call.amount());
+        log.info("  - 결제 수단: {}", call.paymentMethod());
+        log.info("============================================");
+    }
+
+    /**
+     * 환불 (시연용: 로그 출력)
+     */
+    public void refund(OrderSideEffectCall call) {
+        log.info("============================================");
+        log.info("[Action] 환불 처리 완료");
+        log.info("  - 주문 ID: {}", call.orderId());
+        log.info("  - 환불 ID: {}", call.reference());
+        log.info("  - 환불 금액: {}", call.amount());
+        log.info("  - 원 결제 ID: {}", call.originalReference());
+        log.info("============================================");
+    }
+
+    /**
+     * 알림 발송 (시연용: 로그 출력)
+     */
+    public void sendNotification(OrderSideEffectCall call) {
+        OrderStatus targetStatus = call.targetStatus();
+        String message = String.format("주문 상태가 [%s](%s)(으)로 변경되었습니다.",
+            targetStatus.name(), targetStatus.getDescription());
+
+        log.info("============================================");
+        log.info("[Action] 알림 발송");
+        log.info("  - 수신자: {}", call.customerEmail());
+        log.info("  - 메시지: {}", message);
+        log.info("============================================");
+    }
+}
@@ -52,6 +52,7 @@ public class OrderStateMachineConfig
 
     private final OrderGuards guards;
     private final OrderActions actions;
+    private final OrderStateMachineListener listener;
 
     @Override
     public void configure(StateMachineConfigurationConfigurer<OrderStatus, OrderEvent> config)
@@ -60,7 +61,7 @@ public class OrderStateMachineConfig
             .withConfiguration()
             .machineId("orderStateMachine")
             .autoStartup(true)
-            .listener(new OrderStateMachineListener());
+            .listener(listener);
     }
 
     @Override
@@ -1,22 +1,34 @@
 package com.example.ssmdemo.statemachine.listener;
 
+import com.example.ssmdemo.domain.order.entity.Order;
 import com.example.ssmdemo.domain.order.enums.OrderEvent;
 import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.Message;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.StateMachine;
 import org.springframework.statemachine.listener.StateMachineListenerAdapter;
 import org.springframework.statemachine.state.State;
 import org.springframework.statemachine.transition.Transition;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
 
 /**
  * 주문 State Machine 리스너 (모니터링/로깅)
+ * 이벤트로 인한 상태 변경 시 {@link OrderTransitionEvent}를 발행한다.
  */
 @Slf4j
+@Component
+@RequiredArgsConstructor
 public class OrderStateMachineListener
         extends StateMachineListenerAdapter<OrderStatus, OrderEvent> {
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public void stateChanged(State<OrderStatus, OrderEvent> from,
                             State<OrderStatus, OrderEvent> to) {
@@ -81,5 +93,27 @@ public class OrderStateMachineListener
     @Override
     public void stateContext(StateContext<OrderStatus, OrderEvent> stateContext) {
         // 상세 컨텍스트 로깅 (필요 시 활성화)
+
+        // 종료 상태로의 전이는 TRANSITION_END가 발생하지 않으므로 STATE_CHANGED 기준으로 발행
+        if (stateContext.getStage() != StateContext.Stage.STATE_CHANGED) {
+            return;
+        }
+        OrderEvent event = stateContext.getEvent();
+        // 초기화/리셋(이벤트 없음)은 제외
+        if (event == null || stateContext.getSource() == null || stateContext.getTarget() == null) {
+            return;
+        }
+
+        Order order = (Order) stateContext.getExtendedState().getVariables().get("order");
+        eventPublisher.publishEvent(new OrderTransitionEvent(
+            order != null ? order.getId() : stateContext.getStateMachine().getId(),
+            order != null ? order.getProductId() : null,
+            order != null ? order.getCustomerEmail() : null,
+            stateContext.getSource().getId(),
+            stateContext.getTarget().getId(),
+            event,
+            LocalDateTime.now(),
+            order != null ? order.enteredAt(stateContext.getSource().getId()) : null
+        ));
     }
 }
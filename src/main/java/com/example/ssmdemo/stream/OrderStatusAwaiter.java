@@ -0,0 +1,101 @@
+package com.example.ssmdemo.stream;
+
+import com.example.ssmdemo.controller.dto.OrderAwaitResponse;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 주문 상태 대기 (Long-Poll)
+ *
+ * 요청은 {@link DeferredResult}로 보류되어 스레드를 점유하지 않으며,
+ * 커밋된 전이 이벤트로 깨어난다. (DB 재조회 없음)
+ */
+@Slf4j
+@Component
+public class OrderStatusAwaiter {
+
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * 주문이 지정 상태(또는 종료 상태)에 도달할 때까지 대기한다.
+     *
+     * @param currentStatus 현재 상태 조회 (대기 등록 후 한 번만 호출)
+     */
+    public DeferredResult<OrderAwaitResponse> await(String orderId, OrderStatus awaited, Duration timeout,
+                                                    Supplier<OrderStatus> currentStatus) {
+        DeferredResult<OrderAwaitResponse> result = new DeferredResult<>(timeout.toMillis());
+        Waiter waiter = new Waiter(orderId, awaited, result);
+
+        // 등록 후 현재 상태를 확인해야 그 사이에 커밋된 전이를 놓치지 않는다
+        waiters.computeIfAbsent(orderId, id -> ConcurrentHashMap.newKeySet()).add(waiter);
+        result.onCompletion(() -> unregister(waiter));
+        result.onTimeout(() -> waiter.complete(true));
+
+        try {
+            waiter.update(currentStatus.get());
+        } catch (RuntimeException e) {
+            unregister(waiter);
+            throw e;
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(OrderTransitionEvent event) {
+        Set<Waiter> orderWaiters = waiters.get(event.orderId());
+        if (orderWaiters == null) {
+            return;
+        }
+        orderWaiters.forEach(waiter -> waiter.update(event.target()));
+    }
+
+    public int waiterCount() {
+        return waiters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void unregister(Waiter waiter) {
+        waiters.computeIfPresent(waiter.orderId, (id, orderWaiters) -> {
+            orderWaiters.remove(waiter);
+            return orderWaiters.isEmpty() ? null : orderWaiters;
+        });
+    }
+
+    private static final class Waiter {
+
+        private final String orderId;
+        private final OrderStatus awaited;
+        private final DeferredResult<OrderAwaitResponse> result;
+        private volatile OrderStatus lastStatus;
+
+        private Waiter(String orderId, OrderStatus awaited, DeferredResult<OrderAwaitResponse> result) {
+            this.orderId = orderId;
+            this.awaited = awaited;
+            this.result = result;
+        }
+
+        private void update(OrderStatus status) {
+            lastStatus = status;
+            if (status == awaited || status.isTerminal()) {
+                complete(false);
+            }
+        }
+
+        private void complete(boolean timedOut) {
+            OrderStatus status = lastStatus;
+            if (status != null) {
+                result.setResult(OrderAwaitResponse.of(orderId, status, awaited, timedOut));
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.ssmdemo.stream;
+
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+
+/**
+ * 구독 필터 (null인 조건은 무시)
+ *
+ * @param orderId       특정 주문만
+ * @param status        전이 후 상태가 일치하는 이벤트만
+ * @param customerEmail 특정 고객의 주문만
+ */
+public record OrderStreamFilter(String orderId, OrderStatus status, String customerEmail) {
+
+    public static OrderStreamFilter all() {
+        return new OrderStreamFilter(null, null, null);
+    }
+
+    public static OrderStreamFilter ofOrder(String orderId) {
+        return new OrderStreamFilter(orderId, null, null);
+    }
+
+    public boolean matches(OrderTransitionEvent event) {
+        return (orderId == null || orderId.equals(event.orderId()))
+            && (status == null || status == event.target())
+            && (customerEmail == null || customerEmail.equalsIgnoreCase(event.customerEmail()));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.ssmdemo.stream;
+
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+import com.example.ssmdemo.stream.OrderStreamSubscriber.SequencedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 변경 SSE 허브
+ *
+ * 커밋된 전이({@link OrderTransitionEvent})에 순번을 붙여 최근 이벤트 버퍼에 보관하고,
+ * 필터가 일치하는 구독자에게 전달한다.
+ * - 특정 주문 구독은 orderId 인덱스로, 나머지는 전체 목록으로 관리
+ * - Last-Event-ID 이후의 이벤트는 최근 이벤트 버퍼에서 재전송
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OrderStreamProperties.class)
+public class OrderStreamHub implements DisposableBean {
+
+    private final OrderStreamProperties properties;
+
+    /** 발행/구독 등록 순서를 맞추기 위한 락 (재전송과 실시간 전송 사이 누락/중복 방지) */
+    private final Object lock = new Object();
+    private final ArrayDeque<SequencedEvent> replayBuffer = new ArrayDeque<>();
+    private long sequence;
+
+    private final Map<String, Set<OrderStreamSubscriber>> orderSubscribers = new ConcurrentHashMap<>();
+    private final Set<OrderStreamSubscriber> broadcastSubscribers = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OrderStreamHub(OrderStreamProperties properties) {
+        this.properties = properties;
+        long interval = properties.heartbeatInterval().toMillis();
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독을 등록한다.
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (없으면 null)
+     */
+    public SseEmitter subscribe(OrderStreamFilter filter, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        OrderStreamSubscriber subscriber = new OrderStreamSubscriber(
+            emitter, filter, properties.subscriberBufferSize(), properties.slowConsumerPolicy());
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        boolean replayed = false;
+        synchronized (lock) {
+            if (lastEventId != null) {
+                replayed = subscriber.offerAll(replaySince(lastEventId, filter));
+            }
+            register(subscriber);
+        }
+        if (replayed) {
+            schedule(subscriber);
+        }
+
+        log.debug("[SSE] 구독 등록 - filter={}, lastEventId={}, 구독자={}", filter, lastEventId, subscriberCount());
+        return emitter;
+    }
+
+    /**
+     * 커밋된 전이를 구독자에게 전달한다. (트랜잭션 밖에서 발생한 전이는 즉시 전달)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(OrderTransitionEvent event) {
+        List<OrderStreamSubscriber> ready = new ArrayList<>();
+        synchronized (lock) {
+            SequencedEvent sequenced = new SequencedEvent(++sequence, event);
+            replayBuffer.addLast(sequenced);
+            if (replayBuffer.size() > properties.replayBufferSize()) {
+                replayBuffer.pollFirst();
+            }
+
+            Set<OrderStreamSubscriber> byOrder = orderSubscribers.get(event.orderId());
+            if (byOrder != null) {
+                offer(byOrder, sequenced, ready);
+            }
+            offer(broadcastSubscribers, sequenced, ready);
+        }
+        ready.forEach(this::schedule);
+    }
+
+    public int subscriberCount() {
+        return broadcastSubscribers.size()
+            + orderSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        broadcastSubscribers.forEach(OrderStreamSubscriber::close);
+        orderSubscribers.values().forEach(subscribers -> subscribers.forEach(OrderStreamSubscriber::close));
+        dispatcher.shutdown();
+    }
+
+    // === Private Methods ===
+
+    private void offer(Set<OrderStreamSubscriber> subscribers, SequencedEvent sequenced,
+                       List<OrderStreamSubscriber> ready) {
+        for (OrderStreamSubscriber subscriber : subscribers) {
+            if (subscriber.getFilter().matches(sequenced.event()) && subscriber.offer(sequenced)) {
+                ready.add(subscriber);
+            }
+        }
+    }
+
+    private List<SequencedEvent> replaySince(long lastEventId, OrderStreamFilter filter) {
+        return replayBuffer.stream()
+            .filter(e -> e.id() > lastEventId && filter.matches(e.event()))
+            .toList();
+    }
+
+    private void schedule(OrderStreamSubscriber subscriber) {
+        dispatcher.execute(subscriber::drain);
+    }
+
+    private void register(OrderStreamSubscriber subscriber) {
+        String orderId = subscriber.getFilter().orderId();
+        if (orderId != null) {
+            orderSubscribers.computeIfAbsent(orderId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        } else {
+            broadcastSubscribers.add(subscriber);
+        }
+    }
+
+    private void unregister(OrderStreamSubscriber subscriber) {
+        String orderId = subscriber.getFilter().orderId();
+        if (orderId != null) {
+            orderSubscribers.computeIfPresent(orderId, (id, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        } else {
+            broadcastSubscribers.remove(subscriber);
+        }
+    }
+
+    private void sendHeartbeats() {
+        List<OrderStreamSubscriber> all = new ArrayList<>(broadcastSubscribers);
+        orderSubscribers.values().forEach(all::addAll);
+        for (OrderStreamSubscriber subscriber : all) {
+            if (subscriber.isClosed()) {
+                unregister(subscriber);
+            } else {
+                dispatcher.execute(subscriber::heartbeat);
+            }
+        }
+    }
+}
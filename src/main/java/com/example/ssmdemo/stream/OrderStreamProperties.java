@@ -0,0 +1,36 @@
+package com.example.ssmdemo.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 상태 변경 SSE 스트림 설정
+ *
+ * @param subscriberBufferSize 구독자별 전송 대기 버퍼 크기
+ * @param replayBufferSize     Last-Event-ID 재개를 위해 보관하는 최근 이벤트 수
+ * @param slowConsumerPolicy   버퍼가 가득 찼을 때의 처리 정책
+ * @param heartbeatInterval    연결 확인용 주석(heartbeat) 전송 주기
+ * @param timeout              SSE 연결 최대 유지 시간 (만료 시 클라이언트가 Last-Event-ID로 재연결)
+ * @param awaitMinTimeout      상태 대기(Long-Poll) 요청의 최소 대기 시간 (0 이하 timeout은 서블릿에서 무제한이 되므로 이 값으로 올린다)
+ * @param awaitMaxTimeout      상태 대기(Long-Poll) 요청의 최대 대기 시간
+ */
+@ConfigurationProperties(prefix = "ssm-demo.stream")
+public record OrderStreamProperties(
+    @DefaultValue("256") int subscriberBufferSize,
+    @DefaultValue("10000") int replayBufferSize,
+    @DefaultValue("DROP_OLDEST") SlowConsumerPolicy slowConsumerPolicy,
+    @DefaultValue("15s") Duration heartbeatInterval,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("1s") Duration awaitMinTimeout,
+    @DefaultValue("60s") Duration awaitMaxTimeout
+) {
+
+    public enum SlowConsumerPolicy {
+        /** 가장 오래된 이벤트를 버리고 최신 이벤트를 유지 */
+        DROP_OLDEST,
+        /** 구독을 종료 (클라이언트는 Last-Event-ID로 재연결하여 재개) */
+        DISCONNECT
+    }
+}
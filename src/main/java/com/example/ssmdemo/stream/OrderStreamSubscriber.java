@@ -0,0 +1,124 @@
+package com.example.ssmdemo.stream;
+
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+import com.example.ssmdemo.stream.OrderStreamProperties.SlowConsumerPolicy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 구독자
+ *
+ * 대기 중인 연결은 스레드를 점유하지 않고 (비동기 서블릿) 버퍼도 실제 적체량만큼만 사용한다.
+ * 전송은 전이 커밋 스레드가 아닌 dispatcher에서 {@link #drain()}으로 수행한다.
+ */
+@Slf4j
+class OrderStreamSubscriber {
+
+    static final String EVENT_NAME = "status-changed";
+
+    @Getter
+    private final SseEmitter emitter;
+    @Getter
+    private final OrderStreamFilter filter;
+    private final int bufferSize;
+    private final SlowConsumerPolicy policy;
+
+    private final ArrayDeque<SequencedEvent> buffer = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    @Getter
+    private long dropped;
+
+    OrderStreamSubscriber(SseEmitter emitter, OrderStreamFilter filter, int bufferSize, SlowConsumerPolicy policy) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.bufferSize = bufferSize;
+        this.policy = policy;
+    }
+
+    /**
+     * 이벤트를 버퍼에 추가한다.
+     *
+     * @return dispatcher에 drain 작업을 예약해야 하면 true
+     */
+    boolean offer(SequencedEvent event) {
+        if (closed) {
+            return false;
+        }
+        synchronized (buffer) {
+            if (buffer.size() >= bufferSize) {
+                if (policy == SlowConsumerPolicy.DISCONNECT) {
+                    log.warn("[SSE] 느린 구독자 연결 종료 - filter={}, buffer={}", filter, buffer.size());
+                    close();
+                    return false;
+                }
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(event);
+        }
+        return draining.compareAndSet(false, true);
+    }
+
+    boolean offerAll(List<SequencedEvent> events) {
+        boolean schedule = false;
+        for (SequencedEvent event : events) {
+            schedule |= offer(event);
+        }
+        return schedule;
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 전송한다. 한 구독자에 대해 동시에 하나의 drain만 실행된다.
+     */
+    void drain() {
+        try {
+            while (true) {
+                SequencedEvent next;
+                synchronized (buffer) {
+                    next = buffer.pollFirst();
+                    if (next == null) {
+                        draining.set(false);
+                        return;
+                    }
+                }
+                emitter.send(SseEmitter.event()
+                    .id(Long.toString(next.id()))
+                    .name(EVENT_NAME)
+                    .data(next.event()));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("[SSE] 전송 실패, 구독 종료 - filter={}, error={}", filter, e.getMessage());
+            closed = true;
+            draining.set(false);
+        }
+    }
+
+    void heartbeat() {
+        if (closed) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException e) {
+            closed = true;
+        }
+    }
+
+    void close() {
+        closed = true;
+        emitter.complete();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    record SequencedEvent(long id, OrderTransitionEvent event) {}
+}
@@ -0,0 +1,172 @@
+package com.example.ssmdemo.warmup;
+
+import com.example.ssmdemo.cluster.OwnedStateMachineCache;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.projection.OrderField;
+import com.example.ssmdemo.exception.OrderNotFoundException;
+import com.example.ssmdemo.profile.StateMachineProfiler;
+import com.example.ssmdemo.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 기동 시 워밍업
+ *
+ * 준비 상태(readiness)가 ACCEPTING_TRAFFIC으로 바뀌기 전에 가상 주문 생명주기를 실행해
+ * JIT 컴파일, State Machine 생성, Guard/Action, Hibernate 쿼리 계획을 미리 데운다.
+ * ApplicationRunner는 Spring Boot가 준비 완료를 알리기 전에 실행되므로 워밍업이 끝날 때까지
+ * /actuator/health/readiness는 OUT_OF_SERVICE(503)로 응답한다.
+ *
+ * 생명주기마다 트랜잭션 하나를 열고 롤백하므로 가상 주문은 DB에 남지 않고,
+ * 커밋 후 전달되는 전이 이벤트(SSE, Long-Poll)도 발행되지 않는다.
+ * 클러스터 모드의 머신 캐시에 들어간 가상 주문 머신은 끝난 뒤 정리한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OrderWarmupProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.warmup.enabled", havingValue = "true")
+public class OrderWarmup implements ApplicationRunner {
+
+    /**
+     * 가상 주문 생명주기: 정상 흐름, 취소, 처리할 수 없는 이벤트, Guard 거부(결제 수단 없음)
+     */
+    private static final List<Lifecycle> LIFECYCLES = List.of(
+        new Lifecycle("CARD", List.of(OrderEvent.PAY, OrderEvent.SHIP, OrderEvent.DELIVER, OrderEvent.RETURN)),
+        new Lifecycle("CARD", List.of(OrderEvent.CANCEL)),
+        new Lifecycle("CARD", List.of(OrderEvent.SHIP, OrderEvent.PAY, OrderEvent.CANCEL)),
+        new Lifecycle("", List.of(OrderEvent.PAY, OrderEvent.CANCEL))
+    );
+
+    private static final String MISSING_ORDER_ID = "ORD-WARMUP";
+
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderWarmupProperties properties;
+    private final Optional<OwnedStateMachineCache> ownedStateMachines;
+    private final StateMachineProfiler profiler;
+
+    private volatile OrderWarmupResult lastResult;
+
+    public OrderWarmup(OrderService orderService,
+                       PlatformTransactionManager transactionManager,
+                       OrderWarmupProperties properties,
+                       Optional<OwnedStateMachineCache> ownedStateMachines,
+                       StateMachineProfiler profiler) {
+        this.orderService = orderService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.ownedStateMachines = ownedStateMachines;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        lastResult = warmUp();
+    }
+
+    /**
+     * 가상 주문 생명주기를 iterations번(maxDuration 이내) 실행한다.
+     */
+    public OrderWarmupResult warmUp() {
+        log.info("[Warmup] 시작 - iterations={}, maxDuration={}", properties.iterations(), properties.maxDuration());
+        long started = System.nanoTime();
+        long deadline = started + properties.maxDuration().toNanos();
+        List<String> orderIds = new ArrayList<>();
+        long transitions = 0;
+        long firstLifecycle = 0;
+        long lastLifecycle = 0;
+        int lifecycles = 0;
+        boolean completed = true;
+
+        try {
+            for (int i = 0; i < properties.iterations(); i++) {
+                if (System.nanoTime() > deadline) {
+                    completed = false;
+                    break;
+                }
+                Lifecycle lifecycle = LIFECYCLES.get(i % LIFECYCLES.size());
+                long lifecycleStarted = System.nanoTime();
+                orderIds.add(runRolledBack(lifecycle));
+                lookUpMissingOrder();
+                lastLifecycle = System.nanoTime() - lifecycleStarted;
+                if (lifecycles++ == 0) {
+                    firstLifecycle = lastLifecycle;
+                }
+                transitions += lifecycle.events().size();
+            }
+        } catch (RuntimeException e) {
+            // 워밍업 실패로 기동을 막지는 않는다 (실제 요청에서 같은 문제가 드러난다)
+            log.warn("[Warmup] 중단 - {}번째 생명주기에서 실패", lifecycles + 1, e);
+            completed = false;
+        } finally {
+            ownedStateMachines.ifPresent(cache -> cache.evict(orderIds));
+            if (profiler.isEnabled()) {
+                profiler.reset();
+            }
+        }
+
+        OrderWarmupResult result = new OrderWarmupResult(lifecycles, transitions,
+            Duration.ofNanos(System.nanoTime() - started), Duration.ofNanos(firstLifecycle),
+            Duration.ofNanos(lastLifecycle), completed);
+        log.info("[Warmup] 완료 - {}", result);
+        return result;
+    }
+
+    /**
+     * 마지막 워밍업 결과 (실행 전이면 null)
+     */
+    public OrderWarmupResult lastResult() {
+        return lastResult;
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 생명주기 하나를 한 트랜잭션에서 실행하고 롤백한다.
+     * 이벤트마다 단건 조회, 프로젝션 조회, 버전 조회, 가능한 이벤트 조회도 함께 실행한다.
+     */
+    private String runRolledBack(Lifecycle lifecycle) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            Order order = orderService.createOrder(
+                "WARMUP-PRODUCT", 1, new BigDecimal("10000"), "warmup@example.com", lifecycle.paymentMethod());
+            String orderId = order.getId();
+            for (OrderEvent event : lifecycle.events()) {
+                orderService.transition(orderId, event);
+                orderService.getOrder(orderId);
+                orderService.getOrderView(orderId, OrderField.ALL);
+                orderService.getOrderView(orderId, EnumSet.of(OrderField.ID, OrderField.STATUS));
+                orderService.findVersion(orderId);
+                orderService.getAvailableEvents(orderId);
+            }
+            return orderId;
+        });
+    }
+
+    /**
+     * 없는 주문 조회 (보관 테이블 폴백 + 404 경로)
+     */
+    private void lookUpMissingOrder() {
+        try {
+            orderService.getOrder(MISSING_ORDER_ID);
+        } catch (OrderNotFoundException expected) {
+            // 정상
+        }
+    }
+
+    private record Lifecycle(String paymentMethod, List<OrderEvent> events) {}
+}
@@ -0,0 +1,20 @@
+package com.example.ssmdemo.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 기동 시 워밍업 설정
+ *
+ * @param enabled     워밍업 사용 여부
+ * @param iterations  실행할 가상 주문 생명주기 수
+ * @param maxDuration 워밍업 최대 시간 (초과 시 남은 반복을 건너뛰고 준비 완료로 전환)
+ */
+@ConfigurationProperties(prefix = "ssm-demo.warmup")
+public record OrderWarmupProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("500") int iterations,
+    @DefaultValue("30s") Duration maxDuration
+) {}
@@ -0,0 +1,22 @@
+package com.example.ssmdemo.warmup;
+
+import java.time.Duration;
+
+/**
+ * 워밍업 실행 결과
+ *
+ * @param lifecycles     완료한 가상 주문 생명주기 수
+ * @param transitions    보낸 이벤트 수 (거부/Guard 거부 포함)
+ * @param elapsed        전체 소요 시간
+ * @param firstLifecycle 첫 생명주기 소요 시간 (콜드 상태)
+ * @param lastLifecycle  마지막 생명주기 소요 시간
+ * @param completed      iterations를 모두 실행했는지 여부 (maxDuration 초과 또는 실패 시 false)
+ */
+public record OrderWarmupResult(
+    int lifecycles,
+    long transitions,
+    Duration elapsed,
+    Duration firstLifecycle,
+    Duration lastLifecycle,
+    boolean completed
+) {}
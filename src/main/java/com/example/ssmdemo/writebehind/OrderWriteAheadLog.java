@@ -0,0 +1,289 @@
+package com.example.ssmdemo.writebehind;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 주문 스냅샷 Write-Ahead Log (메모리 매핑 파일)
+ *
+ * 레코드 형식: [payload 길이(int)][CRC32(int)][payload]
+ * - 각 레코드는 주문의 전체 스냅샷이므로 재생 시 마지막 레코드가 최종 상태
+ * - 길이가 0이거나 CRC가 맞지 않는 지점을 로그의 끝으로 간주 (찢어진 쓰기 복구)
+ * - fsync는 {@link #force()} 호출 단위로 묶어서 수행 (그룹 커밋)
+ */
+@Slf4j
+public class OrderWriteAheadLog implements AutoCloseable {
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final Path path;
+    private final int capacity;
+
+    private FileChannel channel;
+    private volatile MappedByteBuffer buffer;
+
+    private long appendedSeq;
+    private volatile long durableSeq;
+    private final Object durabilityMonitor = new Object();
+
+    public OrderWriteAheadLog(Path path, int capacity) {
+        this.path = path;
+        this.capacity = capacity;
+    }
+
+    /**
+     * WAL 파일을 열고 유효한 레코드를 순서대로 재생한다.
+     */
+    public synchronized List<Order> open() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 파일을 열 수 없습니다: " + path, e);
+        }
+
+        List<Order> replayed = new ArrayList<>();
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (crc(payload) != checksum) {
+                log.warn("[WAL] 손상된 레코드 발견, 이후 레코드 무시 - offset={}", start);
+                buffer.position(start);
+                break;
+            }
+            replayed.add(decode(payload));
+        }
+
+        log.info("[WAL] 열기 완료 - path={}, 재생 레코드={}, offset={}", path, replayed.size(), buffer.position());
+        return replayed;
+    }
+
+    /**
+     * 주문 스냅샷을 추가한다.
+     *
+     * @return 레코드 시퀀스, 공간이 부족하면 -1
+     */
+    public synchronized long append(Order order) {
+        byte[] payload = encode(order);
+        if (buffer.remaining() < HEADER_BYTES + payload.length) {
+            return -1;
+        }
+        buffer.putInt(payload.length);
+        buffer.putInt(crc(payload));
+        buffer.put(payload);
+        return ++appendedSeq;
+    }
+
+    /**
+     * 지금까지 추가된 레코드를 디스크에 강제 기록한다 (그룹 fsync).
+     */
+    public void force() {
+        long target;
+        MappedByteBuffer current;
+        synchronized (this) {
+            target = appendedSeq;
+            current = buffer;
+        }
+        if (target == durableSeq) {
+            return;
+        }
+        current.force();
+        synchronized (durabilityMonitor) {
+            durableSeq = Math.max(durableSeq, target);
+            durabilityMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * 지정 시퀀스가 디스크에 기록될 때까지 대기한다.
+     */
+    public void awaitDurable(long seq, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (durabilityMonitor) {
+            while (durableSeq < seq) {
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    throw new IllegalStateException("WAL fsync 대기 시간 초과 - seq=" + seq);
+                }
+                try {
+                    durabilityMonitor.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("WAL fsync 대기 중 인터럽트", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 스냅샷만 남기도록 WAL을 재작성한다 (체크포인트).
+     * 임시 파일에 기록 후 원자적으로 교체하므로 중간에 장애가 나도 기존 WAL이 유지된다.
+     */
+    public synchronized void rewrite(Collection<Order> live) {
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel tempChannel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer tempBuffer = tempChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            for (Order order : live) {
+                byte[] payload = encode(order);
+                tempBuffer.putInt(payload.length);
+                tempBuffer.putInt(crc(payload));
+                tempBuffer.put(payload);
+            }
+            tempBuffer.force();
+
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer reopened = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            reopened.position(tempBuffer.position());
+            buffer = reopened;
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 체크포인트 실패: " + path, e);
+        }
+
+        synchronized (durabilityMonitor) {
+            durableSeq = appendedSeq;
+            durabilityMonitor.notifyAll();
+        }
+        log.debug("[WAL] 체크포인트 완료 - 유지 레코드={}, offset={}", live.size(), buffer.position());
+    }
+
+    public synchronized int position() {
+        return buffer.position();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("[WAL] 닫기 실패 - path={}", path, e);
+        }
+        channel = null;
+    }
+
+    // === Codec ===
+
+    static byte[] encode(Order order) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(order.getId());
+            out.writeUTF(order.getProductId());
+            out.writeInt(order.getQuantity());
+            out.writeUTF(order.getTotalAmount().toPlainString());
+            out.writeUTF(order.getStatus().name());
+            writeNullable(out, order.getCustomerEmail());
+            writeNullable(out, order.getPaymentMethod());
+            writeNullable(out, order.getPaymentId());
+            writeNullable(out, order.getPaidAt());
+            writeNullable(out, order.getShippedAt());
+            writeNullable(out, order.getDeliveredAt());
+            writeNullable(out, order.getCancelledAt());
+            writeNullable(out, order.getRefundedAt());
+            writeNullable(out, order.getCreatedAt());
+            writeNullable(out, order.getModifiedAt());
+            writeNullable(out, order.getFencingToken());
+            out.writeLong(order.getVersion());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Order decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return Order.builder()
+                .id(in.readUTF())
+                .productId(in.readUTF())
+                .quantity(in.readInt())
+                .totalAmount(new BigDecimal(in.readUTF()))
+                .status(OrderStatus.valueOf(in.readUTF()))
+                .customerEmail(readNullable(in))
+                .paymentMethod(readNullable(in))
+                .paymentId(readNullable(in))
+                .paidAt(readNullableTime(in))
+                .shippedAt(readNullableTime(in))
+                .deliveredAt(readNullableTime(in))
+                .cancelledAt(readNullableTime(in))
+                .refundedAt(readNullableTime(in))
+                .createdAt(readNullableTime(in))
+                .modifiedAt(readNullableTime(in))
+                // fencingToken, version 필드 추가 전에 기록된 레코드에는 값이 없다
+                .fencingToken(in.available() > 0 ? readNullableLong(in) : null)
+                .version(in.available() >= Long.BYTES ? in.readLong() : 0L)
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, Object value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value.toString());
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static Long readNullableLong(DataInputStream in) throws IOException {
+        String value = readNullable(in);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private static LocalDateTime readNullableTime(DataInputStream in) throws IOException {
+        String value = readNullable(in);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.wrap(payload));
+        return (int) crc.getValue();
+    }
+}
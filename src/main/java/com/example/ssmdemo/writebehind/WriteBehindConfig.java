@@ -0,0 +1,31 @@
+package com.example.ssmdemo.writebehind;
+
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-Behind 영속화 설정 (opt-in)
+ *
+ * ssm-demo.write-behind.enabled=true 일 때만 등록되며,
+ * 비활성 시 OrderService는 기존처럼 전이마다 JPA 트랜잭션으로 저장한다.
+ */
+@Configuration
+@EnableConfigurationProperties(WriteBehindProperties.class)
+@ConditionalOnProperty(name = "ssm-demo.write-behind.enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+    @Bean
+    public WriteBehindOrderStore writeBehindOrderStore(WriteBehindProperties properties,
+                                                       OrderRepository orderRepository,
+                                                       PlatformTransactionManager transactionManager) {
+        OrderWriteAheadLog wal = new OrderWriteAheadLog(
+            properties.walPath(), Math.toIntExact(properties.walCapacity().toBytes()));
+        return new WriteBehindOrderStore(wal, orderRepository,
+            new TransactionTemplate(transactionManager), properties);
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.ssmdemo.writebehind;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-Behind 주문 저장소
+ *
+ * 전이된 주문은 호출자의 트랜잭션이 커밋된 뒤 메모리 테이블에 반영되고 WAL에 추가된 다음 응답한다.
+ * 트랜잭션이 롤백되면 반영하지 않는다. (같은 트랜잭션 안의 조회에는 반영 전 스냅샷이 보인다)
+ * - fsync: {@code fsync-interval} 주기로 그룹 단위 수행
+ * - DB 반영: {@code flush-interval} 주기로 배치 saveAll
+ * - 재시작: WAL 재생 → 메모리 테이블 복구 → 즉시 DB 반영
+ */
+@Slf4j
+public class WriteBehindOrderStore implements InitializingBean, DisposableBean {
+
+    private static final double CHECKPOINT_THRESHOLD = 0.5;
+
+    private final OrderWriteAheadLog wal;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindProperties properties;
+
+    /** 아직 orders 테이블에 반영되지 않은 주문 스냅샷 */
+    private final Map<String, Order> staged = new ConcurrentHashMap<>();
+
+    /** WAL 추가와 체크포인트를 직렬화 (체크포인트 시 staged와 WAL 내용이 일치해야 함) */
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WriteBehindOrderStore(OrderWriteAheadLog wal, OrderRepository orderRepository,
+                                 TransactionTemplate transactionTemplate, WriteBehindProperties properties) {
+        this.wal = wal;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recover();
+
+        long fsyncMicros = properties.fsyncInterval().toNanos() / 1_000;
+        long flushMicros = properties.flushInterval().toNanos() / 1_000;
+        scheduler.scheduleWithFixedDelay(this::forceQuietly, fsyncMicros, fsyncMicros, TimeUnit.MICROSECONDS);
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushMicros, flushMicros, TimeUnit.MICROSECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        wal.close();
+    }
+
+    /**
+     * WAL을 재생하여 DB에 반영되지 못한 주문을 복구한다.
+     */
+    public void recover() {
+        List<Order> replayed = wal.open();
+        for (Order order : replayed) {
+            staged.put(order.getId(), order);
+        }
+        if (!replayed.isEmpty()) {
+            log.info("[WriteBehind] WAL 복구 - 레코드={}, 주문={}", replayed.size(), staged.size());
+            flush();
+        }
+    }
+
+    /**
+     * 전이된 주문을 메모리 테이블과 WAL에 반영한다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영한다.
+     */
+    public void stage(Order order) {
+        // 영속성 컨텍스트 밖의 스냅샷에는 @PreUpdate가 실행되지 않으므로 직접 기록
+        Order snapshot = order.toBuilder().modifiedAt(LocalDateTime.now()).build();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(snapshot);
+            return;
+        }
+        pendingInTransaction().put(snapshot.getId(), snapshot);
+    }
+
+    private void append(Order snapshot) {
+        long seq = tryStage(snapshot);
+        if (seq < 0) {
+            // WAL이 가득 참: 동기 반영 후 체크포인트하고 다시 시도
+            flush();
+            checkpoint();
+            seq = tryStage(snapshot);
+            if (seq < 0) {
+                throw new IllegalStateException("WAL 용량이 부족합니다 - capacity=" + wal.capacity());
+            }
+        }
+
+        if (properties.syncCommit()) {
+            wal.awaitDurable(seq, properties.fsyncInterval().multipliedBy(100).plus(Duration.ofSeconds(1)));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 전이된 주문 (커밋 후 반영, 롤백 시 폐기)
+     * 락 해제 등 afterCompletion 작업보다 먼저 반영되도록 afterCommit에서 추가한다.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Order> pendingInTransaction() {
+        Map<String, Order> pending = (Map<String, Order>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<String, Order> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.values().forEach(WriteBehindOrderStore.this::append);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WriteBehindOrderStore.this);
+            }
+        });
+        return created;
+    }
+
+    private long tryStage(Order snapshot) {
+        appendLock.lock();
+        try {
+            long seq = wal.append(snapshot);
+            if (seq >= 0) {
+                staged.put(snapshot.getId(), snapshot);
+            }
+            return seq;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 메모리 테이블에서 주문을 조회한다. 호출자가 수정할 수 있도록 복사본을 반환한다.
+     */
+    public Optional<Order> find(String orderId) {
+        @SuppressWarnings("unchecked")
+        Map<String, Order> pending = (Map<String, Order>) TransactionSynchronizationManager.getResource(this);
+        Order snapshot = pending != null && pending.containsKey(orderId) ? pending.get(orderId) : staged.get(orderId);
+        return snapshot != null ? Optional.of(snapshot.toBuilder().build()) : Optional.empty();
+    }
+
+    public Collection<Order> stagedOrders() {
+        return staged.values().stream().map(order -> order.toBuilder().build()).toList();
+    }
+
+    /**
+     * DB 반영을 기다리는 주문인지 (보관 등 DB를 직접 옮기는 작업은 반영 후로 미룬다)
+     */
+    public boolean isStaged(String orderId) {
+        return staged.containsKey(orderId);
+    }
+
+    public int stagedCount() {
+        return staged.size();
+    }
+
+    /**
+     * 반영 대기 중인 주문을 배치 단위로 orders 테이블에 저장한다.
+     *
+     * @return 저장된 주문 수
+     */
+    public synchronized int flush() {
+        List<Order> pending = new ArrayList<>(staged.values());
+        int flushed = 0;
+
+        for (int from = 0; from < pending.size(); from += properties.flushBatchSize()) {
+            List<Order> batch = pending.subList(from, Math.min(from + properties.flushBatchSize(), pending.size()));
+            transactionTemplate.executeWithoutResult(status -> orderRepository.saveAll(batch));
+            // 반영 중 다시 전이된 주문은 새 스냅샷이 남아 있으므로 제거하지 않는다
+            batch.forEach(order -> staged.remove(order.getId(), order));
+            flushed += batch.size();
+        }
+
+        if (flushed > 0) {
+            log.debug("[WriteBehind] DB 반영 - 주문={}, 잔여={}", flushed, staged.size());
+        }
+        int walUsed = wal.position();
+        if (walUsed > 0 && (staged.isEmpty() || walUsed > wal.capacity() * CHECKPOINT_THRESHOLD)) {
+            checkpoint();
+        }
+        return flushed;
+    }
+
+    private void checkpoint() {
+        appendLock.lock();
+        try {
+            wal.rewrite(staged.values());
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void forceQuietly() {
+        try {
+            wal.force();
+        } catch (Exception e) {
+            log.error("[WriteBehind] WAL fsync 실패", e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[WriteBehind] DB 반영 실패 (다음 주기에 재시도) - 잔여={}", staged.size(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.ssmdemo.writebehind;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Write-Behind 영속화 설정
+ *
+ * @param enabled        Write-Behind 모드 사용 여부 (기본: 비활성 → 기존 JPA 동기 저장)
+ * @param walPath        WAL 파일 경로
+ * @param walCapacity    WAL 메모리 매핑 크기
+ * @param fsyncInterval  그룹 fsync 주기
+ * @param syncCommit     true면 전이 응답 전에 해당 WAL 레코드의 fsync 완료를 대기
+ * @param flushInterval  orders 테이블 배치 반영 주기
+ * @param flushBatchSize 한 트랜잭션에서 반영할 최대 주문 수
+ */
+@ConfigurationProperties(prefix = "ssm-demo.write-behind")
+public record WriteBehindProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("./data/orders.wal") Path walPath,
+    @DefaultValue("64MB") DataSize walCapacity,
+    @DefaultValue("5ms") Duration fsyncInterval,
+    @DefaultValue("false") boolean syncCommit,
+    @DefaultValue("50ms") Duration flushInterval,
+    @DefaultValue("500") int flushBatchSize
+) {}
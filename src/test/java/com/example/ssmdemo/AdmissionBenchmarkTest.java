@@ -0,0 +1,79 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.admission.AdmissionProperties;
+import com.example.ssmdemo.admission.AimdConcurrencyLimiter;
+import com.example.ssmdemo.admission.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유입 제어 판단(버킷 조회 + 토큰 버킷 + 동시성 한도) 비용 측정
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("유입 제어 판단 비용")
+class AdmissionBenchmarkTest {
+
+    private static final int KEYS = 1_000;
+    private static final int OPERATIONS = 5_000_000;
+
+    @Test
+    @DisplayName("요청당 유입 제어 판단 비용을 측정한다")
+    void 판단_비용_측정() throws Exception {
+        Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(
+            new AdmissionProperties.Concurrency(1_000, 4, 10_000, Duration.ofMillis(200), 0.9));
+        String[] keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "pay|api-key:client-" + i;
+        }
+
+        // 워밍업
+        decide(buckets, limiter, keys, OPERATIONS);
+
+        for (int threads : new int[]{1, 4}) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            long started = System.nanoTime();
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> decide(buckets, limiter, keys, OPERATIONS)));
+            }
+            long admitted = 0;
+            for (Future<Long> future : futures) {
+                admitted += future.get();
+            }
+            long elapsed = System.nanoTime() - started;
+            executor.shutdown();
+
+            // 스레드마다 OPERATIONS번 판단하므로 경과 시간 / OPERATIONS = 스레드 하나가 본 판단당 비용
+            double nanosPerDecision = (double) elapsed / OPERATIONS;
+            System.out.printf("[admission] threads=%d  %.1f ns/decision  admitted=%d%n", threads, nanosPerDecision, admitted);
+            assertThat(nanosPerDecision).isLessThan(1_000);
+        }
+    }
+
+    private long decide(Map<String, TokenBucket> buckets, AimdConcurrencyLimiter limiter, String[] keys, int operations) {
+        long admitted = 0;
+        for (int i = 0; i < operations; i++) {
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.computeIfAbsent(keys[i % keys.length], key -> new TokenBucket(1_000_000, 1_000));
+            if (bucket.tryAcquire(now) == 0 && limiter.tryAcquire()) {
+                limiter.release(1_000, true);
+                admitted++;
+            }
+        }
+        return admitted;
+    }
+}
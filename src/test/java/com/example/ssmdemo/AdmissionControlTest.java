@@ -0,0 +1,149 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.admission.AdmissionProperties;
+import com.example.ssmdemo.admission.AimdConcurrencyLimiter;
+import com.example.ssmdemo.admission.TokenBucket;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("주문 API 유입 제어 테스트")
+class AdmissionControlTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Nested
+    @DisplayName("토큰 버킷")
+    class Bucket {
+
+        @Test
+        @DisplayName("burst만큼 즉시 허용하고 이후에는 rate에 맞춰 다시 허용한다")
+        void 성공_버스트_후_속도_제한() {
+            // given
+            TokenBucket bucket = new TokenBucket(10, 3);
+            long now = 0;
+
+            // when & then
+            assertThat(bucket.tryAcquire(now)).isZero();
+            assertThat(bucket.tryAcquire(now)).isZero();
+            assertThat(bucket.tryAcquire(now)).isZero();
+            assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 10);
+            assertThat(bucket.tryAcquire(now + SECOND / 10)).isZero();
+            assertThat(bucket.isIdle(now + SECOND)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("AIMD 동시성 제한")
+    class Concurrency {
+
+        private final AdmissionProperties.Concurrency properties =
+            new AdmissionProperties.Concurrency(2, 1, 10, Duration.ofMillis(100), 0.5);
+
+        @Test
+        @DisplayName("한도를 넘는 동시 요청은 거절된다")
+        void 실패_한도_초과_거절() {
+            // given
+            AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(properties);
+
+            // when & then
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isFalse();
+            limiter.release(Duration.ofMillis(10).toNanos(), true);
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        @Test
+        @DisplayName("지연이 임계값을 넘으면 한도를 곱셈으로 줄이고, 빠르면 덧셈으로 늘린다")
+        void 성공_지연에_따른_한도_조정() {
+            // given
+            AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(properties);
+
+            // when - 느린 응답
+            limiter.tryAcquire();
+            limiter.release(Duration.ofMillis(500).toNanos(), true);
+
+            // then
+            assertThat(limiter.limit()).isEqualTo(1);
+
+            // when - 빠른 응답이 이어짐
+            for (int i = 0; i < 20; i++) {
+                limiter.tryAcquire();
+                limiter.release(Duration.ofMillis(5).toNanos(), true);
+            }
+
+            // then
+            assertThat(limiter.limit()).isGreaterThan(1);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admission-test",
+        "ssm-demo.admission.enabled=true",
+        "ssm-demo.admission.rate-limit.rate=1000",
+        "ssm-demo.admission.rate-limit.burst=1000",
+        "ssm-demo.admission.endpoints.getOrder.rate=1",
+        "ssm-demo.admission.endpoints.getOrder.burst=2"
+    })
+    @AutoConfigureMockMvc
+    @DisplayName("엔드포인트")
+    class Endpoint {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private OrderService orderService;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("고객 키별 한도를 넘으면 429와 Retry-After를 반환하고, 다른 고객은 영향받지 않는다")
+        void 실패_고객별_속도_제한() throws Exception {
+            // given
+            Order order = orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"),
+                "admission@example.com", "CARD");
+
+            // when & then
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).header("X-Api-Key", "noisy"))
+                .andExpect(status().isOk());
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).header("X-Api-Key", "noisy"))
+                .andExpect(status().isOk());
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).header("X-Api-Key", "noisy"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("RATE_LIMITED"));
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).header("X-Api-Key", "quiet"))
+                .andExpect(status().isOk());
+
+            // 메트릭 태그에는 API 키 원문 대신 해시만 남는다
+            assertThat(meterRegistry.get("orders.admission.rejected")
+                .tag("reason", "RATE_LIMITED")
+                .counters())
+                .singleElement()
+                .satisfies(counter -> {
+                    assertThat(counter.getId().getTag("key")).matches("api-key:[0-9a-f]{12}");
+                    assertThat(counter.count()).isEqualTo(1);
+                });
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.cluster.ConsistentHashRing;
+import com.example.ssmdemo.cluster.OrderOwnership;
+import com.example.ssmdemo.cluster.OrderOwnershipChangedEvent;
+import com.example.ssmdemo.cluster.OwnedStateMachineCache;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.statemachine.StateMachine;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("클러스터 주문 소유권 테스트")
+class ClusterOwnershipTest {
+
+    @Nested
+    @DisplayName("일관 해시 링")
+    class Ring {
+
+        private final List<String> keys = IntStream.range(0, 20_000).mapToObj(i -> "ORD-" + i).toList();
+
+        @Test
+        @DisplayName("가상 노드로 주문이 노드 간에 고르게 분산된다")
+        void 성공_고른_분산() {
+            // given
+            ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+
+            // when
+            Map<String, Integer> counts = new HashMap<>();
+            keys.forEach(key -> counts.merge(ring.ownerOf(key), 1, Integer::sum));
+
+            // then
+            assertThat(counts).hasSize(3);
+            assertThat(counts.values()).allSatisfy(count ->
+                assertThat(count).isBetween(keys.size() / 3 * 8 / 10, keys.size() / 3 * 12 / 10));
+        }
+
+        @Test
+        @DisplayName("노드가 추가되면 새 노드로 가는 주문만 소유자가 바뀐다")
+        void 성공_노드_추가시_최소_이동() {
+            // given
+            ConsistentHashRing before = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+            ConsistentHashRing after = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"), 128);
+
+            // when
+            List<String> moved = keys.stream()
+                .filter(key -> !before.ownerOf(key).equals(after.ownerOf(key)))
+                .toList();
+
+            // then
+            assertThat(moved).allSatisfy(key -> assertThat(after.ownerOf(key)).isEqualTo("node-d"));
+            assertThat(moved.size()).isBetween(keys.size() / 4 * 7 / 10, keys.size() / 4 * 13 / 10);
+        }
+
+        @Test
+        @DisplayName("멤버십이 바뀌면 소유권을 잃은 주문의 State Machine이 정리된다")
+        void 성공_재분배시_머신_정리() {
+            // given
+            OrderOwnership ownership = new OrderOwnership("node-a",
+                Map.of("node-a", "http://a", "node-b", "http://b"), 128, event -> { });
+            OwnedStateMachineCache cache = new OwnedStateMachineCache(ownership, 1_000);
+            keys.stream().limit(200).forEach(key -> cache.get(key, id -> stoppableMachine()));
+            int ownedBefore = cache.size();
+
+            // when
+            ownership.updateMembership(Map.of("node-a", "http://a", "node-b", "http://b", "node-c", "http://c"));
+            cache.onOwnershipChanged(new OrderOwnershipChangedEvent(Set.of(), Set.of()));
+
+            // then
+            assertThat(ownedBefore).isGreaterThan(0);
+            assertThat(cache.size()).isLessThan(ownedBefore);
+            assertThat(keys.stream().limit(200).filter(ownership::isLocal).count()).isEqualTo(cache.size());
+        }
+
+        @SuppressWarnings("unchecked")
+        private StateMachine<OrderStatus, OrderEvent> stoppableMachine() {
+            StateMachine<OrderStatus, OrderEvent> sm = mock(StateMachine.class);
+            when(sm.stopReactively()).thenReturn(Mono.empty());
+            return sm;
+        }
+    }
+
+    @Nested
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    @DisplayName("두 노드 라우팅")
+    class TwoNodes {
+
+        private final HttpClient http = HttpClient.newHttpClient();
+        private int portA;
+        private int portB;
+        private ConfigurableApplicationContext nodeA;
+        private ConfigurableApplicationContext nodeB;
+
+        @BeforeAll
+        void startNodes() throws IOException {
+            portA = freePort();
+            portB = freePort();
+            nodeA = startNode("node-a", portA);
+            nodeB = startNode("node-b", portB);
+        }
+
+        @AfterAll
+        void stopNodes() {
+            nodeB.close();
+            nodeA.close();
+        }
+
+        @Test
+        @DisplayName("주문은 생성한 노드가 소유하고, 다른 노드로 온 전이 요청은 소유 노드로 전달된다")
+        void 성공_소유_노드로_전달() throws Exception {
+            // given
+            String orderId = createOrderOn(portA);
+
+            // when
+            HttpResponse<String> response = send(HttpRequest.newBuilder(orderUri(portB, orderId, "/pay"))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+
+            // then
+            assertThat(nodeA.getBean(OrderOwnership.class).isLocal(orderId)).isTrue();
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).contains("\"status\":\"PAID\"");
+            assertThat(nodeA.getBean(OwnedStateMachineCache.class).size()).isGreaterThan(0);
+            assertThat(nodeB.getBean(OwnedStateMachineCache.class).size()).isZero();
+        }
+
+        @Test
+        @DisplayName("소유 노드에 연결할 수 없으면 로컬에서 처리하지 않고 503을 반환한다")
+        void 실패_소유_노드_연결_거부() throws Exception {
+            // given - node-b가 보는 node-a 주소를 닫힌 포트로 바꾼다 (소유권은 노드 ID로 정해지므로 그대로)
+            String orderId = createOrderOn(portA);
+            OrderOwnership ownershipB = nodeB.getBean(OrderOwnership.class);
+            Map<String, String> members = ownershipB.members();
+            ownershipB.updateMembership(Map.of(
+                "node-a", "http://localhost:" + freePort(), "node-b", "http://localhost:" + portB));
+
+            try {
+                // when
+                HttpResponse<String> response = send(HttpRequest.newBuilder(orderUri(portB, orderId, "/pay"))
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+
+                // then
+                assertThat(response.statusCode()).isEqualTo(503);
+                assertThat(response.headers().firstValue("Retry-After")).hasValue("1");
+                assertThat(response.body()).contains("\"error\":\"OWNER_UNAVAILABLE\"");
+                assertThat(JsonPath.<String>read(response.body(), "$.message")).endsWith(orderId);
+                assertThat(send(HttpRequest.newBuilder(orderUri(portA, orderId, "")).GET()).body())
+                    .contains("\"status\":\"CREATED\"");
+            } finally {
+                ownershipB.updateMembership(members);
+            }
+        }
+
+        @Test
+        @DisplayName("오래 유지되는 요청은 소유 노드로 리다이렉트된다")
+        void 성공_대기_요청_리다이렉트() throws Exception {
+            // given
+            String orderId = createOrderOn(portA);
+
+            // when
+            HttpResponse<String> response = send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + portB + "/api/orders/" + orderId + "/await?status=PAID")).GET());
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(307);
+            assertThat(response.headers().firstValue("Location"))
+                .hasValue("http://localhost:" + portA + "/api/orders/" + orderId + "/await?status=PAID");
+        }
+
+        // === Helper Methods ===
+
+        private ConfigurableApplicationContext startNode(String nodeId, int port) {
+            // application.yml보다 우선하도록 커맨드라인 인자로 전달
+            return new SpringApplicationBuilder(SsmDemoApplication.class).run(
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:cluster-test;DB_CLOSE_DELAY=-1",
+                "--spring.jmx.enabled=false",
+                "--ssm-demo.cluster.enabled=true",
+                "--ssm-demo.cluster.node-id=" + nodeId,
+                "--ssm-demo.cluster.nodes.node-a=http://localhost:" + portA,
+                "--ssm-demo.cluster.nodes.node-b=http://localhost:" + portB
+            );
+        }
+
+        private String createOrderOn(int port) throws Exception {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                    {"productId":"PRODUCT-001","quantity":1,"amount":10000,
+                     "customerEmail":"cluster@example.com","paymentMethod":"CARD"}
+                    """)));
+            assertThat(response.statusCode()).isEqualTo(201);
+            return response.body().replaceAll(".*\"id\":\"([^\"]+)\".*", "$1");
+        }
+
+        private URI orderUri(int port, String orderId, String action) {
+            return URI.create("http://localhost:" + port + "/api/orders/" + orderId + action);
+        }
+
+        private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+            return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        private int freePort() throws IOException {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                return socket.getLocalPort();
+            }
+        }
+    }
+}
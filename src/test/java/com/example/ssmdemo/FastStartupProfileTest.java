@@ -0,0 +1,97 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.config.RedisAutoConfigurationFilter;
+import com.example.ssmdemo.controller.BatchJobController;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("fast-startup")
+@DisplayName("빠른 기동 모드 테스트")
+class FastStartupProfileTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Nested
+    @DisplayName("지연 초기화")
+    class LazyInitialization {
+
+        @Test
+        @DisplayName("주문 처리 경로의 빈은 기동 시 만들어지고, 나머지 빈은 첫 사용 시 만들어진다")
+        void 성공_주문_처리_경로만_즉시_생성() {
+            // given
+            String batchJobController = context.getBeanNamesForType(BatchJobController.class)[0];
+
+            // when
+            boolean batchJobControllerCreated = context.getBeanFactory().containsSingleton(batchJobController);
+
+            // then
+            assertThat(context.getBeanFactory().containsSingleton("orderService")).isTrue();
+            assertThat(batchJobControllerCreated).isFalse();
+        }
+
+        @Test
+        @DisplayName("첫 전이 요청이 정상 처리된다")
+        void 성공_첫_전이() {
+            // given
+            Order order = orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"), "fast@example.com", "CARD");
+
+            // when
+            Order paid = orderService.pay(order.getId());
+
+            // then
+            assertThat(paid.getStatus()).isEqualTo(OrderStatus.PAID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis 자동 구성")
+    class Redis {
+
+        @Test
+        @DisplayName("분산 락을 쓰지 않으면 Redis 커넥션 팩토리를 만들지 않는다")
+        void 성공_락_비활성화시_Redis_제외() {
+            // when
+            String[] factories = context.getBeanNamesForType(RedisConnectionFactory.class);
+
+            // then
+            assertThat(factories).isEmpty();
+        }
+
+        @Test
+        @DisplayName("제외 속성을 켜지 않은 프로파일에서는 Redis 자동 구성을 그대로 적용한다")
+        void 성공_제외_속성_없으면_Redis_유지() {
+            // given
+            RedisAutoConfigurationFilter filter = new RedisAutoConfigurationFilter();
+            filter.setEnvironment(new MockEnvironment().withProperty("ssm-demo.lock.enabled", "false"));
+            String[] candidates = {
+                "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration",
+                "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration"
+            };
+
+            // when
+            boolean[] matches = filter.match(candidates, null);
+
+            // then
+            assertThat(matches).containsExactly(true, true);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.exception.InvalidStateTransitionException;
+import com.example.ssmdemo.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("JFR 전이 이벤트 테스트")
+class FlightRecordingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("녹화 중 전이·Guard·Action·머신 준비·거부 이벤트가 주문 정보와 함께 기록된다")
+    void 성공_전이_이벤트_녹화() throws Exception {
+        // given
+        String started = mockMvc.perform(post("/internal/jfr/recordings").param("name", "transition-test"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.state").value("RUNNING"))
+            .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(started).get("id").asLong();
+        Order order = createOrder();
+
+        // when
+        orderService.pay(order.getId());
+        orderService.ship(order.getId());
+        assertThatThrownBy(() -> orderService.pay(order.getId()))
+            .isInstanceOf(InvalidStateTransitionException.class);
+        mockMvc.perform(post("/internal/jfr/recordings/{id}/stop", id))
+            .andExpect(jsonPath("$.state").value("STOPPED"));
+        List<RecordedEvent> events = download(id).stream()
+            .filter(event -> event.getEventType().getName().startsWith("com.example.ssmdemo."))
+            .filter(event -> order.getId().equals(event.getString("orderId")))
+            .toList();
+
+        // then
+        assertThat(events)
+            .extracting(event -> event.getEventType().getName(), event -> event.getString("source"),
+                event -> event.getString("event"))
+            .contains(
+                tuple("com.example.ssmdemo.OrderTransition", "CREATED", "PAY"),
+                tuple("com.example.ssmdemo.MachineAcquire", "CREATED", "PAY"),
+                tuple("com.example.ssmdemo.GuardEvaluation", "CREATED", "PAY"),
+                tuple("com.example.ssmdemo.ActionExecution", "CREATED", "PAY"),
+                tuple("com.example.ssmdemo.OrderTransition", "PAID", "SHIP"),
+                tuple("com.example.ssmdemo.EventRejected", "SHIPPED", "PAY")
+            );
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("com.example.ssmdemo.GuardEvaluation"))
+            .anySatisfy(event -> {
+                assertThat(event.getString("guard")).isEqualTo("paymentValidGuard");
+                assertThat(event.getString("target")).isEqualTo("PAID");
+                assertThat(event.getBoolean("allowed")).isTrue();
+            });
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("com.example.ssmdemo.OrderTransition"))
+            .extracting(event -> event.getString("target"), event -> event.getBoolean("accepted"))
+            .containsExactly(tuple("PAID", true), tuple("SHIPPED", true), tuple("SHIPPED", false));
+
+        mockMvc.perform(delete("/internal/jfr/recordings/{id}", id))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 녹화는 404를 반환한다")
+    void 실패_존재하지_않는_녹화() throws Exception {
+        mockMvc.perform(get("/internal/jfr/recordings/{id}", 999_999))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(post("/internal/jfr/recordings/{id}/stop", 999_999))
+            .andExpect(status().isNotFound());
+    }
+
+    // === Helper Methods ===
+
+    private List<RecordedEvent> download(long id) throws Exception {
+        MvcResult result = mockMvc.perform(get("/internal/jfr/recordings/{id}", id))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        byte[] bytes = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+        Path file = Files.write(tempDir.resolve("recording.jfr"), bytes);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            1,
+            new BigDecimal("10000"),
+            "jfr@example.com",
+            "CARD"
+        );
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.ssmdemo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * 테스트용 인프로세스 Redis 대역 (RESP2)
+ *
+ * 락 구현이 사용하는 명령만 지원한다: PING, SET(NX/PX/EX), GET, DEL, INCR, PTTL, PUBLISH, SUBSCRIBE, EVAL.
+ * Lua 인터프리터 대신 EVAL은 registerScript로 등록한 스크립트 원문에 대응하는 Java 구현을 실행한다.
+ * 명령은 서버 단위로 직렬 실행되므로 Redis와 같이 명령/스크립트 단위 원자성이 보장된다.
+ */
+class InProcessRedisServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Entry> data = new HashMap<>();
+    private final Map<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, BiFunction<List<String>, List<String>, Object>> scripts = new ConcurrentHashMap<>();
+
+    InProcessRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.submit(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * EVAL로 실행할 스크립트 등록 (keys, args → 응답 값)
+     */
+    void registerScript(String source, BiFunction<List<String>, List<String>, Object> implementation) {
+        scripts.put(source, implementation);
+    }
+
+    synchronized String get(String key) {
+        Entry entry = live(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * SET key value NX PX ttlMillis
+     */
+    synchronized boolean setIfAbsent(String key, String value, long ttlMillis) {
+        return set(List.of("SET", key, value, "NX", "PX", Long.toString(ttlMillis))) != null;
+    }
+
+    synchronized long increment(String key) {
+        return (long) incr(key);
+    }
+
+    synchronized boolean del(String key) {
+        return data.remove(key) != null;
+    }
+
+    long publish(String channel, String message) {
+        Set<Connection> connections = subscribers.getOrDefault(channel, Set.of());
+        for (Connection connection : connections) {
+            connection.push(List.of("message", channel, message));
+        }
+        return connections.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    // === Server ===
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> new Connection(socket).serve());
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private synchronized Object execute(Connection connection, List<String> command) {
+        String name = command.get(0).toUpperCase();
+        return switch (name) {
+            case "PING" -> new Status("PONG");
+            case "CLIENT", "SELECT" -> new Status("OK");
+            case "SET" -> set(command);
+            case "GET" -> get(command.get(1));
+            case "DEL" -> (long) command.subList(1, command.size()).stream().filter(this::del).count();
+            case "INCR" -> incr(command.get(1));
+            case "PTTL" -> pttl(command.get(1));
+            case "PUBLISH" -> publish(command.get(1), command.get(2));
+            case "SUBSCRIBE" -> subscribe(connection, command.subList(1, command.size()));
+            case "UNSUBSCRIBE" -> unsubscribe(connection, command.subList(1, command.size()));
+            case "EVALSHA" -> new Error("NOSCRIPT No matching script. Please use EVAL.");
+            case "EVAL" -> eval(command);
+            default -> new Error("ERR unknown command '" + command.get(0) + "'");
+        };
+    }
+
+    private Object set(List<String> command) {
+        String key = command.get(1);
+        boolean nx = false;
+        long ttlMillis = -1;
+        for (int i = 3; i < command.size(); i++) {
+            switch (command.get(i).toUpperCase()) {
+                case "NX" -> nx = true;
+                case "PX" -> ttlMillis = Long.parseLong(command.get(++i));
+                case "EX" -> ttlMillis = Long.parseLong(command.get(++i)) * 1000;
+                default -> { }
+            }
+        }
+        if (nx && live(key) != null) {
+            return null;
+        }
+        data.put(key, new Entry(command.get(2), ttlMillis < 0 ? Long.MAX_VALUE : System.currentTimeMillis() + ttlMillis));
+        return new Status("OK");
+    }
+
+    private Object incr(String key) {
+        Entry entry = live(key);
+        long value = entry != null ? Long.parseLong(entry.value) + 1 : 1;
+        data.put(key, new Entry(Long.toString(value), entry != null ? entry.expiresAt : Long.MAX_VALUE));
+        return value;
+    }
+
+    private Object pttl(String key) {
+        Entry entry = live(key);
+        if (entry == null) {
+            return -2L;
+        }
+        return entry.expiresAt == Long.MAX_VALUE ? -1L : entry.expiresAt - System.currentTimeMillis();
+    }
+
+    private Object subscribe(Connection connection, List<String> channels) {
+        for (String channel : channels) {
+            subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArraySet<>()).add(connection);
+            connection.channels.add(channel);
+            connection.push(List.of("subscribe", channel, (long) connection.channels.size()));
+        }
+        return NO_REPLY;
+    }
+
+    private Object unsubscribe(Connection connection, List<String> channels) {
+        List<String> targets = channels.isEmpty() ? List.copyOf(connection.channels) : channels;
+        for (String channel : targets) {
+            subscribers.getOrDefault(channel, Set.of()).remove(connection);
+            connection.channels.remove(channel);
+            connection.push(List.of("unsubscribe", channel, (long) connection.channels.size()));
+        }
+        return NO_REPLY;
+    }
+
+    private Object eval(List<String> command) {
+        BiFunction<List<String>, List<String>, Object> script = scripts.get(command.get(1));
+        if (script == null) {
+            return new Error("ERR script not supported by the stand-in");
+        }
+        int numKeys = Integer.parseInt(command.get(2));
+        return script.apply(command.subList(3, 3 + numKeys), command.subList(3 + numKeys, command.size()));
+    }
+
+    private Entry live(String key) {
+        Entry entry = data.get(key);
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            data.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private record Entry(String value, long expiresAt) {}
+
+    private record Status(String text) {}
+
+    private record Error(String text) {}
+
+    private static final Object NO_REPLY = new Object();
+
+    // === Connection ===
+
+    private final class Connection {
+
+        private final Socket socket;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+        private OutputStream out;
+
+        Connection(Socket socket) {
+            this.socket = socket;
+        }
+
+        void serve() {
+            try (socket; InputStream in = new BufferedInputStream(socket.getInputStream())) {
+                out = new BufferedOutputStream(socket.getOutputStream());
+                while (true) {
+                    List<String> command = readCommand(in);
+                    if (command == null) {
+                        return;
+                    }
+                    if (command.get(0).equalsIgnoreCase("HELLO")) {
+                        // RESP3 협상을 거부하여 클라이언트가 RESP2로 동작하게 한다
+                        reply(new Error("ERR unknown command 'HELLO'"));
+                        continue;
+                    }
+                    if (command.get(0).equalsIgnoreCase("QUIT")) {
+                        reply(new Status("OK"));
+                        return;
+                    }
+                    Object result = execute(this, command);
+                    if (result != NO_REPLY) {
+                        reply(result);
+                    }
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            } finally {
+                channels.forEach(channel -> subscribers.getOrDefault(channel, Set.of()).remove(this));
+            }
+        }
+
+        synchronized void push(Object value) {
+            try {
+                write(value);
+                out.flush();
+            } catch (IOException e) {
+                // 구독자 연결 종료
+            }
+        }
+
+        private synchronized void reply(Object value) throws IOException {
+            write(value);
+            out.flush();
+        }
+
+        private void write(Object value) throws IOException {
+            if (value == null) {
+                out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            } else if (value instanceof Status status) {
+                out.write(("+" + status.text() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            } else if (value instanceof Error error) {
+                out.write(("-" + error.text() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            } else if (value instanceof Long number) {
+                out.write((":" + number + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            } else if (value instanceof String text) {
+                byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                out.write(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(bytes);
+                out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+            } else if (value instanceof List<?> items) {
+                out.write(("*" + items.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                for (Object item : items) {
+                    write(item);
+                }
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 응답 타입: " + value);
+            }
+        }
+
+        private List<String> readCommand(InputStream in) throws IOException {
+            String header = readLine(in);
+            if (header == null) {
+                return null;
+            }
+            if (!header.startsWith("*")) {
+                return List.of(header.trim().split("\\s+"));
+            }
+            int count = Integer.parseInt(header.substring(1));
+            List<String> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = Integer.parseInt(readLine(in).substring(1));
+                byte[] bytes = in.readNBytes(length);
+                in.readNBytes(2);
+                args.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            return args;
+        }
+
+        private String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\r') {
+                    in.read();
+                    return line.toString(StandardCharsets.UTF_8);
+                }
+                line.write(b);
+            }
+            return null;
+        }
+    }
+}
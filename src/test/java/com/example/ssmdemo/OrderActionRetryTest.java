@@ -0,0 +1,317 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.entity.OrderActionDeadLetter;
+import com.example.ssmdemo.domain.order.entity.OrderActionRetry;
+import com.example.ssmdemo.domain.order.entity.OrderSideEffectCall;
+import com.example.ssmdemo.domain.order.enums.OrderSideEffect;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.repository.OrderActionDeadLetterRepository;
+import com.example.ssmdemo.domain.order.repository.OrderActionRetryRepository;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.retry.ActionRetryRunResult;
+import com.example.ssmdemo.retry.OrderActionRetryQueue;
+import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.statemachine.action.OrderSideEffects;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:action-retry-test",
+    "ssm-demo.action-retry.enabled=true",
+    "ssm-demo.action-retry.poll-interval=1h",
+    "ssm-demo.action-retry.max-attempts=3",
+    "ssm-demo.action-retry.initial-backoff=0s",
+    "ssm-demo.action-retry.jitter=0"
+})
+@AutoConfigureMockMvc
+@DisplayName("부수 효과 재시도 큐 테스트")
+class OrderActionRetryTest {
+
+    @Autowired
+    private OrderActionRetryQueue retryQueue;
+
+    @Autowired
+    private FlakySideEffects sideEffects;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderActionRetryRepository retryRepository;
+
+    @Autowired
+    private OrderActionDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sideEffects.reset();
+        orderRepository.deleteAllInBatch();
+        retryRepository.deleteAllInBatch();
+        deadLetterRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    @DisplayName("실패 기록")
+    class Enqueue {
+
+        @Test
+        @DisplayName("결제 호출이 실패해도 전이는 완료되고 같은 결제 ID로 재시도가 예약된다")
+        void 성공_실패한_결제_재시도_예약() {
+            // given
+            Order order = createOrder();
+            sideEffects.failNext(OrderSideEffect.PAYMENT, 1);
+
+            // when
+            Order paid = orderService.pay(order.getId());
+
+            // then
+            assertThat(paid.getStatus()).isEqualTo(OrderStatus.PAID);
+            List<OrderActionRetry> pending = retryRepository.findAll();
+            assertThat(pending).hasSize(1);
+            OrderActionRetry retry = pending.get(0);
+            assertThat(retry.getCall().effect()).isEqualTo(OrderSideEffect.PAYMENT);
+            assertThat(retry.getCall().orderId()).isEqualTo(order.getId());
+            assertThat(retry.getCall().reference()).isEqualTo(paid.getPaymentId());
+            assertThat(retry.getAttempts()).isEqualTo(1);
+            assertThat(retry.getLastError()).contains("PG 응답 없음");
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도")
+    class Retry {
+
+        @Test
+        @DisplayName("다시 시도해 성공하면 큐에서 제거되고 주문은 바뀌지 않는다")
+        void 성공_재시도_성공() {
+            // given
+            Order order = createOrder();
+            sideEffects.failNext(OrderSideEffect.PAYMENT, 1);
+            Order paid = orderService.pay(order.getId());
+            double succeededBefore = succeededRetries();
+
+            // when
+            ActionRetryRunResult result = retryQueue.retryDue();
+
+            // then
+            assertThat(result).isEqualTo(new ActionRetryRunResult(1, 1, 0, 0, 0));
+            assertThat(retryRepository.count()).isZero();
+            assertThat(sideEffects.executed(OrderSideEffect.PAYMENT)).containsExactly(
+                paid.getPaymentId(), paid.getPaymentId());
+            Order reloaded = orderService.getOrder(order.getId());
+            assertThat(reloaded.getVersion()).isEqualTo(paid.getVersion());
+            assertThat(succeededRetries() - succeededBefore).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다시 실패하면 시도 수를 늘려 재예약하고, maxAttempts를 소진하면 dead letter로 옮긴다")
+        void 실패_재시도_소진() {
+            // given
+            Order order = createOrder();
+            orderService.pay(order.getId());
+            sideEffects.failNext(OrderSideEffect.REFUND, 3);
+            orderService.cancel(order.getId());
+
+            // when
+            ActionRetryRunResult second = retryQueue.retryDue();
+            int attemptsAfterSecond = retryRepository.findAll().get(0).getAttempts();
+            ActionRetryRunResult third = retryQueue.retryDue();
+
+            // then
+            assertThat(second).isEqualTo(new ActionRetryRunResult(1, 0, 1, 0, 0));
+            assertThat(attemptsAfterSecond).isEqualTo(2);
+            assertThat(third).isEqualTo(new ActionRetryRunResult(1, 0, 0, 1, 0));
+            assertThat(retryRepository.count()).isZero();
+            List<OrderActionDeadLetter> deadLetters = deadLetterRepository.findAll();
+            assertThat(deadLetters).hasSize(1);
+            assertThat(deadLetters.get(0).getCall().effect()).isEqualTo(OrderSideEffect.REFUND);
+            assertThat(deadLetters.get(0).getAttempts()).isEqualTo(3);
+            assertThat(orderService.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        }
+
+        @Test
+        @DisplayName("실행 중 lease가 지나 다른 실행이 가져간 항목은 결과를 반영하지 않는다")
+        void 실패_선점_만료() {
+            // given - 호출 도중 다른 노드가 만료된 lease를 가져가 버전을 올린 상황
+            Order order = createOrder();
+            sideEffects.failNext(OrderSideEffect.PAYMENT, 1);
+            orderService.pay(order.getId());
+            OrderActionRetry retry = retryRepository.findAll().get(0);
+            sideEffects.beforeNext(() -> jdbcTemplate.update(
+                "update order_action_retries set version = version + 1 where id = ?", retry.getId()));
+
+            // when
+            ActionRetryRunResult result = retryQueue.retryDue();
+
+            // then
+            assertThat(result).isEqualTo(new ActionRetryRunResult(1, 0, 0, 0, 1));
+            OrderActionRetry remaining = retryRepository.findById(retry.getId()).orElseThrow();
+            assertThat(remaining.getAttempts()).isEqualTo(1);
+            assertThat(remaining.getVersion()).isEqualTo(retry.getVersion() + 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("dead letter API")
+    class DeadLetterApi {
+
+        @Test
+        @DisplayName("dead letter를 조회하고 재처리하면 다음 재시도에서 실행된다")
+        void 성공_dead_letter_재처리() throws Exception {
+            // given
+            Order order = createOrder();
+            sideEffects.failNext(OrderSideEffect.PAYMENT, 3);
+            orderService.pay(order.getId());
+            retryQueue.retryDue();
+            retryQueue.retryDue();
+            String id = deadLetterRepository.findAll().get(0).getId();
+
+            // when & then
+            mockMvc.perform(get("/internal/action-retries/dead-letters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id))
+                .andExpect(jsonPath("$[0].effect").value("PAYMENT"))
+                .andExpect(jsonPath("$[0].orderId").value(order.getId()))
+                .andExpect(jsonPath("$[0].attempts").value(3));
+
+            mockMvc.perform(post("/internal/action-retries/dead-letters/{id}/replay", id))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("REQUEUED"));
+            assertThat(deadLetterRepository.count()).isZero();
+
+            mockMvc.perform(post("/internal/action-retries/run"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.claimed").value(1))
+                .andExpect(jsonPath("$.succeeded").value(1));
+            assertThat(retryRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("없는 dead letter 재처리는 404")
+        void 실패_없는_dead_letter() throws Exception {
+            mockMvc.perform(post("/internal/action-retries/dead-letters/{id}/replay", "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("NOT_FOUND"));
+        }
+
+        @Test
+        @DisplayName("limit이 1~1000 범위를 벗어나면 400")
+        void 실패_limit_범위_초과() throws Exception {
+            for (String limit : List.of("0", "-1", "1001")) {
+                mockMvc.perform(get("/internal/action-retries").param("limit", limit))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("INVALID_LIMIT"));
+                mockMvc.perform(get("/internal/action-retries/dead-letters").param("limit", limit))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("INVALID_LIMIT"));
+            }
+        }
+    }
+
+    private double succeededRetries() {
+        return meterRegistry.get("orders.action.retries")
+            .tag("effect", "PAYMENT").tag("outcome", "succeeded").counter().count();
+    }
+
+    private Order createOrder() {
+        return orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"), "test@example.com", "CARD");
+    }
+
+    @TestConfiguration
+    static class FlakySideEffectsConfig {
+
+        @Bean
+        @Primary
+        FlakySideEffects flakySideEffects() {
+            return new FlakySideEffects();
+        }
+    }
+
+    /**
+     * 지정한 횟수만큼 호출을 실패시키고 실행한 호출의 reference를 기록하는 부수 효과
+     */
+    static class FlakySideEffects extends OrderSideEffects {
+
+        private final Map<OrderSideEffect, AtomicInteger> failures = new EnumMap<>(OrderSideEffect.class);
+        private final Map<OrderSideEffect, List<String>> executed = new EnumMap<>(OrderSideEffect.class);
+        private final AtomicReference<Runnable> beforeNext = new AtomicReference<>();
+
+        FlakySideEffects() {
+            reset();
+        }
+
+        synchronized void reset() {
+            for (OrderSideEffect effect : OrderSideEffect.values()) {
+                failures.put(effect, new AtomicInteger());
+                executed.put(effect, new CopyOnWriteArrayList<>());
+            }
+            beforeNext.set(null);
+        }
+
+        /**
+         * 다음 호출이 실행되기 직전에 한 번 실행할 동작
+         */
+        void beforeNext(Runnable action) {
+            beforeNext.set(action);
+        }
+
+        void failNext(OrderSideEffect effect, int times) {
+            failures.get(effect).set(times);
+        }
+
+        List<String> executed(OrderSideEffect effect) {
+            return executed.get(effect);
+        }
+
+        @Override
+        public void execute(OrderSideEffectCall call) {
+            Runnable action = beforeNext.getAndSet(null);
+            if (action != null) {
+                action.run();
+            }
+            executed.get(call.effect()).add(call.reference());
+            if (failures.get(call.effect()).getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+                throw new IllegalStateException("PG 응답 없음");
+            }
+            super.execute(call);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.archive.OrderArchiver;
+import com.example.ssmdemo.domain.order.entity.ArchivedOrder;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.repository.ArchivedOrderRepository;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.exception.InvalidStateTransitionException;
+import com.example.ssmdemo.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archive-test",
+    "ssm-demo.archive.enabled=true",
+    "ssm-demo.archive.min-age=0s",
+    "ssm-demo.archive.return-window=0s",
+    "ssm-demo.archive.batch-size=2",
+    "ssm-demo.archive.interval=1h"
+})
+@DisplayName("종료 주문 보관 테스트")
+class OrderArchiverTest {
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+        archivedOrderRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("종료 주문만 배치 단위로 보관 테이블로 이동한다")
+    void 성공_종료_주문만_보관() {
+        // given
+        Order cancelled1 = createOrder();
+        orderService.cancel(cancelled1.getId());
+        Order cancelled2 = createOrder();
+        orderService.cancel(cancelled2.getId());
+        Order delivered = createOrder();
+        orderService.pay(delivered.getId());
+        orderService.ship(delivered.getId());
+        orderService.deliver(delivered.getId());
+        Order active = createOrder();
+        orderService.pay(active.getId());
+
+        // when
+        int archived = orderArchiver.archive();
+
+        // then
+        assertThat(archived).isEqualTo(3);
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(active.getId());
+        assertThat(archivedOrderRepository.count()).isEqualTo(3);
+        assertThat(meterRegistry.get("orders.table.size").tag("table", "orders").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관된 주문도 getOrder로 조회되지만 상태 변경은 거부된다")
+    void 성공_보관_주문_폴백_조회() {
+        // given
+        Order order = createOrder();
+        orderService.pay(order.getId());
+        orderService.cancel(order.getId());
+        orderArchiver.archive();
+
+        // when
+        Order found = orderService.getOrder(order.getId());
+
+        // then
+        assertThat(found.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(found.getPaymentId()).isNotNull();
+        assertThat(found.getCancelledAt()).isNotNull();
+        assertThatThrownBy(() -> orderService.pay(order.getId()))
+            .isInstanceOf(InvalidStateTransitionException.class);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 트랜잭션이 바꾼 주문은 삭제하지도 보관하지도 않는다")
+    void 성공_읽은_뒤_바뀐_주문은_건너뜀() throws Exception {
+        // given - 다른 트랜잭션이 보관 대상 주문을 바꾸고 아직 커밋하지 않았다
+        Order changed = createOrder();
+        orderService.cancel(changed.getId());
+        Order unchanged = createOrder();
+        orderService.cancel(unchanged.getId());
+
+        int archived;
+        try (Connection holder = dataSource.getConnection()) {
+            holder.setAutoCommit(false);
+            try (PreparedStatement statement = holder.prepareStatement(
+                    "update orders set version = version + 1 where id = ?")) {
+                statement.setString(1, changed.getId());
+                statement.executeUpdate();
+            }
+
+            // when - 보관 작업이 바뀌기 전 버전을 읽고 삭제에서 기다리는 동안 커밋된다
+            CompletableFuture<Integer> archiving = CompletableFuture.supplyAsync(orderArchiver::archive);
+            awaitBlockedSession(holder);
+            holder.commit();
+            archived = archiving.get(10, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(changed.getId());
+        assertThat(archivedOrderRepository.findAll()).extracting(ArchivedOrder::getId).containsExactly(unchanged.getId());
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * 다른 세션이 holder의 행 락을 기다릴 때까지 대기 (H2 INFORMATION_SCHEMA.SESSIONS)
+     */
+    private static void awaitBlockedSession(Connection holder) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        try (PreparedStatement statement = holder.prepareStatement(
+                "select count(*) from information_schema.sessions where blocker_id is not null")) {
+            while (System.nanoTime() < deadline) {
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (rs.next() && rs.getInt(1) > 0) {
+                        return;
+                    }
+                }
+                Thread.sleep(10);
+            }
+        }
+        throw new AssertionError("보관 작업이 행 락을 기다리지 않았습니다");
+    }
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            1,
+            new BigDecimal("10000"),
+            "archive@example.com",
+            "CARD"
+        );
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.batch.OrderBatchJob;
+import com.example.ssmdemo.batch.OrderBatchJobRunner;
+import com.example.ssmdemo.batch.OrderBatchResult;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.entity.OrderBatchCheckpoint;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.repository.OrderBatchCheckpointRepository;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:batch-test",
+    "ssm-demo.batch.chunk-size=5",
+    "ssm-demo.batch.parallelism=3",
+    "ssm-demo.batch.max-orders-per-second=0"
+})
+@DisplayName("배치 전이 작업 테스트")
+class OrderBatchJobTest {
+
+    @Autowired
+    private OrderBatchJobRunner runner;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderBatchCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+        checkpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("대상 상태의 주문만 병렬 청크로 전이하고 체크포인트를 완료한다")
+    void 성공_대상_주문_병렬_전이() {
+        // given
+        List<Order> shipped = saveOrders("ORD-BATCH-S", 23, OrderStatus.SHIPPED, "CARD");
+        List<Order> paid = saveOrders("ORD-BATCH-P", 4, OrderStatus.PAID, "CARD");
+        OrderBatchJob job = new OrderBatchJob("deliver-all", OrderStatus.SHIPPED, OrderEvent.DELIVER, Duration.ZERO);
+
+        // when
+        OrderBatchResult result = runner.run(job);
+
+        // then
+        assertThat(result.status()).isEqualTo(OrderBatchResult.Status.COMPLETED);
+        assertThat(result.succeeded()).isEqualTo(23);
+        assertThat(result.failed()).isZero();
+        assertThat(statusesOf(shipped)).containsOnly(OrderStatus.DELIVERED);
+        assertThat(statusesOf(paid)).containsOnly(OrderStatus.PAID);
+
+        OrderBatchCheckpoint checkpoint = checkpointRepository.findById("deliver-all").orElseThrow();
+        assertThat(checkpoint.isRunning()).isFalse();
+        assertThat(checkpoint.getLastOrderId()).isEqualTo(shipped.get(shipped.size() - 1).getId());
+        assertThat(meterRegistry.get("orders.batch.processed")
+            .tag("job", "deliver-all").tag("result", "succeeded").counter().count()).isEqualTo(23);
+        assertThat(meterRegistry.get("orders.batch.chunk.duration")
+            .tag("job", "deliver-all").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Guard에 걸린 주문만 실패로 집계되고 같은 청크의 나머지 주문은 전이된다")
+    void 성공_실패_주문만_건너뜀() {
+        // given - 결제 수단이 없는 주문은 PAY Guard에서 거부된다
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            orders.add(saveOrder(String.format("ORD-BATCH-G%03d", i), OrderStatus.CREATED,
+                i % 4 == 0 ? null : "CARD"));
+        }
+        OrderBatchJob job = new OrderBatchJob("pay-created", OrderStatus.CREATED, OrderEvent.PAY, Duration.ZERO);
+
+        // when
+        OrderBatchResult result = runner.run(job);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(8);
+        assertThat(result.failed()).isEqualTo(2);
+        for (Order order : orders) {
+            OrderStatus expected = order.getPaymentMethod() == null ? OrderStatus.CREATED : OrderStatus.PAID;
+            assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus())
+                .as(order.getId()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("중단된 실행은 체크포인트 이후의 주문부터 이어서 처리한다")
+    void 성공_체크포인트_재개() {
+        // given - 00010까지 처리하다 중단된 실행
+        List<Order> orders = saveOrders("ORD-BATCH-R", 20, OrderStatus.SHIPPED, "CARD");
+        OrderBatchCheckpoint checkpoint = new OrderBatchCheckpoint("resume-job");
+        checkpoint.start();
+        checkpoint.advance("ORD-BATCH-R00010", 10, 0);
+        checkpointRepository.save(checkpoint);
+        OrderBatchJob job = new OrderBatchJob("resume-job", OrderStatus.SHIPPED, OrderEvent.DELIVER, Duration.ZERO);
+
+        // when
+        OrderBatchResult result = runner.run(job);
+
+        // then
+        assertThat(result.resumedFrom()).isEqualTo("ORD-BATCH-R00010");
+        assertThat(result.succeeded()).isEqualTo(20);
+        assertThat(statusesOf(orders.subList(0, 10))).containsOnly(OrderStatus.SHIPPED);
+        assertThat(statusesOf(orders.subList(10, 20))).containsOnly(OrderStatus.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("마지막 변경 후 minAge가 지나지 않은 주문은 대상이 아니다")
+    void 성공_minAge_미경과_주문_제외() {
+        // given
+        List<Order> orders = saveOrders("ORD-BATCH-A", 3, OrderStatus.SHIPPED, "CARD");
+        OrderBatchJob job = new OrderBatchJob("deliver-old", OrderStatus.SHIPPED, OrderEvent.DELIVER, Duration.ofDays(3));
+
+        // when
+        OrderBatchResult result = runner.run(job);
+
+        // then
+        assertThat(result.succeeded()).isZero();
+        assertThat(statusesOf(orders)).containsOnly(OrderStatus.SHIPPED);
+    }
+
+    @Test
+    @DisplayName("경과 시간은 마지막 변경 시각이 아니라 대상 상태가 된 시각 기준이다")
+    void 성공_상태_시각_기준_minAge() {
+        // given - 4일 전에 발송됐지만 행은 방금 기록된 주문 (createdAt/modifiedAt 기준이면 대상이 아님)
+        Order order = orderRepository.save(Order.builder()
+            .id("ORD-BATCH-S00001")
+            .productId("PRODUCT-001")
+            .quantity(1)
+            .totalAmount(new BigDecimal("10000"))
+            .customerEmail("batch@example.com")
+            .paymentMethod("CARD")
+            .status(OrderStatus.SHIPPED)
+            .shippedAt(LocalDateTime.now().minusDays(4))
+            .build());
+        Order recent = saveOrder("ORD-BATCH-S00002", OrderStatus.SHIPPED, "CARD");
+        OrderBatchJob job = new OrderBatchJob("deliver-old", OrderStatus.SHIPPED, OrderEvent.DELIVER, Duration.ofDays(3));
+
+        // when
+        OrderBatchResult result = runner.run(job);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(statusesOf(List.of(order, recent))).containsExactly(OrderStatus.DELIVERED, OrderStatus.SHIPPED);
+    }
+
+    // === Helper Methods ===
+
+    private List<Order> saveOrders(String prefix, int count, OrderStatus status, String paymentMethod) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            orders.add(saveOrder(String.format("%s%05d", prefix, i), status, paymentMethod));
+        }
+        return orders;
+    }
+
+    private Order saveOrder(String id, OrderStatus status, String paymentMethod) {
+        return orderRepository.save(Order.builder()
+            .id(id)
+            .productId("PRODUCT-001")
+            .quantity(1)
+            .totalAmount(new BigDecimal("10000"))
+            .customerEmail("batch@example.com")
+            .paymentMethod(paymentMethod)
+            .status(status)
+            .build());
+    }
+
+    private List<OrderStatus> statusesOf(List<Order> orders) {
+        return orders.stream()
+            .map(order -> orderRepository.findById(order.getId()).orElseThrow().getStatus())
+            .toList();
+    }
+}
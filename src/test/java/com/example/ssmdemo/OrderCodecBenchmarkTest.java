@@ -0,0 +1,156 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.codec.OrderProtobuf;
+import com.example.ssmdemo.controller.dto.OrderResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 응답 형식별 크기와 인코딩/디코딩 비용: JSON vs CBOR vs Smile vs Protobuf
+ *
+ * 각 형식은 애플리케이션이 실제로 쓰는 Writer(ObjectMapper/Converter)를 그대로 사용한다.
+ * 실행: ./gradlew benchmark --tests '*OrderCodecBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:codec-bench")
+@DisplayName("주문 응답 형식 비교")
+class OrderCodecBenchmarkTest {
+
+    private static final int LIST_SIZE = 100;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+    private static final TypeReference<List<OrderResponse>> ORDER_LIST = new TypeReference<>() {};
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Test
+    @DisplayName("단건/목록 응답의 크기와 인코딩/디코딩 비용을 비교한다")
+    void 형식별_크기_및_비용_측정() throws Exception {
+        // given
+        List<OrderResponse> orders = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            orders.add(order(i));
+        }
+        OrderResponse single = orders.get(0);
+
+        Map<String, Codec> codecs = new LinkedHashMap<>();
+        codecs.put("json", jackson(objectMapper));
+        codecs.put("cbor", jackson(cborConverter.getObjectMapper()));
+        codecs.put("smile", jackson(smileConverter.getObjectMapper()));
+        codecs.put("protobuf", new Codec(
+            order -> OrderProtobuf.encode(order).toByteArray(),
+            list -> OrderProtobuf.encodeList(list).toByteArray(),
+            bytes -> OrderProtobuf.decodeOrder(ByteBuffer.wrap(bytes)),
+            bytes -> OrderProtobuf.decodeList(ByteBuffer.wrap(bytes))));
+
+        // when & then
+        System.out.printf("[codec] %-9s %8s %10s %12s %12s%n", "format", "single", "list(100)", "encode", "decode");
+        Map<String, Integer> listSizes = new LinkedHashMap<>();
+        for (Map.Entry<String, Codec> entry : codecs.entrySet()) {
+            Codec codec = entry.getValue();
+            byte[] singleBytes = codec.encode.apply(single);
+            byte[] listBytes = codec.encodeList.apply(orders);
+            assertThat(codec.decode.apply(singleBytes)).isEqualTo(single);
+            assertThat(codec.decodeList.apply(listBytes)).isEqualTo(orders);
+
+            measure(codec, single, singleBytes, WARMUP);
+            double[] nanos = measure(codec, single, singleBytes, ITERATIONS);
+            listSizes.put(entry.getKey(), listBytes.length);
+            System.out.printf("[codec] %-9s %6d B %8d B %9.0f ns %9.0f ns%n",
+                entry.getKey(), singleBytes.length, listBytes.length, nanos[0], nanos[1]);
+        }
+
+        assertThat(listSizes.get("protobuf")).isLessThan(listSizes.get("json"));
+        assertThat(listSizes.get("cbor")).isLessThan(listSizes.get("json"));
+    }
+
+    private double[] measure(Codec codec, OrderResponse order, byte[] encoded, int iterations) throws Exception {
+        long hash = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            hash += codec.encode.apply(order).length;
+        }
+        long encodeNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            hash += codec.decode.apply(encoded).quantity();
+        }
+        long decodeNanos = System.nanoTime() - started;
+
+        assertThat(hash).isPositive();
+        return new double[]{(double) encodeNanos / iterations, (double) decodeNanos / iterations};
+    }
+
+    private static Codec jackson(ObjectMapper mapper) {
+        return new Codec(
+            mapper::writeValueAsBytes,
+            mapper::writeValueAsBytes,
+            bytes -> mapper.readValue(bytes, OrderResponse.class),
+            bytes -> mapper.readValue(bytes, ORDER_LIST));
+    }
+
+    /**
+     * 배송 완료된 주문 (시각은 바이너리 형식 정밀도에 맞춰 millis 단위)
+     */
+    private static OrderResponse order(int i) {
+        LocalDateTime created = LocalDateTime.ofInstant(Instant.ofEpochMilli(1_760_000_000_000L + i * 60_000L), ZoneOffset.UTC);
+        return new OrderResponse(
+            "ORD-" + (100_000 + i),
+            "PRODUCT-" + (i % 20),
+            1 + i % 5,
+            new BigDecimal("12345.67").add(BigDecimal.valueOf(i)),
+            "DELIVERED",
+            "배송 완료",
+            "customer" + i + "@example.com",
+            i % 2 == 0 ? "CARD" : "BANK_TRANSFER",
+            "PAY-" + (900_000 + i),
+            created.plusMinutes(5),
+            created.plusHours(3),
+            created.plusDays(2),
+            null,
+            created
+        );
+    }
+
+    private record Codec(Encoder<OrderResponse> encode,
+                         Encoder<List<OrderResponse>> encodeList,
+                         Decoder<OrderResponse> decode,
+                         Decoder<List<OrderResponse>> decodeList) {}
+
+    @FunctionalInterface
+    private interface Encoder<T> {
+        byte[] apply(T value) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T> {
+        T apply(byte[] bytes) throws Exception;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.codec.OrderProtobuf;
+import com.example.ssmdemo.codec.OrderProtobufHttpMessageConverter;
+import com.example.ssmdemo.controller.dto.OrderResponse;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.service.OrderService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:codec-test")
+@AutoConfigureMockMvc
+@DisplayName("주문 응답 바이너리 형식 테스트")
+class OrderCodecTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Nested
+    @DisplayName("Accept 협상")
+    class Negotiation {
+
+        @Test
+        @DisplayName("Accept가 없으면 기존처럼 JSON(ISO-8601 시각)으로 응답한다")
+        void 성공_기본_JSON() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.createdAt").isString());
+        }
+
+        @Test
+        @DisplayName("CBOR 응답은 시각을 epoch millis로 담고 같은 값으로 복원된다")
+        void 성공_CBOR() throws Exception {
+            // given
+            Order order = createOrder();
+            orderService.pay(order.getId());
+
+            // when
+            byte[] body = fetch("/api/orders/{orderId}", order.getId(), MediaType.APPLICATION_CBOR);
+
+            // then
+            JsonNode tree = cborConverter.getObjectMapper().readTree(body);
+            assertThat(tree.get("paidAt").isNumber()).isTrue();
+            assertThat(tree.get("paidAt").asLong()).isEqualTo(epochMillis(orderService.getOrder(order.getId()).getPaidAt()));
+            OrderResponse decoded = cborConverter.getObjectMapper().readValue(body, OrderResponse.class);
+            assertThat(decoded).isEqualTo(expected(order.getId()));
+        }
+
+        @Test
+        @DisplayName("Smile 응답은 같은 값으로 복원된다")
+        void 성공_Smile() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when
+            byte[] body = fetch("/api/orders/{orderId}", order.getId(), new MediaType("application", "x-jackson-smile"));
+
+            // then
+            OrderResponse decoded = smileConverter.getObjectMapper().readValue(body, OrderResponse.class);
+            assertThat(decoded).isEqualTo(expected(order.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Protobuf")
+    class Protobuf {
+
+        @Test
+        @DisplayName("단건/목록 응답이 order.proto 스키마로 복원된다")
+        void 성공_단건_목록() throws Exception {
+            // given
+            Order order = createOrder();
+            orderService.pay(order.getId());
+
+            // when
+            byte[] single = fetch("/api/orders/{orderId}", order.getId(), OrderProtobufHttpMessageConverter.PROTOBUF);
+            byte[] list = fetch("/api/orders", null, OrderProtobufHttpMessageConverter.PROTOBUF);
+
+            // then
+            assertThat(OrderProtobuf.decodeOrder(ByteBuffer.wrap(single))).isEqualTo(expected(order.getId()));
+            assertThat(OrderProtobuf.decodeList(ByteBuffer.wrap(list)))
+                .extracting(OrderResponse::id)
+                .contains(order.getId());
+        }
+
+        @Test
+        @DisplayName("전이 성공과 거부 응답 모두 Protobuf로 응답한다")
+        void 성공_전이_응답() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            MvcResult paid = mockMvc.perform(post("/api/orders/{orderId}/pay", order.getId())
+                    .accept(OrderProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andReturn();
+            assertThat(OrderProtobuf.decodeOrder(ByteBuffer.wrap(paid.getResponse().getContentAsByteArray())).status())
+                .isEqualTo("PAID");
+
+            mockMvc.perform(post("/api/orders/{orderId}/pay", order.getId())
+                    .accept(OrderProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentTypeCompatibleWith(OrderProtobufHttpMessageConverter.PROTOBUF));
+        }
+
+        @Test
+        @DisplayName("내보내기는 길이 접두 Order 메시지로 스트리밍된다")
+        void 성공_내보내기() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/orders/export").param("format", "PROTOBUF")).andReturn();
+            byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+            // then
+            List<OrderResponse> rows = OrderProtobuf.decodeDelimited(ByteBuffer.wrap(body));
+            assertThat(rows).extracting(OrderResponse::id).contains(order.getId());
+            OrderResponse row = rows.stream().filter(r -> r.id().equals(order.getId())).findFirst().orElseThrow();
+            assertThat(row.totalAmount()).isEqualByComparingTo("10000.50");
+            assertThat(row.createdAt()).isNotNull();
+        }
+    }
+
+    // === Helper Methods ===
+
+    private byte[] fetch(String uri, String orderId, MediaType accept) throws Exception {
+        Object[] variables = orderId != null ? new Object[]{orderId} : new Object[0];
+        return mockMvc.perform(get(uri, variables).accept(accept))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(accept))
+            .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    /**
+     * 바이너리 형식의 시각 정밀도(millis)에 맞춘 기대값
+     */
+    private OrderResponse expected(String orderId) {
+        OrderResponse order = OrderResponse.from(orderService.getOrder(orderId));
+        return order.toBuilder()
+            .paidAt(order.paidAt() != null ? millis(order.paidAt()) : null)
+            .createdAt(millis(order.createdAt()))
+            .build();
+    }
+
+    private static LocalDateTime millis(LocalDateTime value) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis(value)), ZoneId.systemDefault());
+    }
+
+    private static long epochMillis(LocalDateTime value) {
+        return value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            3,
+            new BigDecimal("10000.50"),
+            "codec@example.com",
+            "CARD"
+        );
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.codec.OrderProtobufHttpMessageConverter;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("주문 조건부 요청 (ETag) 테스트")
+class OrderETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Nested
+    @DisplayName("조회 (If-None-Match)")
+    class ConditionalGet {
+
+        @Test
+        @DisplayName("ETag가 같으면 본문 없이 304를 반환한다")
+        void 성공_변경_없음_304() throws Exception {
+            // given
+            Order order = createOrder();
+            String etag = mockMvc.perform(get("/api/orders/{orderId}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("전이 후에는 ETag가 바뀌어 200과 새 본문을 반환한다")
+        void 성공_전이_후_새_ETag() throws Exception {
+            // given
+            Order order = createOrder();
+            String etag = mockMvc.perform(get("/api/orders/{orderId}", order.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+            // when
+            orderService.pay(order.getId());
+
+            // then
+            String newEtag = mockMvc.perform(get("/api/orders/{orderId}", order.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"))
+                .andReturn().getResponse().getHeader("ETag");
+            assertThat(newEtag).isNotEqualTo(etag);
+        }
+
+        @Test
+        @DisplayName("응답 형식과 선택 필드가 다르면 ETag도 달라 다른 표현의 ETag로는 304가 되지 않는다")
+        void 성공_표현별_ETag() throws Exception {
+            // given
+            Order order = createOrder();
+            String jsonEtag = mockMvc.perform(get("/api/orders/{orderId}", order.getId()))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn().getResponse().getHeader("ETag");
+            String protobufEtag = mockMvc.perform(get("/api/orders/{orderId}", order.getId())
+                    .accept(OrderProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(OrderProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn().getResponse().getHeader("ETag");
+            String fieldsEtag = mockMvc.perform(get("/api/orders/{orderId}", order.getId()).param("fields", "id,status"))
+                .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            assertThat(List.of(jsonEtag, protobufEtag, fieldsEtag)).doesNotHaveDuplicates();
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId())
+                    .accept(OrderProtobufHttpMessageConverter.PROTOBUF)
+                    .header("If-None-Match", jsonEtag))
+                .andExpect(status().isOk());
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId())
+                    .accept(OrderProtobufHttpMessageConverter.PROTOBUF)
+                    .header("If-None-Match", protobufEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", "Accept"));
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).param("fields", "id,status")
+                    .header("If-None-Match", jsonEtag))
+                .andExpect(status().isOk());
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).param("fields", "id,status")
+                    .header("If-None-Match", fieldsEtag))
+                .andExpect(status().isNotModified());
+        }
+    }
+
+    @Nested
+    @DisplayName("전이 (If-Match)")
+    class ConditionalTransition {
+
+        @Test
+        @DisplayName("If-Match가 현재 ETag와 같으면 전이하고 새 ETag를 반환한다")
+        void 성공_ETag_일치_전이() throws Exception {
+            // given
+            Order order = createOrder();
+            String etag = mockMvc.perform(get("/api/orders/{orderId}", order.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            String newEtag = mockMvc.perform(post("/api/orders/{orderId}/pay", order.getId()).header("If-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"))
+                .andReturn().getResponse().getHeader("ETag");
+            assertThat(newEtag).isNotEqualTo(etag);
+        }
+
+        @Test
+        @DisplayName("If-Match는 표현과 관계없이 주문 버전으로 비교한다")
+        void 성공_다른_표현_ETag로_전이() throws Exception {
+            // given
+            Order order = createOrder();
+            String fieldsEtag = mockMvc.perform(get("/api/orders/{orderId}", order.getId()).param("fields", "id"))
+                .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            mockMvc.perform(post("/api/orders/{orderId}/pay", order.getId()).header("If-Match", fieldsEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"));
+        }
+
+        @Test
+        @DisplayName("If-Match가 오래된 ETag면 412를 반환하고 상태를 바꾸지 않는다")
+        void 실패_오래된_ETag_412() throws Exception {
+            // given
+            Order order = createOrder();
+            String staleEtag = mockMvc.perform(get("/api/orders/{orderId}", order.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+            orderService.pay(order.getId());
+
+            // when & then
+            mockMvc.perform(post("/api/orders/{orderId}/cancel", order.getId()).header("If-Match", staleEtag))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.error").value("PRECONDITION_FAILED"))
+                .andExpect(jsonPath("$.currentStatus").value("PAID"));
+            assertThat(orderService.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.PAID);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            1,
+            new BigDecimal("10000"),
+            "etag@example.com",
+            "CARD"
+        );
+    }
+}
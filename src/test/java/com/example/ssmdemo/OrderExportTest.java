@@ -0,0 +1,193 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.export.OrderColumnarExportWriter;
+import com.example.ssmdemo.export.OrderExportFormat;
+import com.example.ssmdemo.export.OrderExportProperties;
+import com.example.ssmdemo.export.OrderExportQuery;
+import com.example.ssmdemo.export.OrderExportRow;
+import com.example.ssmdemo.export.OrderExporter;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:export-test")
+@AutoConfigureMockMvc
+@DisplayName("주문 내보내기 테스트")
+class OrderExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderExporter orderExporter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기는 상태 필터를 적용하고 쉼표가 포함된 값을 인용한다")
+    void 성공_CSV_상태_필터() throws Exception {
+        // given
+        Order paid = createOrder("PRODUCT-001", "a,b@example.com");
+        orderService.pay(paid.getId());
+        createOrder("PRODUCT-002", "created@example.com");
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/orders/export")
+                .param("format", "CSV")
+                .param("status", "PAID"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"orders.csv\""))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("id,productId,quantity");
+        assertThat(lines.get(1)).startsWith(paid.getId() + ",PRODUCT-001,1,10000.00,PAID,\"a,b@example.com\",CARD,");
+    }
+
+    @Test
+    @DisplayName("컬럼 형식은 row group 경계를 넘어도 원래 행으로 복원된다")
+    void 성공_컬럼_형식_왕복() throws Exception {
+        // given
+        int count = 4100;
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(Order.builder()
+                .id(String.format("ORD-EXPORT-%05d", i))
+                .productId("PRODUCT-" + (i % 3))
+                .quantity(i % 5 + 1)
+                .totalAmount(new BigDecimal("1234.50"))
+                .status(i % 2 == 0 ? OrderStatus.CREATED : OrderStatus.CANCELLED)
+                .customerEmail("bulk@example.com")
+                .paymentMethod(i % 2 == 0 ? "CARD" : null)
+                .build());
+        }
+        orderRepository.saveAll(orders);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/orders/export").param("format", "COLUMNAR"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        byte[] bytes = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        List<OrderExportRow> rows = new ArrayList<>();
+        OrderColumnarExportWriter.read(new ByteArrayInputStream(bytes), rows::add);
+        assertThat(rows).hasSize(count);
+        assertThat(rows).extracting(OrderExportRow::id).doesNotHaveDuplicates();
+        OrderExportRow row = rows.stream()
+            .filter(r -> r.id().equals("ORD-EXPORT-00001"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(row.productId()).isEqualTo("PRODUCT-1");
+        assertThat(row.quantity()).isEqualTo(2);
+        assertThat(row.totalAmount()).isEqualByComparingTo("1234.50");
+        assertThat(row.status()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(row.paymentMethod()).isNull();
+        assertThat(row.createdAt())
+            .isEqualTo(orderRepository.findById(row.id()).orElseThrow().getCreatedAt().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("병렬 파일 내보내기는 구간별 파일을 만들고 모든 주문을 한 번씩 포함한다")
+    void 성공_병렬_파일_내보내기(@TempDir Path directory) throws Exception {
+        // given
+        for (int i = 0; i < 20; i++) {
+            createOrder("PRODUCT-001", "parallel@example.com");
+        }
+
+        // when
+        List<OrderExporter.ExportPart> parts = orderExporter.exportParallel(
+            new OrderExportQuery(null, null, null), OrderExportFormat.COLUMNAR, directory, 4);
+
+        // then
+        assertThat(parts).hasSize(4);
+        List<OrderExportRow> rows = new ArrayList<>();
+        for (OrderExporter.ExportPart part : parts) {
+            try (InputStream in = Files.newInputStream(part.file())) {
+                OrderColumnarExportWriter.read(in, rows::add);
+            }
+        }
+        assertThat(parts.stream().mapToLong(OrderExporter.ExportPart::rows).sum()).isEqualTo(20);
+        assertThat(rows).hasSize(20);
+        assertThat(rows).extracting(OrderExportRow::id).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("parallelism이 0 이하로 설정되어도 구간을 하나씩 순서대로 내보낸다")
+    void 성공_parallelism_0_이하면_순차_내보내기(@TempDir Path directory) {
+        // given
+        for (int i = 0; i < 5; i++) {
+            createOrder("PRODUCT-001", "sequential@example.com");
+        }
+        OrderExporter exporter = new OrderExporter(orderRepository, transactionManager,
+            new OrderExportProperties(0, null, OrderExportFormat.CSV, 1, null, null, null), Optional.empty());
+
+        // when
+        List<OrderExporter.ExportPart> parts = exporter.exportParallel(
+            new OrderExportQuery(null, null, null), OrderExportFormat.CSV, directory, 2);
+
+        // then
+        assertThat(parts).hasSize(2);
+        assertThat(parts.stream().mapToLong(OrderExporter.ExportPart::rows).sum()).isEqualTo(5);
+    }
+
+    // === Helper Methods ===
+
+    private Order createOrder(String productId, String customerEmail) {
+        return orderService.createOrder(
+            productId,
+            1,
+            new BigDecimal("10000"),
+            customerEmail,
+            "CARD"
+        );
+    }
+}
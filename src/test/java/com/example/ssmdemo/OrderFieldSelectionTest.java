@@ -0,0 +1,148 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.codec.OrderProtobufHttpMessageConverter;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:field-selection-test",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@DisplayName("조회 전용 프로젝션 / 필드 선택 테스트")
+class OrderFieldSelectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Nested
+    @DisplayName("단건 조회")
+    class Single {
+
+        @Test
+        @DisplayName("조회 API는 엔티티를 로드하지 않고 프로젝션으로 응답한다")
+        void 성공_엔티티_로드_없음() throws Exception {
+            // given
+            Order order = createOrder();
+            orderService.pay(order.getId());
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            // when
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"))
+                .andExpect(jsonPath("$.statusDescription").value("결제 완료"))
+                .andExpect(jsonPath("$.paymentId").isNotEmpty());
+
+            // then
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("fields로 선택한 필드만 응답하고 ETag는 유지된다")
+        void 성공_필드_선택() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).param("fields", "id,status,paidAt"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.id").value(order.getId()))
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.paidAt").hasJsonPath())
+                .andExpect(jsonPath("$.productId").doesNotExist())
+                .andExpect(jsonPath("$.totalAmount").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("알 수 없는 필드는 400을 반환한다")
+        void 실패_알_수_없는_필드() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).param("fields", "id,fencingToken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_FIELDS"));
+        }
+
+        @Test
+        @DisplayName("필드 선택은 JSON/CBOR/Smile만 지원하고, Protobuf만 받으면 406을 반환한다")
+        void 실패_Protobuf_필드_선택() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).param("fields", "id,status")
+                    .accept(OrderProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isNotAcceptable());
+            mockMvc.perform(get("/api/orders").param("fields", "id,status")
+                    .accept(OrderProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isNotAcceptable());
+            mockMvc.perform(get("/api/orders/{orderId}", order.getId()).param("fields", "id,status")
+                    .accept(OrderProtobufHttpMessageConverter.PROTOBUF, MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        }
+    }
+
+    @Nested
+    @DisplayName("목록 조회")
+    class Listing {
+
+        @Test
+        @DisplayName("목록도 선택한 필드만 응답한다")
+        void 성공_목록_필드_선택() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            mockMvc.perform(get("/api/orders").param("fields", "id,statusDescription"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == '%s')].statusDescription", order.getId()).value("주문 생성"))
+                .andExpect(jsonPath("$[0].status").doesNotExist())
+                .andExpect(jsonPath("$[0].customerEmail").doesNotExist());
+        }
+    }
+
+    // === Helper Methods ===
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            1,
+            new BigDecimal("10000"),
+            "fields@example.com",
+            "CARD"
+        );
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.analytics.FunnelReport;
+import com.example.ssmdemo.analytics.FunnelStats;
+import com.example.ssmdemo.analytics.OrderFunnelAggregator;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.event.OrderCreatedEvent;
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+import com.example.ssmdemo.domain.order.repository.OrderFunnelRollupRepository;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:funnel-test",
+    "ssm-demo.funnel.enabled=true",
+    "ssm-demo.funnel.flush-interval=1h"
+})
+@AutoConfigureMockMvc
+@DisplayName("전환 퍼널 집계 테스트")
+class OrderFunnelTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 9, 10);
+
+    @Autowired
+    private OrderFunnelAggregator funnelAggregator;
+
+    @Autowired
+    private OrderFunnelRollupRepository rollupRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        funnelAggregator.flush();
+        rollupRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    @DisplayName("집계")
+    class Aggregate {
+
+        @Test
+        @DisplayName("커밋된 생성과 전이를 상품별 단계 도달 수로 집계하고 전환율을 계산한다")
+        void 성공_커밋된_전이_집계() {
+            // given
+            Order delivered = createOrder("PRODUCT-A");
+            Order shipped = createOrder("PRODUCT-A");
+            Order cancelledAfterPay = createOrder("PRODUCT-A");
+            Order cancelled = createOrder("PRODUCT-A");
+            createOrder("PRODUCT-B");
+
+            orderService.pay(delivered.getId());
+            orderService.ship(delivered.getId());
+            orderService.deliver(delivered.getId());
+            orderService.pay(shipped.getId());
+            orderService.ship(shipped.getId());
+            orderService.pay(cancelledAfterPay.getId());
+            orderService.cancel(cancelledAfterPay.getId());
+            orderService.cancel(cancelled.getId());
+
+            // when
+            funnelAggregator.flush();
+            LocalDateTime now = LocalDateTime.now();
+            FunnelReport report = funnelAggregator.report(now.minusHours(2), now.plusHours(1), null, null);
+
+            // then
+            FunnelStats total = report.total();
+            assertThat(total.counts()).containsEntry(OrderStatus.CREATED, 5L)
+                .containsEntry(OrderStatus.PAID, 3L)
+                .containsEntry(OrderStatus.SHIPPED, 2L)
+                .containsEntry(OrderStatus.DELIVERED, 1L)
+                .containsEntry(OrderStatus.CANCELLED, 2L)
+                .containsEntry(OrderStatus.RETURNED, 0L);
+            assertThat(total.paymentRate()).isEqualTo(0.6);
+            assertThat(total.conversionRate()).isEqualTo(0.2);
+            assertThat(total.cancelRate()).isEqualTo(0.4);
+            assertThat(report.products()).containsOnlyKeys("PRODUCT-A", "PRODUCT-B");
+            assertThat(report.products().get("PRODUCT-A").counts()).containsEntry(OrderStatus.CREATED, 4L);
+            assertThat(report.products().get("PRODUCT-B").paymentRate()).isZero();
+        }
+
+        @Test
+        @DisplayName("롤백된 전이는 집계하지 않는다")
+        void 실패_롤백된_전이_미집계() {
+            // given
+            Order order = createOrder("PRODUCT-A");
+
+            // when
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                orderService.transition(order.getId(), OrderEvent.PAY);
+                status.setRollbackOnly();
+            });
+            funnelAggregator.flush();
+
+            // then
+            LocalDateTime now = LocalDateTime.now();
+            FunnelReport report = funnelAggregator.report(now.minusHours(2), now.plusHours(1), "PRODUCT-A", null);
+            assertThat(report.total().counts()).containsEntry(OrderStatus.CREATED, 1L)
+                .containsEntry(OrderStatus.PAID, 0L);
+            assertThat(report.products()).isNull();
+        }
+
+        @Test
+        @DisplayName("반영할 때마다 같은 키의 증분을 더한다")
+        void 성공_반복_반영_누적() {
+            // given
+            funnelAggregator.onCreated(new OrderCreatedEvent("ORD-1", "PRODUCT-A", T0));
+            funnelAggregator.flush();
+
+            // when
+            funnelAggregator.onCreated(new OrderCreatedEvent("ORD-2", "PRODUCT-A", T0.plusMinutes(20)));
+            funnelAggregator.onCreated(new OrderCreatedEvent("ORD-3", "PRODUCT-A", T0.plusMinutes(40)));
+            int flushed = funnelAggregator.flush();
+
+            // then
+            assertThat(flushed).isEqualTo(1);
+            assertThat(rollupRepository.count()).isEqualTo(1);
+            assertThat(rollupRepository.findAll().get(0).getEventCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 API")
+    class Api {
+
+        @Test
+        @DisplayName("임의 범위를 집계 구간 경계로 맞춰 구간을 합치고 interval 간격의 series를 돌려준다")
+        void 성공_구간_병합() throws Exception {
+            // given - 09시 2건, 10시 1건, 11시 1건 생성, 10시에 1건 결제
+            created("ORD-1", "PRODUCT-A", T0);
+            created("ORD-2", "PRODUCT-B", T0.plusMinutes(30));
+            created("ORD-3", "PRODUCT-A", T0.plusHours(1));
+            created("ORD-4", "PRODUCT-A", T0.plusHours(2));
+            funnelAggregator.onTransition(new OrderTransitionEvent("ORD-1", "PRODUCT-A", "test@example.com",
+                OrderStatus.CREATED, OrderStatus.PAID, OrderEvent.PAY, T0.plusHours(1), T0));
+            funnelAggregator.flush();
+
+            // when & then
+            mockMvc.perform(get("/api/orders/analytics/funnel")
+                    .param("from", "2024-03-01T09:45:00")
+                    .param("to", "2024-03-01T11:00:00")
+                    .param("interval", "PT2H"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2024-03-01T09:00:00"))
+                .andExpect(jsonPath("$.to").value("2024-03-01T11:00:00"))
+                .andExpect(jsonPath("$.total.counts.CREATED").value(3))
+                .andExpect(jsonPath("$.total.counts.PAID").value(1))
+                .andExpect(jsonPath("$.total.paymentRate").value(1.0 / 3))
+                .andExpect(jsonPath("$.products.PRODUCT-A.counts.CREATED").value(2))
+                .andExpect(jsonPath("$.products.PRODUCT-B.counts.CREATED").value(1))
+                .andExpect(jsonPath("$.series.length()").value(1))
+                .andExpect(jsonPath("$.series[0].start").value("2024-03-01T09:00:00"));
+
+            mockMvc.perform(get("/api/orders/analytics/funnel")
+                    .param("from", "2024-03-01T09:00:00")
+                    .param("to", "2024-03-01T12:00:00")
+                    .param("productId", "PRODUCT-A")
+                    .param("interval", "PT1H"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.counts.CREATED").value(3))
+                .andExpect(jsonPath("$.products").doesNotExist())
+                .andExpect(jsonPath("$.series.length()").value(3))
+                .andExpect(jsonPath("$.series[1].start").value("2024-03-01T10:00:00"))
+                .andExpect(jsonPath("$.series[1].stats.counts.PAID").value(1));
+        }
+
+        @Test
+        @DisplayName("집계 구간의 배수가 아닌 interval은 400")
+        void 실패_interval_검증() throws Exception {
+            mockMvc.perform(get("/api/orders/analytics/funnel")
+                    .param("from", "2024-03-01T09:00:00")
+                    .param("to", "2024-03-01T12:00:00")
+                    .param("interval", "PT90M"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_RANGE"));
+        }
+    }
+
+    private void created(String orderId, String productId, LocalDateTime at) {
+        funnelAggregator.onCreated(new OrderCreatedEvent(orderId, productId, at));
+    }
+
+    private Order createOrder(String productId) {
+        return orderService.createOrder(productId, 1, new BigDecimal("10000"), "test@example.com", "CARD");
+    }
+}
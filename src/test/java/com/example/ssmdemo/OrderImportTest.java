@@ -0,0 +1,349 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.entity.OrderImportCheckpoint;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.repository.OrderImportCheckpointRepository;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.export.OrderExportFormat;
+import com.example.ssmdemo.export.OrderExportQuery;
+import com.example.ssmdemo.export.OrderExporter;
+import com.example.ssmdemo.importer.OrderImportFormat;
+import com.example.ssmdemo.importer.OrderImportRejection;
+import com.example.ssmdemo.importer.OrderImportResult;
+import com.example.ssmdemo.importer.OrderImporter;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:import-test",
+    "ssm-demo.import.chunk-size=3",
+    "ssm-demo.import.rows-per-insert=2",
+    "ssm-demo.import.parallelism=2"
+})
+@AutoConfigureMockMvc
+@DisplayName("주문 가져오기 테스트")
+class OrderImportTest {
+
+    private static final String HEADER = "id,productId,quantity,totalAmount,status,customerEmail,paymentMethod,paymentId,"
+        + "paidAt,shippedAt,deliveredAt,cancelledAt,refundedAt,createdAt";
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired
+    private OrderImporter orderImporter;
+
+    @Autowired
+    private OrderExporter orderExporter;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+        checkpointRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("상태와 전이 시각을 그대로 적재하고, 따옴표로 감싼 필드를 읽는다")
+        void 성공_CSV_적재() {
+            // given
+            String csv = HEADER + "\r\n"
+                + row("LEGACY-1", OrderStatus.CREATED, null, null, null, null, null) + "\r\n"
+                + row("LEGACY-2", OrderStatus.DELIVERED, T0.plusHours(1), T0.plusDays(1), T0.plusDays(2), null, null) + "\r\n"
+                + row("LEGACY-3", OrderStatus.RETURNED, T0.plusHours(1), T0.plusDays(1), T0.plusDays(2), null, T0.plusDays(5)) + "\r\n"
+                + row("LEGACY-4", OrderStatus.CANCELLED, T0.plusHours(1), null, null, T0.plusHours(2), null) + "\r\n"
+                + "LEGACY-5,PRODUCT-001,1,10000,CANCELLED,\"kim, \"\"VIP\"\"@example.com\",CARD,,,,,"
+                + T0.plusMinutes(5) + ",," + T0 + "\r\n";
+
+            // when
+            OrderImportResult result = importOrders("legacy-csv", OrderImportFormat.CSV, csv);
+
+            // then
+            assertThat(result.status()).isEqualTo(OrderImportResult.Status.COMPLETED);
+            assertThat(result.imported()).isEqualTo(5);
+            assertThat(result.rejected()).isZero();
+
+            Order returned = orderRepository.findById("LEGACY-3").orElseThrow();
+            assertThat(returned.getStatus()).isEqualTo(OrderStatus.RETURNED);
+            assertThat(returned.getPaidAt()).isEqualTo(T0.plusHours(1));
+            assertThat(returned.getRefundedAt()).isEqualTo(T0.plusDays(5));
+            assertThat(returned.getCreatedAt()).isEqualTo(T0);
+            assertThat(returned.getModifiedAt()).isEqualTo(T0.plusDays(5));
+            assertThat(returned.getVersion()).isZero();
+            assertThat(orderRepository.findById("LEGACY-5").orElseThrow().getCustomerEmail())
+                .isEqualTo("kim, \"VIP\"@example.com");
+
+            OrderImportCheckpoint checkpoint = checkpointRepository.findById("legacy-csv").orElseThrow();
+            assertThat(checkpoint.getPosition()).isEqualTo(5);
+            assertThat(checkpoint.isRunning()).isFalse();
+        }
+
+        @Test
+        @DisplayName("내보내기 CSV를 그대로 가져올 수 있고, 가져온 주문은 이어서 전이할 수 있다")
+        void 성공_내보내기_왕복() {
+            // given
+            Order paid = orderService.createOrder("PRODUCT-001", 2, new BigDecimal("20000"), "test@example.com", "CARD");
+            orderService.pay(paid.getId());
+            Order created = orderService.createOrder("PRODUCT-002", 1, new BigDecimal("5000"), "test@example.com", "CARD");
+            ByteArrayOutputStream exported = new ByteArrayOutputStream();
+            orderExporter.export(new OrderExportQuery(null, null, null), OrderExportFormat.CSV,
+                Channels.newChannel(exported));
+            orderRepository.deleteAllInBatch();
+
+            // when
+            OrderImportResult result = orderImporter.importOrders("round-trip", OrderImportFormat.CSV,
+                new ByteArrayInputStream(exported.toByteArray()));
+
+            // then
+            assertThat(result.imported()).isEqualTo(2);
+            assertThat(orderRepository.findById(paid.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+            assertThat(orderService.ship(paid.getId()).getStatus()).isEqualTo(OrderStatus.SHIPPED);
+            assertThat(orderService.pay(created.getId()).getStatus()).isEqualTo(OrderStatus.PAID);
+        }
+
+        @Test
+        @DisplayName("필수 컬럼이 없는 헤더는 400")
+        void 실패_헤더_필수_컬럼_누락() throws Exception {
+            mockMvc.perform(post("/internal/imports/{name}", "bad-header")
+                    .contentType("text/csv")
+                    .content("id,productId,quantity\nLEGACY-1,PRODUCT-001,1\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_INPUT"));
+        }
+    }
+
+    @Nested
+    @DisplayName("이력 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("전이 그래프로 설명할 수 없는 이력과 형식 오류는 거부하고 나머지는 적재한다")
+        void 실패_이력_불일치_거부() {
+            // given
+            String csv = HEADER + "\n"
+                + row("VALID-1", OrderStatus.PAID, T0.plusHours(1), null, null, null, null) + "\n"
+                + row("BAD-1", OrderStatus.SHIPPED, null, T0.plusDays(1), null, null, null) + "\n"
+                + row("BAD-2", OrderStatus.CANCELLED, T0.plusHours(1), T0.plusDays(1), null, T0.plusDays(2), null) + "\n"
+                + row("BAD-3", OrderStatus.DELIVERED, T0.plusHours(1), T0.plusDays(1), null, null, null) + "\n"
+                + row("BAD-4", OrderStatus.PAID, T0.minusDays(1), null, null, null, null) + "\n"
+                + "BAD-5,PRODUCT-001,many,10000,CREATED,,CARD,,,,,,," + T0 + "\n"
+                + row("VALID-2", OrderStatus.SHIPPED, T0.plusHours(1), T0.plusDays(1), null, null, null) + "\n";
+
+            // when
+            OrderImportResult result = importOrders("validation", OrderImportFormat.CSV, csv);
+
+            // then
+            assertThat(result.imported()).isEqualTo(2);
+            assertThat(result.rejected()).isEqualTo(5);
+            assertThat(orderRepository.findAll()).extracting(Order::getId)
+                .containsExactlyInAnyOrder("VALID-1", "VALID-2");
+            assertThat(result.rejections()).extracting(OrderImportRejection::recordNumber)
+                .containsExactlyInAnyOrder(2L, 3L, 4L, 5L, 6L);
+            assertThat(reason(result, 2)).contains("CREATED 상태에서 SHIP 전이 불가");
+            assertThat(reason(result, 3)).contains("SHIPPED 상태에서 CANCEL 전이 불가");
+            assertThat(reason(result, 4)).contains("상태 불일치: 이력상 SHIPPED, 입력 DELIVERED");
+            assertThat(reason(result, 5)).contains("createdAt");
+            assertThat(reason(result, 6)).contains("quantity");
+        }
+
+        @Test
+        @DisplayName("결제 수단 없는 결제 이력은 결제 Guard로 거부한다")
+        void 실패_결제_Guard_거부() {
+            // given
+            String csv = HEADER + "\n"
+                + "NO-METHOD,PRODUCT-001,1,10000,PAID,,,PAY-1," + T0.plusHours(1) + ",,,,," + T0 + "\n";
+
+            // when
+            OrderImportResult result = importOrders("guard", OrderImportFormat.CSV, csv);
+
+            // then
+            assertThat(result.imported()).isZero();
+            assertThat(reason(result, 1)).contains("CREATED 상태에서 PAY 전이 불가");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON API")
+    class Ndjson {
+
+        @Test
+        @DisplayName("요청 본문을 스트리밍으로 적재하고 처리량을 돌려준다")
+        void 성공_NDJSON_적재() throws Exception {
+            // given
+            String ndjson = """
+                {"id":"JSON-1","productId":"PRODUCT-001","quantity":1,"totalAmount":10000,"status":"CREATED","createdAt":"2024-03-01T09:00:00"}
+
+                {"id":"JSON-2","productId":"PRODUCT-001","quantity":2,"totalAmount":20000.50,"status":"SHIPPED","paymentMethod":"CARD","paidAt":"2024-03-01T10:00:00","shippedAt":"2024-03-02T09:00:00","createdAt":"2024-03-01T09:00:00","legacyField":"ignored"}
+                {"id":"JSON-3",
+                """;
+
+            // when & then
+            mockMvc.perform(post("/internal/imports/{name}", "legacy-json")
+                    .param("format", "NDJSON")
+                    .contentType(MediaType.parseMediaType(OrderImportFormat.NDJSON.getContentType()))
+                    .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].recordNumber").value(3))
+                .andExpect(jsonPath("$.rowsPerSecond").value(greaterThan(0.0)));
+
+            Order shipped = orderRepository.findById("JSON-2").orElseThrow();
+            assertThat(shipped.getStatus()).isEqualTo(OrderStatus.SHIPPED);
+            assertThat(shipped.getTotalAmount()).isEqualByComparingTo("20000.50");
+        }
+    }
+
+    @Nested
+    @DisplayName("재시작")
+    class Restart {
+
+        @Test
+        @DisplayName("중단된 가져오기는 체크포인트 다음 레코드부터 적재하고 이미 커밋된 주문은 건너뛴다")
+        void 성공_체크포인트_재개() {
+            // given - 레코드 1~9를 커밋하고 체크포인트는 6까지 기록한 뒤 중단된 상황
+            List<String> rows = new ArrayList<>();
+            for (int i = 1; i <= 12; i++) {
+                rows.add(row("RESTART-" + i, OrderStatus.PAID, T0.plusHours(1), null, null, null, null));
+            }
+            importOrders("first-run", OrderImportFormat.CSV, HEADER + "\n" + String.join("\n", rows.subList(0, 9)));
+            OrderImportCheckpoint interrupted = new OrderImportCheckpoint("restart");
+            interrupted.start();
+            interrupted.advance(6, 6, 0, 0);
+            checkpointRepository.save(interrupted);
+
+            // when
+            OrderImportResult result = importOrders("restart", OrderImportFormat.CSV, HEADER + "\n" + String.join("\n", rows));
+
+            // then
+            assertThat(result.resumedFrom()).isEqualTo(6);
+            assertThat(result.imported()).isEqualTo(9);
+            assertThat(result.skipped()).isEqualTo(3);
+            assertThat(orderRepository.count()).isEqualTo(12);
+            OrderImportCheckpoint checkpoint = checkpointRepository.findById("restart").orElseThrow();
+            assertThat(checkpoint.getPosition()).isEqualTo(12);
+            assertThat(checkpoint.isRunning()).isFalse();
+        }
+
+        @Test
+        @DisplayName("락 대기 시간 초과 같은 일시 오류는 거부로 세지 않고 청크를 실패시켜 체크포인트를 멈춘다")
+        void 실패_일시_오류는_체크포인트_정지() throws Exception {
+            // given - 다른 트랜잭션이 4번 레코드의 주문을 커밋하지 않은 채 잡고 있다
+            List<String> rows = new ArrayList<>();
+            for (int i = 1; i <= 6; i++) {
+                rows.add(row("TRANSIENT-" + i, OrderStatus.CREATED, null, null, null, null, null));
+            }
+            String csv = HEADER + "\n" + String.join("\n", rows);
+            OrderImportResult result;
+            try (Connection holder = dataSource.getConnection()) {
+                holder.setAutoCommit(false);
+                try (Statement statement = holder.createStatement()) {
+                    statement.executeUpdate("insert into orders (id, product_id, quantity, total_amount, status, "
+                        + "customer_email, created_at, version) values ('TRANSIENT-4', 'PRODUCT-001', 1, 10000, "
+                        + "'CREATED', 'test@example.com', current_timestamp, 0)");
+                }
+
+                // when
+                result = importOrders("transient", OrderImportFormat.CSV, csv);
+                holder.rollback();
+            }
+
+            // then
+            assertThat(result.status()).isEqualTo(OrderImportResult.Status.FAILED);
+            assertThat(result.rejected()).isZero();
+            OrderImportCheckpoint checkpoint = checkpointRepository.findById("transient").orElseThrow();
+            assertThat(checkpoint.getPosition()).isEqualTo(3);
+            assertThat(checkpoint.isRunning()).isTrue();
+
+            OrderImportResult resumed = importOrders("transient", OrderImportFormat.CSV, csv);
+            assertThat(resumed.status()).isEqualTo(OrderImportResult.Status.COMPLETED);
+            assertThat(resumed.resumedFrom()).isEqualTo(3);
+            assertThat(orderRepository.count()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("완료된 가져오기를 다시 실행하면 처음부터 읽고 모두 건너뛴다")
+        void 성공_완료_후_재실행() {
+            // given
+            String csv = HEADER + "\n" + row("AGAIN-1", OrderStatus.CREATED, null, null, null, null, null);
+            importOrders("again", OrderImportFormat.CSV, csv);
+
+            // when
+            OrderImportResult result = importOrders("again", OrderImportFormat.CSV, csv);
+
+            // then
+            assertThat(result.resumedFrom()).isZero();
+            assertThat(result.imported()).isZero();
+            assertThat(result.skipped()).isEqualTo(1);
+        }
+    }
+
+    private OrderImportResult importOrders(String name, OrderImportFormat format, String content) {
+        InputStream input = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        return orderImporter.importOrders(name, format, input);
+    }
+
+    private static String reason(OrderImportResult result, long recordNumber) {
+        return result.rejections().stream()
+            .filter(rejection -> rejection.recordNumber() == recordNumber)
+            .findFirst()
+            .map(OrderImportRejection::reason)
+            .orElseThrow();
+    }
+
+    private static String row(String id, OrderStatus status, LocalDateTime paidAt, LocalDateTime shippedAt,
+                              LocalDateTime deliveredAt, LocalDateTime cancelledAt, LocalDateTime refundedAt) {
+        return String.join(",", id, "PRODUCT-001", "1", "10000", status.name(), "test@example.com", "CARD",
+            paidAt != null ? "PAY-" + id : "", text(paidAt), text(shippedAt), text(deliveredAt), text(cancelledAt),
+            text(refundedAt), text(T0));
+    }
+
+    private static String text(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+}
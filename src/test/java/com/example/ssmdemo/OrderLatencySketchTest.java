@@ -0,0 +1,220 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.analytics.LatencyProperties;
+import com.example.ssmdemo.analytics.LatencyReport;
+import com.example.ssmdemo.analytics.LatencySummary;
+import com.example.ssmdemo.analytics.OrderLatencySketches;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderLatencyStage;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.event.OrderTransitionEvent;
+import com.example.ssmdemo.domain.order.repository.OrderLatencySketchRepository;
+import com.example.ssmdemo.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:latency-test",
+    "ssm-demo.latency.enabled=true",
+    "ssm-demo.latency.snapshot-interval=1h"
+})
+@AutoConfigureMockMvc
+@DisplayName("상태 체류 시간 스케치 테스트")
+class OrderLatencySketchTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired
+    private OrderLatencySketches latencySketches;
+
+    @Autowired
+    private OrderLatencySketchRepository sketchRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private LatencyProperties properties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        latencySketches.snapshot();
+        sketchRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    @DisplayName("기록")
+    class Record {
+
+        @Test
+        @DisplayName("커밋된 정상 흐름 전이마다 원래 상태에 머문 시간을 구간별로 기록하고, 취소는 기록하지 않는다")
+        void 성공_전이_체류_시간_기록() {
+            // given
+            Order delivered = createOrder("PRODUCT-A");
+            Order cancelled = createOrder("PRODUCT-A");
+
+            // when
+            orderService.pay(delivered.getId());
+            orderService.ship(delivered.getId());
+            orderService.deliver(delivered.getId());
+            orderService.pay(cancelled.getId());
+            orderService.cancel(cancelled.getId());
+            int saved = latencySketches.snapshot();
+
+            // then
+            assertThat(saved).isEqualTo(3);
+            LocalDateTime now = LocalDateTime.now();
+            LatencyReport report = latencySketches.report(now.minusHours(2), now.plusHours(1), null, null);
+            assertThat(report.stages().get(OrderLatencyStage.CREATED_TO_PAID).overall().count()).isEqualTo(2);
+            assertThat(report.stages().get(OrderLatencyStage.PAID_TO_SHIPPED).overall().count()).isEqualTo(1);
+            assertThat(report.stages().get(OrderLatencyStage.SHIPPED_TO_DELIVERED).products())
+                .containsOnlyKeys("PRODUCT-A");
+        }
+
+        @Test
+        @DisplayName("스냅샷마다 증분을 저장된 스케치에 더하고, 범위의 창과 상품을 합쳐 분위수를 계산한다")
+        void 성공_스케치_병합() {
+            // given - 1~100분 체류, 두 시간 창과 두 상품에 나누어 두 번의 스냅샷으로 저장
+            for (int minutes = 1; minutes <= 100; minutes++) {
+                LocalDateTime paidAt = T0.plusMinutes(minutes % 2 == 0 ? 10 : 70);
+                String productId = minutes <= 50 ? "PRODUCT-A" : "PRODUCT-B";
+                paid(productId, paidAt.minusMinutes(minutes), paidAt);
+                if (minutes == 50) {
+                    latencySketches.snapshot();
+                }
+            }
+            latencySketches.snapshot();
+
+            // when
+            LatencyReport report = latencySketches.report(T0, T0.plusHours(2), null, OrderLatencyStage.CREATED_TO_PAID);
+
+            // then
+            assertThat(sketchRepository.count()).isEqualTo(4);
+            assertThat(report.stages()).containsOnlyKeys(OrderLatencyStage.CREATED_TO_PAID);
+            LatencySummary overall = report.stages().get(OrderLatencyStage.CREATED_TO_PAID).overall();
+            assertThat(overall.count()).isEqualTo(100);
+            assertThat(overall.p50Millis()).isCloseTo(Duration.ofMinutes(50).toMillis(), withinPercentage(1));
+            assertThat(overall.p95Millis()).isCloseTo(Duration.ofMinutes(95).toMillis(), withinPercentage(1));
+            assertThat(overall.p99Millis()).isCloseTo(Duration.ofMinutes(99).toMillis(), withinPercentage(1));
+            LatencySummary productA = report.stages().get(OrderLatencyStage.CREATED_TO_PAID).products().get("PRODUCT-A");
+            assertThat(productA.count()).isEqualTo(50);
+            assertThat(productA.maxMillis()).isCloseTo(Duration.ofMinutes(50).toMillis(), withinPercentage(1));
+
+            // 저장된 스냅샷만으로 새 인스턴스에서도 같은 결과를 얻는다 (재시작)
+            OrderLatencySketches restarted = new OrderLatencySketches(
+                properties, sketchRepository, transactionManager, new SimpleMeterRegistry());
+            assertThat(restarted.report(T0, T0.plusHours(2), null, null)
+                .stages().get(OrderLatencyStage.CREATED_TO_PAID).overall()).isEqualTo(overall);
+        }
+
+        @Test
+        @DisplayName("저장이 계속 실패하면 미저장 증분을 상한까지만 남기고 오래된 창부터 버린 표본 수를 센다")
+        void 실패_저장_실패_시_미저장_증분_상한() {
+            // given - 상한 2개, 저장이 항상 실패하는 저장소
+            OrderLatencySketchRepository failing = mock(OrderLatencySketchRepository.class);
+            when(failing.findForUpdate(any())).thenThrow(new IllegalStateException("DB unavailable"));
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            OrderLatencySketches sketches = new OrderLatencySketches(
+                new LatencyProperties(true, properties.window(), properties.snapshotInterval(),
+                    properties.significantValueDigits(), 2),
+                failing, transactionManager, meterRegistry);
+
+            // when - 세 시간 창에 1, 2, 3건 기록
+            for (int hour = 0; hour < 3; hour++) {
+                LocalDateTime paidAt = T0.plusHours(hour).plusMinutes(30);
+                for (int i = 0; i <= hour; i++) {
+                    sketches.onTransition(new OrderTransitionEvent("ORD-LATENCY", "PRODUCT-A", "test@example.com",
+                        OrderStatus.CREATED, OrderStatus.PAID, OrderEvent.PAY, paidAt, paidAt.minusMinutes(5)));
+                }
+            }
+            int saved = sketches.snapshot();
+            sketches.snapshot();
+
+            // then - 가장 오래된 창(1건)만 버리고, 다시 실패해도 더 버리지 않는다
+            assertThat(saved).isZero();
+            assertThat(meterRegistry.get("orders.latency.dropped").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 API")
+    class Api {
+
+        @Test
+        @DisplayName("시간 창과 상품, 구간으로 걸러 분위수를 돌려준다")
+        void 성공_조회() throws Exception {
+            // given
+            paid("PRODUCT-A", T0, T0.plusMinutes(10));
+            paid("PRODUCT-B", T0, T0.plusMinutes(30));
+            latencySketches.snapshot();
+
+            // when & then
+            mockMvc.perform(get("/api/orders/analytics/latency")
+                    .param("from", "2024-03-01T09:15:00")
+                    .param("to", "2024-03-01T09:45:00")
+                    .param("productId", "PRODUCT-A")
+                    .param("stage", "CREATED_TO_PAID"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2024-03-01T09:00:00"))
+                .andExpect(jsonPath("$.to").value("2024-03-01T10:00:00"))
+                .andExpect(jsonPath("$.stages.CREATED_TO_PAID.overall.count").value(1))
+                .andExpect(jsonPath("$.stages.CREATED_TO_PAID.products").doesNotExist())
+                .andExpect(jsonPath("$.stages.PAID_TO_SHIPPED").doesNotExist());
+
+            mockMvc.perform(get("/api/orders/analytics/latency")
+                    .param("from", "2024-03-01T09:00:00")
+                    .param("to", "2024-03-01T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stages.CREATED_TO_PAID.overall.count").value(2))
+                .andExpect(jsonPath("$.stages.CREATED_TO_PAID.products.PRODUCT-B.count").value(1))
+                .andExpect(jsonPath("$.stages.PAID_TO_SHIPPED.overall.count").value(0));
+        }
+
+        @Test
+        @DisplayName("from이 to보다 뒤면 400")
+        void 실패_범위_검증() throws Exception {
+            mockMvc.perform(get("/api/orders/analytics/latency")
+                    .param("from", "2024-03-01T10:00:00")
+                    .param("to", "2024-03-01T09:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_RANGE"));
+        }
+    }
+
+    private void paid(String productId, LocalDateTime createdAt, LocalDateTime paidAt) {
+        latencySketches.onTransition(new OrderTransitionEvent("ORD-LATENCY", productId, "test@example.com",
+            OrderStatus.CREATED, OrderStatus.PAID, OrderEvent.PAY, paidAt, createdAt));
+    }
+
+    private Order createOrder(String productId) {
+        return orderService.createOrder(productId, 1, new BigDecimal("10000"), "test@example.com", "CARD");
+    }
+}
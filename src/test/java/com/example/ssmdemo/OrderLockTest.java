@@ -0,0 +1,222 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.exception.InvalidStateTransitionException;
+import com.example.ssmdemo.exception.OrderLockException;
+import com.example.ssmdemo.lock.OrderLockHandle;
+import com.example.ssmdemo.lock.RedisOrderLock;
+import com.example.ssmdemo.service.OrderService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:lock-test",
+    "ssm-demo.lock.enabled=true",
+    "ssm-demo.lock.lease=30s",
+    "ssm-demo.lock.wait-timeout=3s"
+})
+@DisplayName("주문 분산 락 테스트")
+class OrderLockTest {
+
+    private static final InProcessRedisServer REDIS = startRedis();
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "127.0.0.1");
+        registry.add("spring.data.redis.port", REDIS::port);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        REDIS.close();
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RedisOrderLock redisOrderLock;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("같은 주문에 대한 동시 전이는 직렬화되어 하나만 성공하고, 실패한 전이의 펜싱 토큰은 롤백된다")
+    void 성공_동시_전이_직렬화() throws Exception {
+        // given
+        Order order = createOrder();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> orderService.pay(order.getId())));
+        }
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (java.util.concurrent.ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(InvalidStateTransitionException.class);
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(rejected).isEqualTo(7);
+        Order saved = orderRepository.findById(order.getId()).orElseThrow();
+        assertThat(saved.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(saved.getFencingToken()).isEqualTo(1L);
+        assertThat(REDIS.get(RedisOrderLock.FENCE_KEY_PREFIX + order.getId())).isEqualTo("8");
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청은 TTL 만료가 아니라 해제 알림(pub/sub)으로 깨어난다")
+    void 성공_해제_알림으로_대기_해제() throws Exception {
+        // given - 30초 lease로 다른 보유자가 락을 잡고 있음
+        Order order = createOrder();
+        OrderLockHandle holder = redisOrderLock.acquire(order.getId());
+        double contendedBefore = meterRegistry.get("orders.lock.contended").counter().count();
+        CompletableFuture<Order> waiting = CompletableFuture.supplyAsync(() -> orderService.pay(order.getId()));
+        Thread.sleep(200);
+        // 락을 기다리는 동안에는 DB 커넥션을 잡지 않는다
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections()).isZero();
+
+        // when
+        long released = System.nanoTime();
+        redisOrderLock.release(holder);
+        Order paid = waiting.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - released)).isLessThan(Duration.ofSeconds(2));
+        assertThat(paid.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(meterRegistry.get("orders.lock.contended").counter().count()).isGreaterThan(contendedBefore);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 락을 얻지 못하면 OrderLockException이 발생한다")
+    void 실패_락_대기_시간_초과() {
+        // given
+        Order order = createOrder();
+        OrderLockHandle holder = redisOrderLock.acquire(order.getId());
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> orderService.pay(order.getId()))
+                .isInstanceOf(OrderLockException.class);
+            assertThat(meterRegistry.get("orders.lock.wait").tag("result", "timeout").timer().count())
+                .isGreaterThan(0);
+        } finally {
+            redisOrderLock.release(holder);
+        }
+    }
+
+    @Test
+    @DisplayName("락이 만료된 뒤 늦게 진행하는 보유자의 토큰은 DB에서 거부된다")
+    void 실패_오래된_펜싱_토큰_거부() {
+        // given - 오래된 보유자가 토큰을 받은 뒤 새 보유자가 먼저 변경
+        Order order = createOrder();
+        OrderLockHandle stale = redisOrderLock.acquire(order.getId());
+        redisOrderLock.release(stale);
+        orderService.pay(order.getId());
+
+        // when
+        Integer updated = transactionTemplate.execute(status ->
+            orderRepository.advanceFencingToken(order.getId(), stale.fencingToken()));
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getFencingToken())
+            .isGreaterThan(stale.fencingToken());
+    }
+
+    @Test
+    @DisplayName("다른 보유자의 락은 해제하지 않는다")
+    void 실패_다른_보유자_락_해제_불가() {
+        // given
+        Order order = createOrder();
+        OrderLockHandle holder = redisOrderLock.acquire(order.getId());
+        OrderLockHandle impostor = new OrderLockHandle(order.getId(), "someone-else", holder.fencingToken());
+
+        // when
+        redisOrderLock.release(impostor);
+
+        // then
+        assertThat(REDIS.get(RedisOrderLock.LOCK_KEY_PREFIX + order.getId())).isEqualTo(holder.owner());
+        redisOrderLock.release(holder);
+        assertThat(REDIS.get(RedisOrderLock.LOCK_KEY_PREFIX + order.getId())).isNull();
+    }
+
+    // === Helper Methods ===
+
+    private static InProcessRedisServer startRedis() {
+        try {
+            InProcessRedisServer server = new InProcessRedisServer();
+            server.registerScript(RedisOrderLock.ACQUIRE_SCRIPT, (keys, args) ->
+                server.setIfAbsent(keys.get(0), args.get(0), Long.parseLong(args.get(1)))
+                    ? server.increment(keys.get(1))
+                    : 0L);
+            server.registerScript(RedisOrderLock.RELEASE_SCRIPT, (keys, args) -> {
+                if (!args.get(0).equals(server.get(keys.get(0)))) {
+                    return 0L;
+                }
+                server.del(keys.get(0));
+                server.publish(args.get(1), args.get(2));
+                return 1L;
+            });
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            1,
+            new BigDecimal("10000"),
+            "lock@example.com",
+            "CARD"
+        );
+    }
+}
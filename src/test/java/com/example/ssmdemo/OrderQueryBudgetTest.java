@@ -0,0 +1,176 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.projection.OrderField;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.exception.OrderNotFoundException;
+import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.sql.SqlStatementCounter;
+import com.example.ssmdemo.sql.SqlStatementHeaderAdvice;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-budget-test",
+    "ssm-demo.sql-stats.enabled=true",
+    "ssm-demo.sql-stats.response-header=true"
+})
+@AutoConfigureMockMvc
+@DisplayName("SQL 실행 수 예산 테스트")
+class OrderQueryBudgetTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    @DisplayName("전이 경로")
+    class TransitionPath {
+
+        @Test
+        @DisplayName("주문 생성은 INSERT 1건만 실행한다")
+        void 성공_생성_예산() {
+            // when & then
+            QueryBudget.of(sqlStatementCounter).insert(1).verify(() -> createOrder());
+        }
+
+        @Test
+        @DisplayName("결제는 SELECT 1건 + UPDATE 1건이다")
+        void 성공_결제_예산() {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            QueryBudget.of(sqlStatementCounter).select(1).update(1).verify(() -> orderService.pay(order.getId()));
+        }
+
+        @Test
+        @DisplayName("거부된 이벤트는 SELECT 1건만 실행하고 아무것도 쓰지 않는다")
+        void 성공_거부_예산() {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            QueryBudget.of(sqlStatementCounter).select(1)
+                .verify(() -> orderService.transition(order.getId(), OrderEvent.SHIP));
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 경로")
+    class ReadPath {
+
+        @Test
+        @DisplayName("단건/프로젝션/버전 조회는 SELECT 1건이다")
+        void 성공_단건_조회_예산() {
+            // given
+            Order order = createOrder();
+            QueryBudget selectOne = QueryBudget.of(sqlStatementCounter).select(1);
+
+            // when & then
+            selectOne.verify(() -> orderService.getOrder(order.getId()));
+            selectOne.verify(() -> orderService.getOrderView(order.getId(), EnumSet.of(OrderField.ID, OrderField.STATUS)));
+            selectOne.verify(() -> orderService.findVersion(order.getId()));
+        }
+
+        @Test
+        @DisplayName("없는 주문 조회는 orders와 orders_archive를 한 번씩 조회한다")
+        void 실패_없는_주문_조회_예산() {
+            // when & then
+            QueryBudget.of(sqlStatementCounter).select(2).verify(() ->
+                assertThatThrownBy(() -> orderService.getOrder("ORD-NONE")).isInstanceOf(OrderNotFoundException.class));
+        }
+
+        @Test
+        @DisplayName("전체 조회는 주문 수와 관계없이 SELECT 1건이다 (N+1 없음)")
+        void 성공_전체_조회_예산() {
+            // given
+            for (int i = 0; i < 5; i++) {
+                orderService.pay(createOrder().getId());
+            }
+
+            // when & then
+            QueryBudget.of(sqlStatementCounter).select(1).verify(() -> orderService.getAllOrders());
+            QueryBudget.of(sqlStatementCounter).select(1).verify(() -> orderService.getAllOrderViews(OrderField.ALL));
+        }
+    }
+
+    @Nested
+    @DisplayName("HTTP 요청")
+    class Http {
+
+        @Test
+        @DisplayName("가능한 이벤트 조회는 주문을 한 번만 읽고, 응답 헤더에 요청의 SQL 집계가 붙는다")
+        void 성공_가능한_이벤트_조회_헤더() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when & then
+            mockMvc.perform(get("/api/orders/{orderId}/available-events", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatementHeaderAdvice.HEADER,
+                    startsWith("select=1, insert=0, update=0, delete=0, other=0, rows=1, jdbc=")));
+        }
+
+        @Test
+        @DisplayName("요청과 서비스 메서드별 SQL 수가 메트릭으로 기록된다")
+        void 성공_메트릭_기록() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when
+            mockMvc.perform(post("/api/orders/{orderId}/pay", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatementHeaderAdvice.HEADER,
+                    startsWith("select=1, insert=0, update=1, delete=0, other=0")));
+
+            // then
+            assertThat(meterRegistry.get("orders.sql.statements")
+                .tags("scope", "http", "name", "OrderController.pay").summary().totalAmount()).isEqualTo(2);
+            assertThat(meterRegistry.get("orders.sql.statements")
+                .tags("scope", "service", "name", "OrderService.transition").summary().max()).isEqualTo(2);
+            assertThat(meterRegistry.get("orders.sql.executed").tag("type", "update").counter().count()).isPositive();
+        }
+    }
+
+    // === Helper Methods ===
+
+    private Order createOrder() {
+        return orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"), "budget@example.com", "CARD");
+    }
+}
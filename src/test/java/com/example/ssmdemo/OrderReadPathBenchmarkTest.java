@@ -0,0 +1,109 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.controller.dto.OrderResponse;
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.projection.OrderField;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로 비교: 관리 엔티티 → OrderResponse (변경 전) vs 조회 전용 프로젝션 (변경 후)
+ *
+ * 요청마다 읽기 전용 트랜잭션 하나를 여는 조회 API와 같은 조건에서 op당 시간과 할당 바이트를 잰다.
+ * 실행: ./gradlew benchmark --tests '*OrderReadPathBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:read-path-bench",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN"
+})
+@DisplayName("조회 경로 비교")
+class OrderReadPathBenchmarkTest {
+
+    private static final int ORDERS = 200;
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("단건/목록 조회의 시간과 할당량을 엔티티 경로와 비교한다")
+    void 조회_경로_비교() {
+        // given
+        List<String> ids = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = orderService.createOrder("PRODUCT-" + i, 1 + i % 3, new BigDecimal("15000.00"),
+                "reader" + i + "@example.com", "CARD");
+            orderService.pay(order.getId());
+            ids.add(order.getId());
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Set<OrderField> sparse = OrderField.parse("id,status");
+        int[] cursor = {0};
+        Supplier<String> nextId = () -> ids.get(cursor[0]++ % ORDERS);
+
+        // when & then
+        double[] entity = measure("single/entity", ITERATIONS, () -> readOnly.execute(status ->
+            OrderResponse.from(orderRepository.findById(nextId.get()).orElseThrow())));
+        double[] projection = measure("single/projection", ITERATIONS, () -> readOnly.execute(status ->
+            OrderResponse.from(orderRepository.findViewById(nextId.get()).orElseThrow())));
+        measure("single/fields=id,status", ITERATIONS, () -> readOnly.execute(status ->
+            OrderResponse.from(orderRepository.findViewById(nextId.get(), sparse).orElseThrow())));
+
+        double[] entityList = measure("list/entity", ITERATIONS / 100, () -> readOnly.execute(status ->
+            orderRepository.findAll().stream().map(OrderResponse::from).toList()));
+        double[] projectionList = measure("list/projection", ITERATIONS / 100, () -> readOnly.execute(status ->
+            orderRepository.findAllViews().stream().map(OrderResponse::from).toList()));
+        measure("list/fields=id,status", ITERATIONS / 100, () -> readOnly.execute(status ->
+            orderRepository.findAllViews(sparse).stream().map(OrderResponse::from).toList()));
+
+        // 목록은 엔티티 200개의 변경 감지 스냅샷이 쌓이므로 할당량 차이가 분명하다
+        assertThat(projectionList[1]).isLessThan(entityList[1]);
+        System.out.printf("[read-path] single alloc %.2fx, list alloc %.2fx (entity / projection)%n",
+            entity[1] / projection[1], entityList[1] / projectionList[1]);
+    }
+
+    /**
+     * @return [µs/op, bytes/op]
+     */
+    private double[] measure(String name, int iterations, Supplier<Object> read) {
+        for (int i = 0; i < Math.min(WARMUP, iterations * 5); i++) {
+            read.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            read.get();
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / iterations;
+        double bytes = (double) (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / iterations;
+        System.out.printf("[read-path] %-24s %8.1f µs/op %10.0f B/op%n", name, micros, bytes);
+        return new double[]{micros, bytes};
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.ssmdemo;
 
 import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
 import com.example.ssmdemo.domain.order.enums.OrderStatus;
 import com.example.ssmdemo.exception.InvalidStateTransitionException;
 import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.service.TransitionResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -214,6 +216,45 @@ class OrderServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("전이 결과 (예외 없는 API)")
+    class Transition {
+
+        @Test
+        @DisplayName("처리할 수 없는 이벤트는 예외 없이 REJECTED와 현재 상태를 반환한다")
+        void 성공_처리불가_이벤트_REJECTED() {
+            // given
+            Order order = createOrder();
+            orderService.pay(order.getId());
+
+            // when
+            TransitionResult result = orderService.transition(order.getId(), OrderEvent.PAY);
+
+            // then
+            assertThat(result.outcome()).isEqualTo(TransitionResult.Outcome.REJECTED);
+            assertThat(result.status()).isEqualTo(OrderStatus.PAID);
+            assertThat(result.message()).contains("PAY");
+        }
+
+        @Test
+        @DisplayName("Guard에 막힌 이벤트는 GUARD_DENIED를 반환하고 throwing API는 예외를 던진다")
+        void 성공_Guard_거부_GUARD_DENIED() {
+            // given - 결제 수단이 없으면 결제 Guard가 거부한다
+            Order order = orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"), "test@example.com", null);
+
+            // when
+            TransitionResult result = orderService.transition(order.getId(), OrderEvent.PAY);
+
+            // then
+            assertThat(result.outcome()).isEqualTo(TransitionResult.Outcome.GUARD_DENIED);
+            assertThat(result.status()).isEqualTo(OrderStatus.CREATED);
+            assertThat(orderService.getOrder(order.getId()).getPaymentId()).isNull();
+            assertThatThrownBy(() -> orderService.pay(order.getId()))
+                .isInstanceOf(InvalidStateTransitionException.class)
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        }
+    }
+
     // === Helper Methods ===
 
     private Order createOrder() {
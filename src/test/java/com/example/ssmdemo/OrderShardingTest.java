@@ -0,0 +1,271 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.shard.ShardRouter;
+import com.example.ssmdemo.shard.ShardSplitResult;
+import com.example.ssmdemo.shard.ShardSplitter;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "ssm-demo.shard.enabled=true",
+    "ssm-demo.shard.buckets=16",
+    "ssm-demo.shard.copy-batch-size=7",
+    "ssm-demo.shard.shards[0].name=shard-0",
+    "ssm-demo.shard.shards[0].url=jdbc:h2:mem:shard-test-0;DB_CLOSE_DELAY=-1",
+    "ssm-demo.shard.shards[1].name=shard-1",
+    "ssm-demo.shard.shards[1].url=jdbc:h2:mem:shard-test-1;DB_CLOSE_DELAY=-1",
+    "ssm-demo.shard.shards[2].name=shard-2",
+    "ssm-demo.shard.shards[2].url=jdbc:h2:mem:shard-test-2;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@DisplayName("주문 샤딩 테스트")
+class OrderShardingTest {
+
+    private final Map<String, JdbcTemplate> shards = Map.of(
+        "shard-0", jdbc("jdbc:h2:mem:shard-test-0"),
+        "shard-1", jdbc("jdbc:h2:mem:shard-test-1"),
+        "shard-2", jdbc("jdbc:h2:mem:shard-test-2"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardSplitter shardSplitter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        shards.values().forEach(shard -> {
+            shard.update("delete from orders");
+            shard.update("delete from orders_archive");
+        });
+    }
+
+    @Nested
+    @DisplayName("라우팅")
+    class Routing {
+
+        @Test
+        @DisplayName("주문은 ID 해시의 버킷이 가리키는 샤드에만 저장되고, 전이도 같은 샤드에서 처리된다")
+        void 성공_주문_ID로_샤드_라우팅() {
+            // given - 분할 테스트 뒤에는 버킷이 2개뿐인 샤드도 있으므로 모든 샤드에 들어갈 만큼 만든다
+            List<Order> orders = createOrders(100);
+
+            // when
+            orders.forEach(order -> orderService.pay(order.getId()));
+
+            // then
+            for (Order order : orders) {
+                String owner = shardRouter.shardOf(order.getId());
+                shards.forEach((name, shard) -> assertThat(statusOn(shard, order.getId()))
+                    .isEqualTo(name.equals(owner) ? "PAID" : null));
+            }
+            assertThat(shards.values()).allSatisfy(shard -> assertThat(count(shard)).isPositive());
+        }
+
+        @Test
+        @DisplayName("한 트랜잭션에서 다른 샤드의 주문을 함께 사용하면 거부된다")
+        void 실패_한_트랜잭션에서_여러_샤드_사용() {
+            // given
+            List<Order> orders = createOrders(30);
+            Order first = orders.get(0);
+            Order other = orders.stream()
+                .filter(order -> !shardRouter.shardOf(order.getId()).equals(shardRouter.shardOf(first.getId())))
+                .findFirst()
+                .orElseThrow();
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+            // when & then
+            assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+                orderService.getOrder(first.getId());
+                orderService.getOrder(other.getId());
+            }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("여러 샤드");
+        }
+    }
+
+    @Nested
+    @DisplayName("Scatter-Gather")
+    class ScatterGather {
+
+        @Test
+        @DisplayName("전체 목록은 샤드별 결과를 id 순서로 병합하고, 통계는 샤드별 집계를 합친다")
+        void 성공_목록_병합과_통계() throws Exception {
+            // given
+            List<Order> orders = createOrders(20);
+            orderService.pay(orders.get(0).getId());
+            orderService.cancel(orders.get(1).getId());
+            List<String> sortedIds = new ArrayList<>(orders.stream().map(Order::getId).toList());
+            Collections.sort(sortedIds);
+
+            // when
+            String body = mockMvc.perform(get("/api/orders"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+            // then
+            List<String> ids = JsonPath.read(body, "$[*].id");
+            assertThat(ids).containsExactlyElementsOf(sortedIds);
+            mockMvc.perform(get("/api/orders/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(20))
+                .andExpect(jsonPath("$.byStatus.CREATED").value(18))
+                .andExpect(jsonPath("$.byStatus.PAID").value(1))
+                .andExpect(jsonPath("$.byStatus.CANCELLED").value(1))
+                .andExpect(jsonPath("$.byStatus.DELIVERED").value(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("온라인 분할")
+    class Split {
+
+        @Test
+        @DisplayName("주문 처리 중에 버킷 절반을 다른 샤드로 옮겨도 모든 주문이 새 샤드에서 조회/전이된다")
+        void 성공_처리_중_온라인_분할() throws Exception {
+            // given
+            List<Order> orders = createOrders(60);
+            List<String> created = Collections.synchronizedList(new ArrayList<>());
+            AtomicBoolean running = new AtomicBoolean(true);
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                while (running.get()) {
+                    Order order = createOrders(1).get(0);
+                    orderService.pay(order.getId());
+                    created.add(order.getId());
+                }
+            });
+            int sourceBuckets = shardRouter.shardMap().bucketsOf("shard-0").size();
+
+            // when
+            ShardSplitResult result;
+            try {
+                result = shardSplitter.split("shard-0", "shard-2");
+            } finally {
+                running.set(false);
+                writer.get();
+            }
+
+            // then
+            assertThat(result.buckets()).isEqualTo(sourceBuckets - sourceBuckets / 2);
+            assertThat(shardRouter.shardMap().bucketsOf("shard-0")).hasSize(sourceBuckets / 2);
+            assertThat(result.deleted()).isPositive();
+            assertThat(shards.values().stream().mapToLong(OrderShardingTest::count).sum())
+                .isEqualTo(orders.size() + created.size());
+            for (Order order : orders) {
+                String owner = shardRouter.shardOf(order.getId());
+                assertThat(statusOn(shards.get(owner), order.getId())).isEqualTo("CREATED");
+                assertThat(orderService.pay(order.getId()).getStatus()).isEqualTo(OrderStatus.PAID);
+            }
+            for (String id : created) {
+                assertThat(statusOn(shards.get(shardRouter.shardOf(id)), id)).isEqualTo("PAID");
+            }
+            assertThat(shards.get("shard-0").queryForList("select id from orders", String.class))
+                .allMatch(id -> shardRouter.shardOf(id).equals("shard-0"));
+        }
+
+        @Test
+        @DisplayName("복사 이후 바뀐 주문이 없으면 동결 구간에서 다시 맞추는 행이 없다")
+        void 성공_변경_없으면_동결_구간_재조정_없음() {
+            // given
+            List<Order> orders = createOrders(40);
+            long before = count(shards.get("shard-1"));
+
+            // when
+            ShardSplitResult result = shardSplitter.split("shard-1", "shard-2");
+
+            // then
+            assertThat(result.reconciled()).isZero();
+            assertThat(result.copied()).isEqualTo(result.deleted());
+            assertThat(count(shards.get("shard-1"))).isEqualTo(before - result.deleted());
+            for (Order order : orders) {
+                assertThat(statusOn(shards.get(shardRouter.shardOf(order.getId())), order.getId())).isEqualTo("CREATED");
+            }
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 shard_map을 바꾸면 맵 갱신 후 새 소유 샤드로 라우팅한다")
+        void 성공_다른_인스턴스의_분할_반영() {
+            // given - 다른 인스턴스가 버킷 하나를 옮긴 상황 (shard_map만 변경)
+            Order order = createOrders(1).get(0);
+            int bucket = shardRouter.shardMap().bucketOf(order.getId());
+            String owner = shardRouter.shardOf(order.getId());
+            String target = owner.equals("shard-1") ? "shard-2" : "shard-1";
+            JdbcTemplate directory = shards.get("shard-0");
+            directory.update("update shard_map set shard = ? where bucket = ?", target, bucket);
+
+            try {
+                // when
+                shardRouter.refreshShardMap();
+
+                // then
+                assertThat(shardRouter.shardOf(order.getId())).isEqualTo(target);
+                assertThat(shardRouter.shardMap().bucketsOf(target)).contains(bucket);
+            } finally {
+                directory.update("update shard_map set shard = ? where bucket = ?", owner, bucket);
+                shardRouter.refreshShardMap();
+            }
+            assertThat(shardRouter.shardOf(order.getId())).isEqualTo(owner);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private List<Order> createOrders(int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"), "shard@example.com", "CARD"));
+        }
+        return orders;
+    }
+
+    private static String statusOn(JdbcTemplate shard, String orderId) {
+        return shard.queryForList("select status from orders where id = ?", String.class, orderId).stream()
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static long count(JdbcTemplate shard) {
+        return shard.queryForObject("select count(*) from orders", Long.class);
+    }
+
+    private static JdbcTemplate jdbc(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("주문 상태 변경 알림 테스트")
+class OrderStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Nested
+    @DisplayName("SSE 스트림")
+    class Stream {
+
+        @Test
+        @DisplayName("커밋된 전이가 주문 스트림으로 전달된다")
+        void 성공_커밋된_전이_스트림_전달() throws Exception {
+            // given
+            Order order = createOrder();
+            MvcResult result = mockMvc.perform(get("/api/orders/{orderId}/stream", order.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // when
+            orderService.pay(order.getId());
+            orderService.ship(order.getId());
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+                String body = result.getResponse().getContentAsString();
+                assertThat(body).contains("event:status-changed");
+                assertThat(body).contains("\"target\":\"PAID\"");
+                assertThat(body).contains("\"target\":\"SHIPPED\"");
+            });
+        }
+
+        @Test
+        @DisplayName("Last-Event-ID 이후의 이벤트만 재전송되고, 필터에 맞지 않는 이벤트는 제외된다")
+        void 성공_LastEventId_재개_및_필터() throws Exception {
+            // given - 첫 구독에서 PAID 이벤트 ID 확인
+            Order order = createOrder();
+            MvcResult first = mockMvc.perform(get("/api/orders/{orderId}/stream", order.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            orderService.pay(order.getId());
+            await().atMost(Duration.ofSeconds(5))
+                .until(() -> first.getResponse().getContentAsString().contains("\"target\":\"PAID\""));
+            long paidEventId = lastEventId(first.getResponse().getContentAsString());
+
+            // when - 연결이 끊긴 사이 SHIPPED 전이 발생 후 재연결
+            orderService.ship(order.getId());
+            MvcResult resumed = mockMvc.perform(get("/api/orders/stream")
+                    .param("status", "SHIPPED")
+                    .header("Last-Event-ID", paidEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+                String body = resumed.getResponse().getContentAsString();
+                assertThat(body).contains("\"orderId\":\"" + order.getId() + "\"");
+                assertThat(body).contains("\"target\":\"SHIPPED\"");
+                assertThat(body).doesNotContain("\"target\":\"PAID\"");
+            });
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 주문 스트림 구독 시 404를 반환한다")
+        void 실패_존재하지_않는_주문_구독() throws Exception {
+            mockMvc.perform(get("/api/orders/{orderId}/stream", "NON_EXISTENT_ORDER"))
+                .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("상태 대기 (Long-Poll)")
+    class Await {
+
+        @Test
+        @DisplayName("대기 중인 상태로 전이가 커밋되면 응답한다")
+        void 성공_대기_상태_도달시_응답() throws Exception {
+            // given
+            Order order = createOrder();
+            orderService.pay(order.getId());
+            MvcResult result = mockMvc.perform(get("/api/orders/{orderId}/await", order.getId())
+                    .param("status", "SHIPPED")
+                    .param("timeout", "5s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // when
+            orderService.ship(order.getId());
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SHIPPED"))
+                .andExpect(jsonPath("$.reached").value(true))
+                .andExpect(jsonPath("$.timedOut").value(false));
+        }
+
+        @Test
+        @DisplayName("종료 상태에 도달하면 요청한 상태가 아니어도 응답한다")
+        void 성공_종료_상태_도달시_응답() throws Exception {
+            // given
+            Order order = createOrder();
+            MvcResult result = mockMvc.perform(get("/api/orders/{orderId}/await", order.getId())
+                    .param("status", "DELIVERED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // when
+            orderService.cancel(order.getId());
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(jsonPath("$.status").value("CANCELLED"))
+                .andExpect(jsonPath("$.reached").value(false));
+        }
+
+        @Test
+        @DisplayName("이미 요청한 상태라면 바로 응답한다")
+        void 성공_이미_도달한_상태_즉시_응답() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/orders/{orderId}/await", order.getId())
+                    .param("status", "CREATED"))
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.reached").value(true));
+        }
+
+        @Test
+        @DisplayName("0 이하 timeout은 무제한 대기가 되지 않도록 최소 대기 시간으로 올린다")
+        void 성공_0초_timeout은_최소_대기_시간() throws Exception {
+            // given
+            Order order = createOrder();
+
+            // when
+            MvcResult zero = mockMvc.perform(get("/api/orders/{orderId}/await", order.getId())
+                    .param("status", "DELIVERED")
+                    .param("timeout", "0s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            MvcResult negative = mockMvc.perform(get("/api/orders/{orderId}/await", order.getId())
+                    .param("status", "DELIVERED")
+                    .param("timeout", "-5s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            assertThat(zero.getRequest().getAsyncContext().getTimeout()).isEqualTo(1000);
+            assertThat(negative.getRequest().getAsyncContext().getTimeout()).isEqualTo(1000);
+            orderService.cancel(order.getId());
+        }
+    }
+
+    // === Helper Methods ===
+
+    private long lastEventId(String body) {
+        return body.lines()
+            .filter(line -> line.startsWith("id:"))
+            .mapToLong(line -> Long.parseLong(line.substring(3).trim()))
+            .max()
+            .orElseThrow();
+    }
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            2,
+            new BigDecimal("50000"),
+            "stream@example.com",
+            "CARD"
+        );
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.profile.StateMachineProfiler;
+import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.warmup.OrderWarmup;
+import com.example.ssmdemo.warmup.OrderWarmupProperties;
+import com.example.ssmdemo.warmup.OrderWarmupResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:warmup-test",
+    "ssm-demo.warmup.enabled=true",
+    "ssm-demo.warmup.iterations=8"
+})
+@AutoConfigureMockMvc
+@DisplayName("기동 시 워밍업 테스트")
+class OrderWarmupTest {
+
+    @Autowired
+    private OrderWarmup orderWarmup;
+
+    @Autowired
+    private ReadinessRecorder readinessRecorder;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StateMachineProfiler profiler;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Nested
+    @DisplayName("기동")
+    class Startup {
+
+        @Test
+        @DisplayName("워밍업이 끝난 뒤에 준비 상태가 ACCEPTING_TRAFFIC으로 바뀐다")
+        void 성공_워밍업_후_준비_완료() throws Exception {
+            // when
+            OrderWarmupResult resultAtReady = readinessRecorder.resultAtReady.get();
+
+            // then
+            assertThat(resultAtReady).isNotNull();
+            assertThat(resultAtReady.lifecycles()).isEqualTo(8);
+            assertThat(resultAtReady.transitions()).isEqualTo(20);
+            assertThat(resultAtReady.completed()).isTrue();
+            mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+        }
+
+        @Test
+        @DisplayName("가상 주문은 롤백되어 DB에 남지 않는다")
+        void 성공_가상_주문_롤백() {
+            // when
+            long orders = orderRepository.count();
+
+            // then
+            assertThat(orderWarmup.lastResult().lifecycles()).isPositive();
+            assertThat(orders).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("시간 제한")
+    class MaxDuration {
+
+        @Test
+        @DisplayName("maxDuration을 넘기면 남은 반복을 건너뛰고 미완료로 보고한다")
+        void 실패_시간_초과() {
+            // given
+            OrderWarmup warmup = new OrderWarmup(orderService, transactionManager,
+                new OrderWarmupProperties(true, 100, Duration.ZERO), Optional.empty(), profiler);
+
+            // when
+            OrderWarmupResult result = warmup.warmUp();
+
+            // then
+            assertThat(result.completed()).isFalse();
+            assertThat(result.lifecycles()).isLessThan(100);
+        }
+    }
+
+    @TestConfiguration
+    static class ReadinessRecorderConfig {
+
+        @Bean
+        ReadinessRecorder readinessRecorder(ApplicationContext context) {
+            return new ReadinessRecorder(context);
+        }
+    }
+
+    /**
+     * 준비 완료 이벤트 시점의 워밍업 결과 기록
+     */
+    static class ReadinessRecorder {
+
+        private final ApplicationContext context;
+        private final AtomicReference<OrderWarmupResult> resultAtReady = new AtomicReference<>();
+
+        ReadinessRecorder(ApplicationContext context) {
+            this.context = context;
+        }
+
+        @EventListener
+        void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+            if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                resultAtReady.set(context.getBean(OrderWarmup.class).lastResult());
+            }
+        }
+    }
+}
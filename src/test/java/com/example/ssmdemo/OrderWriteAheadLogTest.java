@@ -0,0 +1,328 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.domain.order.repository.OrderRepository;
+import com.example.ssmdemo.writebehind.OrderWriteAheadLog;
+import com.example.ssmdemo.writebehind.WriteBehindOrderStore;
+import com.example.ssmdemo.writebehind.WriteBehindProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Write-Behind WAL 장애 복구 테스트")
+class OrderWriteAheadLogTest {
+
+    private static final int CAPACITY = 64 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("WAL 재생")
+    class Replay {
+
+        @Test
+        @DisplayName("닫지 않고 종료(크래시)해도 추가된 레코드가 순서대로 재생된다")
+        void 성공_크래시_후_레코드_재생() {
+            // given
+            Path path = tempDir.resolve("orders.wal");
+            OrderWriteAheadLog wal = new OrderWriteAheadLog(path, CAPACITY);
+            wal.open();
+            Order order = createOrder("ORD-1");
+            wal.append(order);
+            order.markAsPaid("PAY-1");
+            wal.append(order);
+            wal.force();
+
+            // when - close 없이 새 인스턴스로 다시 연다
+            List<Order> replayed = new OrderWriteAheadLog(path, CAPACITY).open();
+
+            // then
+            assertThat(replayed).hasSize(2);
+            assertThat(replayed.get(0).getStatus()).isEqualTo(OrderStatus.CREATED);
+            assertThat(replayed.get(1).getStatus()).isEqualTo(OrderStatus.PAID);
+            assertThat(replayed.get(1).getPaymentId()).isEqualTo("PAY-1");
+            assertThat(replayed.get(1).getPaidAt()).isEqualTo(order.getPaidAt());
+            assertThat(replayed.get(1).getTotalAmount()).isEqualByComparingTo("50000");
+        }
+
+        @Test
+        @DisplayName("마지막 레코드가 찢어진 경우 그 이전 레코드까지만 재생된다")
+        void 성공_찢어진_레코드는_무시() throws Exception {
+            // given
+            Path path = tempDir.resolve("orders.wal");
+            OrderWriteAheadLog wal = new OrderWriteAheadLog(path, CAPACITY);
+            wal.open();
+            wal.append(createOrder("ORD-1"));
+            int tornOffset = wal.position();
+            wal.append(createOrder("ORD-2"));
+            wal.force();
+
+            // when - 두 번째 레코드 payload 일부를 손상시킨다
+            try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                file.seek(tornOffset + 12);
+                file.write(new byte[]{0x7f, 0x7f, 0x7f});
+            }
+            List<Order> replayed = new OrderWriteAheadLog(path, CAPACITY).open();
+
+            // then
+            assertThat(replayed).extracting(Order::getId).containsExactly("ORD-1");
+        }
+
+        @Test
+        @DisplayName("체크포인트 후에는 남은 스냅샷만 재생된다")
+        void 성공_체크포인트_후_잔여_스냅샷만_재생() {
+            // given
+            Path path = tempDir.resolve("orders.wal");
+            OrderWriteAheadLog wal = new OrderWriteAheadLog(path, CAPACITY);
+            wal.open();
+            wal.append(createOrder("ORD-1"));
+            wal.append(createOrder("ORD-2"));
+
+            // when
+            wal.rewrite(List.of(createOrder("ORD-2")));
+            wal.append(createOrder("ORD-3"));
+            wal.force();
+            List<Order> replayed = new OrderWriteAheadLog(path, CAPACITY).open();
+
+            // then
+            assertThat(replayed).extracting(Order::getId).containsExactly("ORD-2", "ORD-3");
+        }
+
+        @Test
+        @DisplayName("fencingToken, version 필드 추가 전 형식의 레코드도 재생된다")
+        void 성공_이전_형식_레코드_재생() throws Exception {
+            // given - modifiedAt에서 끝나는 레코드와 fencingToken까지만 있는 레코드
+            Path path = tempDir.resolve("orders.wal");
+            ByteArrayOutputStream withFencing = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(withFencing)) {
+                out.write(legacyPayload("ORD-2"));
+                out.writeBoolean(true);
+                out.writeUTF("7");
+            }
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+                writeRecord(out, legacyPayload("ORD-1"));
+                writeRecord(out, withFencing.toByteArray());
+            }
+
+            // when
+            List<Order> replayed = new OrderWriteAheadLog(path, CAPACITY).open();
+
+            // then
+            assertThat(replayed).extracting(Order::getId).containsExactly("ORD-1", "ORD-2");
+            assertThat(replayed.get(0).getFencingToken()).isNull();
+            assertThat(replayed.get(0).getVersion()).isZero();
+            assertThat(replayed.get(0).getTotalAmount()).isEqualByComparingTo("50000");
+            assertThat(replayed.get(1).getFencingToken()).isEqualTo(7L);
+            assertThat(replayed.get(1).getVersion()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Write-Behind 저장소 복구")
+    class StoreRecovery {
+
+        @Test
+        @DisplayName("DB 반영 전 크래시가 나면 재시작 시 WAL의 최종 상태가 DB에 반영된다")
+        @SuppressWarnings("unchecked")
+        void 성공_재시작시_미반영_주문_DB_반영() {
+            // given - 전이 결과를 staged 상태로만 두고 크래시
+            Path path = tempDir.resolve("orders.wal");
+            OrderRepository beforeCrash = mock(OrderRepository.class);
+            WriteBehindOrderStore store = createStore(path, beforeCrash);
+            store.recover();
+
+            Order order = createOrder("ORD-1");
+            store.stage(order);
+            order.markAsPaid("PAY-1");
+            store.stage(order);
+            verify(beforeCrash, never()).saveAll(anyList());
+
+            // when - 같은 WAL로 재시작
+            OrderRepository afterRestart = mock(OrderRepository.class);
+            WriteBehindOrderStore restarted = createStore(path, afterRestart);
+            restarted.recover();
+
+            // then
+            ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+            verify(afterRestart).saveAll(saved.capture());
+            assertThat(saved.getValue()).singleElement()
+                .satisfies(recovered -> {
+                    assertThat(recovered.getId()).isEqualTo("ORD-1");
+                    assertThat(recovered.getStatus()).isEqualTo(OrderStatus.PAID);
+                });
+            assertThat(restarted.stagedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("DB 반영 후 재시작하면 재생할 레코드가 없다")
+        void 성공_반영_완료후_재시작시_재생없음() {
+            // given
+            Path path = tempDir.resolve("orders.wal");
+            WriteBehindOrderStore store = createStore(path, mock(OrderRepository.class));
+            store.recover();
+            store.stage(createOrder("ORD-1"));
+
+            // when
+            int flushed = store.flush();
+            List<Order> replayed = new OrderWriteAheadLog(path, CAPACITY).open();
+
+            // then
+            assertThat(flushed).isEqualTo(1);
+            assertThat(replayed).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 연동")
+    class TransactionBoundary {
+
+        @Test
+        @DisplayName("트랜잭션 안의 반영은 커밋된 뒤에 메모리 테이블과 WAL에 추가되고 수정 시각이 기록된다")
+        void 성공_커밋_후_반영() {
+            // given
+            Path path = tempDir.resolve("orders.wal");
+            WriteBehindOrderStore store = createStore(path, mock(OrderRepository.class));
+            store.recover();
+            Order order = createOrder("ORD-1");
+            order.markAsPaid("PAY-1");
+
+            // when
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                store.stage(order);
+                assertThat(store.find("ORD-1")).hasValueSatisfying(
+                    pending -> assertThat(pending.getStatus()).isEqualTo(OrderStatus.PAID));
+                assertThat(store.stagedCount()).isZero();
+                complete(true);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            assertThat(store.stagedCount()).isEqualTo(1);
+            assertThat(store.find("ORD-1")).hasValueSatisfying(
+                staged -> assertThat(staged.getModifiedAt()).isNotNull());
+            assertThat(new OrderWriteAheadLog(path, CAPACITY).open()).singleElement()
+                .satisfies(replayed -> assertThat(replayed.getStatus()).isEqualTo(OrderStatus.PAID));
+        }
+
+        @Test
+        @DisplayName("트랜잭션이 롤백되면 메모리 테이블과 WAL에 반영하지 않는다")
+        void 실패_롤백시_반영_안함() {
+            // given
+            Path path = tempDir.resolve("orders.wal");
+            WriteBehindOrderStore store = createStore(path, mock(OrderRepository.class));
+            store.recover();
+
+            // when
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                store.stage(createOrder("ORD-1"));
+                complete(false);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            assertThat(store.stagedCount()).isZero();
+            assertThat(store.find("ORD-1")).isEmpty();
+            assertThat(new OrderWriteAheadLog(path, CAPACITY).open()).isEmpty();
+        }
+
+        private void complete(boolean committed) {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (committed) {
+                TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            }
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, committed
+                ? TransactionSynchronization.STATUS_COMMITTED
+                : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private WriteBehindOrderStore createStore(Path path, OrderRepository repository) {
+        WriteBehindProperties properties = new WriteBehindProperties(
+            true, path, DataSize.ofBytes(CAPACITY), Duration.ofMillis(5), false, Duration.ofMillis(50), 500);
+        return new WriteBehindOrderStore(
+            new OrderWriteAheadLog(path, CAPACITY),
+            repository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            properties);
+    }
+
+    /**
+     * fencingToken, version 필드 추가 전 형식 (modifiedAt에서 끝남)
+     */
+    private byte[] legacyPayload(String id) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(id);
+            out.writeUTF("PRODUCT-001");
+            out.writeInt(2);
+            out.writeUTF("50000");
+            out.writeUTF(OrderStatus.CREATED.name());
+            out.writeBoolean(true);
+            out.writeUTF("test@example.com");
+            out.writeBoolean(true);
+            out.writeUTF("CARD");
+            for (int i = 0; i < 6; i++) {
+                out.writeBoolean(false);
+            }
+            out.writeBoolean(true);
+            out.writeUTF(LocalDateTime.now().toString());
+            out.writeBoolean(false);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writeRecord(DataOutputStream out, byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        out.writeInt(payload.length);
+        out.writeInt((int) crc.getValue());
+        out.write(payload);
+    }
+
+    private Order createOrder(String id) {
+        return Order.builder()
+            .id(id)
+            .productId("PRODUCT-001")
+            .quantity(2)
+            .totalAmount(new BigDecimal("50000"))
+            .customerEmail("test@example.com")
+            .paymentMethod("CARD")
+            .status(OrderStatus.CREATED)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
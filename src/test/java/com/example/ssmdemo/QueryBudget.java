@@ -0,0 +1,79 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.sql.SqlStatementCounter;
+import com.example.ssmdemo.sql.SqlStatementCounts;
+import com.example.ssmdemo.sql.SqlStatementScope;
+import com.example.ssmdemo.sql.SqlStatementType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 예산 검증 (ssm-demo.sql-stats.enabled=true 필요)
+ *
+ * 지정하지 않은 종류는 0건을 기대하며, 실패 메시지에 실행된 SQL 목록을 보여준다.
+ * 사용 예: QueryBudget.of(sqlStatementCounter).select(1).update(1).verify(() -> orderService.pay(orderId));
+ */
+final class QueryBudget {
+
+    private final SqlStatementCounter counter;
+    private final Map<SqlStatementType, Long> expected = new EnumMap<>(SqlStatementType.class);
+
+    private QueryBudget(SqlStatementCounter counter) {
+        this.counter = counter;
+        for (SqlStatementType type : SqlStatementType.values()) {
+            expected.put(type, 0L);
+        }
+    }
+
+    static QueryBudget of(SqlStatementCounter counter) {
+        return new QueryBudget(counter);
+    }
+
+    QueryBudget select(long count) {
+        return expect(SqlStatementType.SELECT, count);
+    }
+
+    QueryBudget insert(long count) {
+        return expect(SqlStatementType.INSERT, count);
+    }
+
+    QueryBudget update(long count) {
+        return expect(SqlStatementType.UPDATE, count);
+    }
+
+    QueryBudget delete(long count) {
+        return expect(SqlStatementType.DELETE, count);
+    }
+
+    QueryBudget expect(SqlStatementType type, long count) {
+        expected.put(type, count);
+        return this;
+    }
+
+    /**
+     * action을 실행하고 SQL 수가 예산과 정확히 같은지 검증한다.
+     */
+    <T> T verify(Supplier<T> action) {
+        T result;
+        SqlStatementCounts counts;
+        try (SqlStatementScope scope = counter.capture()) {
+            result = action.get();
+            counts = scope.counts();
+        }
+        assertThat(counts.statements())
+            .as("SQL 예산 초과/미달 - 실행된 SQL:%n  %s", String.join("\n  ", counts.sql()))
+            .isEqualTo(expected);
+        return result;
+    }
+
+    void verify(Runnable action) {
+        verify(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.replica.ReadReplicaRouter;
+import com.example.ssmdemo.service.OrderService;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica-primary;DB_CLOSE_DELAY=-1",
+    "ssm-demo.replica.enabled=true",
+    "ssm-demo.replica.max-lag=5s",
+    "ssm-demo.replica.read-your-writes=1s",
+    "ssm-demo.replica.heartbeat-interval=1h",
+    "ssm-demo.replica.replicas[0].name=replica-1",
+    "ssm-demo.replica.replicas[0].url=jdbc:h2:mem:replica-1;DB_CLOSE_DELAY=-1",
+    "ssm-demo.replica.replicas[1].name=replica-2",
+    "ssm-demo.replica.replicas[1].url=jdbc:h2:mem:replica-2;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@DisplayName("읽기 복제본 라우팅 테스트")
+class ReadReplicaRoutingTest {
+
+    private static final String PRIMARY_EMAIL = "replica@example.com";
+
+    private final JdbcTemplate primary = jdbc("jdbc:h2:mem:replica-primary");
+    private final List<JdbcTemplate> replicas = List.of(jdbc("jdbc:h2:mem:replica-1"), jdbc("jdbc:h2:mem:replica-2"));
+
+    @TempDir
+    private Path tempDir;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ReadReplicaRouter readReplicaRouter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("방금 쓴 주문은 primary에서, 유지 시간이 지나면 복제본에서 번갈아 조회한다")
+    void 성공_read_your_writes_후_복제본_라운드로빈() throws Exception {
+        // given - 복제 후 복제본마다 다른 값으로 바꿔 어느 DB에서 읽었는지 구분
+        Order order = createOrder();
+        replicate();
+        for (int i = 0; i < replicas.size(); i++) {
+            replicas.get(i).update("update orders set customer_email = ? where id = ?",
+                "replica-" + (i + 1) + "@example.com", order.getId());
+        }
+
+        // when & then - 생성 직후에는 primary
+        assertThat(readEmail(order.getId())).isEqualTo(PRIMARY_EMAIL);
+
+        // when & then - 유지 시간이 지나면 두 복제본을 번갈아 사용
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> !readEmail(order.getId()).equals(PRIMARY_EMAIL));
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            emails.add(readEmail(order.getId()));
+        }
+        assertThat(emails).containsExactlyInAnyOrder("replica-1@example.com", "replica-2@example.com");
+        assertThat(meterRegistry.get("orders.datasource.routed").tag("pool", "replica-1").counter().count())
+            .isPositive();
+    }
+
+    @Test
+    @DisplayName("전이는 primary에만 기록된다")
+    void 성공_쓰기는_primary() throws Exception {
+        // given
+        Order order = createOrder();
+        replicate();
+
+        // when
+        mockMvc.perform(post("/api/orders/{orderId}/pay", order.getId()))
+            .andExpect(status().isOk());
+
+        // then
+        assertThat(statusIn(primary, order.getId())).isEqualTo("PAID");
+        replicas.forEach(replica -> assertThat(statusIn(replica, order.getId())).isEqualTo("CREATED"));
+    }
+
+    @Test
+    @DisplayName("허용 지연을 넘은 복제본은 제외하고 primary에서 조회한다")
+    void 성공_지연된_복제본_제외() throws Exception {
+        // given - 복제본 heartbeat가 60초 전에 멈춘 상태
+        Order order = createOrder();
+        replicate();
+        replicas.forEach(replica -> {
+            replica.update("update orders set customer_email = 'stale@example.com' where id = ?", order.getId());
+            replica.update("update replica_heartbeat set beat_at = ?", System.currentTimeMillis() - 60_000);
+        });
+        readReplicaRouter.refreshLag();
+        double noReplica = meterRegistry.get("orders.datasource.routed")
+            .tag("pool", "primary").tag("reason", "no-replica").counter().count();
+
+        // when
+        Thread.sleep(1_100);
+        String email = readEmail(order.getId());
+
+        // then
+        assertThat(email).isEqualTo(PRIMARY_EMAIL);
+        assertThat(meterRegistry.get("orders.datasource.routed")
+            .tag("pool", "primary").tag("reason", "no-replica").counter().count())
+            .isGreaterThan(noReplica);
+        assertThat(meterRegistry.get("orders.datasource.replica.lag").tag("pool", "replica-1").timeGauge()
+            .value(TimeUnit.SECONDS)).isGreaterThan(5);
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * 복제 재현: primary의 현재 heartbeat와 데이터를 복제본에 그대로 복사
+     */
+    private void replicate() {
+        readReplicaRouter.heartbeat();
+        String script = tempDir.resolve("primary.sql").toString();
+        primary.execute("SCRIPT DROP TO '" + script + "'");
+        replicas.forEach(replica -> replica.execute("RUNSCRIPT FROM '" + script + "'"));
+        readReplicaRouter.refreshLag();
+    }
+
+    private String readEmail(String orderId) throws Exception {
+        String body = mockMvc.perform(get("/api/orders/{orderId}", orderId).param("fields", "customerEmail"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.customerEmail");
+    }
+
+    private static String statusIn(JdbcTemplate jdbc, String orderId) {
+        return jdbc.queryForObject("select status from orders where id = ?", String.class, orderId);
+    }
+
+    private static JdbcTemplate jdbc(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            1,
+            new BigDecimal("10000"),
+            PRIMARY_EMAIL,
+            "CARD"
+        );
+    }
+}
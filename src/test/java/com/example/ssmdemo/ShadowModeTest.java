@@ -0,0 +1,322 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.shadow.LegacyOrderStatusCalculator;
+import com.example.ssmdemo.shadow.ShadowComparator;
+import com.example.ssmdemo.shadow.ShadowDecision;
+import com.example.ssmdemo.shadow.ShadowDecisionEngine;
+import com.example.ssmdemo.shadow.ShadowMismatch;
+import com.example.ssmdemo.shadow.ShadowProperties;
+import com.example.ssmdemo.shadow.ShadowStats;
+import com.example.ssmdemo.shadow.StateMachineDecisionEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:shadow-test",
+    "ssm-demo.shadow.enabled=true",
+    "ssm-demo.shadow.engine=" + ShadowModeTest.DIVERGENT_ENGINE,
+    "ssm-demo.shadow.sample-rate=1.0"
+})
+@AutoConfigureMockMvc
+@Import(ShadowModeTest.DivergentEngineConfig.class)
+@DisplayName("전이 결정 섀도 비교 테스트")
+class ShadowModeTest {
+
+    static final String DIVERGENT_ENGINE = "legacy-without-deliver";
+
+    @Autowired
+    private ShadowComparator shadowComparator;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private LegacyOrderStatusCalculator legacyCalculator;
+
+    @Autowired
+    private StateMachineDecisionEngine stateMachineEngine;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        shadowComparator.clearMismatches();
+    }
+
+    @Nested
+    @DisplayName("비교")
+    class Compare {
+
+        @Test
+        @DisplayName("샘플링된 전이와 거부된 이벤트를 비동기로 비교하고 결정이 같으면 일치로 집계한다")
+        void 성공_결정_일치() {
+            // given
+            ShadowStats before = shadowComparator.stats();
+            Order order = createOrder("CARD");
+            Order unpaid = createOrder("");
+
+            // when
+            orderService.transition(order.getId(), OrderEvent.PAY);
+            orderService.transition(order.getId(), OrderEvent.SHIP);
+            orderService.transition(unpaid.getId(), OrderEvent.PAY);
+
+            // then
+            await().atMost(Duration.ofSeconds(5))
+                .until(() -> shadowComparator.stats().compared() == before.compared() + 3);
+            ShadowStats after = shadowComparator.stats();
+            assertThat(after.matched() - before.matched()).isEqualTo(3);
+            assertThat(after.mismatched()).isEqualTo(before.mismatched());
+            assertThat(shadowComparator.mismatches(10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("결정이 다르면 불일치로 기록하고 API로 조회할 수 있다")
+        void 실패_결정_불일치() throws Exception {
+            // given
+            ShadowStats before = shadowComparator.stats();
+            Order order = createOrder("CARD");
+            orderService.pay(order.getId());
+            orderService.ship(order.getId());
+
+            // when
+            Order delivered = orderService.deliver(order.getId());
+
+            // then
+            assertThat(delivered.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+            await().atMost(Duration.ofSeconds(5))
+                .until(() -> shadowComparator.stats().mismatched() == before.mismatched() + 1);
+            ShadowMismatch mismatch = shadowComparator.mismatches(10).get(0);
+            assertThat(mismatch.orderId()).isEqualTo(order.getId());
+            assertThat(mismatch.source()).isEqualTo(OrderStatus.SHIPPED);
+            assertThat(mismatch.primary()).isEqualTo(ShadowDecision.accepted(OrderStatus.DELIVERED));
+            assertThat(mismatch.shadow()).isEqualTo(ShadowDecision.rejected(OrderStatus.SHIPPED));
+
+            mockMvc.perform(get("/internal/shadow"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.engine").value(DIVERGENT_ENGINE))
+                .andExpect(jsonPath("$.mismatches[0].orderId").value(order.getId()))
+                .andExpect(jsonPath("$.mismatches[0].event").value("DELIVER"))
+                .andExpect(jsonPath("$.mismatches[0].primary.target").value("DELIVERED"))
+                .andExpect(jsonPath("$.mismatches[0].shadow.accepted").value(false));
+        }
+
+        @Test
+        @DisplayName("수락된 전이가 롤백되면 비교하지 않고 롤백으로 집계한다")
+        void 성공_롤백된_전이는_비교_안함() {
+            // given
+            ShadowStats before = shadowComparator.stats();
+            Order order = createOrder("CARD");
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+            // when
+            transaction.executeWithoutResult(status -> {
+                orderService.transition(order.getId(), OrderEvent.PAY);
+                status.setRollbackOnly();
+            });
+            orderService.transition(order.getId(), OrderEvent.SHIP);
+
+            // then - 롤백된 PAY는 비교하지 않고, 커밋 후 거부된 SHIP만 비교한다
+            await().atMost(Duration.ofSeconds(5))
+                .until(() -> shadowComparator.stats().compared() == before.compared() + 1);
+            ShadowStats after = shadowComparator.stats();
+            assertThat(after.rolledBack() - before.rolledBack()).isEqualTo(1);
+            assertThat(after.matched() - before.matched()).isEqualTo(1);
+            assertThat(after.mismatched()).isEqualTo(before.mismatched());
+        }
+
+        @Test
+        @DisplayName("섀도 엔진이 예외를 던지면 불일치가 아니라 오류로 집계한다")
+        void 실패_섀도_엔진_오류() {
+            // given
+            ShadowDecisionEngine failing = new ShadowDecisionEngine() {
+                @Override
+                public String name() {
+                    return "failing";
+                }
+
+                @Override
+                public ShadowDecision decide(Order order, OrderEvent event) {
+                    throw new IllegalStateException("engine down");
+                }
+            };
+            ShadowComparator comparator = new ShadowComparator(
+                new ShadowProperties(true, "failing", 1.0, 10, 1, 10), List.of(failing), new SimpleMeterRegistry());
+
+            try {
+                // when
+                comparator.submit(order(OrderStatus.CREATED, "CARD", new BigDecimal("10000"), null),
+                    OrderEvent.PAY, ShadowDecision.accepted(OrderStatus.PAID));
+
+                // then
+                await().atMost(Duration.ofSeconds(5)).until(() -> comparator.stats().compared() == 1);
+                ShadowStats stats = comparator.stats();
+                assertThat(stats.errors()).isEqualTo(1);
+                assertThat(stats.mismatched()).isZero();
+                assertThat(comparator.mismatches(10)).singleElement()
+                    .satisfies(mismatch -> assertThat(mismatch.error()).contains("engine down"));
+            } finally {
+                comparator.close();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("결정 엔진")
+    class Engines {
+
+        @Test
+        @DisplayName("기존 방식 계산과 State Machine 설정은 모든 상태/이벤트 조합에서 같은 결정을 내린다")
+        void 성공_엔진_결정_일치() {
+            // given
+            List<Order> orders = new ArrayList<>();
+            for (OrderStatus status : OrderStatus.values()) {
+                orders.add(order(status, "CARD", new BigDecimal("10000"), null));
+                orders.add(order(status, "", new BigDecimal("10000"), null));
+                orders.add(order(status, "CARD", BigDecimal.ZERO, null));
+                orders.add(order(status, "CARD", new BigDecimal("10000"), LocalDateTime.now()));
+            }
+
+            for (Order order : orders) {
+                for (OrderEvent event : OrderEvent.values()) {
+                    // when
+                    ShadowDecision legacy = legacyCalculator.decide(order, event);
+                    ShadowDecision stateMachine = stateMachineEngine.decide(order, event);
+
+                    // then
+                    assertThat(legacy)
+                        .as("%s + %s (paymentMethod=%s, amount=%s, shippedAt=%s)", order.getStatus(), event,
+                            order.getPaymentMethod(), order.getTotalAmount(), order.getShippedAt())
+                        .isEqualTo(stateMachine);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("큐")
+    class Queue {
+
+        @Test
+        @DisplayName("비교 큐가 가득 차면 요청 스레드를 막지 않고 버린다")
+        void 실패_큐_초과_버림() throws Exception {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            ShadowDecisionEngine blocking = new ShadowDecisionEngine() {
+                @Override
+                public String name() {
+                    return "blocking";
+                }
+
+                @Override
+                public ShadowDecision decide(Order order, OrderEvent event) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ShadowDecision.accepted(OrderStatus.PAID);
+                }
+            };
+            ShadowComparator comparator = new ShadowComparator(
+                new ShadowProperties(true, "blocking", 1.0, 1, 1, 10), List.of(blocking), new SimpleMeterRegistry());
+            Order order = order(OrderStatus.CREATED, "CARD", new BigDecimal("10000"), null);
+            ShadowDecision primary = ShadowDecision.accepted(OrderStatus.PAID);
+
+            try {
+                // when
+                long started = System.nanoTime();
+                for (int i = 0; i < 5; i++) {
+                    comparator.submit(order, OrderEvent.PAY, primary);
+                }
+                long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+                release.countDown();
+
+                // then
+                assertThat(elapsedMillis).isLessThan(1_000);
+                await().atMost(Duration.ofSeconds(5)).until(() -> comparator.stats().compared() == 2);
+                ShadowStats stats = comparator.stats();
+                assertThat(stats.sampled()).isEqualTo(5);
+                assertThat(stats.dropped()).isEqualTo(3);
+                assertThat(stats.matched()).isEqualTo(2);
+            } finally {
+                release.countDown();
+                comparator.close();
+            }
+        }
+    }
+
+    private Order createOrder(String paymentMethod) {
+        return orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"), "test@example.com", paymentMethod);
+    }
+
+    private static Order order(OrderStatus status, String paymentMethod, BigDecimal amount, LocalDateTime shippedAt) {
+        return Order.builder()
+            .id("ORD-SHADOW")
+            .productId("PRODUCT-001")
+            .quantity(1)
+            .totalAmount(amount)
+            .status(status)
+            .customerEmail("test@example.com")
+            .paymentMethod(paymentMethod)
+            .shippedAt(shippedAt)
+            .build();
+    }
+
+    @TestConfiguration
+    static class DivergentEngineConfig {
+
+        /**
+         * 배송 완료만 거부하는 기존 방식 계산 (불일치 확인용)
+         */
+        @Bean
+        ShadowDecisionEngine legacyWithoutDeliver(LegacyOrderStatusCalculator legacy) {
+            return new ShadowDecisionEngine() {
+                @Override
+                public String name() {
+                    return DIVERGENT_ENGINE;
+                }
+
+                @Override
+                public ShadowDecision decide(Order order, OrderEvent event) {
+                    return event == OrderEvent.DELIVER
+                        ? ShadowDecision.rejected(order.getStatus())
+                        : legacy.decide(order, event);
+                }
+            };
+        }
+    }
+}
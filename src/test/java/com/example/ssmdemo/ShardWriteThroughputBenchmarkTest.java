@@ -0,0 +1,118 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderStatus;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 샤드 수에 따른 쓰기 처리량 (주문 생성 + 결제)
+ *
+ * 샤드마다 파일 기반 H2와 커넥션 2개짜리 풀을 두어 DB 한 대의 처리 용량을 고정하고,
+ * 같은 수의 클라이언트 스레드로 샤드를 1 → 2 → 4개로 늘려 가며 처리량을 잰다.
+ * 모든 샤드가 같은 JVM/CPU를 쓰므로 CPU가 적은 환경에서는 풀 대기만 줄어들고, 실제 확장은 샤드를 다른 호스트에 둘 때 나타난다.
+ * 실행: ./gradlew benchmark --tests '*ShardWriteThroughputBenchmarkTest'
+ */
+@Tag("benchmark")
+@DisplayName("샤드 수에 따른 쓰기 처리량")
+class ShardWriteThroughputBenchmarkTest {
+
+    private static final int CLIENTS = 8;
+    private static final int WARMUP_ORDERS = 400;
+    private static final int MEASURED_ORDERS = 4_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("샤드를 늘려 가며 생성+결제 처리량을 비교한다")
+    void 샤드_수별_쓰기_처리량() throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (int shards : new int[]{1, 2, 4}) {
+            results.add(run(shards));
+        }
+
+        results.forEach(System.out::println);
+        assertThat(results).allSatisfy(result -> assertThat(result.paid()).isEqualTo(result.orders()));
+    }
+
+    private Result run(int shards) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SsmDemoApplication.class)
+                .run(arguments(shards))) {
+            OrderService orderService = context.getBean(OrderService.class);
+            Set<String> orderIds = ConcurrentHashMap.newKeySet();
+
+            writeOrders(orderService, WARMUP_ORDERS, orderIds);
+            long started = System.nanoTime();
+            writeOrders(orderService, MEASURED_ORDERS, orderIds);
+            long elapsed = System.nanoTime() - started;
+
+            long paid = orderService.getStatusCounts().get(OrderStatus.PAID);
+            return new Result(shards, MEASURED_ORDERS * 1_000_000_000.0 / elapsed, orderIds.size(), paid);
+        }
+    }
+
+    private void writeOrders(OrderService orderService, int count, Set<String> orderIds) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                int perClient = count / CLIENTS + (c < count % CLIENTS ? 1 : 0);
+                futures.add(clients.submit(() -> {
+                    for (int i = 0; i < perClient; i++) {
+                        Order order = orderService.createOrder(
+                            "PRODUCT-001", 1, new BigDecimal("10000"), "bench@example.com", "CARD");
+                        orderService.pay(order.getId());
+                        orderIds.add(order.getId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private String[] arguments(int shards) {
+        List<String> args = new ArrayList<>(Arrays.asList(
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.example.ssmdemo=WARN",
+            "--ssm-demo.shard.enabled=true"
+        ));
+        for (int i = 0; i < shards; i++) {
+            Path file = tempDir.resolve("shards-" + shards).resolve("shard-" + i);
+            args.add("--ssm-demo.shard.shards[" + i + "].name=shard-" + i);
+            args.add("--ssm-demo.shard.shards[" + i + "].url=jdbc:h2:file:" + file.toAbsolutePath());
+            args.add("--ssm-demo.shard.shards[" + i + "].max-pool-size=2");
+        }
+        return args.toArray(String[]::new);
+    }
+
+    private record Result(int shards, double ordersPerSecond, long orders, long paid) {
+        @Override
+        public String toString() {
+            return String.format("[shards=%d] create+pay=%.0f orders/s (paid=%d)", shards, ordersPerSecond, paid);
+        }
+    }
+}
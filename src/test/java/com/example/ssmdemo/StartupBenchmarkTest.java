@@ -0,0 +1,159 @@
+package com.example.ssmdemo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 콜드 스타트 비교: 패키징된 애플리케이션을 별도 프로세스로 띄워
+ * 프로세스 시작부터 첫 전이(생성 → 결제) 성공까지의 시간과 그 시점의 RSS를 잰다.
+ *
+ * - plain: bootJar 그대로 (기본 설정)
+ * - fast-startup: 추출된 jar + fast-startup 프로파일 (지연 초기화, JPA 백그라운드 부트스트랩)
+ * - fast-startup+cds: 위 + AppCDS 아카이브 (./gradlew cdsArchive)
+ *
+ * 실행: ./gradlew startupBenchmark
+ */
+@Tag("startup")
+@DisplayName("콜드 스타트 비교")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = 3;
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(90);
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    @DisplayName("첫 전이 성공까지의 시간과 RSS를 기동 방식별로 비교한다")
+    void 기동_방식별_콜드_스타트() throws Exception {
+        String java = System.getProperty("startup.java");
+        Path bootJar = Path.of(System.getProperty("startup.boot-jar"));
+        Path cdsDir = Path.of(System.getProperty("startup.cds-dir"));
+        Path appDir = cdsDir.resolve("app");
+        String extractedJar = appDir.resolve(bootJar.getFileName()).toString();
+
+        Result plain = measure("plain", bootJar.getParent(),
+            List.of(java, "-jar", bootJar.toString()));
+        Result fast = measure("fast-startup", appDir,
+            List.of(java, "-jar", extractedJar, "--spring.profiles.active=fast-startup"));
+        Result fastCds = measure("fast-startup+cds", appDir,
+            List.of(java, "-XX:SharedArchiveFile=" + cdsDir.resolve("app.jsa"), "-Xlog:cds=off", "-Xlog:cds+dynamic=off",
+                "-jar", extractedJar, "--spring.profiles.active=fast-startup"));
+
+        System.out.println(plain);
+        System.out.println(fast);
+        System.out.println(fastCds);
+        System.out.printf("fast-startup+cds / plain = %.2f%n", fastCds.firstTransitionMillis() / plain.firstTransitionMillis());
+        assertThat(fastCds.firstTransitionMillis()).isLessThan(plain.firstTransitionMillis());
+    }
+
+    private Result measure(String name, Path workingDir, List<String> command) throws Exception {
+        List<Double> millis = new ArrayList<>();
+        List<Long> rss = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            int port = freePort();
+            List<String> args = new ArrayList<>(command);
+            args.add("--server.port=" + port);
+
+            long started = System.nanoTime();
+            Process process = new ProcessBuilder(args)
+                .directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            try {
+                firstTransition(process, port);
+                millis.add((System.nanoTime() - started) / 1_000_000.0);
+                rss.add(rssKb(process.pid()));
+            } finally {
+                process.destroy();
+                process.waitFor();
+            }
+        }
+        millis.sort(null);
+        rss.sort(null);
+        return new Result(name, millis.get(RUNS / 2), rss.get(RUNS / 2));
+    }
+
+    /**
+     * 주문 생성이 성공할 때까지 재시도한 뒤 결제 전이를 보낸다.
+     */
+    private void firstTransition(Process process, int port) throws Exception {
+        URI orders = URI.create("http://localhost:" + port + "/api/orders");
+        String body = "{\"productId\":\"PRODUCT-001\",\"quantity\":1,\"amount\":10000,"
+            + "\"customerEmail\":\"startup@example.com\",\"paymentMethod\":\"CARD\"}";
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 종료되었습니다: exit=" + process.exitValue());
+            }
+            try {
+                HttpResponse<String> created = http.send(HttpRequest.newBuilder(orders)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                    HttpResponse.BodyHandlers.ofString());
+                Matcher id = ORDER_ID.matcher(created.body());
+                if (created.statusCode() / 100 == 2 && id.find()) {
+                    HttpResponse<String> paid = http.send(HttpRequest.newBuilder(
+                            URI.create(orders + "/" + id.group(1) + "/pay"))
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build(),
+                        HttpResponse.BodyHandlers.ofString());
+                    assertThat(paid.statusCode()).isEqualTo(200);
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException(START_TIMEOUT + " 안에 첫 전이가 성공하지 않았습니다");
+    }
+
+    /**
+     * 프로세스 RSS (Linux /proc, 그 외 환경에서는 -1)
+     */
+    private static long rssKb(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+            .filter(line -> line.startsWith("VmRSS:"))
+            .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+            .findFirst()
+            .orElse(-1L);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Result(String name, double firstTransitionMillis, long rssKb) {
+        @Override
+        public String toString() {
+            return String.format("[%-16s] first transition=%.0fms, RSS at ready=%dMB (median of %d)",
+                name, firstTransitionMillis, rssKb / 1024, RUNS);
+        }
+    }
+}
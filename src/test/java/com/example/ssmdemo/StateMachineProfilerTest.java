@@ -0,0 +1,120 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.profile.ProfiledSection;
+import com.example.ssmdemo.profile.ProfileSnapshot;
+import com.example.ssmdemo.profile.StateMachineProfiler;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Guard/Action 프로파일러 테스트")
+class StateMachineProfilerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StateMachineProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.setEnabled(false);
+        profiler.reset();
+    }
+
+    @Test
+    @DisplayName("켜져 있으면 Guard, Action, 머신 재설정, 저장 구간이 전이별로 기록된다")
+    void 성공_구간별_전이별_기록() throws Exception {
+        // given
+        mockMvc.perform(put("/internal/statemachine/profile").param("enabled", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enabled").value(true));
+        Order order = createOrder();
+
+        // when
+        orderService.pay(order.getId());
+        orderService.ship(order.getId());
+
+        // then
+        ProfileSnapshot snapshot = profiler.snapshot();
+        assertThat(snapshot.entries())
+            .extracting(ProfileSnapshot.Entry::section, ProfileSnapshot.Entry::component, ProfileSnapshot.Entry::transition)
+            .contains(
+                tuple(ProfiledSection.GUARD, "paymentValidGuard", "CREATED:PAY"),
+                tuple(ProfiledSection.ACTION, "processPaymentAction", "CREATED:PAY"),
+                tuple(ProfiledSection.ACTION, "sendNotificationAction", "CREATED:PAY"),
+                tuple(ProfiledSection.GUARD, "stockAvailableGuard", "PAID:SHIP"),
+                tuple(ProfiledSection.MACHINE, "resetAndStart", "PAID:SHIP"),
+                tuple(ProfiledSection.PERSISTENCE, "jpaSave", "CREATED:PAY"),
+                tuple(ProfiledSection.PERSISTENCE, "jpaCommit", "PAID:SHIP")
+            );
+        assertThat(snapshot.entries()).allSatisfy(entry -> {
+            assertThat(entry.count()).isEqualTo(1);
+            assertThat(entry.maxMicros()).isGreaterThanOrEqualTo(entry.p50Micros());
+        });
+        assertThat(snapshot.components())
+            .filteredOn(entry -> entry.component().equals("sendNotificationAction"))
+            .singleElement()
+            .satisfies(entry -> {
+                assertThat(entry.transition()).isEqualTo("*");
+                assertThat(entry.count()).isEqualTo(2);
+            });
+
+        mockMvc.perform(get("/internal/statemachine/profile"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.entries[0].totalMillis").isNumber());
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 아무것도 기록하지 않는다")
+    void 성공_꺼짐_기록_없음() throws Exception {
+        // given
+        mockMvc.perform(put("/internal/statemachine/profile").param("enabled", "false"))
+            .andExpect(jsonPath("$.enabled").value(false));
+        Order order = createOrder();
+
+        // when
+        orderService.pay(order.getId());
+
+        // then
+        assertThat(profiler.snapshot().entries()).isEmpty();
+    }
+
+    // === Helper Methods ===
+
+    private Order createOrder() {
+        return orderService.createOrder(
+            "PRODUCT-001",
+            1,
+            new BigDecimal("10000"),
+            "profile@example.com",
+            "CARD"
+        );
+    }
+}
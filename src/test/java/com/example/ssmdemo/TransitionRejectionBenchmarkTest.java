@@ -0,0 +1,168 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.domain.order.enums.OrderEvent;
+import com.example.ssmdemo.exception.InvalidStateTransitionException;
+import com.example.ssmdemo.service.OrderService;
+import com.example.ssmdemo.service.TransitionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 거부된 전이 응답 비용: 예외 경로(변경 전) vs TransitionResult 경로(변경 후)
+ *
+ * 변경 전 경로는 스택 트레이스를 채운 예외를 던지고 ERROR 로그 + Map 응답을 만들던
+ * 이전 GlobalExceptionHandler 동작을 테스트용 컨트롤러에서 그대로 재현한다.
+ * 실행: ./gradlew benchmark --tests '*TransitionRejectionBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.com.example.ssmdemo=INFO")
+@AutoConfigureMockMvc
+@DisplayName("거부된 전이 응답 비용")
+class TransitionRejectionBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("예외 경로와 결과 경로의 거부 응답 비용을 비교한다")
+    void 거부_응답_비용_측정() throws Exception {
+        // given - 이미 결제된 주문에 다시 결제 (중복 이벤트)
+        Order order = orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"), "bench@example.com", "CARD");
+        orderService.pay(order.getId());
+
+        // when
+        measure("legacy-exception", "/bench/legacy/{orderId}/pay", order.getId(), WARMUP);
+        measure("transition-result", "/api/orders/{orderId}/pay", order.getId(), WARMUP);
+        double legacy = measure("legacy-exception", "/bench/legacy/{orderId}/pay", order.getId(), ITERATIONS);
+        double result = measure("transition-result", "/api/orders/{orderId}/pay", order.getId(), ITERATIONS);
+
+        // then - 전 구간은 State Machine 처리와 데모 로그가 대부분이므로 차이는 예외/로그 비용만큼이다
+        System.out.printf("[rejection] legacy-exception=%.1f µs/op  transition-result=%.1f µs/op  (%.2fx)%n",
+            legacy, result, legacy / result);
+    }
+
+    @Test
+    @DisplayName("요청 처리 깊이에서 스택 트레이스 유무에 따른 예외 생성 비용을 비교한다")
+    void 예외_생성_비용_측정() {
+        // MockMvc → 필터 → 프록시 → 서비스 → State Machine 호출 깊이와 비슷하게 맞춘다
+        int depth = 150;
+        atDepth(depth, () -> createExceptions(true, 20_000) + createExceptions(false, 20_000));
+
+        long[] nanos = new long[2];
+        atDepth(depth, () -> {
+            long started = System.nanoTime();
+            createExceptions(true, ITERATIONS * 20);
+            nanos[0] = System.nanoTime() - started;
+            started = System.nanoTime();
+            createExceptions(false, ITERATIONS * 20);
+            nanos[1] = System.nanoTime() - started;
+            return 0;
+        });
+
+        double stacked = nanos[0] / (ITERATIONS * 20.0);
+        double stackless = nanos[1] / (ITERATIONS * 20.0);
+        System.out.printf("[rejection] depth=%d  stack-trace=%.0f ns/exception  stackless=%.0f ns/exception%n",
+            depth, stacked, stackless);
+        assertThat(stackless).isLessThan(stacked);
+    }
+
+    private long createExceptions(boolean stackTrace, int count) {
+        long hash = 0;
+        for (int i = 0; i < count; i++) {
+            RuntimeException e = stackTrace
+                ? new LegacyRejectionConfig.LegacyTransitionException("rejected")
+                : new InvalidStateTransitionException("rejected");
+            hash += System.identityHashCode(e);
+        }
+        return hash;
+    }
+
+    private long atDepth(int depth, LongSupplier body) {
+        return depth == 0 ? body.getAsLong() : atDepth(depth - 1, body) + 1;
+    }
+
+    private double measure(String name, String uri, String orderId, int iterations) throws Exception {
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            int status = mockMvc.perform(post(uri, orderId)).andReturn().getResponse().getStatus();
+            if (status != HttpStatus.CONFLICT.value() && status != HttpStatus.BAD_REQUEST.value()) {
+                throw new IllegalStateException(name + " unexpected status " + status);
+            }
+        }
+        return (System.nanoTime() - started) / 1_000.0 / iterations;
+    }
+
+    /**
+     * 변경 전 거부 경로 재현
+     */
+    @TestConfiguration
+    static class LegacyRejectionConfig {
+
+        @RestController
+        static class LegacyRejectionController {
+
+            private static final Logger log = LoggerFactory.getLogger(LegacyRejectionController.class);
+
+            private final OrderService orderService;
+
+            LegacyRejectionController(OrderService orderService) {
+                this.orderService = orderService;
+            }
+
+            @PostMapping("/bench/legacy/{orderId}/pay")
+            public ResponseEntity<Object> pay(@PathVariable String orderId) {
+                TransitionResult result = orderService.transition(orderId, OrderEvent.PAY);
+                if (!result.isAccepted()) {
+                    throw new LegacyTransitionException(result.message());
+                }
+                return ResponseEntity.ok(result.order().getId());
+            }
+
+            @ExceptionHandler(LegacyTransitionException.class)
+            public ResponseEntity<Map<String, Object>> handle(LegacyTransitionException e) {
+                log.error("Invalid state transition: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of(
+                        "error", "INVALID_TRANSITION",
+                        "message", e.getMessage(),
+                        "timestamp", LocalDateTime.now().toString()
+                    ));
+            }
+        }
+
+        static class LegacyTransitionException extends RuntimeException {
+            LegacyTransitionException(String message) {
+                super(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.ssmdemo;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 워밍업 전후 첫 1분 트래픽의 지연 시간 비교
+ *
+ * 워밍업을 끈 프로세스와 켠 프로세스를 각각 띄워 /actuator/health/readiness가 UP이 된 순간부터
+ * 1분 동안 생성+결제 요청을 순차로 보내고, 처음 100건과 1분 전체의 지연 시간 분포를 비교한다.
+ * JIT 상태가 남지 않도록 매번 새 JVM을 띄운다.
+ * 실행: ./gradlew startupBenchmark --tests '*WarmupLatencyBenchmarkTest'
+ */
+@Tag("startup")
+@DisplayName("워밍업 전후 첫 1분 지연 시간")
+class WarmupLatencyBenchmarkTest {
+
+    private static final Duration TRAFFIC_WINDOW = Duration.ofMinutes(1);
+    private static final int FIRST_REQUESTS = 100;
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(120);
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    @DisplayName("워밍업 여부별로 준비 후 첫 요청들의 지연 시간을 비교한다")
+    void 워밍업_전후_지연_시간() throws Exception {
+        Path bootJar = Path.of(System.getProperty("startup.boot-jar"));
+        String java = System.getProperty("startup.java");
+
+        Result cold = run("warmup=off", List.of(java, "-jar", bootJar.toString(), "--ssm-demo.warmup.enabled=false"));
+        Result warm = run("warmup=on", List.of(java, "-jar", bootJar.toString(), "--ssm-demo.warmup.enabled=true"));
+
+        System.out.println(cold);
+        System.out.println(warm);
+        assertThat(warm.first().getValueAtPercentile(99)).isLessThan(cold.first().getValueAtPercentile(99));
+    }
+
+    private Result run(String name, List<String> command) throws Exception {
+        int port = freePort();
+        List<String> args = new ArrayList<>(command);
+        args.addAll(List.of("--server.port=" + port, "--spring.jpa.show-sql=false",
+            "--logging.level.com.example.ssmdemo=WARN", "--logging.level.root=WARN"));
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(args)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            awaitReady(process, port);
+            Duration timeToReady = Duration.ofNanos(System.nanoTime() - started);
+
+            Histogram first = new Histogram(3);
+            Histogram minute = new Histogram(3);
+            long trafficEnds = System.nanoTime() + TRAFFIC_WINDOW.toNanos();
+            while (System.nanoTime() < trafficEnds) {
+                long requestStarted = System.nanoTime();
+                createAndPay(port);
+                long micros = (System.nanoTime() - requestStarted) / 1_000;
+                minute.recordValue(micros);
+                if (first.getTotalCount() < FIRST_REQUESTS) {
+                    first.recordValue(micros);
+                }
+            }
+            return new Result(name, timeToReady, first, minute);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private void awaitReady(Process process, int port) throws Exception {
+        URI readiness = URI.create("http://localhost:" + port + "/actuator/health/readiness");
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 종료되었습니다: exit=" + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = http.send(HttpRequest.newBuilder(readiness).build(),
+                    HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException(START_TIMEOUT + " 안에 준비 상태가 되지 않았습니다");
+    }
+
+    private void createAndPay(int port) throws Exception {
+        URI orders = URI.create("http://localhost:" + port + "/api/orders");
+        HttpResponse<String> created = http.send(HttpRequest.newBuilder(orders)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"productId\":\"PRODUCT-001\",\"quantity\":1,"
+                    + "\"amount\":10000,\"customerEmail\":\"bench@example.com\",\"paymentMethod\":\"CARD\"}"))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        Matcher id = ORDER_ID.matcher(created.body());
+        assertThat(id.find()).isTrue();
+        HttpResponse<Void> paid = http.send(HttpRequest.newBuilder(URI.create(orders + "/" + id.group(1) + "/pay"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+        assertThat(paid.statusCode()).isEqualTo(200);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Result(String name, Duration timeToReady, Histogram first, Histogram minute) {
+        @Override
+        public String toString() {
+            return String.format("[%-10s] ready=%.1fs | first %d: p50=%.1fms p99=%.1fms max=%.1fms"
+                    + " | first minute (%d): p50=%.1fms p99=%.1fms max=%.1fms",
+                name, timeToReady.toMillis() / 1000.0,
+                first.getTotalCount(), millis(first, 50), millis(first, 99), first.getMaxValue() / 1000.0,
+                minute.getTotalCount(), millis(minute, 50), millis(minute, 99), minute.getMaxValue() / 1000.0);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.ssmdemo;
+
+import com.example.ssmdemo.domain.order.entity.Order;
+import com.example.ssmdemo.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 동기 저장 vs Write-Behind(WAL) 전이 처리량/지연 비교
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("Write-Behind 성능 비교")
+class WriteBehindBenchmarkTest {
+
+    private static final int WARMUP_ORDERS = 300;
+    private static final int MEASURED_ORDERS = 1_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("전이(pay → ship → deliver) 처리량과 지연을 비교한다")
+    void 전이_처리량_지연_비교() {
+        Result jpa = run("jpa", "--ssm-demo.write-behind.enabled=false");
+        Result writeBehind = run("write-behind",
+            "--ssm-demo.write-behind.enabled=true",
+            "--ssm-demo.write-behind.wal-path=" + tempDir.resolve("bench.wal"));
+
+        System.out.println(jpa);
+        System.out.println(writeBehind);
+        assertThat(writeBehind.transitions()).isEqualTo(jpa.transitions());
+    }
+
+    private Result run(String name, String... args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SsmDemoApplication.class)
+                .run(withQuietLogging(args))) {
+            OrderService orderService = context.getBean(OrderService.class);
+
+            lifecycles(orderService, WARMUP_ORDERS);
+
+            long[] latencies = new long[MEASURED_ORDERS * 3];
+            int index = 0;
+            long started = System.nanoTime();
+            for (int i = 0; i < MEASURED_ORDERS; i++) {
+                Order order = createOrder(orderService);
+                long t0 = System.nanoTime();
+                orderService.pay(order.getId());
+                long t1 = System.nanoTime();
+                orderService.ship(order.getId());
+                long t2 = System.nanoTime();
+                orderService.deliver(order.getId());
+                long t3 = System.nanoTime();
+                latencies[index++] = t1 - t0;
+                latencies[index++] = t2 - t1;
+                latencies[index++] = t3 - t2;
+            }
+            long elapsed = System.nanoTime() - started;
+
+            Arrays.sort(latencies);
+            return new Result(name, latencies.length,
+                latencies.length * 1_000_000_000.0 / elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+        }
+    }
+
+    private void lifecycles(OrderService orderService, int count) {
+        for (int i = 0; i < count; i++) {
+            Order order = createOrder(orderService);
+            orderService.pay(order.getId());
+            orderService.ship(order.getId());
+            orderService.deliver(order.getId());
+        }
+    }
+
+    private Order createOrder(OrderService orderService) {
+        return orderService.createOrder("PRODUCT-001", 1, new BigDecimal("10000"), "bench@example.com", "CARD");
+    }
+
+    private static String[] withQuietLogging(String... args) {
+        String[] quiet = {
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.example.ssmdemo=WARN",
+            "--spring.datasource.url=jdbc:h2:mem:bench-" + System.nanoTime()
+        };
+        String[] merged = Arrays.copyOf(quiet, quiet.length + args.length);
+        System.arraycopy(args, 0, merged, quiet.length, args.length);
+        return merged;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(p * (sorted.length - 1)))] / 1_000.0;
+    }
+
+    private record Result(String name, int transitions, double throughputPerSec, double p50Micros, double p99Micros) {
+        @Override
+        public String toString() {
+            return String.format("[%-12s] transitions=%d, throughput=%.0f/s, p50=%.1fus, p99=%.1fus",
+                name, transitions, throughputPerSec, p50Micros, p99Micros);
+        }
+    }
+}